@@ -0,0 +1,88 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.date.datePattern.DatePattern;
+import com.xiaoTools.date.format.autoDateParser.AutoDateParser;
+import com.xiaoTools.date.format.fastDateFormat.FastDateFormat;
+import com.xiaoTools.util.dateUtil.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [自动识别格式的日期解析基准测试](Auto detecting date parser benchmark)
+ * @description zh - 自动识别格式的日期解析基准测试，输入混合了多种格式。trialAndError 逐个格式尝试并在失败时捕获异常，autoDetect 由判定树直接找到对应的解析器，dateUtil 是使用判定树后的 DateUtil.parse
+ * @description en - Auto detecting date parser benchmark over input mixing several formats. trialAndError tries one format after another and catches the exception on failure, autoDetect finds the matching parser straight from the decision tree, dateUtil is DateUtil.parse using the decision tree
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-19 01:15:30
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoDateParserBenchmark {
+
+	private static final FastDateFormat[] FORMATS = {DatePattern.NORM_DATETIME_MS_FORMAT, DatePattern.NORM_DATETIME_FORMAT, DatePattern.NORM_DATE_FORMAT,
+			DatePattern.UTC_SIMPLE_FORMAT, DatePattern.CHINESE_DATE_TIME_FORMAT, DatePattern.PURE_DATETIME_FORMAT, DatePattern.PURE_DATE_FORMAT};
+
+	private final AutoDateParser parser = new AutoDateParser();
+
+	private final String[] inputs = new String[1024];
+
+	private final ParsePosition pos = new ParsePosition(0);
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		for (int i = 0; i < inputs.length; i++) {
+			inputs[i] = FORMATS[i % FORMATS.length].format(1_700_000_000_000L + i * 7_919_000L);
+		}
+	}
+
+	private String next() {
+		index = index + 1 & inputs.length - 1;
+		return inputs[index];
+	}
+
+	@Benchmark
+	public long trialAndError() {
+		final String input = next();
+		for (FastDateFormat format : FORMATS) {
+			try {
+				pos.setIndex(0);
+				if (format.parse(input, pos) != null && pos.getIndex() == input.length()) {
+					return format.parse(input).getTime();
+				}
+			} catch (ParseException | RuntimeException ignored) {
+				// 纯数字输入在分隔符格式下可能抛出 NumberFormatException
+			}
+		}
+		return Long.MIN_VALUE;
+	}
+
+	@Benchmark
+	public long autoDetect() {
+		return parser.parseMillis(next());
+	}
+
+	@Benchmark
+	public long dateUtil() {
+		return DateUtil.parse(next()).getTime();
+	}
+
+}
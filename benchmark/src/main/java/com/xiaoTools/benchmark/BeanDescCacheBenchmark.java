@@ -0,0 +1,131 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.benchmark.opSequence.OpSequence;
+import com.xiaoTools.benchmark.workload.Workload;
+import com.xiaoTools.cache.beanDescCache.BeanDescCache;
+import com.xiaoTools.cache.classValueCache.ClassValueCache;
+import com.xiaoTools.entity.beanDesc.BeanDesc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [BeanDescCache基准测试](BeanDescCache benchmark)
+ * @description zh - BeanDescCache基准测试。BeanDescCache为单例且不支持写入和清空，读写混合的场景在与其结构相同的ClassValueCache上测量，
+ * 读操作为不带回调的get，写操作为put；键为不同维度的数组类，数量足够覆盖未命中的键。另有一个只读的基准直接测量BeanDescCache单例
+ * @description en - BeanDescCache benchmark. BeanDescCache is a singleton without put or clear, so mixed workloads are measured on a ClassValueCache with the same structure,
+ * reads are get without a callback and writes are put; keys are array classes of different dimensions, enough to cover the miss keys. A read-only benchmark measures the BeanDescCache singleton directly
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:17:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanDescCacheBenchmark {
+
+	/**
+	 * 生成数组类的元素类型，每种类型最多255维
+	 */
+	private static final Class<?>[] COMPONENTS = {
+		boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class,
+		Object.class, String.class, Integer.class, Long.class, Double.class, Number.class, CharSequence.class, Class.class
+	};
+
+	@Param({"READ_HEAVY", "MIXED", "WRITE_HEAVY"})
+	public Workload workload;
+
+	@Param({"0.9", "0.5"})
+	public double hitRatio;
+
+	@Param({"0", "0.99"})
+	public double zipf;
+
+	@Param({"128"})
+	public int keyCount;
+
+	private ClassValueCache<BeanDesc> cache;
+	private Class<?>[] classes;
+	private BeanDesc desc;
+
+	@Setup(Level.Trial)
+	public void createClasses() {
+		classes = new Class<?>[keyCount * (OpSequence.MISS_FACTOR + 1)];
+		if (classes.length > COMPONENTS.length * 255) {
+			throw new IllegalArgumentException("keyCount is too large: " + keyCount);
+		}
+		for (int i = 0; i < classes.length; i++) {
+			Class<?> clazz = COMPONENTS[i % COMPONENTS.length];
+			for (int d = i / COMPONENTS.length; d >= 0; d--) {
+				clazz = Array.newInstance(clazz, 0).getClass();
+			}
+			classes[i] = clazz;
+		}
+		desc = new BeanDesc(Object.class);
+		for (int i = 0; i < keyCount; i++) {
+			final Class<?> clazz = classes[i];
+			BeanDescCache.INSTANCE.getBeanDesc(clazz, () -> new BeanDesc(clazz));
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		cache = new ClassValueCache<>();
+		for (int i = 0; i < keyCount; i++) {
+			cache.put(classes[i], desc);
+		}
+	}
+
+	@Benchmark
+	public BeanDesc operation(Ops ops) {
+		final int op = ops.sequence.next();
+		final Class<?> clazz = classes[ops.sequence.key(op)];
+		return ops.sequence.isWrite(op) ? cache.put(clazz, desc) : cache.get(clazz);
+	}
+
+	@Benchmark
+	public BeanDesc singletonRead(Ops ops) {
+		// 只取命中范围内的键，单例中的条目无法清除
+		final Class<?> clazz = classes[ops.sequence.key(ops.sequence.next()) % keyCount];
+		return BeanDescCache.INSTANCE.getBeanDesc(clazz, () -> desc);
+	}
+
+	/**
+	 * [每个线程独立的操作序列](Operation sequence of each thread)
+	 * @description zh - 每个线程独立的操作序列，种子按线程编号区分
+	 * @description en - Operation sequence of each thread, seeded by the thread number
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:19:12
+	 */
+	@State(Scope.Thread)
+	public static class Ops {
+
+		private static final AtomicInteger THREADS = new AtomicInteger();
+
+		OpSequence sequence;
+
+		@Setup(Level.Trial)
+		public void setup(BeanDescCacheBenchmark benchmark) {
+			sequence = new OpSequence(benchmark.workload, benchmark.keyCount, benchmark.hitRatio, benchmark.zipf, THREADS.incrementAndGet());
+		}
+
+	}
+
+}
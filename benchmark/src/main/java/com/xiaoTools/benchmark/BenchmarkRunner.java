@@ -0,0 +1,39 @@
+package com.xiaoTools.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * [按线程数递增运行全部缓存基准测试](Run all cache benchmarks with an increasing number of threads)
+ * @description zh - 按1、2、4……直到N个线程依次运行全部缓存基准测试，每个线程数的结果写入单独的JSON文件。
+ * 参数：最大线程数（默认为处理器数量）、基准测试名的正则（默认全部）
+ * @description en - Run all cache benchmarks with 1, 2, 4 ... up to N threads, the results of each thread count are written to a separate JSON file.
+ * Arguments: maximum number of threads (defaults to the number of processors), a regex of benchmark names (defaults to all)
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:22:40
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+		final int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		final String include = args.length > 1 ? args[1] : BenchmarkRunner.class.getPackage().getName() + ".*Benchmark";
+		for (int threads = 1; ; threads <<= 1) {
+			final int t = Math.min(threads, maxThreads);
+			final Options options = new OptionsBuilder()
+					.include(include)
+					.threads(t)
+					.resultFormat(ResultFormatType.JSON)
+					.result("jmh-result-" + t + "-threads.json")
+					.build();
+			new Runner(options).run();
+			if (t == maxThreads) {
+				break;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.date.format.fastDateParser.FastDateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [日期解析基准测试](Date parser benchmark)
+ * @description zh - 日期解析基准测试，calendar 是逐个策略写入 Calendar 的通用解析，parseMillis 是定宽纯数字格式直接读取数字的解析。输入是 1024 个不同的时间，模拟读取 CSV 中的日期列
+ * @description en - Date parser benchmark, calendar is the general parse writing each strategy into a Calendar, parseMillis is the fixed width numeric parse reading the digits directly. The input is 1024 different times to mimic reading a date column of a CSV
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-19 01:02:40
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParserBenchmark {
+
+	@Param({"yyyy-MM-dd HH:mm:ss", "yyyyMMddHHmmss"})
+	public String pattern;
+
+	private FastDateParser parser;
+
+	private final String[] inputs = new String[1024];
+
+	private final ParsePosition pos = new ParsePosition(0);
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final TimeZone timeZone = TimeZone.getTimeZone("Asia/Shanghai");
+		parser = new FastDateParser(pattern, timeZone, Locale.US);
+		final SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+		format.setTimeZone(timeZone);
+		for (int i = 0; i < inputs.length; i++) {
+			inputs[i] = format.format(new Date(1_700_000_000_000L + i * 7_919_000L));
+		}
+	}
+
+	private String next() {
+		index = index + 1 & inputs.length - 1;
+		return inputs[index];
+	}
+
+	@Benchmark
+	public long calendar() {
+		final Calendar calendar = Calendar.getInstance(parser.getTimeZone(), parser.getLocale());
+		calendar.clear();
+		pos.setIndex(0);
+		parser.parse(next(), pos, calendar);
+		return calendar.getTimeInMillis();
+	}
+
+	@Benchmark
+	public long parseMillis() {
+		pos.setIndex(0);
+		return parser.parseMillis(next(), pos);
+	}
+
+}
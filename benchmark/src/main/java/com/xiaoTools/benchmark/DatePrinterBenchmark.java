@@ -0,0 +1,85 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.date.datePattern.DatePattern;
+import com.xiaoTools.date.format.fastDatePrinter.FastDatePrinter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [日期格式化基准测试](Date printer benchmark)
+ * @description zh - 日期格式化基准测试，对比创建 Calendar 和 String 的 format(long) 与写入调用方缓冲区的零分配格式化，以及缓存模式下只重写时分秒毫秒的格式化。时间每次前进 1 毫秒，模拟连续写日志。使用 -prof gc 查看每次调用分配的字节数
+ * @description en - Date printer benchmark, comparing format(long), which creates a Calendar and a String, with zero allocation formatting into a caller provided buffer, and caching mode which only rewrites the hours, minutes, seconds and milliseconds. The time advances by 1 ms per call to mimic continuous logging. Use -prof gc to see the bytes allocated per call
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-19 00:25:10
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatePrinterBenchmark {
+
+	@Param({DatePattern.NORM_DATETIME_MS_PATTERN, "dd/MMM/yyyy:HH:mm:ss Z"})
+	public String pattern;
+
+	private FastDatePrinter printer;
+
+	private FastDatePrinter cachingPrinter;
+
+	private final char[] chars = new char[64];
+
+	private final ByteBuffer bytes = ByteBuffer.allocate(64);
+
+	private long millis;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		printer = new FastDatePrinter(pattern, TimeZone.getTimeZone("Asia/Shanghai"), Locale.US);
+		cachingPrinter = new FastDatePrinter(pattern, TimeZone.getTimeZone("Asia/Shanghai"), Locale.US, true);
+		millis = 1_760_000_000_000L;
+	}
+
+	@Benchmark
+	public String string() {
+		return printer.format(++millis);
+	}
+
+	@Benchmark
+	public int charArray() {
+		return printer.format(++millis, chars, 0);
+	}
+
+	@Benchmark
+	public ByteBuffer byteBuffer() {
+		bytes.clear();
+		return printer.format(++millis, bytes);
+	}
+
+	@Benchmark
+	public String cachingString() {
+		return cachingPrinter.format(++millis);
+	}
+
+	@Benchmark
+	public int cachingCharArray() {
+		return cachingPrinter.format(++millis, chars, 0);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.core.eval.Eval;
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.numericType.NumericType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [表达式后端基准测试](Expression backend benchmark)
+ * @description zh - 表达式后端基准测试，对比同一个带变量的公式用求值树和用隐藏类字节码求值的耗时，compileToBytecode单独衡量生成并定义隐藏类的开销
+ * @description en - Expression backend benchmark, comparing the same formula with variables evaluated by the evaluation tree and by hidden class bytecode, compileToBytecode measures the cost of generating and defining the hidden class on its own
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 23:58:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvalBackendBenchmark {
+
+	@Param({"x * 2 + y", "if(x > y, round(x * 1.175, 2), min(x, y, 40)) + abs(x - y) * (x % 7 + y / 3) - max(x, 3)"})
+	public String formula;
+
+	private CompiledExpression tree;
+
+	private CompiledExpression bytecode;
+
+	private Context treeContext;
+
+	private Context bytecodeContext;
+
+	private double x;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		tree = Eval.compile(formula, NumericType.DOUBLE, null, "x", "y");
+		bytecode = Eval.compileToBytecode(formula, NumericType.DOUBLE, null, "x", "y");
+		if (!bytecode.isBytecode()) {
+			throw new IllegalStateException("Bytecode generation fell back to the evaluation tree for " + formula);
+		}
+		treeContext = tree.newContext().set(1, 17.0);
+		bytecodeContext = bytecode.newContext().set(1, 17.0);
+	}
+
+	@Benchmark
+	public double tree() {
+		x = x < 1000 ? x + 1 : 0;
+		return tree.evaluateDouble(treeContext.set(0, x));
+	}
+
+	@Benchmark
+	public double bytecode() {
+		x = x < 1000 ? x + 1 : 0;
+		return bytecode.evaluateDouble(bytecodeContext.set(0, x));
+	}
+
+	@Benchmark
+	public CompiledExpression compileToBytecode() {
+		return Eval.compileToBytecode(formula, NumericType.DOUBLE, null, "x", "y");
+	}
+
+}
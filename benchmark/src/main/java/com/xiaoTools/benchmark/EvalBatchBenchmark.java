@@ -0,0 +1,97 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.core.eval.Eval;
+import com.xiaoTools.core.eval.batchEvaluator.BatchEvaluator;
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.numericType.NumericType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [按列批量求值基准测试](Column batch evaluation benchmark)
+ * @description zh - 按列批量求值基准测试，对比逐行拼接字符串后调用Eval.eval、逐行用Context求值、按列批量求值和按列并行求值。数值都是整数，以便Eval.eval也能计算
+ * @description en - Column batch evaluation benchmark, comparing Eval.eval on a concatenated string per row, row-wise evaluation with a Context, column batch evaluation and parallel column evaluation. All values are integers so that Eval.eval can compute them too
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 23:35:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvalBatchBenchmark {
+
+	@Param({"1000000"})
+	public int rows;
+
+	private double[][] columns;
+
+	private double[] out;
+
+	private CompiledExpression expression;
+
+	private BatchEvaluator batch;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final Random random = new Random(42);
+		columns = new double[3][rows];
+		for (int row = 0; row < rows; row++) {
+			columns[0][row] = random.nextInt(1000) + 1;
+			columns[1][row] = random.nextInt(100) + 1;
+			columns[2][row] = random.nextInt(10);
+		}
+		out = new double[rows];
+		expression = Eval.compile("(price * qty - discount) * 3 + qty / 7 - min(price, 500)", NumericType.DOUBLE, null, "price", "qty", "discount");
+		batch = new BatchEvaluator(expression);
+	}
+
+	@Benchmark
+	public double[] interpretPerRow() {
+		// 只计算前1%的行，结果乘以100即可与其他方法比较
+		for (int row = 0; row < rows / 100; row++) {
+			out[row] = Eval.eval("(" + (int) columns[0][row] + "*" + (int) columns[1][row] + "-" + (int) columns[2][row] + ")*3+" + (int) columns[1][row] + "/7-" + (int) Math.min(columns[0][row], 500));
+		}
+		return out;
+	}
+
+	@Benchmark
+	public double[] contextPerRow() {
+		final Context context = expression.newContext();
+		for (int row = 0; row < rows; row++) {
+			context.set(0, columns[0][row]).set(1, columns[1][row]).set(2, columns[2][row]);
+			out[row] = expression.evaluateDouble(context);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public double[] batch() {
+		batch.evaluate(columns, out);
+		return out;
+	}
+
+	@Benchmark
+	public double[] batchParallel() {
+		batch.evaluate(columns, out, ForkJoinPool.commonPool());
+		return out;
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.core.eval.Eval;
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [表达式求值基准测试](Expression evaluation benchmark)
+ * @description zh - 表达式求值基准测试，对比每次都解析公式的Eval.eval与编译一次后反复求值的CompiledExpression，compile单独衡量编译本身的开销
+ * @description en - Expression evaluation benchmark, comparing Eval.eval which parses the formula on every call with a CompiledExpression compiled once and evaluated repeatedly, compile measures the cost of compiling on its own
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:00:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvalBenchmark {
+
+	@Param({"1+2*3", "(120*3-15)%7+(48/(2+4))*9-100/3", "((1+2)*(3+4)-(5*6)/(7-2))*((8+9)%5+(10-3)*2)-11"})
+	public String formula;
+
+	private CompiledExpression expression;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		expression = Eval.compile(formula);
+		if (expression.evaluate() != Eval.eval(formula)) {
+			throw new IllegalStateException("Interpreter and compiled expression disagree on " + formula);
+		}
+	}
+
+	@Benchmark
+	public int interpret() {
+		return Eval.eval(formula);
+	}
+
+	@Benchmark
+	public int compiled() {
+		return expression.evaluate();
+	}
+
+	@Benchmark
+	public CompiledExpression compile() {
+		return Eval.compile(formula);
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.benchmark.opSequence.OpSequence;
+import com.xiaoTools.benchmark.workload.Workload;
+import com.xiaoTools.cache.format.FormatCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [FormatCache基准测试](FormatCache benchmark)
+ * @description zh - FormatCache基准测试。FormatCache只有带创建的getInstance，读操作按序列中的键获取格式化器，
+ * 写操作总是落在未命中的格式上，强制创建并写入。每轮迭代前重建缓存，使未命中不会在迭代内全部变为命中
+ * @description en - FormatCache benchmark. FormatCache only offers getInstance which creates on a miss, reads get the formatter of the key in the sequence
+ * and writes always target a missing pattern to force creation and insertion. The cache is rebuilt before every iteration so misses do not all turn into hits within it
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:08:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatCacheBenchmark {
+
+	@Param({"READ_HEAVY", "MIXED", "WRITE_HEAVY"})
+	public Workload workload;
+
+	@Param({"0.9", "0.5"})
+	public double hitRatio;
+
+	@Param({"0", "0.99"})
+	public double zipf;
+
+	@Param({"64"})
+	public int keyCount;
+
+	private FormatCache<SimpleDateFormat> cache;
+	private String[] patterns;
+	private TimeZone timeZone;
+	private Locale locale;
+
+	@Setup(Level.Trial)
+	public void createPatterns() {
+		patterns = new String[keyCount * (OpSequence.MISS_FACTOR + 1)];
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = "yyyy-MM-dd HH:mm:ss '" + i + "'";
+		}
+		timeZone = TimeZone.getDefault();
+		locale = Locale.getDefault();
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		cache = new FormatCache<>() {
+			@Override
+			protected SimpleDateFormat createInstance(String pattern, TimeZone timeZone, Locale locale) {
+				return new SimpleDateFormat(pattern, locale);
+			}
+		};
+		for (int i = 0; i < keyCount; i++) {
+			cache.getInstance(patterns[i], timeZone, locale);
+		}
+	}
+
+	@Benchmark
+	public SimpleDateFormat operation(Ops ops) {
+		final int op = ops.sequence.next();
+		int key = ops.sequence.key(op);
+		if (ops.sequence.isWrite(op)) {
+			key += keyCount;
+		}
+		return cache.getInstance(patterns[key], timeZone, locale);
+	}
+
+	/**
+	 * [每个线程独立的操作序列](Operation sequence of each thread)
+	 * @description zh - 每个线程独立的操作序列，种子按线程编号区分
+	 * @description en - Operation sequence of each thread, seeded by the thread number
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:10:05
+	 */
+	@State(Scope.Thread)
+	public static class Ops {
+
+		private static final AtomicInteger THREADS = new AtomicInteger();
+
+		OpSequence sequence;
+
+		@Setup(Level.Trial)
+		public void setup(FormatCacheBenchmark benchmark) {
+			sequence = new OpSequence(benchmark.workload, benchmark.keyCount, benchmark.hitRatio, benchmark.zipf, THREADS.incrementAndGet());
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.benchmark.opSequence.OpSequence;
+import com.xiaoTools.benchmark.workload.Workload;
+import com.xiaoTools.core.regular.patternPool.PatternPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * [PatternPool基准测试](PatternPool benchmark)
+ * @description zh - PatternPool基准测试，读操作为get，未命中时编译并入池；写操作先remove再get，强制重新编译。每轮迭代前清空池并预热
+ * @description en - PatternPool benchmark, reads are get which compiles and pools on a miss; writes remove and then get to force recompilation. The pool is cleared and warmed before every iteration
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:13:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternPoolBenchmark {
+
+	@Param({"READ_HEAVY", "MIXED", "WRITE_HEAVY"})
+	public Workload workload;
+
+	@Param({"0.9", "0.5"})
+	public double hitRatio;
+
+	@Param({"0", "0.99"})
+	public double zipf;
+
+	@Param({"256"})
+	public int keyCount;
+
+	private String[] regexes;
+
+	@Setup(Level.Trial)
+	public void createRegexes() {
+		regexes = new String[keyCount * (OpSequence.MISS_FACTOR + 1)];
+		for (int i = 0; i < regexes.length; i++) {
+			regexes[i] = "^[a-z]+-" + i + "-\\d{1,4}$";
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		PatternPool.clear();
+		for (int i = 0; i < keyCount; i++) {
+			PatternPool.get(regexes[i]);
+		}
+	}
+
+	@Benchmark
+	public Pattern operation(Ops ops) {
+		final int op = ops.sequence.next();
+		final String regex = regexes[ops.sequence.key(op)];
+		if (ops.sequence.isWrite(op)) {
+			PatternPool.remove(regex, 0);
+		}
+		return PatternPool.get(regex);
+	}
+
+	/**
+	 * [每个线程独立的操作序列](Operation sequence of each thread)
+	 * @description zh - 每个线程独立的操作序列，种子按线程编号区分
+	 * @description en - Operation sequence of each thread, seeded by the thread number
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:14:45
+	 */
+	@State(Scope.Thread)
+	public static class Ops {
+
+		private static final AtomicInteger THREADS = new AtomicInteger();
+
+		OpSequence sequence;
+
+		@Setup(Level.Trial)
+		public void setup(PatternPoolBenchmark benchmark) {
+			sequence = new OpSequence(benchmark.workload, benchmark.keyCount, benchmark.hitRatio, benchmark.zipf, THREADS.incrementAndGet());
+		}
+
+	}
+
+}
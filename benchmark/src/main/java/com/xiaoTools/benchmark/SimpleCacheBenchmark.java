@@ -0,0 +1,106 @@
+package com.xiaoTools.benchmark;
+
+import com.xiaoTools.benchmark.opSequence.OpSequence;
+import com.xiaoTools.benchmark.workload.Workload;
+import com.xiaoTools.cache.simple.SimpleCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [SimpleCache基准测试](SimpleCache benchmark)
+ * @description zh - SimpleCache基准测试，读操作为不带回调的get，写操作为put。未命中的键从不写入，命中比例在测量期间保持稳定
+ * @description en - SimpleCache benchmark, reads are get without a callback and writes are put. Miss keys are never written so the hit ratio stays stable during measurement
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:02:15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleCacheBenchmark {
+
+	@Param({"READ_HEAVY", "MIXED", "WRITE_HEAVY"})
+	public Workload workload;
+
+	@Param({"0.9", "0.5"})
+	public double hitRatio;
+
+	@Param({"0", "0.99"})
+	public double zipf;
+
+	@Param({"1024"})
+	public int keyCount;
+
+	/**
+	 * WEAK为默认的WeakHashMap加读写锁，CONCURRENT为ConcurrentHashMap的并发模式
+	 */
+	@Param({"WEAK", "CONCURRENT"})
+	public String mode;
+
+	private SimpleCache<String, String> cache;
+	private String[] keys;
+
+	@Setup(Level.Trial)
+	public void createKeys() {
+		keys = new String[keyCount * (OpSequence.MISS_FACTOR + 1)];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = "key-" + i;
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		cache = "CONCURRENT".equals(mode) ? new SimpleCache<>(new ConcurrentHashMap<>()) : new SimpleCache<>(new WeakHashMap<>());
+		for (int i = 0; i < keyCount; i++) {
+			cache.put(keys[i], keys[i]);
+		}
+	}
+
+	@Benchmark
+	public String operation(Ops ops) {
+		final int op = ops.sequence.next();
+		final String key = keys[ops.sequence.key(op)];
+		return ops.sequence.isWrite(op) ? cache.put(key, key) : cache.get(key);
+	}
+
+	/**
+	 * [每个线程独立的操作序列](Operation sequence of each thread)
+	 * @description zh - 每个线程独立的操作序列，种子按线程编号区分
+	 * @description en - Operation sequence of each thread, seeded by the thread number
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:04:30
+	 */
+	@State(Scope.Thread)
+	public static class Ops {
+
+		private static final AtomicInteger THREADS = new AtomicInteger();
+
+		OpSequence sequence;
+
+		@Setup(Level.Trial)
+		public void setup(SimpleCacheBenchmark benchmark) {
+			sequence = new OpSequence(benchmark.workload, benchmark.keyCount, benchmark.hitRatio, benchmark.zipf, THREADS.incrementAndGet());
+		}
+
+	}
+
+}
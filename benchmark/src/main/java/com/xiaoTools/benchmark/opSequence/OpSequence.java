@@ -0,0 +1,142 @@
+package com.xiaoTools.benchmark.opSequence;
+
+import com.xiaoTools.benchmark.workload.Workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * [预先生成的操作序列](Pre-generated operation sequence)
+ * @description zh - 预先生成的操作序列，测量期间只按下标读取，不在热路径上产生随机数。
+ * 键的下标服从Zipf分布，0到keyCount-1为预热过的命中键，之后为未预热的未命中键，未命中键的数量为命中键的16倍。
+ * 相同的种子生成相同的序列，保证结果可重复。
+ * @description en - Pre-generated operation sequence, only read by index during measurement so no random numbers are generated on the hot path.
+ * Key indexes follow a Zipf distribution, 0 to keyCount-1 are warmed hit keys and the rest are cold miss keys, 16 times as many as the hit keys.
+ * The same seed generates the same sequence so results are repeatable.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:52:30
+ */
+public class OpSequence {
+
+	/**
+	 * 未命中键相对命中键的倍数
+	 */
+	public static final int MISS_FACTOR = 16;
+
+	/**
+	 * 序列长度，2的幂
+	 */
+	private static final int LENGTH = 1 << 16;
+
+	private final int[] keys = new int[LENGTH];
+	private final boolean[] writes = new boolean[LENGTH];
+	private int cursor;
+
+	/**
+	 * [生成操作序列](Generate the operation sequence)
+	 * @description zh - 生成操作序列
+	 * @description en - Generate the operation sequence
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:54:10
+	 * @param workload 读写比例
+	 * @param keyCount 命中键的数量
+	 * @param hitRatio 读操作落在命中键上的比例
+	 * @param zipf Zipf分布的指数，0表示均匀分布
+	 * @param seed 随机种子
+	 */
+	public OpSequence(Workload workload, int keyCount, double hitRatio, double zipf, long seed) {
+		final SplittableRandom random = new SplittableRandom(seed);
+		final double[] hitCdf = cdf(keyCount, zipf);
+		final double[] missCdf = cdf(keyCount * MISS_FACTOR, zipf);
+		for (int i = 0; i < LENGTH; i++) {
+			writes[i] = random.nextDouble() >= workload.getReadRatio();
+			// 写操作总是落在命中键上，保持命中比例稳定
+			if (writes[i] || random.nextDouble() < hitRatio) {
+				keys[i] = sample(hitCdf, random.nextDouble());
+			} else {
+				keys[i] = keyCount + sample(missCdf, random.nextDouble());
+			}
+		}
+	}
+
+	/**
+	 * [移动到下一个操作](Move to the next operation)
+	 * @description zh - 移动到下一个操作，返回其下标
+	 * @description en - Move to the next operation and return its index
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:55:02
+	 * @return int
+	 */
+	public int next() {
+		return cursor = (cursor + 1) & (LENGTH - 1);
+	}
+
+	/**
+	 * [获取操作的键下标](Get the key index of the operation)
+	 * @description zh - 获取操作的键下标
+	 * @description en - Get the key index of the operation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:55:30
+	 * @param op 操作下标
+	 * @return int
+	 */
+	public int key(int op) {
+		return keys[op];
+	}
+
+	/**
+	 * [是否为写操作](Whether it is a write operation)
+	 * @description zh - 是否为写操作
+	 * @description en - Whether it is a write operation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:55:58
+	 * @param op 操作下标
+	 * @return boolean
+	 */
+	public boolean isWrite(int op) {
+		return writes[op];
+	}
+
+	/**
+	 * [计算Zipf分布的累积概率](Calculate the cumulative probability of the Zipf distribution)
+	 * @description zh - 计算Zipf分布的累积概率，排名打乱到键下标上，避免热点键总是小下标
+	 * @description en - Calculate the cumulative probability of the Zipf distribution
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:57:11
+	 * @param n 键的数量
+	 * @param exponent 指数
+	 * @return double[]
+	 */
+	private static double[] cdf(int n, double exponent) {
+		final double[] cdf = new double[n];
+		double sum = 0;
+		for (int i = 0; i < n; i++) {
+			sum += 1.0 / Math.pow(i + 1, exponent);
+			cdf[i] = sum;
+		}
+		for (int i = 0; i < n; i++) {
+			cdf[i] /= sum;
+		}
+		return cdf;
+	}
+
+	private static int sample(double[] cdf, double p) {
+		int low = 0;
+		int high = cdf.length - 1;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (cdf[mid] < p) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+}
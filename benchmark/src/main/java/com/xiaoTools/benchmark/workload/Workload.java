@@ -0,0 +1,47 @@
+package com.xiaoTools.benchmark.workload;
+
+/**
+ * [读写比例](Read and write ratio)
+ * @description zh - 读写比例
+ * @description en - Read and write ratio
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:50:12
+ */
+public enum Workload {
+
+	/**
+	 * 读多写少，90%读
+	 */
+	READ_HEAVY(0.9),
+
+	/**
+	 * 读写各半
+	 */
+	MIXED(0.5),
+
+	/**
+	 * 写多读少，10%读
+	 */
+	WRITE_HEAVY(0.1);
+
+	private final double readRatio;
+
+	Workload(double readRatio) {
+		this.readRatio = readRatio;
+	}
+
+	/**
+	 * [获取读操作的比例](Get the ratio of reads)
+	 * @description zh - 获取读操作的比例
+	 * @description en - Get the ratio of reads
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:50:40
+	 * @return double
+	 */
+	public double getReadRatio() {
+		return readRatio;
+	}
+
+}
@@ -0,0 +1,284 @@
+package com.xiaoTools.cache.async;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.date.clock.Clock;
+import com.xiaoTools.date.clock.systemClock.SystemClock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [异步加载缓存，支持写入后定时刷新](Asynchronous loading cache, supports refresh after write)
+ * @description zh - 异步加载缓存，回调在指定的执行器中运行，调用线程不会阻塞在加载上。
+ * 同一个key的并发加载只执行一次；配置刷新间隔后，过期的旧值继续返回，同时在后台重新加载。
+ * 执行器可以是任意 Executor，例如 JDK 21 以上的 Executors.newVirtualThreadPerTaskExecutor()。
+ * @description en - Asynchronous loading cache, callbacks run in the given executor so the calling thread never blocks on loading.
+ * Concurrent loads of the same key are executed only once; with a refresh interval the stale value keeps being returned while it is reloaded in the background.
+ * The executor can be any Executor, such as Executors.newVirtualThreadPerTaskExecutor() on JDK 21 or later.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 12:10:05
+ */
+public class AsyncCache<K, V> {
+
+	/**
+	 * 池
+	 */
+	private final ConcurrentMap<K, Holder<V>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * 执行加载回调的执行器
+	 */
+	private final Executor executor;
+
+	/**
+	 * 写入后多久触发后台刷新，单位毫秒，0表示不刷新
+	 */
+	private final long refreshAfterWrite;
+
+	/**
+	 * 判断是否需要刷新的时钟
+	 */
+	private final Clock clock;
+
+	/**
+	 * [构造，使用公共ForkJoinPool加载，不刷新](Construct, load with the common ForkJoinPool, no refresh)
+	 * @description zh - 构造，使用公共ForkJoinPool加载，不刷新
+	 * @description en - Construct, load with the common ForkJoinPool, no refresh
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:12:40
+	 */
+	public AsyncCache() {
+		this(ForkJoinPool.commonPool(), 0);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:13:22
+	 * @param executor 执行加载回调的执行器
+	 * @param refreshAfterWrite 写入后多久触发后台刷新，单位毫秒，0表示不刷新
+	 */
+	public AsyncCache(Executor executor, long refreshAfterWrite) {
+		this(executor, refreshAfterWrite, SystemClock.INSTANCE);
+	}
+
+	/**
+	 * [构造，使用指定的时钟](Construct with the specified clock)
+	 * @description zh - 构造，使用指定的时钟判断是否需要刷新，测试中可以传入TestClock手动拨动时间
+	 * @description en - Construct with the specified clock to decide when to refresh, tests can pass a TestClock and move the time by hand
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:49:05
+	 * @param executor 执行加载回调的执行器
+	 * @param refreshAfterWrite 写入后多久触发后台刷新，单位毫秒，0表示不刷新
+	 * @param clock 时钟
+	 */
+	public AsyncCache(Executor executor, long refreshAfterWrite, Clock clock) {
+		Assertion.isTrue(refreshAfterWrite >= 0, "refreshAfterWrite must not be negative");
+		this.executor = Assertion.notNull(executor, "executor must not be null");
+		this.refreshAfterWrite = refreshAfterWrite;
+		this.clock = Assertion.notNull(clock, "clock must not be null");
+	}
+
+	/**
+	 * [获取缓存中的值，不触发加载](Get the value in the cache without triggering loading)
+	 * @description zh - 获取缓存中的值，不触发加载
+	 * @description en - Get the value in the cache without triggering loading
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:15:08
+	 * @param key 键
+	 * @return java.util.concurrent.CompletableFuture<V> 不存在时返回null
+	 */
+	public CompletableFuture<V> get(K key) {
+		final Holder<V> holder = cache.get(key);
+		return null == holder ? null : holder.future;
+	}
+
+	/**
+	 * [从缓存中获得对象，不存在时在执行器中异步加载](Get the object from the cache, load it asynchronously in the executor when it does not exist)
+	 * @description zh - 从缓存中获得对象，不存在时在执行器中异步加载，同一个key同时只加载一次。
+	 * 值已超过刷新间隔时立即返回旧值，并在后台刷新。加载失败的结果不会被缓存
+	 * @description en - Get the object from the cache, load it asynchronously in the executor when it does not exist, the same key is loaded only once at a time.
+	 * When the value has passed the refresh interval the old value is returned immediately and refreshed in the background. Failed loads are not cached
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:17:51
+	 * @param key 键
+	 * @param supplier 用于生产值对象的回调方法
+	 * @return java.util.concurrent.CompletableFuture<V>
+	 */
+	public CompletableFuture<V> get(K key, CacheFun<V> supplier) {
+		Holder<V> holder = cache.get(key);
+		while (null == holder || holder.future.isCompletedExceptionally()) {
+			final Holder<V> created = new Holder<>(new CompletableFuture<>(), clock.currentTimeMillis());
+			final boolean won = null == holder ? null == cache.putIfAbsent(key, created) : cache.replace(key, holder, created);
+			if (won) {
+				load(key, created, supplier);
+				return created.future;
+			}
+			holder = cache.get(key);
+		}
+		if (refreshAfterWrite > 0 && holder.future.isDone()
+				&& clock.currentTimeMillis() - holder.writeTime >= refreshAfterWrite
+				&& holder.refreshing.compareAndSet(false, true)) {
+			refresh(key, holder, supplier);
+		}
+		return holder.future;
+	}
+
+	/**
+	 * [存入缓存](Cache)
+	 * @description zh - 存入缓存
+	 * @description en - Cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:19:30
+	 * @param key 键
+	 * @param value 值
+	 * @return V
+	 */
+	public V put(K key, V value) {
+		if (null == value) {
+			cache.remove(key);
+		} else {
+			cache.put(key, new Holder<>(CompletableFuture.completedFuture(value), clock.currentTimeMillis()));
+		}
+		return value;
+	}
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 移除缓存
+	 * @description en - Remove cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:20:02
+	 * @param key 键
+	 * @return java.util.concurrent.CompletableFuture<V>
+	 */
+	public CompletableFuture<V> remove(K key) {
+		final Holder<V> holder = cache.remove(key);
+		return null == holder ? null : holder.future;
+	}
+
+	/**
+	 * [清空缓存池](Clear cache pool)
+	 * @description zh - 清空缓存池
+	 * @description en - Clear cache pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:20:41
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * [当前条目数量，包含正在加载的条目](Current number of entries, including entries being loaded)
+	 * @description zh - 当前条目数量，包含正在加载的条目
+	 * @description en - Current number of entries, including entries being loaded
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:21:15
+	 * @return int
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * [在执行器中加载值](Load the value in the executor)
+	 * @description zh - 在执行器中加载值，失败或结果为null时移除占位
+	 * @description en - Load the value in the executor, the placeholder is removed on failure or when the result is null
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:23:36
+	 * @param key 键
+	 * @param holder 占位
+	 * @param supplier 用于生产值对象的回调方法
+	 */
+	private void load(K key, Holder<V> holder, CacheFun<V> supplier) {
+		try {
+			executor.execute(() -> {
+				try {
+					final V value = supplier.call();
+					if (null == value) {
+						cache.remove(key, holder);
+					}
+					holder.writeTime = clock.currentTimeMillis();
+					holder.future.complete(value);
+				} catch (Throwable e) {
+					cache.remove(key, holder);
+					holder.future.completeExceptionally(e);
+				}
+			});
+		} catch (RuntimeException e) {
+			// 执行器拒绝执行
+			cache.remove(key, holder);
+			holder.future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * [在后台刷新值，刷新期间继续返回旧值](Refresh the value in the background, the old value keeps being returned during the refresh)
+	 * @description zh - 在后台刷新值，刷新期间继续返回旧值。刷新失败时保留旧值，下次访问再重试
+	 * @description en - Refresh the value in the background, the old value keeps being returned during the refresh. On failure the old value is kept and retried on the next access
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:26:12
+	 * @param key 键
+	 * @param holder 当前条目
+	 * @param supplier 用于生产值对象的回调方法
+	 */
+	private void refresh(K key, Holder<V> holder, CacheFun<V> supplier) {
+		try {
+			executor.execute(() -> {
+				try {
+					final V value = supplier.call();
+					if (null == value) {
+						cache.remove(key, holder);
+					} else {
+						cache.replace(key, holder, new Holder<>(CompletableFuture.completedFuture(value), clock.currentTimeMillis()));
+					}
+				} catch (Throwable ignored) {
+					// 保留旧值
+				} finally {
+					holder.refreshing.set(false);
+				}
+			});
+		} catch (RuntimeException e) {
+			holder.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * [缓存条目](Cache entry)
+	 * @description zh - 缓存条目
+	 * @description en - Cache entry
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 12:11:20
+	 */
+	private static class Holder<V> {
+		final CompletableFuture<V> future;
+		final AtomicBoolean refreshing = new AtomicBoolean();
+		volatile long writeTime;
+
+		Holder(CompletableFuture<V> future, long writeTime) {
+			this.future = future;
+			this.writeTime = writeTime;
+		}
+	}
+
+}
@@ -1,9 +1,14 @@
 package com.xiaoTools.cache.beanDescCache;
 
-import com.xiaoTools.cache.simple.SimpleCache;
+import com.xiaoTools.cache.classValueCache.ClassValueCache;
+import com.xiaoTools.cache.simple.method.BulkCacheFun;
 import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
 import com.xiaoTools.entity.beanDesc.BeanDesc;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * [Bean属性缓存](Bean attribute cache)
  * @description zh - Bean属性缓存
@@ -16,7 +21,7 @@ public enum BeanDescCache {
 
 	INSTANCE;
 
-	private final SimpleCache<Class<?>, BeanDesc> bdCache = new SimpleCache<>();
+	private final ClassValueCache<BeanDesc> bdCache = new ClassValueCache<>();
 
 	/**
 	 * [获得属性名和 BeanDesc Map映射](Get the property name and beandesc map mapping)
@@ -33,4 +38,44 @@ public enum BeanDescCache {
 		return bdCache.get(beanClass, supplier);
 	}
 
+	/**
+	 * [批量获得 BeanDesc](Get BeanDesc in bulk)
+	 * @description zh - 批量获得 BeanDesc，未缓存的类通过一次回调批量创建
+	 * @description en - Get BeanDesc in bulk, classes not cached are created in bulk by a single callback
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:40:22
+	 * @param beanClasses Bean的类集合
+	 * @param loader 批量创建未缓存的 BeanDesc 的函数
+	 * @return java.util.Map<java.lang.Class<?>, com.xiaoTools.entity.beanDesc.BeanDesc>
+	 */
+	public Map<Class<?>, BeanDesc> getBeanDescs(Collection<? extends Class<?>> beanClasses, BulkCacheFun<Class<?>, BeanDesc> loader){
+		return bdCache.getAll(beanClasses, loader);
+	}
+
+	/**
+	 * [开启统计](Enable statistics)
+	 * @description zh - 开启统计
+	 * @description en - Enable statistics
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:53:10
+	 */
+	public void recordStats() {
+		bdCache.recordStats();
+	}
+
+	/**
+	 * [获取统计快照](Get a statistics snapshot)
+	 * @description zh - 获取统计快照，未开启统计时返回空统计
+	 * @description en - Get a statistics snapshot, empty statistics are returned when not enabled
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:53:42
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		return bdCache.getStats();
+	}
+
 }
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import com.xiaoTools.cache.simple.SimpleCache;
 import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
 
 /**
  * [Bean属性缓存](Bean attribute cache)
@@ -76,6 +77,32 @@ public enum BeanInfoCache {
 		getCache(ignoreCase).put(beanClass, fieldNamePropertyDescriptorMap);
 	}
 
+	/**
+	 * [开启统计](Enable statistics)
+	 * @description zh - 开启统计，两个缓存同时开启
+	 * @description en - Enable statistics for both caches
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:54:20
+	 */
+	public void recordStats() {
+		pdCache.recordStats();
+		ignoreCasePdCache.recordStats();
+	}
+
+	/**
+	 * [获取统计快照](Get a statistics snapshot)
+	 * @description zh - 获取统计快照，为两个缓存的汇总
+	 * @description en - Get a statistics snapshot, aggregated over both caches
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:54:58
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		return pdCache.getStats().plus(ignoreCasePdCache.getStats());
+	}
+
 	/**
 	 * [根据是否忽略字段名的大小写](Depending on whether the case of the field name is ignored)
 	 * @description zh - 根据是否忽略字段名的大小写
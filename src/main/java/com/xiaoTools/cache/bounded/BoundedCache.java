@@ -0,0 +1,842 @@
+package com.xiaoTools.cache.bounded;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.cache.bounded.evictionPolicy.EvictionPolicy;
+import com.xiaoTools.cache.bounded.frequencySketch.FrequencySketch;
+import com.xiaoTools.cache.bounded.method.Weigher;
+import com.xiaoTools.cache.simple.method.BulkCacheFun;
+import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.stats.statsCounter.StatsCounter;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [有界缓存，超出容量或权重上限时按策略淘汰](Bounded cache, entries are evicted by policy when the capacity or weight limit is exceeded)
+ * @description zh - 有界缓存，超出容量或权重上限时按策略淘汰。支持 LRU 以及 W-TinyLFU 两种策略，
+ * 用法与 SimpleCache 一致，可直接替换原有调用。
+ * @description en - Bounded cache, entries are evicted by policy when the capacity or weight limit is exceeded.
+ * Both LRU and W-TinyLFU are supported, the usage is the same as SimpleCache so existing call sites can switch directly.
+ * 读取不加锁，访问记录先写入一个有损的环形缓冲区，积累一定数量后由拿到锁的线程批量调整访问顺序，缓冲区满时丢弃访问记录，
+ * 因此多线程下的淘汰顺序是近似的。
+ * Reads take no lock, accesses are recorded into a lossy ring buffer and replayed in batches by whichever thread gets the lock,
+ * accesses are dropped while the buffer is full, so under concurrency the eviction order is approximate.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 09:35:02
+ */
+public class BoundedCache<K, V> implements Iterable<Map.Entry<K, V>> {
+
+	/**
+	 * 窗口区
+	 */
+	private static final int WINDOW = 0;
+
+	/**
+	 * 主区的试用段
+	 */
+	private static final int PROBATION = 1;
+
+	/**
+	 * 主区的保护段
+	 */
+	private static final int PROTECTED = 2;
+
+	/**
+	 * 已被移除的条目
+	 */
+	private static final int DEAD = 3;
+
+	/**
+	 * 读缓冲区大小，必须是2的幂
+	 */
+	private static final int READ_BUFFER_SIZE = 128;
+
+	/**
+	 * 读缓冲区中积累的访问记录达到此数量时尝试回放
+	 */
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+	/**
+	 * 最大容量或最大权重
+	 */
+	private final long maximum;
+
+	/**
+	 * 淘汰策略
+	 */
+	private final EvictionPolicy policy;
+
+	/**
+	 * 权重计算
+	 */
+	private final Weigher<K, V> weigher;
+
+	/**
+	 * 是否使用了自定义权重
+	 */
+	private final boolean weighted;
+
+	/**
+	 * 池
+	 */
+	private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+
+	/**
+	 * 窗口区队列，LRU模式下所有条目都在这里
+	 */
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+
+	/**
+	 * 试用段队列
+	 */
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+
+	/**
+	 * 保护段队列
+	 */
+	private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+
+	/**
+	 * 访问频率草图，LRU模式下为null
+	 */
+	private final FrequencySketch sketch;
+
+	/**
+	 * 窗口区的权重上限
+	 */
+	private final long windowMaximum;
+
+	/**
+	 * 保护段的权重上限
+	 */
+	private final long protectedMaximum;
+
+	/**
+	 * 当前总权重
+	 */
+	private long weightedSize;
+
+	/**
+	 * 窗口区当前权重
+	 */
+	private long windowWeightedSize;
+
+	/**
+	 * 保护段当前权重
+	 */
+	private long protectedWeightedSize;
+
+	/**
+	 * 修改条目和调整访问顺序时加锁，读取不加锁
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * 读缓冲区，记录尚未回放的访问
+	 */
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+	/**
+	 * 读缓冲区已写入的记录数
+	 */
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+
+	/**
+	 * 读缓冲区已回放的记录数，只在持有锁时修改
+	 */
+	private volatile long readBufferReadCount;
+
+	/**
+	 * 写的时候每个key一把锁，降低锁的粒度
+	 */
+	protected final Map<K, Lock> keyLockMap = new ConcurrentHashMap<>();
+
+	/**
+	 * 统计记录器，调用recordStats()后才开启
+	 */
+	private volatile StatsCounter statsCounter;
+
+	/**
+	 * [构造，使用LRU策略，按条目数量限制容量](Construct with LRU policy, the capacity is limited by the number of entries)
+	 * @description zh - 构造，使用LRU策略，按条目数量限制容量
+	 * @description en - Construct with LRU policy, the capacity is limited by the number of entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:40:11
+	 * @param maximumSize 最大条目数量
+	 */
+	public BoundedCache(long maximumSize) {
+		this(maximumSize, EvictionPolicy.LRU);
+	}
+
+	/**
+	 * [构造，按条目数量限制容量](Construct, the capacity is limited by the number of entries)
+	 * @description zh - 构造，按条目数量限制容量
+	 * @description en - Construct, the capacity is limited by the number of entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:41:30
+	 * @param maximumSize 最大条目数量
+	 * @param policy 淘汰策略
+	 */
+	public BoundedCache(long maximumSize, EvictionPolicy policy) {
+		this(maximumSize, policy, null);
+	}
+
+	/**
+	 * [构造，按权重限制容量](Construct, the capacity is limited by weight)
+	 * @description zh - 构造，按权重限制容量
+	 * @description en - Construct, the capacity is limited by weight
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:42:57
+	 * @param maximumWeight 最大权重，weigher为null时表示最大条目数量
+	 * @param policy 淘汰策略
+	 * @param weigher 权重计算，null表示每个条目权重为1
+	 */
+	public BoundedCache(long maximumWeight, EvictionPolicy policy, Weigher<K, V> weigher) {
+		Assertion.isTrue(maximumWeight >= 0, "maximum must not be negative");
+		this.maximum = maximumWeight;
+		this.policy = Assertion.notNull(policy, "policy must not be null");
+		this.weighted = null != weigher;
+		this.weigher = weighted ? weigher : (k, v) -> 1;
+		if (EvictionPolicy.W_TINY_LFU == policy) {
+			this.windowMaximum = Math.max(1L, maximumWeight / 100);
+			this.protectedMaximum = (maximumWeight - windowMaximum) * 8 / 10;
+			this.sketch = new FrequencySketch(weighted ? 16 : maximumWeight);
+		} else {
+			this.windowMaximum = maximumWeight;
+			this.protectedMaximum = 0;
+			this.sketch = null;
+		}
+	}
+
+	/**
+	 * [从缓存池中查找值](Find value from cache pool)
+	 * @description zh - 从缓存池中查找值
+	 * @description en - Find value from cache pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:45:21
+	 * @param key 键
+	 * @return V
+	 */
+	public V get(K key) {
+		V v = null;
+		final Node<K, V> node = data.get(key);
+		if (null != node) {
+			v = node.value;
+			recordRead(node);
+		}
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			if (null == v) {
+				counter.recordMisses(1);
+			} else {
+				counter.recordHits(1);
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * [从缓存中获得对象，当对象不在缓存中时返回回调产生的对象](Get the object from the cache. When the object is not in the cache, return the object generated by the callback)
+	 * @description zh - 从缓存中获得对象，当对象不在缓存中时返回回调产生的对象
+	 * @description en - Get the object from the cache. When the object is not in the cache, return the object generated by the callback
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:47:02
+	 * @param key 键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return V
+	 */
+	public V get(K key, CacheFun<V> supplier) {
+		V v = get(key);
+		if (null == v && null != supplier) {
+			final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
+			keyLock.lock();
+			try {
+				// 双重检查，防止在竞争锁的过程中已经有其它线程写入
+				v = getQuietly(key);
+				if (null == v) {
+					try {
+						v = StatsCounter.load(this.statsCounter, supplier);
+					} catch (Exception e) {
+						throw new RuntimeException(e);
+					}
+					put(key, v);
+				}
+			} finally {
+				keyLock.unlock();
+				keyLockMap.remove(key);
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * [批量获取，未命中的键通过一次批量回调加载](Bulk get, missing keys are loaded by a single bulk callback)
+	 * @description zh - 批量获取，命中的值直接返回，所有未命中的键只调用一次回调加载，查找不加锁，写入只加一次锁。
+	 * 加载期间其它线程已写入的值优先保留。返回结果只包含找到的键
+	 * @description en - Bulk get, hits are returned directly and all missing keys are loaded by calling the callback only once,
+	 * the lock is acquired only once for writing. Values written by other threads during the load take precedence.
+	 * The result only contains the keys that were found
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:31:05
+	 * @param keys 键集合
+	 * @param loader 批量加载未命中键的回调，为null时只返回命中的值
+	 * @return java.util.Map<K,V>
+	 */
+	public Map<K, V> getAll(Collection<? extends K> keys, BulkCacheFun<K, V> loader) {
+		final Map<K, V> result = new HashMap<>(keys.size() * 4 / 3 + 1);
+		final Set<K> misses = new LinkedHashSet<>();
+		for (K key : keys) {
+			final Node<K, V> node = data.get(key);
+			if (null == node) {
+				misses.add(key);
+			} else {
+				result.put(key, node.value);
+				recordRead(node);
+			}
+		}
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			counter.recordHits(result.size());
+			counter.recordMisses(misses.size());
+		}
+		if (misses.isEmpty() || null == loader) {
+			return result;
+		}
+		final Map<K, V> loaded;
+		try {
+			loaded = StatsCounter.loadAll(this.statsCounter, loader, misses);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		if (null == loaded || loaded.isEmpty()) {
+			return result;
+		}
+		lock.lock();
+		try {
+			for (K key : misses) {
+				final V v = loaded.get(key);
+				if (null != v) {
+					final Node<K, V> node = data.get(key);
+					if (null == node) {
+						put(key, v);
+						result.put(key, v);
+					} else {
+						result.put(key, node.value);
+					}
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		return result;
+	}
+
+	/**
+	 * [查找值，不记录统计](Find the value without recording statistics)
+	 * @description zh - 查找值，不记录统计
+	 * @description en - Find the value without recording statistics
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:31:50
+	 * @param key 键
+	 * @return V
+	 */
+	private V getQuietly(K key) {
+		final Node<K, V> node = data.get(key);
+		return null == node ? null : node.value;
+	}
+
+	/**
+	 * [存入缓存，超出上限时触发淘汰](Put into the cache, eviction is triggered when the limit is exceeded)
+	 * @description zh - 存入缓存，超出上限时触发淘汰。值为null时等同于移除
+	 * @description en - Put into the cache, eviction is triggered when the limit is exceeded. A null value is equivalent to removal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:49:40
+	 * @param key 键
+	 * @param value 值
+	 * @return V
+	 */
+	public V put(K key, V value) {
+		if (null == value) {
+			remove(key);
+			return null;
+		}
+		final int weight = weigher.weigh(key, value);
+		Assertion.isTrue(weight >= 0, "weight must not be negative");
+		lock.lock();
+		try {
+			drainReadBuffer();
+			Node<K, V> node = data.get(key);
+			if (null == node) {
+				node = new Node<>(key, value, weight);
+				data.put(key, node);
+				window.addLast(node);
+				windowWeightedSize += weight;
+				weightedSize += weight;
+				if (null != sketch) {
+					if (weighted) {
+						sketch.ensureCapacity(data.size());
+					}
+					sketch.increment(key);
+				}
+			} else {
+				final int diff = weight - node.weight;
+				node.value = value;
+				node.weight = weight;
+				weightedSize += diff;
+				if (WINDOW == node.queue) {
+					windowWeightedSize += diff;
+				} else if (PROTECTED == node.queue) {
+					protectedWeightedSize += diff;
+				}
+				onAccess(node);
+			}
+			evict();
+		} finally {
+			lock.unlock();
+		}
+		return value;
+	}
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 移除缓存
+	 * @description en - Remove cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:52:18
+	 * @param key 键
+	 * @return V
+	 */
+	public V remove(K key) {
+		lock.lock();
+		try {
+			drainReadBuffer();
+			final Node<K, V> node = data.remove(key);
+			if (null == node) {
+				return null;
+			}
+			unlink(node);
+			return node.value;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [清空缓存池](Clear cache pool)
+	 * @description zh - 清空缓存池
+	 * @description en - Clear cache pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:53:01
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			drainReadBuffer();
+			for (Node<K, V> node : data.values()) {
+				node.queue = DEAD;
+			}
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedDeque.clear();
+			weightedSize = 0;
+			windowWeightedSize = 0;
+			protectedWeightedSize = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [当前条目数量](Current number of entries)
+	 * @description zh - 当前条目数量
+	 * @description en - Current number of entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:53:44
+	 * @return int
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * [当前总权重，未指定权重计算时等于条目数量](Current total weight, equal to the number of entries when no weigher is specified)
+	 * @description zh - 当前总权重，未指定权重计算时等于条目数量
+	 * @description en - Current total weight, equal to the number of entries when no weigher is specified
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:54:20
+	 * @return long
+	 */
+	public long weightedSize() {
+		lock.lock();
+		try {
+			return weightedSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [获取最大容量或最大权重](Get the maximum capacity or maximum weight)
+	 * @description zh - 获取最大容量或最大权重
+	 * @description en - Get the maximum capacity or maximum weight
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:54:58
+	 * @return long
+	 */
+	public long getMaximum() {
+		return maximum;
+	}
+
+	/**
+	 * [开启统计](Enable statistics)
+	 * @description zh - 开启统计，记录命中、未命中、加载、淘汰次数以及加载耗时
+	 * @description en - Enable statistics, record hits, misses, loads, evictions and load time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:33:40
+	 * @return com.xiaoTools.cache.bounded.BoundedCache<K,V>
+	 */
+	public synchronized BoundedCache<K, V> recordStats() {
+		if (null == statsCounter) {
+			statsCounter = new StatsCounter();
+		}
+		return this;
+	}
+
+	/**
+	 * [获取统计快照](Get a statistics snapshot)
+	 * @description zh - 获取统计快照，未开启统计时返回空统计
+	 * @description en - Get a statistics snapshot, empty statistics are returned when not enabled
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:34:12
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		final StatsCounter counter = this.statsCounter;
+		return null == counter ? CacheStats.EMPTY : counter.snapshot(size());
+	}
+
+	/**
+	 * [获取淘汰策略](Get eviction policy)
+	 * @description zh - 获取淘汰策略
+	 * @description en - Get eviction policy
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:55:31
+	 * @return com.xiaoTools.cache.bounded.evictionPolicy.EvictionPolicy
+	 */
+	public EvictionPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * [重写迭代器，遍历的是当前条目的快照](Override iterator, iterates over a snapshot of the current entries)
+	 * @description zh - 重写迭代器，遍历的是当前条目的快照
+	 * @description en - Override iterator, iterates over a snapshot of the current entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:56:12
+	 * @return java.util.Iterator<java.util.Map.Entry<K,V>>
+	 */
+	@Override
+	public Iterator<Map.Entry<K, V>> iterator() {
+		lock.lock();
+		try {
+			final List<Map.Entry<K, V>> entries = new ArrayList<>(data.size());
+			for (Node<K, V> node : data.values()) {
+				entries.add(new AbstractMap.SimpleImmutableEntry<>(node.key, node.value));
+			}
+			return entries.iterator();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [记录一次读取](Record a read)
+	 * @description zh - 把访问记录写入读缓冲区，缓冲区已满或与其它线程竞争失败时丢弃。积累的记录较多且锁空闲时顺便回放
+	 * @description en - Write the access into the read buffer, it is dropped when the buffer is full or another thread wins the slot.
+	 * When enough records are pending and the lock is free they are replayed on the way
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:20:10
+	 * @param node 条目
+	 */
+	private void recordRead(Node<K, V> node) {
+		final long write = readBufferWriteCount.get();
+		final long pending = write - readBufferReadCount;
+		if (pending < READ_BUFFER_SIZE && readBufferWriteCount.compareAndSet(write, write + 1)) {
+			readBuffer.lazySet((int) (write & (READ_BUFFER_SIZE - 1)), node);
+		}
+		if (pending >= READ_BUFFER_DRAIN_THRESHOLD && lock.tryLock()) {
+			try {
+				drainReadBuffer();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * [回放读缓冲区中的访问记录](Replay the accesses in the read buffer)
+	 * @description zh - 按写入顺序回放读缓冲区中的访问记录，已被移除的条目跳过。遇到已占位但尚未写入的槽位时停下，留到下次回放。调用方必须持有锁
+	 * @description en - Replay the accesses in the read buffer in write order, skipping removed entries. It stops at a slot that has been claimed
+	 * but not yet written, leaving it for the next drain. The caller must hold the lock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:21:35
+	 */
+	private void drainReadBuffer() {
+		long read = readBufferReadCount;
+		final long write = readBufferWriteCount.get();
+		for (; read < write; read++) {
+			final Node<K, V> node = readBuffer.getAndSet((int) (read & (READ_BUFFER_SIZE - 1)), null);
+			if (null == node) {
+				break;
+			}
+			if (DEAD != node.queue) {
+				onAccess(node);
+			}
+		}
+		readBufferReadCount = read;
+	}
+
+	/**
+	 * [条目被访问后调整其所在队列和位置](Adjust the queue and position of the entry after it is accessed)
+	 * @description zh - 条目被访问后调整其所在队列和位置，试用段中的条目再次被访问时晋升到保护段
+	 * @description en - Adjust the queue and position of the entry after it is accessed. An entry in probation is promoted to protected when accessed again
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 10:01:45
+	 * @param node 条目
+	 */
+	private void onAccess(Node<K, V> node) {
+		if (null != sketch) {
+			sketch.increment(node.key);
+		}
+		switch (node.queue) {
+			case WINDOW:
+				window.moveToTail(node);
+				break;
+			case PROBATION:
+				probation.remove(node);
+				node.queue = PROTECTED;
+				protectedDeque.addLast(node);
+				protectedWeightedSize += node.weight;
+				// 保护段超限时把最久未访问的条目降级回试用段
+				while (protectedWeightedSize > protectedMaximum) {
+					final Node<K, V> demoted = protectedDeque.pollFirst();
+					protectedWeightedSize -= demoted.weight;
+					demoted.queue = PROBATION;
+					probation.addLast(demoted);
+				}
+				break;
+			default:
+				protectedDeque.moveToTail(node);
+				break;
+		}
+	}
+
+	/**
+	 * [淘汰条目直到总权重不超过上限](Evict entries until the total weight does not exceed the limit)
+	 * @description zh - 淘汰条目直到总权重不超过上限。W-TinyLFU 模式下窗口区溢出的条目成为候选者，
+	 * 与试用段头部的受害者比较访问频率，频率较低的一方被淘汰
+	 * @description en - Evict entries until the total weight does not exceed the limit. In W-TinyLFU mode the entries overflowing
+	 * the window become candidates, they are compared with the victim at the head of probation and the one with lower frequency is evicted
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 10:05:37
+	 */
+	private void evict() {
+		if (null == sketch) {
+			while (weightedSize > maximum) {
+				evictNode(window.head);
+			}
+			return;
+		}
+		Node<K, V> candidate = null;
+		while (windowWeightedSize > windowMaximum) {
+			final Node<K, V> node = window.pollFirst();
+			windowWeightedSize -= node.weight;
+			node.queue = PROBATION;
+			probation.addLast(node);
+			if (null == candidate) {
+				candidate = node;
+			}
+		}
+		while (weightedSize > maximum) {
+			final Node<K, V> victim = probation.head;
+			if (null == victim) {
+				evictNode(null != protectedDeque.head ? protectedDeque.head : window.head);
+			} else if (null == candidate || victim == candidate) {
+				if (victim == candidate) {
+					candidate = candidate.next;
+				}
+				evictNode(victim);
+			} else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+				evictNode(victim);
+			} else {
+				final Node<K, V> next = candidate.next;
+				evictNode(candidate);
+				candidate = next;
+			}
+		}
+	}
+
+	/**
+	 * [淘汰指定条目](Evict the specified entry)
+	 * @description zh - 淘汰指定条目
+	 * @description en - Evict the specified entry
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 10:08:13
+	 * @param node 条目
+	 */
+	private void evictNode(Node<K, V> node) {
+		data.remove(node.key);
+		unlink(node);
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			counter.recordEviction();
+		}
+	}
+
+	/**
+	 * [把条目从所在队列中摘除并扣减权重](Remove the entry from its queue and deduct the weight)
+	 * @description zh - 把条目从所在队列中摘除并扣减权重
+	 * @description en - Remove the entry from its queue and deduct the weight
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 10:09:02
+	 * @param node 条目
+	 */
+	private void unlink(Node<K, V> node) {
+		switch (node.queue) {
+			case WINDOW:
+				window.remove(node);
+				windowWeightedSize -= node.weight;
+				break;
+			case PROBATION:
+				probation.remove(node);
+				break;
+			default:
+				protectedDeque.remove(node);
+				protectedWeightedSize -= node.weight;
+				break;
+		}
+		node.queue = DEAD;
+		weightedSize -= node.weight;
+	}
+
+	/**
+	 * [缓存条目，同时也是队列节点](Cache entry, which is also a queue node)
+	 * @description zh - 缓存条目，同时也是队列节点
+	 * @description en - Cache entry, which is also a queue node
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:37:20
+	 */
+	private static class Node<K, V> {
+		final K key;
+		volatile V value;
+		int weight;
+		int queue = WINDOW;
+		Node<K, V> prev;
+		Node<K, V> next;
+
+		Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * [按访问顺序排列的双向链表，头部最久未访问](Doubly linked list in access order, the head is the least recently accessed)
+	 * @description zh - 按访问顺序排列的双向链表，头部最久未访问
+	 * @description en - Doubly linked list in access order, the head is the least recently accessed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:38:42
+	 */
+	private static class AccessOrderDeque<K, V> {
+		Node<K, V> head;
+		Node<K, V> tail;
+
+		void addLast(Node<K, V> node) {
+			node.prev = tail;
+			node.next = null;
+			if (null == tail) {
+				head = node;
+			} else {
+				tail.next = node;
+			}
+			tail = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if (null == node.prev) {
+				head = node.next;
+			} else {
+				node.prev.next = node.next;
+			}
+			if (null == node.next) {
+				tail = node.prev;
+			} else {
+				node.next.prev = node.prev;
+			}
+			node.prev = null;
+			node.next = null;
+		}
+
+		void moveToTail(Node<K, V> node) {
+			if (tail != node) {
+				remove(node);
+				addLast(node);
+			}
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = head;
+			if (null != node) {
+				remove(node);
+			}
+			return node;
+		}
+
+		void clear() {
+			head = null;
+			tail = null;
+		}
+	}
+
+}
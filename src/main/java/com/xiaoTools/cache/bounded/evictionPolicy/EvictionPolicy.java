@@ -0,0 +1,23 @@
+package com.xiaoTools.cache.bounded.evictionPolicy;
+
+/**
+ * [有界缓存的淘汰策略](Eviction policy of bounded cache)
+ * @description zh - 有界缓存的淘汰策略
+ * @description en - Eviction policy of bounded cache
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 09:12:40
+ */
+public enum EvictionPolicy {
+
+	/**
+	 * 最近最少使用，超出容量时淘汰最久未访问的条目
+	 */
+	LRU,
+
+	/**
+	 * 窗口 + 分段LRU，并通过访问频率草图决定新条目是否准入
+	 */
+	W_TINY_LFU
+
+}
@@ -0,0 +1,217 @@
+package com.xiaoTools.cache.bounded.frequencySketch;
+
+/**
+ * [基于 Count-Min Sketch 的访问频率估算器](Access frequency estimator based on Count-Min Sketch)
+ * @description zh - 基于 Count-Min Sketch 的访问频率估算器，每个计数器占4位，最大计数15，
+ * 累计增加次数达到采样大小后所有计数器减半，使历史热点逐渐老化。非线程安全，由调用方加锁。
+ * @description en - Access frequency estimator based on Count-Min Sketch. Each counter takes 4 bits with a maximum of 15,
+ * all counters are halved once the additions reach the sample size so that old hot spots age out. Not thread safe, the caller must lock.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 09:20:11
+ */
+public class FrequencySketch {
+
+	/**
+	 * 四组哈希种子
+	 */
+	private static final long[] SEED = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+	/**
+	 * 每个计数器的最低位
+	 */
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	/**
+	 * 减半后需要保留的位
+	 */
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	/**
+	 * 计数器表的最大长度
+	 */
+	private static final int MAXIMUM_CAPACITY = 1 << 24;
+
+	/**
+	 * 计数器表，每个long存放16个4位计数器
+	 */
+	private long[] table;
+
+	/**
+	 * 表长度掩码
+	 */
+	private int tableMask;
+
+	/**
+	 * 触发老化的采样大小
+	 */
+	private int sampleSize;
+
+	/**
+	 * 自上次老化以来的增加次数
+	 */
+	private int size;
+
+	/**
+	 * [根据预计的条目数量构造](Construct according to the expected number of entries)
+	 * @description zh - 根据预计的条目数量构造
+	 * @description en - Construct according to the expected number of entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:22:30
+	 * @param expectedSize 预计条目数量
+	 */
+	public FrequencySketch(long expectedSize) {
+		ensureCapacity(expectedSize);
+	}
+
+	/**
+	 * [按需扩大计数器表，扩容后历史计数清零](Expand the counter table on demand, the history counts are cleared after expansion)
+	 * @description zh - 按需扩大计数器表，扩容后历史计数清零
+	 * @description en - Expand the counter table on demand, the history counts are cleared after expansion
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:23:16
+	 * @param expectedSize 预计条目数量
+	 */
+	public void ensureCapacity(long expectedSize) {
+		final int capacity = (int) Math.min(Math.max(expectedSize, 16L), MAXIMUM_CAPACITY);
+		if (table != null && table.length >= capacity) {
+			return;
+		}
+		this.table = new long[ceilingPowerOfTwo(capacity)];
+		this.tableMask = table.length - 1;
+		this.sampleSize = 10 * capacity;
+		this.size = 0;
+	}
+
+	/**
+	 * [估算元素的访问频率](Estimate the access frequency of the element)
+	 * @description zh - 估算元素的访问频率
+	 * @description en - Estimate the access frequency of the element
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:24:02
+	 * @param e 元素
+	 * @return int 0到15之间的频率
+	 */
+	public int frequency(Object e) {
+		final int hash = spread(e.hashCode());
+		final int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			final int index = indexOf(hash, i);
+			final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	/**
+	 * [记录一次访问](Record an access)
+	 * @description zh - 记录一次访问
+	 * @description en - Record an access
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:25:40
+	 * @param e 元素
+	 */
+	public void increment(Object e) {
+		final int hash = spread(e.hashCode());
+		final int start = (hash & 3) << 2;
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			added |= incrementAt(indexOf(hash, i), start + i);
+		}
+		if (added && ++size == sampleSize) {
+			reset();
+		}
+	}
+
+	/**
+	 * [计数器加一，已达上限时忽略](Increase the counter by one and ignore it when the upper limit is reached)
+	 * @description zh - 计数器加一，已达上限时忽略
+	 * @description en - Increase the counter by one and ignore it when the upper limit is reached
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:26:12
+	 * @param i 表下标
+	 * @param j 计数器在long中的序号
+	 * @return boolean 是否增加
+	 */
+	private boolean incrementAt(int i, int j) {
+		final int offset = j << 2;
+		final long mask = 0xfL << offset;
+		if ((table[i] & mask) != mask) {
+			table[i] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * [所有计数器减半](Halve all counters)
+	 * @description zh - 所有计数器减半
+	 * @description en - Halve all counters
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:27:33
+	 */
+	private void reset() {
+		int odd = 0;
+		for (int i = 0; i < table.length; i++) {
+			odd += Long.bitCount(table[i] & ONE_MASK);
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		size = (size >>> 1) - (odd >>> 2);
+	}
+
+	/**
+	 * [计算第i组哈希对应的表下标](Calculate the table index corresponding to the i-th hash)
+	 * @description zh - 计算第i组哈希对应的表下标
+	 * @description en - Calculate the table index corresponding to the i-th hash
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:28:10
+	 * @param item 元素哈希
+	 * @param i 组序号
+	 * @return int
+	 */
+	private int indexOf(int item, int i) {
+		long hash = (item + SEED[i]) * SEED[i];
+		hash += hash >>> 32;
+		return ((int) hash) & tableMask;
+	}
+
+	/**
+	 * [再次散列，弥补较差的hashCode](Rehash to make up for a poor hashCode)
+	 * @description zh - 再次散列，弥补较差的hashCode
+	 * @description en - Rehash to make up for a poor hashCode
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:28:52
+	 * @param x 原始哈希
+	 * @return int
+	 */
+	private static int spread(int x) {
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		return (x >>> 16) ^ x;
+	}
+
+	/**
+	 * [不小于x的最小2的幂](The smallest power of 2 not less than x)
+	 * @description zh - 不小于x的最小2的幂
+	 * @description en - The smallest power of 2 not less than x
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:29:15
+	 * @param x 数值
+	 * @return int
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros(x - 1);
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.xiaoTools.cache.bounded.method;
+
+import java.io.Serializable;
+
+/**
+ * [计算缓存条目权重的函数对象](Function object that calculates the weight of a cache entry)
+ * @description zh - 计算缓存条目权重的函数对象
+ * @description en - Function object that calculates the weight of a cache entry
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 09:14:05
+ */
+@FunctionalInterface
+public interface Weigher<K, V> extends Serializable {
+
+	/**
+	 * [计算条目权重](Calculate entry weight)
+	 * @description zh - 计算条目权重
+	 * @description en - Calculate entry weight
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 09:14:48
+	 * @param key 键
+	 * @param value 值
+	 * @return int 权重，不能小于0
+	 */
+	int weigh(K key, V value);
+
+}
@@ -0,0 +1,298 @@
+package com.xiaoTools.cache.classValueCache;
+
+import com.xiaoTools.cache.simple.method.BulkCacheFun;
+import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.stats.statsCounter.StatsCounter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [以类为键的元数据缓存，基于ClassValue](Metadata cache keyed by class, based on ClassValue)
+ * @description zh - 以类为键的元数据缓存，基于ClassValue。值直接挂在类上，读取时没有全局锁，也不需要弱引用哈希，
+ * 类被卸载时缓存的值随之回收，适合插件类加载器等场景。
+ * @description en - Metadata cache keyed by class, based on ClassValue. Values hang directly on the class so reads take no global lock and need no weak-reference hashing,
+ * and cached values are reclaimed together with the class when it is unloaded, which suits plugin class loaders.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:30:10
+ */
+public class ClassValueCache<V> {
+
+	/**
+	 * 每个类一个槽，清空时整体替换
+	 */
+	private volatile ClassValue<Slot<V>> slots = newSlots();
+
+	/**
+	 * 已写入值的槽数量，不包含随类卸载而回收的槽
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * 统计记录器，调用recordStats()后才开启
+	 */
+	private volatile StatsCounter statsCounter;
+
+	/**
+	 * [从缓存中查找值](Find value from cache)
+	 * @description zh - 从缓存中查找值
+	 * @description en - Find value from cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:32:20
+	 * @param clazz 类
+	 * @return V
+	 */
+	public V get(Class<?> clazz) {
+		final V v = slots.get(clazz).value;
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			if (null == v) {
+				counter.recordMisses(1);
+			} else {
+				counter.recordHits(1);
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * [从缓存中获得对象，当对象不在缓存中时返回回调产生的对象](Get the object from the cache. When the object is not in the cache, return the object generated by the callback)
+	 * @description zh - 从缓存中获得对象，当对象不在缓存中时返回回调产生的对象，同一个类同时只有一个线程执行回调。回调抛出的运行时异常原样抛出
+	 * @description en - Get the object from the cache. When the object is not in the cache, return the object generated by the callback. Only one thread executes the callback for the same class at a time. Runtime exceptions thrown by the callback are rethrown as is
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:33:41
+	 * @param clazz 类
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return V
+	 */
+	public V get(Class<?> clazz, CacheFun<V> supplier) {
+		final Slot<V> slot = slots.get(clazz);
+		V v = slot.value;
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			if (null == v) {
+				counter.recordMisses(1);
+			} else {
+				counter.recordHits(1);
+			}
+		}
+		if (null == v && null != supplier) {
+			synchronized (slot) {
+				// 双重检查，防止在竞争锁的过程中已经有其它线程写入
+				v = slot.value;
+				if (null == v) {
+					try {
+						v = StatsCounter.load(counter, supplier);
+					} catch (RuntimeException e) {
+						throw e;
+					} catch (Exception e) {
+						throw new RuntimeException(e);
+					}
+					set(slot, v);
+				}
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * [批量获取，未命中的类通过一次批量回调加载](Bulk get, missing classes are loaded by a single bulk callback)
+	 * @description zh - 批量获取，命中的值直接返回，所有未命中的类只调用一次回调加载。返回结果只包含找到的类
+	 * @description en - Bulk get, hits are returned directly and all missing classes are loaded by calling the callback only once. The result only contains the classes that were found
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:35:02
+	 * @param classes 类集合
+	 * @param loader 批量加载未命中类的回调，为null时只返回命中的值
+	 * @return java.util.Map<java.lang.Class<?>,V>
+	 */
+	public Map<Class<?>, V> getAll(Collection<? extends Class<?>> classes, BulkCacheFun<Class<?>, V> loader) {
+		final ClassValue<Slot<V>> current = this.slots;
+		final Map<Class<?>, V> result = new HashMap<>(classes.size() * 4 / 3 + 1);
+		final Set<Class<?>> misses = new LinkedHashSet<>();
+		for (Class<?> clazz : classes) {
+			final V v = current.get(clazz).value;
+			if (null == v) {
+				misses.add(clazz);
+			} else {
+				result.put(clazz, v);
+			}
+		}
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			counter.recordHits(result.size());
+			counter.recordMisses(misses.size());
+		}
+		if (misses.isEmpty() || null == loader) {
+			return result;
+		}
+		final Map<Class<?>, V> loaded;
+		try {
+			loaded = StatsCounter.loadAll(counter, loader, misses);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		if (null == loaded) {
+			return result;
+		}
+		for (Class<?> clazz : misses) {
+			final V v = loaded.get(clazz);
+			if (null != v) {
+				final Slot<V> slot = current.get(clazz);
+				synchronized (slot) {
+					// 加载期间其它线程已写入的值优先保留
+					if (null == slot.value) {
+						set(slot, v);
+					}
+					result.put(clazz, slot.value);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * [存入缓存](Cache)
+	 * @description zh - 存入缓存，值为null时等同于移除
+	 * @description en - Cache, a null value is equivalent to removal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:36:30
+	 * @param clazz 类
+	 * @param value 值
+	 * @return V
+	 */
+	public V put(Class<?> clazz, V value) {
+		final Slot<V> slot = slots.get(clazz);
+		synchronized (slot) {
+			set(slot, value);
+		}
+		return value;
+	}
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 移除缓存
+	 * @description en - Remove cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:37:02
+	 * @param clazz 类
+	 * @return V
+	 */
+	public V remove(Class<?> clazz) {
+		final Slot<V> slot = slots.get(clazz);
+		synchronized (slot) {
+			final V old = slot.value;
+			set(slot, null);
+			return old;
+		}
+	}
+
+	/**
+	 * [清空缓存池](Clear cache pool)
+	 * @description zh - 清空缓存池，替换为新的ClassValue，旧的槽随之回收
+	 * @description en - Clear cache pool by replacing it with a new ClassValue, the old slots are reclaimed with it
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:37:40
+	 */
+	public void clear() {
+		slots = newSlots();
+		size.set(0);
+	}
+
+	/**
+	 * [已缓存的类的数量](Number of cached classes)
+	 * @description zh - 已缓存的类的数量，随类卸载而回收的值不会从中扣除
+	 * @description en - Number of cached classes, values reclaimed by class unloading are not deducted
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:38:15
+	 * @return int
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * [开启统计](Enable statistics)
+	 * @description zh - 开启统计，记录命中、未命中、加载成功与失败次数以及加载耗时
+	 * @description en - Enable statistics, record hits, misses, load successes and failures and load time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:38:50
+	 * @return com.xiaoTools.cache.classValueCache.ClassValueCache<V>
+	 */
+	public synchronized ClassValueCache<V> recordStats() {
+		if (null == statsCounter) {
+			statsCounter = new StatsCounter();
+		}
+		return this;
+	}
+
+	/**
+	 * [获取统计快照](Get a statistics snapshot)
+	 * @description zh - 获取统计快照，未开启统计时返回空统计
+	 * @description en - Get a statistics snapshot, empty statistics are returned when not enabled
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:39:22
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		final StatsCounter counter = this.statsCounter;
+		return null == counter ? CacheStats.EMPTY : counter.snapshot(size());
+	}
+
+	/**
+	 * [写入槽并维护数量，需持有槽的锁](Write the slot and maintain the count, the slot lock must be held)
+	 * @description zh - 写入槽并维护数量，需持有槽的锁
+	 * @description en - Write the slot and maintain the count, the slot lock must be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:40:05
+	 * @param slot 槽
+	 * @param value 值
+	 */
+	private void set(Slot<V> slot, V value) {
+		if (null == slot.value && null != value) {
+			size.incrementAndGet();
+		} else if (null != slot.value && null == value) {
+			size.decrementAndGet();
+		}
+		slot.value = value;
+	}
+
+	private static <V> ClassValue<Slot<V>> newSlots() {
+		return new ClassValue<>() {
+			@Override
+			protected Slot<V> computeValue(Class<?> type) {
+				return new Slot<>();
+			}
+		};
+	}
+
+	/**
+	 * [挂在类上的槽](Slot attached to a class)
+	 * @description zh - 挂在类上的槽，不引用ClassValue本身，避免阻止类卸载
+	 * @description en - Slot attached to a class, it does not reference the ClassValue itself so class unloading is not prevented
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:31:02
+	 */
+	private static final class Slot<V> {
+		volatile V value;
+	}
+
+}
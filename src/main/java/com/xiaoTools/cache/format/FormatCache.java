@@ -1,6 +1,8 @@
 package com.xiaoTools.cache.format;
 
 import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.stats.statsCounter.StatsCounter;
 import com.xiaoTools.lang.constant.Constant;
 import com.xiaoTools.lang.tuple.Tuple;
 
@@ -31,6 +33,11 @@ public abstract class FormatCache<F extends Format> {
 
     private static final ConcurrentMap<Tuple, String> C_DATE_TIME_INSTANCE_CACHE = new ConcurrentHashMap<>(Constant.SEVEN);
 
+    /**
+     * 统计记录器，调用recordStats()后才开启
+     */
+    private volatile StatsCounter statsCounter;
+
     /**
      * [创建格式化器](Create formatter)
      * @description: zh - 创建格式化器
@@ -80,8 +87,16 @@ public abstract class FormatCache<F extends Format> {
         }
         final Tuple key = new Tuple(pattern, timeZone, locale);
         F format = cInstanceCache.get(key);
+        final StatsCounter counter = this.statsCounter;
+        if (null != counter) {
+            if (format == null) {
+                counter.recordMisses(Constant.ONE);
+            } else {
+                counter.recordHits(Constant.ONE);
+            }
+        }
         if (format == null) {
-            format = createInstance(pattern, timeZone, locale);
+            format = create(pattern, timeZone, locale, counter);
             final F previousValue = cInstanceCache.putIfAbsent(key, format);
             if (previousValue != null) {
                 // another thread snuck in and did the same work
@@ -92,6 +107,58 @@ public abstract class FormatCache<F extends Format> {
         return format;
     }
 
+    /**
+     * [创建格式化器，开启统计时记录创建耗时](Create the formatter and record the creation time when statistics are enabled)
+     * @description: zh - 创建格式化器，开启统计时记录创建耗时
+     * @description: en - Create the formatter and record the creation time when statistics are enabled
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:48 下午
+     * @param pattern: 非空日期格式
+     * @param timeZone: 时区
+     * @param locale: 地区
+     * @param counter: 统计记录器，null表示未开启统计
+     * @return F
+    */
+    private F create(String pattern, TimeZone timeZone, Locale locale, StatsCounter counter) {
+        try {
+            return StatsCounter.load(counter, () -> createInstance(pattern, timeZone, locale));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // createInstance 不抛出受检异常
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * [开启统计](Enable statistics)
+     * @description: zh - 开启统计，记录命中、未命中以及格式化器的创建耗时
+     * @description: en - Enable statistics, record hits, misses and the creation time of formatters
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:50 下午
+    */
+    public synchronized void recordStats() {
+        if (null == statsCounter) {
+            statsCounter = new StatsCounter();
+        }
+    }
+
+    /**
+     * [获取统计快照](Get a statistics snapshot)
+     * @description: zh - 获取统计快照，未开启统计时返回空统计
+     * @description: en - Get a statistics snapshot, empty statistics are returned when not enabled
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:51 下午
+     * @return com.xiaoTools.cache.stats.CacheStats
+    */
+    public CacheStats getStats() {
+        final StatsCounter counter = this.statsCounter;
+        return null == counter ? CacheStats.EMPTY : counter.snapshot(cInstanceCache.size());
+    }
+
     /**
      * [使用指定的样式、时区和区域设置获取日期/时间格式化程序实例。](Gets an instance of the date / time formatter using the specified style, time zone, and locale.)
      * @description: zh - 使用指定的样式、时区和区域设置获取日期/时间格式化程序实例。
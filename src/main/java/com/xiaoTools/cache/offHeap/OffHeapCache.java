@@ -0,0 +1,662 @@
+package com.xiaoTools.cache.offHeap;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.cache.offHeap.slabAllocator.SlabAllocator;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.stats.statsCounter.StatsCounter;
+import com.xiaoTools.util.serializeUtil.SerializeUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * [堆外字节缓存](Off-heap byte cache)
+ * @description zh - 堆外字节缓存，值以字节数组的形式存放在直接内存的slab中，堆上只保留键到地址的索引，
+ * 大量序列化数据不会进入老年代，也不会增加GC停顿。内存用尽时在同一大小级别内按LRU淘汰，
+ * 某个大小级别没有任何slab时从拥有最多slab的级别回收一个slab。超过slab大小的值拆分到多个整slab大小的块中，超过总容量的值不缓存。
+ * 读取只加读锁，多个线程可以同时拷贝数据，访问顺序先记入有损的读缓冲区，在写入时或积累到一定数量后统一回放。
+ * @description en - Off-heap byte cache, values are stored as byte arrays in slabs of direct memory and only the index from keys to addresses is kept on heap,
+ * so large amounts of serialized data never reach the old generation or add to GC pauses. When memory runs out entries are evicted by LRU within the same size class,
+ * a size class without any slab takes one over from the class that owns the most slabs. Values larger than a slab are split over several slab-sized chunks, values larger than the capacity are not cached.
+ * Reads only take the read lock so several threads copy data at the same time, the access order goes into a lossy read buffer first and is replayed on writes or once enough records pile up.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 15:10:26
+ */
+public class OffHeapCache<K> {
+
+	/**
+	 * 默认的slab大小，1MB
+	 */
+	private static final int DEFAULT_SLAB_SIZE = 1 << 20;
+
+	/**
+	 * 最小的块大小
+	 */
+	private static final int MIN_CHUNK_SIZE = 64;
+
+	/**
+	 * 块大小的增长因子
+	 */
+	private static final double GROWTH_FACTOR = 1.25;
+
+	/**
+	 * 读缓冲区大小，必须是2的幂
+	 */
+	private static final int READ_BUFFER_SIZE = 128;
+
+	/**
+	 * 读缓冲区中积累的访问记录达到此数量时尝试回放
+	 */
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+	/**
+	 * 堆外内存分配器
+	 */
+	private final SlabAllocator allocator;
+
+	/**
+	 * 每个slab的字节数，超过此大小的值拆分存放
+	 */
+	private final int slabSize;
+
+	/**
+	 * 堆上的索引
+	 */
+	private final Map<K, Entry<K>> index = new HashMap<>();
+
+	/**
+	 * 每个大小级别的LRU队列
+	 */
+	private final AccessQueue<K>[] queues;
+
+	/**
+	 * 索引和slab共用一把读写锁，读取和拷贝数据加读锁，修改条目和调整访问顺序加写锁
+	 */
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 读缓冲区，记录尚未回放的访问
+	 */
+	private final AtomicReferenceArray<Entry<K>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+	/**
+	 * 读缓冲区已写入的记录数
+	 */
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+
+	/**
+	 * 读缓冲区已回放的记录数，只在持有写锁时修改
+	 */
+	private volatile long readBufferReadCount;
+
+	/**
+	 * 统计记录器，调用recordStats()后才开启
+	 */
+	private volatile StatsCounter statsCounter;
+
+	/**
+	 * [构造，使用1MB的slab](Construct with 1MB slabs)
+	 * @description zh - 构造，使用1MB的slab
+	 * @description en - Construct with 1MB slabs
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:12:40
+	 * @param capacity 最大堆外字节数
+	 */
+	public OffHeapCache(long capacity) {
+		this(capacity, DEFAULT_SLAB_SIZE);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:13:22
+	 * @param capacity 最大堆外字节数，至少为一个slab
+	 * @param slabSize 每个slab的字节数，超过此大小的值拆分到多个块中
+	 */
+	@SuppressWarnings("unchecked")
+	public OffHeapCache(long capacity, int slabSize) {
+		this.allocator = new SlabAllocator(capacity, slabSize, Math.min(MIN_CHUNK_SIZE, slabSize), GROWTH_FACTOR);
+		this.slabSize = slabSize;
+		this.queues = (AccessQueue<K>[]) new AccessQueue<?>[allocator.sizeClassCount()];
+		for (int i = 0; i < queues.length; i++) {
+			queues[i] = new AccessQueue<>();
+		}
+	}
+
+	/**
+	 * [从缓存中获得字节数组](Get the byte array from the cache)
+	 * @description zh - 从缓存中获得字节数组，返回的是堆外数据的拷贝。拷贝时只持有读锁，不阻塞其它读取
+	 * @description en - Get the byte array from the cache, a copy of the off-heap data is returned. Only the read lock is held while copying, other reads are not blocked
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:15:02
+	 * @param key 键
+	 * @return byte[] 不存在时返回null
+	 */
+	public byte[] get(K key) {
+		byte[] value = null;
+		final Entry<K> entry;
+		lock.readLock().lock();
+		try {
+			entry = index.get(key);
+			if (null != entry) {
+				value = new byte[entry.length];
+				read(entry, value);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		if (null != entry) {
+			recordRead(entry);
+		}
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			if (null == value) {
+				counter.recordMisses(1);
+			} else {
+				counter.recordHits(1);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * [从缓存中获得对象](Get the object from the cache)
+	 * @description zh - 从缓存中获得对象，字节数组使用 SerializeUtil 反序列化
+	 * @description en - Get the object from the cache, the byte array is deserialized with SerializeUtil
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:16:30
+	 * @param key 键
+	 * @return T 不存在时返回null
+	 */
+	public <T> T getObject(K key) {
+		final byte[] bytes = get(key);
+		return null == bytes ? null : SerializeUtil.deserialize(bytes);
+	}
+
+	/**
+	 * [存入缓存](Cache)
+	 * @description zh - 存入缓存，字节数组被拷贝到堆外。内存不足时淘汰同一大小级别中最久未使用的条目。
+	 * 超过slab大小的值拆分到多个整slab大小的块中，最后一块的剩余空间不再使用
+	 * @description en - Cache, the byte array is copied off heap. When memory is insufficient, the least recently used entries of the same size class are evicted.
+	 * Values larger than a slab are split over several slab-sized chunks, the space left in the last chunk is not used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:18:14
+	 * @param key 键
+	 * @param value 值
+	 * @return boolean 值超过总容量而未缓存时返回false
+	 */
+	public boolean put(K key, byte[] value) {
+		Assertion.notNull(value, "value must not be null");
+		final int parts = value.length <= slabSize ? 1 : (int) (((long) value.length + slabSize - 1) / slabSize);
+		final int sizeClass = allocator.sizeClass(Math.min(value.length, slabSize));
+		lock.writeLock().lock();
+		try {
+			drainReadBuffer();
+			final Entry<K> old = index.remove(key);
+			if (null != old) {
+				release(old);
+			}
+			if ((long) parts * slabSize > allocator.capacity()) {
+				return false;
+			}
+			final long[] addresses = new long[parts];
+			for (int i = 0; i < parts; i++) {
+				addresses[i] = allocate(sizeClass);
+				if (SlabAllocator.NO_ADDRESS == addresses[i]) {
+					for (int j = 0; j < i; j++) {
+						allocator.free(addresses[j]);
+					}
+					return false;
+				}
+			}
+			final Entry<K> entry = new Entry<>(key, addresses[0], 1 == parts ? null : addresses, value.length, sizeClass);
+			write(entry, value);
+			index.put(key, entry);
+			queues[sizeClass].addLast(entry);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * [序列化后存入缓存](Serialize and cache)
+	 * @description zh - 使用 SerializeUtil 序列化后存入缓存
+	 * @description en - Serialize with SerializeUtil and cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:19:40
+	 * @param key 键
+	 * @param value 可序列化的值
+	 * @return boolean 序列化结果超过总容量而未缓存时返回false
+	 */
+	public boolean putObject(K key, Object value) {
+		final byte[] bytes = SerializeUtil.serialize(value);
+		Assertion.notNull(bytes, "value must be serializable");
+		return put(key, bytes);
+	}
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 移除缓存并立即归还堆外块
+	 * @description en - Remove cache and return the off-heap chunk immediately
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:20:22
+	 * @param key 键
+	 * @return boolean 是否存在
+	 */
+	public boolean remove(K key) {
+		lock.writeLock().lock();
+		try {
+			drainReadBuffer();
+			final Entry<K> entry = index.remove(key);
+			if (null == entry) {
+				return false;
+			}
+			release(entry);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * [是否包含键](Whether the key is included)
+	 * @description zh - 是否包含键，不影响访问顺序
+	 * @description en - Whether the key is included, the access order is not affected
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:20:58
+	 * @param key 键
+	 * @return boolean
+	 */
+	public boolean containsKey(K key) {
+		lock.readLock().lock();
+		try {
+			return index.containsKey(key);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * [清空缓存池](Clear cache pool)
+	 * @description zh - 清空缓存池，并释放全部slab
+	 * @description en - Clear cache pool and release all slabs
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:21:33
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			drainReadBuffer();
+			for (Entry<K> entry : index.values()) {
+				entry.removed = true;
+			}
+			index.clear();
+			for (AccessQueue<K> queue : queues) {
+				queue.head = null;
+				queue.tail = null;
+			}
+			allocator.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * [当前条目数量](Current number of entries)
+	 * @description zh - 当前条目数量
+	 * @description en - Current number of entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:22:04
+	 * @return int
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return index.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * [已申请的堆外字节数](Number of off-heap bytes requested)
+	 * @description zh - 已申请的堆外字节数
+	 * @description en - Number of off-heap bytes requested
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:22:41
+	 * @return long
+	 */
+	public long getAllocatedBytes() {
+		lock.readLock().lock();
+		try {
+			return allocator.allocatedBytes();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * [最大堆外字节数](Maximum number of off-heap bytes)
+	 * @description zh - 最大堆外字节数
+	 * @description en - Maximum number of off-heap bytes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:23:10
+	 * @return long
+	 */
+	public long getCapacity() {
+		return allocator.capacity();
+	}
+
+	/**
+	 * [开启统计](Enable statistics)
+	 * @description zh - 开启统计，记录命中、未命中以及淘汰次数
+	 * @description en - Enable statistics, record hits, misses and evictions
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:23:44
+	 * @return com.xiaoTools.cache.offHeap.OffHeapCache<K>
+	 */
+	public synchronized OffHeapCache<K> recordStats() {
+		if (null == statsCounter) {
+			statsCounter = new StatsCounter();
+		}
+		return this;
+	}
+
+	/**
+	 * [获取统计快照](Get a statistics snapshot)
+	 * @description zh - 获取统计快照，未开启统计时返回空统计
+	 * @description en - Get a statistics snapshot, empty statistics are returned when not enabled
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:24:15
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		final StatsCounter counter = this.statsCounter;
+		return null == counter ? CacheStats.EMPTY : counter.snapshot(size());
+	}
+
+	/**
+	 * [分配块，内存不足时淘汰](Allocate a chunk, evicting when memory is insufficient)
+	 * @description zh - 分配块。内存不足时先淘汰同一大小级别中最久未使用的条目；该级别没有条目时，
+	 * 从拥有最多slab的级别回收其最久未使用条目所在的slab
+	 * @description en - Allocate a chunk. When memory is insufficient the least recently used entry of the same size class is evicted first;
+	 * when the class has no entries, the slab holding the least recently used entry of the class owning the most slabs is taken over
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:26:02
+	 * @param sizeClass 大小级别
+	 * @return long 块地址
+	 */
+	private long allocate(int sizeClass) {
+		while (true) {
+			final long address = allocator.allocate(sizeClass);
+			if (SlabAllocator.NO_ADDRESS != address) {
+				return address;
+			}
+			final AccessQueue<K> queue = queues[sizeClass];
+			if (null != queue.head) {
+				evict(queue.head);
+				continue;
+			}
+			int victimClass = -1;
+			for (int i = 0; i < queues.length; i++) {
+				if (i != sizeClass && allocator.slabCount(i) > 0
+						&& (victimClass < 0 || allocator.slabCount(i) > allocator.slabCount(victimClass))) {
+					victimClass = i;
+				}
+			}
+			if (victimClass < 0) {
+				return SlabAllocator.NO_ADDRESS;
+			}
+			Entry<K> entry = queues[victimClass].head;
+			// 没有条目的级别，其slab全部空闲
+			final int slab = null == entry ? allocator.firstSlab(victimClass) : SlabAllocator.slabIndex(entry.address);
+			while (null != entry) {
+				final Entry<K> next = entry.next;
+				if (entry.inSlab(slab)) {
+					evict(entry);
+				}
+				entry = next;
+			}
+			allocator.reassign(slab, sizeClass);
+		}
+	}
+
+	/**
+	 * [淘汰条目](Evict an entry)
+	 * @description zh - 淘汰条目
+	 * @description en - Evict an entry
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:27:20
+	 * @param entry 条目
+	 */
+	private void evict(Entry<K> entry) {
+		index.remove(entry.key);
+		release(entry);
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			counter.recordEviction();
+		}
+	}
+
+	private void release(Entry<K> entry) {
+		queues[entry.sizeClass].unlink(entry);
+		if (null == entry.parts) {
+			allocator.free(entry.address);
+		} else {
+			for (long address : entry.parts) {
+				allocator.free(address);
+			}
+		}
+		entry.removed = true;
+	}
+
+	/**
+	 * [把条目的堆外数据拷贝到数组](Copy the off-heap data of the entry into the array)
+	 * @description zh - 把条目的堆外数据拷贝到数组，使用绝对位置读取，不修改slab的position，多个线程可以同时读取同一个slab。调用方必须持有读锁或写锁
+	 * @description en - Copy the off-heap data of the entry into the array using absolute reads that leave the position of the slab alone, so several threads can read the same slab at once. The caller must hold the read or the write lock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:50:12
+	 * @param entry 条目
+	 * @param value 目标数组，长度等于条目长度
+	 */
+	private void read(Entry<K> entry, byte[] value) {
+		if (null == entry.parts) {
+			allocator.slab(entry.address).get(SlabAllocator.offset(entry.address), value, 0, value.length);
+			return;
+		}
+		int position = 0;
+		for (long address : entry.parts) {
+			final int length = Math.min(slabSize, value.length - position);
+			allocator.slab(address).get(SlabAllocator.offset(address), value, position, length);
+			position += length;
+		}
+	}
+
+	/**
+	 * [把数组写入条目的堆外块](Write the array into the off-heap chunks of the entry)
+	 * @description zh - 把数组写入条目的堆外块，调用方必须持有写锁
+	 * @description en - Write the array into the off-heap chunks of the entry, the caller must hold the write lock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:50:40
+	 * @param entry 条目
+	 * @param value 值
+	 */
+	private void write(Entry<K> entry, byte[] value) {
+		if (null == entry.parts) {
+			allocator.slab(entry.address).put(SlabAllocator.offset(entry.address), value, 0, value.length);
+			return;
+		}
+		int position = 0;
+		for (long address : entry.parts) {
+			final int length = Math.min(slabSize, value.length - position);
+			allocator.slab(address).put(SlabAllocator.offset(address), value, position, length);
+			position += length;
+		}
+	}
+
+	/**
+	 * [记录一次读取](Record a read)
+	 * @description zh - 把访问记录写入读缓冲区，缓冲区已满或与其它线程竞争失败时丢弃。积累的记录较多且写锁空闲时顺便回放
+	 * @description en - Write the access into the read buffer, it is dropped when the buffer is full or another thread wins the slot.
+	 * When enough records are pending and the write lock is free they are replayed on the way
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:51:05
+	 * @param entry 条目
+	 */
+	private void recordRead(Entry<K> entry) {
+		final long write = readBufferWriteCount.get();
+		final long pending = write - readBufferReadCount;
+		if (pending < READ_BUFFER_SIZE && readBufferWriteCount.compareAndSet(write, write + 1)) {
+			readBuffer.lazySet((int) (write & (READ_BUFFER_SIZE - 1)), entry);
+		}
+		if (pending >= READ_BUFFER_DRAIN_THRESHOLD && lock.writeLock().tryLock()) {
+			try {
+				drainReadBuffer();
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * [回放读缓冲区中的访问记录](Replay the accesses in the read buffer)
+	 * @description zh - 按写入顺序把读缓冲区中的条目移到所在队列的尾部，已被移除的条目跳过。遇到已占位但尚未写入的槽位时停下，留到下次回放。调用方必须持有写锁
+	 * @description en - Move the entries in the read buffer to the tail of their queues in write order, skipping removed entries. It stops at a slot that has been claimed
+	 * but not yet written, leaving it for the next drain. The caller must hold the write lock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:51:30
+	 */
+	private void drainReadBuffer() {
+		long read = readBufferReadCount;
+		final long write = readBufferWriteCount.get();
+		for (; read < write; read++) {
+			final Entry<K> entry = readBuffer.getAndSet((int) (read & (READ_BUFFER_SIZE - 1)), null);
+			if (null == entry) {
+				break;
+			}
+			if (!entry.removed) {
+				queues[entry.sizeClass].moveToTail(entry);
+			}
+		}
+		readBufferReadCount = read;
+	}
+
+	/**
+	 * [堆上的索引条目](Index entry on heap)
+	 * @description zh - 堆上的索引条目，只记录堆外地址和长度。超过slab大小的值记录全部块的地址
+	 * @description en - Index entry on heap, only the off-heap address and the length are recorded. Values larger than a slab record the addresses of all their chunks
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:11:30
+	 */
+	private static final class Entry<K> {
+		final K key;
+		final long address;
+		/**
+		 * 拆分存放时全部块的地址，第一个等于address，只占一个块时为null
+		 */
+		final long[] parts;
+		final int length;
+		final int sizeClass;
+		Entry<K> prev;
+		Entry<K> next;
+		/**
+		 * 已被移除或淘汰，只在持有写锁时修改
+		 */
+		boolean removed;
+
+		Entry(K key, long address, long[] parts, int length, int sizeClass) {
+			this.key = key;
+			this.address = address;
+			this.parts = parts;
+			this.length = length;
+			this.sizeClass = sizeClass;
+		}
+
+		boolean inSlab(int slab) {
+			if (null == parts) {
+				return SlabAllocator.slabIndex(address) == slab;
+			}
+			for (long part : parts) {
+				if (SlabAllocator.slabIndex(part) == slab) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * [按访问顺序排列的双向链表](Doubly linked list in access order)
+	 * @description zh - 按访问顺序排列的双向链表，头部为最久未使用
+	 * @description en - Doubly linked list in access order, the head is the least recently used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:11:58
+	 */
+	private static final class AccessQueue<K> {
+		Entry<K> head;
+		Entry<K> tail;
+
+		void addLast(Entry<K> entry) {
+			entry.prev = tail;
+			entry.next = null;
+			if (null == tail) {
+				head = entry;
+			} else {
+				tail.next = entry;
+			}
+			tail = entry;
+		}
+
+		void unlink(Entry<K> entry) {
+			if (null == entry.prev) {
+				head = entry.next;
+			} else {
+				entry.prev.next = entry.next;
+			}
+			if (null == entry.next) {
+				tail = entry.prev;
+			} else {
+				entry.next.prev = entry.prev;
+			}
+			entry.prev = null;
+			entry.next = null;
+		}
+
+		void moveToTail(Entry<K> entry) {
+			if (tail != entry) {
+				unlink(entry);
+				addLast(entry);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,373 @@
+package com.xiaoTools.cache.offHeap.slabAllocator;
+
+import com.xiaoTools.assertion.Assertion;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * [堆外内存的slab分配器](Slab allocator for off-heap memory)
+ * @description zh - 堆外内存的slab分配器。内存按固定大小的slab向系统申请（直接内存），每个slab分配给一个大小级别后切分为等长的块，
+ * 块的大小按增长因子递增。分配和释放只操作空闲链表，不会产生碎片整理。非线程安全，由调用方加锁。
+ * 地址为long，高32位是slab下标，低32位是slab内的字节偏移。
+ * @description en - Slab allocator for off-heap memory. Memory is requested from the system in fixed-size slabs (direct memory), each slab is assigned to a size class
+ * and split into chunks of equal length, chunk sizes grow by a factor. Allocation and release only touch free lists, no compaction is needed. Not thread safe, the caller must lock.
+ * An address is a long whose upper 32 bits are the slab index and lower 32 bits are the byte offset within the slab.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 14:50:11
+ */
+public class SlabAllocator {
+
+	/**
+	 * 表示分配失败的地址
+	 */
+	public static final long NO_ADDRESS = -1L;
+
+	/**
+	 * 每个slab的字节数
+	 */
+	private final int slabSize;
+
+	/**
+	 * 各个大小级别的块大小，递增
+	 */
+	private final int[] chunkSizes;
+
+	/**
+	 * slab，按需申请
+	 */
+	private final ByteBuffer[] slabs;
+
+	/**
+	 * 每个slab所属的大小级别，-1表示未分配
+	 */
+	private final int[] slabClass;
+
+	/**
+	 * 每个大小级别拥有的slab数量
+	 */
+	private final int[] slabCount;
+
+	/**
+	 * 每个大小级别的空闲块地址栈
+	 */
+	private final long[][] freeChunks;
+
+	/**
+	 * 每个空闲块地址栈的大小
+	 */
+	private final int[] freeCount;
+
+	/**
+	 * 已申请的slab数量
+	 */
+	private int allocatedSlabs;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:52:40
+	 * @param capacity 最大字节数，向下取整为slab大小的整数倍
+	 * @param slabSize 每个slab的字节数，同时也是能存放的最大值
+	 * @param minChunkSize 最小的块大小
+	 * @param growthFactor 块大小的增长因子，必须大于1
+	 */
+	public SlabAllocator(long capacity, int slabSize, int minChunkSize, double growthFactor) {
+		Assertion.isTrue(slabSize > 0 && minChunkSize > 0 && minChunkSize <= slabSize, "invalid slab or chunk size");
+		Assertion.isTrue(growthFactor > 1.0, "growthFactor must be greater than 1");
+		final long maxSlabs = capacity / slabSize;
+		Assertion.isTrue(maxSlabs > 0 && maxSlabs <= Integer.MAX_VALUE, "capacity must hold at least one slab");
+		this.slabSize = slabSize;
+		this.chunkSizes = chunkSizes(slabSize, minChunkSize, growthFactor);
+		this.slabs = new ByteBuffer[(int) maxSlabs];
+		this.slabClass = new int[(int) maxSlabs];
+		Arrays.fill(slabClass, -1);
+		this.slabCount = new int[chunkSizes.length];
+		this.freeChunks = new long[chunkSizes.length][];
+		this.freeCount = new int[chunkSizes.length];
+	}
+
+	/**
+	 * [获取能放下指定长度的最小大小级别](Get the smallest size class that can hold the given length)
+	 * @description zh - 获取能放下指定长度的最小大小级别
+	 * @description en - Get the smallest size class that can hold the given length
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:54:02
+	 * @param length 字节数
+	 * @return int 超过slab大小时返回-1
+	 */
+	public int sizeClass(int length) {
+		int low = 0;
+		int high = chunkSizes.length - 1;
+		if (length > chunkSizes[high]) {
+			return -1;
+		}
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (chunkSizes[mid] < length) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * [在指定大小级别中分配一个块](Allocate a chunk in the given size class)
+	 * @description zh - 在指定大小级别中分配一个块，没有空闲块时尝试申请新的slab
+	 * @description en - Allocate a chunk in the given size class, a new slab is requested when there is no free chunk
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:55:30
+	 * @param sizeClass 大小级别
+	 * @return long 块地址，内存用尽时返回 NO_ADDRESS
+	 */
+	public long allocate(int sizeClass) {
+		if (0 == freeCount[sizeClass]) {
+			if (allocatedSlabs == slabs.length) {
+				return NO_ADDRESS;
+			}
+			final int slab = allocatedSlabs++;
+			slabs[slab] = ByteBuffer.allocateDirect(slabSize);
+			assign(slab, sizeClass);
+		}
+		return freeChunks[sizeClass][--freeCount[sizeClass]];
+	}
+
+	/**
+	 * [释放块](Free a chunk)
+	 * @description zh - 释放块
+	 * @description en - Free a chunk
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:56:12
+	 * @param address 块地址
+	 */
+	public void free(long address) {
+		pushFree(slabClass[slabIndex(address)], address);
+	}
+
+	/**
+	 * [把一个slab改为其它大小级别](Reassign a slab to another size class)
+	 * @description zh - 把一个slab改为其它大小级别，调用前该slab中的块必须已经全部释放
+	 * @description en - Reassign a slab to another size class, all chunks of the slab must have been freed before the call
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:57:44
+	 * @param slab slab下标
+	 * @param sizeClass 新的大小级别
+	 */
+	public void reassign(int slab, int sizeClass) {
+		final int oldClass = slabClass[slab];
+		final long[] stack = freeChunks[oldClass];
+		int kept = 0;
+		for (int i = 0; i < freeCount[oldClass]; i++) {
+			if (slabIndex(stack[i]) != slab) {
+				stack[kept++] = stack[i];
+			}
+		}
+		freeCount[oldClass] = kept;
+		slabCount[oldClass]--;
+		assign(slab, sizeClass);
+	}
+
+	/**
+	 * [获取slab](Get slab)
+	 * @description zh - 获取slab
+	 * @description en - Get slab
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:58:20
+	 * @param address 块地址
+	 * @return java.nio.ByteBuffer
+	 */
+	public ByteBuffer slab(long address) {
+		return slabs[slabIndex(address)];
+	}
+
+	/**
+	 * [获取大小级别拥有的slab数量](Get the number of slabs owned by the size class)
+	 * @description zh - 获取大小级别拥有的slab数量
+	 * @description en - Get the number of slabs owned by the size class
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:59:02
+	 * @param sizeClass 大小级别
+	 * @return int
+	 */
+	public int slabCount(int sizeClass) {
+		return slabCount[sizeClass];
+	}
+
+	/**
+	 * [获取大小级别拥有的第一个slab](Get the first slab owned by the size class)
+	 * @description zh - 获取大小级别拥有的第一个slab
+	 * @description en - Get the first slab owned by the size class
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:59:21
+	 * @param sizeClass 大小级别
+	 * @return int 没有slab时返回-1
+	 */
+	public int firstSlab(int sizeClass) {
+		for (int i = 0; i < allocatedSlabs; i++) {
+			if (slabClass[i] == sizeClass) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * [获取大小级别的数量](Get the number of size classes)
+	 * @description zh - 获取大小级别的数量
+	 * @description en - Get the number of size classes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:59:40
+	 * @return int
+	 */
+	public int sizeClassCount() {
+		return chunkSizes.length;
+	}
+
+	/**
+	 * [获取已申请的堆外字节数](Get the number of off-heap bytes requested)
+	 * @description zh - 获取已申请的堆外字节数
+	 * @description en - Get the number of off-heap bytes requested
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:00:18
+	 * @return long
+	 */
+	public long allocatedBytes() {
+		return (long) allocatedSlabs * slabSize;
+	}
+
+	/**
+	 * [获取最大字节数](Get the maximum number of bytes)
+	 * @description zh - 获取最大字节数
+	 * @description en - Get the maximum number of bytes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:00:51
+	 * @return long
+	 */
+	public long capacity() {
+		return (long) slabs.length * slabSize;
+	}
+
+	/**
+	 * [释放全部slab](Release all slabs)
+	 * @description zh - 释放全部slab，直接内存在slab被回收后归还系统
+	 * @description en - Release all slabs, direct memory is returned to the system after the slabs are collected
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:01:33
+	 */
+	public void clear() {
+		Arrays.fill(slabs, null);
+		Arrays.fill(slabClass, -1);
+		Arrays.fill(slabCount, 0);
+		Arrays.fill(freeChunks, null);
+		Arrays.fill(freeCount, 0);
+		allocatedSlabs = 0;
+	}
+
+	/**
+	 * [获取地址所在的slab下标](Get the slab index of the address)
+	 * @description zh - 获取地址所在的slab下标
+	 * @description en - Get the slab index of the address
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:02:04
+	 * @param address 块地址
+	 * @return int
+	 */
+	public static int slabIndex(long address) {
+		return (int) (address >>> 32);
+	}
+
+	/**
+	 * [获取地址在slab内的字节偏移](Get the byte offset of the address within the slab)
+	 * @description zh - 获取地址在slab内的字节偏移
+	 * @description en - Get the byte offset of the address within the slab
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:02:37
+	 * @param address 块地址
+	 * @return int
+	 */
+	public static int offset(long address) {
+		return (int) address;
+	}
+
+	/**
+	 * [把slab分配给大小级别并切分为空闲块](Assign the slab to the size class and split it into free chunks)
+	 * @description zh - 把slab分配给大小级别并切分为空闲块
+	 * @description en - Assign the slab to the size class and split it into free chunks
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:03:15
+	 * @param slab slab下标
+	 * @param sizeClass 大小级别
+	 */
+	private void assign(int slab, int sizeClass) {
+		slabClass[slab] = sizeClass;
+		slabCount[sizeClass]++;
+		final int chunkSize = chunkSizes[sizeClass];
+		// 倒序入栈，分配时从slab头部开始
+		for (int offset = (slabSize / chunkSize - 1) * chunkSize; offset >= 0; offset -= chunkSize) {
+			pushFree(sizeClass, ((long) slab << 32) | offset);
+		}
+	}
+
+	private void pushFree(int sizeClass, long address) {
+		long[] stack = freeChunks[sizeClass];
+		if (null == stack) {
+			stack = freeChunks[sizeClass] = new long[Math.max(16, slabSize / chunkSizes[sizeClass])];
+		} else if (freeCount[sizeClass] == stack.length) {
+			stack = freeChunks[sizeClass] = Arrays.copyOf(stack, stack.length << 1);
+		}
+		stack[freeCount[sizeClass]++] = address;
+	}
+
+	/**
+	 * [计算各个大小级别的块大小](Calculate the chunk size of each size class)
+	 * @description zh - 计算各个大小级别的块大小，按8字节对齐，最后一级等于slab大小
+	 * @description en - Calculate the chunk size of each size class, aligned to 8 bytes, the last class equals the slab size
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:04:02
+	 * @param slabSize slab大小
+	 * @param minChunkSize 最小块大小
+	 * @param growthFactor 增长因子
+	 * @return int[]
+	 */
+	private static int[] chunkSizes(int slabSize, int minChunkSize, double growthFactor) {
+		int[] sizes = new int[16];
+		int count = 0;
+		double size = minChunkSize;
+		while (true) {
+			final int aligned = (int) Math.min(slabSize, ((long) Math.ceil(size) + 7) & ~7L);
+			if (count == sizes.length) {
+				sizes = Arrays.copyOf(sizes, count << 1);
+			}
+			if (0 == count || aligned > sizes[count - 1]) {
+				sizes[count++] = aligned;
+			}
+			if (aligned >= slabSize) {
+				break;
+			}
+			size *= growthFactor;
+		}
+		return Arrays.copyOf(sizes, count);
+	}
+
+}
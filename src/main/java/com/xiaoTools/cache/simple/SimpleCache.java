@@ -1,13 +1,23 @@
 package com.xiaoTools.cache.simple;
 
+import com.xiaoTools.cache.simple.method.BulkCacheFun;
 import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.stats.statsCounter.StatsCounter;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -40,6 +50,21 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
      */
     protected final Map<K, Lock> keyLockMap = new ConcurrentHashMap<>();
 
+    /**
+     * 是否为并发模式，池为ConcurrentMap时读操作不加锁
+     */
+    private final boolean concurrent;
+
+    /**
+     * 并发模式下正在加载的key，同一个key只有一个线程执行回调，其它线程等待结果
+     */
+    private final ConcurrentMap<K, Loading<V>> loadingMap;
+
+    /**
+     * 统计记录器，调用recordStats()后才开启
+     */
+    private transient volatile StatsCounter statsCounter;
+
     /**
      * [构造，默认使用WeakHashMap实现缓存自动清理](By default, WeakHashMap is used to realize automatic cache cleaning)
      * @description: zh - 构造，默认使用WeakHashMap实现缓存自动清理
@@ -54,8 +79,8 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
 
     /**
      * [通过自定义Map初始化，可以自定义缓存实现。](Through the custom map initialization, you can customize the cache implementation.)
-     * @description: zh - 通过自定义Map初始化，可以自定义缓存实现。
-     * @description: en - Through the custom map initialization, you can customize the cache implementation.
+     * @description: zh - 通过自定义Map初始化，可以自定义缓存实现。传入ConcurrentMap时进入并发模式：读不加锁，回调加载按key去重且不再为每次未命中创建锁
+     * @description: en - Through the custom map initialization, you can customize the cache implementation. Passing a ConcurrentMap enables the concurrent mode: reads take no lock, and callback loading is deduplicated per key without creating a lock for every miss
      * @version: V1.0
      * @author XiaoXunYao
      * @since 2021/6/13 7:01 下午
@@ -63,6 +88,8 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
     */
     public SimpleCache(Map<K, V> initMap) {
         this.cache = initMap;
+        this.concurrent = initMap instanceof ConcurrentMap;
+        this.loadingMap = concurrent ? new ConcurrentHashMap<>() : null;
     }
 
     /**
@@ -76,12 +103,26 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
      * @return V
     */
     public V get(K key){
-        lock.readLock().lock();
-        try {
-            return cache.get(key);
-        }finally {
-            lock.readLock().unlock();
+        final V v;
+        if (concurrent) {
+            v = cache.get(key);
+        } else {
+            lock.readLock().lock();
+            try {
+                v = cache.get(key);
+            }finally {
+                lock.readLock().unlock();
+            }
         }
+        final StatsCounter counter = this.statsCounter;
+        if (null != counter) {
+            if (null == v) {
+                counter.recordMisses(1);
+            } else {
+                counter.recordHits(1);
+            }
+        }
+        return v;
     }
 
     /**
@@ -98,6 +139,9 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
     public V get(K key, CacheFun<V> supplier){
         V v = get(key);
         if(null == v && null != supplier) {
+            if (concurrent) {
+                return load(key, supplier);
+            }
             //每个key单独获取一把锁，降低锁的粒度提高并发能力，see pr#1385@Github
             final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
             keyLock.lock();
@@ -106,7 +150,7 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
                 v = cache.get(key);
                 if (null == v) {
                     try {
-                        v = supplier.call();
+                        v = StatsCounter.load(this.statsCounter, supplier);
                     } catch (Exception e) {
                         throw new RuntimeException(e);
                     }
@@ -120,7 +164,170 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
         return v;
     }
 
+    /**
+     * [并发模式下加载值，同一个key同时只有一个线程执行回调](Load the value in concurrent mode, only one thread executes the callback for the same key at a time)
+     * @description: zh - 并发模式下加载值，同一个key同时只有一个线程执行回调。回调中再次加载同一个key时直接执行回调，与非并发模式的可重入锁一致
+     * @description: en - Load the value in concurrent mode, only one thread executes the callback for the same key at a time.
+     * Loading the same key again from within the callback runs the callback directly, as the reentrant lock of the non-concurrent mode does
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 10:42 上午
+     * @param key: 键
+     * @param supplier: 用于生产值对象的回调方法
+     * @return V
+    */
+    private V load(K key, CacheFun<V> supplier) {
+        final Loading<V> future = new Loading<>();
+        final Loading<V> loading = loadingMap.putIfAbsent(key, future);
+        if (null != loading) {
+            if (loading.thread == Thread.currentThread()) {
+                // 回调中重入同一个key，等待自己的结果会死锁，直接执行回调
+                return loadDirectly(key, supplier);
+            }
+            // 其它线程正在加载，等待其结果
+            try {
+                return loading.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+            }
+        }
+        try {
+            // 双重检查，防止在注册加载的过程中已经有其它线程写入
+            V v = cache.get(key);
+            if (null == v) {
+                v = loadDirectly(key, supplier);
+            }
+            future.complete(v);
+            return v;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingMap.remove(key, future);
+        }
+    }
+
+    /**
+     * [执行回调并写入缓存](Run the callback and put the value into the cache)
+     * @description: zh - 执行回调并写入缓存，RuntimeException原样抛出，受检异常包装为RuntimeException
+     * @description: en - Run the callback and put the value into the cache, a RuntimeException is rethrown unchanged and checked exceptions are wrapped in a RuntimeException
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:44 上午
+     * @param key: 键
+     * @param supplier: 用于生产值对象的回调方法
+     * @return V
+    */
+    private V loadDirectly(K key, CacheFun<V> supplier) {
+        final V v;
+        try {
+            v = StatsCounter.load(this.statsCounter, supplier);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        put(key, v);
+        return v;
+    }
+
+    /**
+     * [批量获取，未命中的键通过一次批量回调加载](Bulk get, missing keys are loaded by a single bulk callback)
+     * @description: zh - 批量获取，命中的值直接返回，所有未命中的键只调用一次回调加载，整个过程最多加一次读锁和一次写锁。
+     * 加载期间其它线程已写入的值优先保留。返回结果只包含找到的键
+     * @description: en - Bulk get, hits are returned directly and all missing keys are loaded by calling the callback only once,
+     * the read lock and the write lock are each acquired at most once. Values written by other threads during the load take precedence.
+     * The result only contains the keys that were found
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 2:25 下午
+     * @param keys: 键集合
+     * @param loader: 批量加载未命中键的回调，为null时只返回命中的值
+     * @return java.util.Map<K,V>
+    */
+    public Map<K, V> getAll(Collection<? extends K> keys, BulkCacheFun<K, V> loader) {
+        final Map<K, V> result = new HashMap<>(keys.size() * 4 / 3 + 1);
+        final Set<K> misses = new LinkedHashSet<>();
+        if (concurrent) {
+            collect(keys, result, misses);
+        } else {
+            lock.readLock().lock();
+            try {
+                collect(keys, result, misses);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        final StatsCounter counter = this.statsCounter;
+        if (null != counter) {
+            counter.recordHits(result.size());
+            counter.recordMisses(misses.size());
+        }
+        if (misses.isEmpty() || null == loader) {
+            return result;
+        }
+        final Map<K, V> loaded;
+        try {
+            loaded = StatsCounter.loadAll(this.statsCounter, loader, misses);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        if (null == loaded || loaded.isEmpty()) {
+            return result;
+        }
+        if (concurrent) {
+            for (K key : misses) {
+                final V v = loaded.get(key);
+                if (null != v) {
+                    final V previous = cache.putIfAbsent(key, v);
+                    result.put(key, null == previous ? v : previous);
+                }
+            }
+            return result;
+        }
+        // 独占写锁
+        lock.writeLock().lock();
+        try {
+            for (K key : misses) {
+                final V v = loaded.get(key);
+                if (null != v) {
+                    final V previous = cache.get(key);
+                    if (null == previous) {
+                        cache.put(key, v);
+                        result.put(key, v);
+                    } else {
+                        result.put(key, previous);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return result;
+    }
 
+    /**
+     * [把命中的值放入结果，未命中的键放入缺失集合](Put hits into the result and missing keys into the miss set)
+     * @description: zh - 把命中的值放入结果，未命中的键放入缺失集合，调用方负责加锁
+     * @description: en - Put hits into the result and missing keys into the miss set, the caller is responsible for locking
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 2:27 下午
+     * @param keys: 键集合
+     * @param result: 结果
+     * @param misses: 未命中的键
+    */
+    private void collect(Collection<? extends K> keys, Map<K, V> result, Set<K> misses) {
+        for (K key : keys) {
+            final V v = cache.get(key);
+            if (null == v) {
+                misses.add(key);
+            } else {
+                result.put(key, v);
+            }
+        }
+    }
 
     /**
      * [存入缓存](Cache)
@@ -134,6 +341,15 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
      * @return V
     */
     public V put(K key, V value) {
+        if (concurrent) {
+            // ConcurrentMap不支持null值，存入null等同于移除
+            if (null == value) {
+                cache.remove(key);
+            } else {
+                cache.put(key, value);
+            }
+            return value;
+        }
         // 独占写锁
         lock.writeLock().lock();
         try {
@@ -155,6 +371,9 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
      * @return V
     */
     public V remove(K key) {
+        if (concurrent) {
+            return cache.remove(key);
+        }
         // 独占写锁
         lock.writeLock().lock();
         try {
@@ -173,6 +392,10 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
      * @since 2021/6/13 7:35 下午
     */
     public void clear() {
+        if (concurrent) {
+            this.cache.clear();
+            return;
+        }
         // 独占写锁
         lock.writeLock().lock();
         try {
@@ -182,6 +405,57 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
         }
     }
 
+    /**
+     * [当前条目数量](Current number of entries)
+     * @description: zh - 当前条目数量
+     * @description: en - Current number of entries
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:26 下午
+     * @return int
+    */
+    public int size() {
+        if (concurrent) {
+            return cache.size();
+        }
+        lock.readLock().lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * [开启统计](Enable statistics)
+     * @description: zh - 开启统计，记录命中、未命中、加载成功与失败次数以及加载耗时
+     * @description: en - Enable statistics, record hits, misses, load successes and failures and load time
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:27 下午
+     * @return com.xiaoTools.cache.simple.SimpleCache<K,V>
+    */
+    public synchronized SimpleCache<K, V> recordStats() {
+        if (null == statsCounter) {
+            statsCounter = new StatsCounter();
+        }
+        return this;
+    }
+
+    /**
+     * [获取统计快照](Get a statistics snapshot)
+     * @description: zh - 获取统计快照，未开启统计时返回空统计
+     * @description: en - Get a statistics snapshot, empty statistics are returned when not enabled
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:28 下午
+     * @return com.xiaoTools.cache.stats.CacheStats
+    */
+    public CacheStats getStats() {
+        final StatsCounter counter = this.statsCounter;
+        return null == counter ? CacheStats.EMPTY : counter.snapshot(size());
+    }
+
     /**
      * [重写迭代器](Override iterator)
      * @description: zh - 重写迭代器
@@ -195,4 +469,16 @@ public class SimpleCache<K, V> implements Iterable<Map.Entry<K, V>>, Serializabl
     public Iterator<Map.Entry<K, V>> iterator() {
         return this.cache.entrySet().iterator();
     }
+
+    /**
+     * [正在进行的加载](A load in progress)
+     * @description: zh - 正在进行的加载，记录执行回调的线程，用于识别回调中的重入
+     * @description: en - A load in progress, recording the thread running the callback to detect reentry from within the callback
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:44 上午
+    */
+    private static final class Loading<V> extends CompletableFuture<V> {
+        final Thread thread = Thread.currentThread();
+    }
 }
@@ -0,0 +1,48 @@
+package com.xiaoTools.cache.simple.method;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [批量加载的函数对象](Function object for bulk loading)
+ * @description: zh - 批量加载的函数对象，一次调用加载所有未命中的键
+ * @description: en - Function object for bulk loading, all missing keys are loaded in a single call
+ * @version: V1.0
+ * @author XiaoXunYao
+ * @since 2026/10/18 2:20 下午
+*/
+@FunctionalInterface
+public interface BulkCacheFun<K, V> extends Serializable {
+    /**
+     * [执行函数](Executive function)
+     * @description: zh - 执行函数，返回的Map中缺少的键或值为null的键不会被缓存
+     * @description: en - Executive function, keys missing from the returned map or mapped to null are not cached
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 2:21 下午
+     * @param keys: 未命中的键
+     * @throws Exception 异常
+     * @return java.util.Map<K,V>
+    */
+    Map<K, V> call(Set<K> keys) throws Exception;
+
+    /**
+     * [执行函数，异常包装为RuntimeException](Execute the function and wrap the exception as RuntimeException)
+     * @description: zh - 执行函数，异常包装为RuntimeException
+     * @description: en - Execute the function and wrap the exception as RuntimeException
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 2:22 下午
+     * @param keys: 未命中的键
+     * @return java.util.Map<K,V>
+    */
+    default Map<K, V> callWithRuntimeException(Set<K> keys){
+        try {
+            return call(keys);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
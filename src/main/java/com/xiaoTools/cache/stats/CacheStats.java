@@ -0,0 +1,176 @@
+package com.xiaoTools.cache.stats;
+
+/**
+ * [缓存统计快照](Cache statistics snapshot)
+ * @description zh - 缓存统计快照，不可变
+ * @description en - Cache statistics snapshot, immutable
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 13:05:12
+ */
+public final class CacheStats {
+
+	/**
+	 * 空统计，未开启统计的缓存返回此对象
+	 */
+	public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0);
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long evictionCount;
+	private final long size;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:06:40
+	 * @param hitCount 命中次数
+	 * @param missCount 未命中次数
+	 * @param loadSuccessCount 加载成功次数
+	 * @param loadFailureCount 加载失败次数
+	 * @param totalLoadTime 加载总耗时，单位纳秒
+	 * @param evictionCount 淘汰次数
+	 * @param size 当前条目数量
+	 */
+	public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+			long totalLoadTime, long evictionCount, long size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public long getLoadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	public long getLoadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * [加载总耗时](Total load time)
+	 * @description zh - 加载总耗时，单位纳秒
+	 * @description en - Total load time in nanoseconds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:08:03
+	 * @return long
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * [请求总次数](Total number of requests)
+	 * @description zh - 请求总次数，即命中与未命中之和
+	 * @description en - Total number of requests, i.e. the sum of hits and misses
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:08:40
+	 * @return long
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * [命中率](Hit rate)
+	 * @description zh - 命中率，没有请求时为1
+	 * @description en - Hit rate, 1 when there is no request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:09:15
+	 * @return double
+	 */
+	public double getHitRate() {
+		final long requestCount = getRequestCount();
+		return 0 == requestCount ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * [未命中率](Miss rate)
+	 * @description zh - 未命中率，没有请求时为0
+	 * @description en - Miss rate, 0 when there is no request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:09:47
+	 * @return double
+	 */
+	public double getMissRate() {
+		final long requestCount = getRequestCount();
+		return 0 == requestCount ? 0.0 : (double) missCount / requestCount;
+	}
+
+	/**
+	 * [平均每次加载耗时](Average time per load)
+	 * @description zh - 平均每次加载耗时，单位纳秒
+	 * @description en - Average time per load in nanoseconds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:10:22
+	 * @return double
+	 */
+	public double getAverageLoadPenalty() {
+		final long loadCount = loadSuccessCount + loadFailureCount;
+		return 0 == loadCount ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * [与另一份统计相加](Add to another statistics)
+	 * @description zh - 与另一份统计相加，用于汇总多个缓存
+	 * @description en - Add to another statistics, used to aggregate multiple caches
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:11:05
+	 * @param other 另一份统计
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats plus(CacheStats other) {
+		return new CacheStats(
+				hitCount + other.hitCount,
+				missCount + other.missCount,
+				loadSuccessCount + other.loadSuccessCount,
+				loadFailureCount + other.loadFailureCount,
+				totalLoadTime + other.totalLoadTime,
+				evictionCount + other.evictionCount,
+				size + other.size);
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats{hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ ", loadSuccessCount=" + loadSuccessCount
+				+ ", loadFailureCount=" + loadFailureCount
+				+ ", totalLoadTime=" + totalLoadTime
+				+ ", evictionCount=" + evictionCount
+				+ ", size=" + size + "}";
+	}
+
+}
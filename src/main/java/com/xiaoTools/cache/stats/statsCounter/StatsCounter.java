@@ -0,0 +1,168 @@
+package com.xiaoTools.cache.stats.statsCounter;
+
+import com.xiaoTools.cache.simple.method.BulkCacheFun;
+import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [缓存统计记录器](Cache statistics recorder)
+ * @description zh - 缓存统计记录器，基于分段的 LongAdder，多线程同时记录时不会争用同一个计数器
+ * @description en - Cache statistics recorder based on striped LongAdder, threads recording at the same time do not contend on one counter
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 13:14:30
+ */
+public class StatsCounter {
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * [记录命中](Record hits)
+	 * @description zh - 记录命中
+	 * @description en - Record hits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:15:12
+	 * @param count 次数
+	 */
+	public void recordHits(int count) {
+		hitCount.add(count);
+	}
+
+	/**
+	 * [记录未命中](Record misses)
+	 * @description zh - 记录未命中
+	 * @description en - Record misses
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:15:40
+	 * @param count 次数
+	 */
+	public void recordMisses(int count) {
+		missCount.add(count);
+	}
+
+	/**
+	 * [记录一次成功的加载](Record a successful load)
+	 * @description zh - 记录一次成功的加载
+	 * @description en - Record a successful load
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:16:08
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	public void recordLoadSuccess(long loadTime) {
+		loadSuccessCount.increment();
+		totalLoadTime.add(loadTime);
+	}
+
+	/**
+	 * [记录一次失败的加载](Record a failed load)
+	 * @description zh - 记录一次失败的加载
+	 * @description en - Record a failed load
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:16:37
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	public void recordLoadFailure(long loadTime) {
+		loadFailureCount.increment();
+		totalLoadTime.add(loadTime);
+	}
+
+	/**
+	 * [记录一次淘汰](Record an eviction)
+	 * @description zh - 记录一次淘汰，包括容量淘汰和过期回收
+	 * @description en - Record an eviction, including capacity eviction and expiration
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:17:02
+	 */
+	public void recordEviction() {
+		evictionCount.increment();
+	}
+
+	/**
+	 * [生成统计快照](Generate a statistics snapshot)
+	 * @description zh - 生成统计快照
+	 * @description en - Generate a statistics snapshot
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:17:40
+	 * @param size 当前条目数量
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats snapshot(long size) {
+		return new CacheStats(
+				hitCount.sum(),
+				missCount.sum(),
+				loadSuccessCount.sum(),
+				loadFailureCount.sum(),
+				totalLoadTime.sum(),
+				evictionCount.sum(),
+				size);
+	}
+
+	/**
+	 * [执行加载回调，开启统计时记录加载耗时](Execute the load callback and record the load time when statistics are enabled)
+	 * @description zh - 执行加载回调，记录器不为 null 时记录加载成功或失败以及耗时。记录器为 null 表示未开启统计，此时直接调用回调，不读取时钟
+	 * @description en - Execute the load callback, record the load success or failure and its time when the recorder is not null. A null recorder means statistics are disabled, the callback is then called directly without reading the clock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:32:10
+	 * @param counter 统计记录器，null表示未开启统计
+	 * @param loader 用于生产值对象的回调方法
+	 * @return R
+	 */
+	public static <R> R load(StatsCounter counter, CacheFun<R> loader) throws Exception {
+		if (null == counter) {
+			return loader.call();
+		}
+		final long start = System.nanoTime();
+		try {
+			final R r = loader.call();
+			counter.recordLoadSuccess(System.nanoTime() - start);
+			return r;
+		} catch (Exception | Error e) {
+			counter.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+	}
+
+	/**
+	 * [执行批量加载回调，开启统计时记录加载耗时](Execute the bulk load callback and record the load time when statistics are enabled)
+	 * @description zh - 执行批量加载回调，一次批量加载计为一次加载，记录器为 null 时直接调用回调
+	 * @description en - Execute the bulk load callback, one bulk load counts as one load, the callback is called directly when the recorder is null
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:32:40
+	 * @param counter 统计记录器，null表示未开启统计
+	 * @param loader 批量回调
+	 * @param keys 未命中的键
+	 * @return java.util.Map<K,V>
+	 */
+	public static <K, V> Map<K, V> loadAll(StatsCounter counter, BulkCacheFun<K, V> loader, Set<K> keys) throws Exception {
+		if (null == counter) {
+			return loader.call(keys);
+		}
+		final long start = System.nanoTime();
+		try {
+			final Map<K, V> loaded = loader.call(keys);
+			counter.recordLoadSuccess(System.nanoTime() - start);
+			return loaded;
+		} catch (Exception | Error e) {
+			counter.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+	}
+
+}
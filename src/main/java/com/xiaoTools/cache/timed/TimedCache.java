@@ -0,0 +1,676 @@
+package com.xiaoTools.cache.timed;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.cache.simple.method.BulkCacheFun;
+import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.stats.statsCounter.StatsCounter;
+import com.xiaoTools.cache.timed.timerWheel.TimerWheel;
+import com.xiaoTools.date.clock.Clock;
+import com.xiaoTools.date.clock.systemClock.SystemClock;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [定时过期缓存，支持写入后过期和访问后过期](Timed expiration cache, supports expiration after write and expiration after access)
+ * @description zh - 定时过期缓存，支持写入后过期（TTL）和闲置过期（TTI），每个条目可单独指定。
+ * 过期条目在读取时立即失效，并由哈希时间轮在后续操作中回收，不会扫描整个缓存。
+ * @description en - Timed expiration cache, supports time-to-live and time-to-idle, both can be specified per entry.
+ * Expired entries become invisible on read immediately and are reclaimed by a hashed timer wheel during later operations, the whole cache is never scanned.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 11:20:33
+ */
+public class TimedCache<K, V> implements Iterable<Map.Entry<K, V>> {
+
+	/**
+	 * 时间轮的槽数量
+	 */
+	private static final int WHEEL_SIZE = 512;
+
+	/**
+	 * 默认的写入后过期时长，单位毫秒，0表示不过期
+	 */
+	private final long timeToLive;
+
+	/**
+	 * 默认的闲置过期时长，单位毫秒，0表示不过期
+	 */
+	private final long timeToIdle;
+
+	/**
+	 * 池
+	 */
+	private final ConcurrentMap<K, CacheObj<K, V>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * 正在加载的key，同一个key只有一个线程执行回调
+	 */
+	private final ConcurrentMap<K, CompletableFuture<V>> loadingMap = new ConcurrentHashMap<>();
+
+	/**
+	 * 时间轮
+	 */
+	private final TimerWheel<CacheObj<K, V>> timerWheel;
+
+	/**
+	 * 时间轮锁
+	 */
+	private final ReentrantLock wheelLock = new ReentrantLock();
+
+	/**
+	 * 上一次推进时间轮的时间
+	 */
+	private volatile long lastCleanUp;
+
+	/**
+	 * 定时清理任务
+	 */
+	private ScheduledFuture<?> pruneJobFuture;
+
+	/**
+	 * 统计记录器，调用recordStats()后才开启
+	 */
+	private volatile StatsCounter statsCounter;
+
+	/**
+	 * 判断过期使用的时钟
+	 */
+	private final Clock clock;
+
+	/**
+	 * [构造，写入后过期](Construct, expire after write)
+	 * @description zh - 构造，写入后过期
+	 * @description en - Construct, expire after write
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:24:10
+	 * @param timeToLive 写入后过期时长，单位毫秒，0表示不过期
+	 */
+	public TimedCache(long timeToLive) {
+		this(timeToLive, 0);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，两种过期方式同时指定时以先到者为准
+	 * @description en - Construct, when both expiration methods are specified, whichever comes first applies
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:25:02
+	 * @param timeToLive 写入后过期时长，单位毫秒，0表示不过期
+	 * @param timeToIdle 闲置过期时长（最后一次访问后），单位毫秒，0表示不过期
+	 */
+	public TimedCache(long timeToLive, long timeToIdle) {
+		this(timeToLive, timeToIdle, SystemClock.INSTANCE);
+	}
+
+	/**
+	 * [构造，使用指定的时钟](Construct with the specified clock)
+	 * @description zh - 构造，使用指定的时钟判断过期，测试中可以传入TestClock手动拨动时间
+	 * @description en - Construct with the specified clock for expiration, tests can pass a TestClock and move the time by hand
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:30:12
+	 * @param timeToLive 写入后过期时长，单位毫秒，0表示不过期
+	 * @param timeToIdle 闲置过期时长（最后一次访问后），单位毫秒，0表示不过期
+	 * @param clock 时钟
+	 */
+	public TimedCache(long timeToLive, long timeToIdle, Clock clock) {
+		Assertion.isTrue(timeToLive >= 0 && timeToIdle >= 0, "timeout must not be negative");
+		this.timeToLive = timeToLive;
+		this.timeToIdle = timeToIdle;
+		this.clock = Assertion.notNull(clock, "clock must not be null");
+		final long now = clock.currentTimeMillis();
+		this.timerWheel = new TimerWheel<>(tickMillis(timeToLive, timeToIdle), WHEEL_SIZE, now);
+		this.lastCleanUp = now;
+	}
+
+	/**
+	 * [从缓存中获得对象，已过期时返回null](Get the object from the cache, return null when it has expired)
+	 * @description zh - 从缓存中获得对象，已过期时返回null，配置了闲置过期时刷新访问时间
+	 * @description en - Get the object from the cache, return null when it has expired. The access time is refreshed when time-to-idle is configured
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:28:44
+	 * @param key 键
+	 * @return V
+	 */
+	public V get(K key) {
+		final V value = lookup(key);
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			if (null == value) {
+				counter.recordMisses(1);
+			} else {
+				counter.recordHits(1);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * [查找未过期的值，不记录统计](Find the unexpired value without recording statistics)
+	 * @description zh - 查找未过期的值，不记录统计
+	 * @description en - Find the unexpired value without recording statistics
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:40:12
+	 * @param key 键
+	 * @return V
+	 */
+	private V lookup(K key) {
+		final long now = clock.currentTimeMillis();
+		final CacheObj<K, V> obj = cache.get(key);
+		V value = null;
+		if (null != obj) {
+			if (obj.isExpired(now)) {
+				removeExpired(obj);
+			} else {
+				if (obj.timeToIdle > 0) {
+					obj.lastAccess = now;
+				}
+				value = obj.value;
+			}
+		}
+		cleanUpIfNeeded(now);
+		return value;
+	}
+
+	/**
+	 * [从缓存中获得对象，当对象不在缓存中或已经过期返回回调产生的对象](Get the object from the cache. When the object is not in the cache or has expired, return the object generated by the callback)
+	 * @description zh - 从缓存中获得对象，当对象不在缓存中或已经过期返回回调产生的对象，同一个key同时只有一个线程执行回调
+	 * @description en - Get the object from the cache. When the object is not in the cache or has expired, return the object generated by the callback. Only one thread executes the callback for the same key at a time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:30:19
+	 * @param key 键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return V
+	 */
+	public V get(K key, CacheFun<V> supplier) {
+		final V v = get(key);
+		if (null != v || null == supplier) {
+			return v;
+		}
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> loading = loadingMap.putIfAbsent(key, future);
+		if (null != loading) {
+			try {
+				return loading.join();
+			} catch (CompletionException e) {
+				final Throwable cause = e.getCause();
+				throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+			}
+		}
+		try {
+			// 双重检查，防止在注册加载的过程中已经有其它线程写入
+			V value = lookup(key);
+			if (null == value) {
+				value = StatsCounter.load(this.statsCounter, supplier);
+				put(key, value);
+			}
+			future.complete(value);
+			return value;
+		} catch (Exception e) {
+			final RuntimeException exception = new RuntimeException(e);
+			future.completeExceptionally(exception);
+			throw exception;
+		} catch (Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			loadingMap.remove(key, future);
+		}
+	}
+
+	/**
+	 * [批量获取，未命中或已过期的键通过一次批量回调加载](Bulk get, missing or expired keys are loaded by a single bulk callback)
+	 * @description zh - 批量获取，命中的值直接返回，所有未命中或已过期的键只调用一次回调加载，加载结果使用默认过期时长写入，
+	 * 时间轮只加一次锁。加载期间其它线程已写入的值优先保留。返回结果只包含找到的键
+	 * @description en - Bulk get, hits are returned directly and all missing or expired keys are loaded by calling the callback only once.
+	 * Loaded values are written with the default timeout and the timer wheel is locked only once. Values written by other threads during the load
+	 * take precedence. The result only contains the keys that were found
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 14:35:12
+	 * @param keys 键集合
+	 * @param loader 批量加载未命中键的回调，为null时只返回命中的值
+	 * @return java.util.Map<K,V>
+	 */
+	public Map<K, V> getAll(Collection<? extends K> keys, BulkCacheFun<K, V> loader) {
+		final Map<K, V> result = new HashMap<>(keys.size() * 4 / 3 + 1);
+		final Set<K> misses = new LinkedHashSet<>();
+		for (K key : keys) {
+			final V v = lookup(key);
+			if (null == v) {
+				misses.add(key);
+			} else {
+				result.put(key, v);
+			}
+		}
+		final StatsCounter counter = this.statsCounter;
+		if (null != counter) {
+			counter.recordHits(result.size());
+			counter.recordMisses(misses.size());
+		}
+		if (misses.isEmpty() || null == loader) {
+			return result;
+		}
+		final Map<K, V> loaded;
+		try {
+			loaded = StatsCounter.loadAll(this.statsCounter, loader, misses);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		if (null == loaded || loaded.isEmpty()) {
+			return result;
+		}
+		final long now = clock.currentTimeMillis();
+		final List<CacheObj<K, V>> created = new ArrayList<>(misses.size());
+		final List<CacheObj<K, V>> replaced = new ArrayList<>();
+		for (K key : misses) {
+			final V v = loaded.get(key);
+			if (null != v) {
+				final CacheObj<K, V> obj = new CacheObj<>(key, v, now, timeToLive, timeToIdle);
+				// 加载期间其它线程已写入的未过期值优先保留，只替换已经过期的条目
+				CacheObj<K, V> existing = cache.putIfAbsent(key, obj);
+				while (null != existing && existing.isExpired(now)) {
+					if (cache.replace(key, existing, obj)) {
+						replaced.add(existing);
+						existing = null;
+					} else {
+						existing = cache.putIfAbsent(key, obj);
+					}
+				}
+				if (null == existing) {
+					created.add(obj);
+					result.put(key, v);
+				} else {
+					result.put(key, existing.value);
+				}
+			}
+		}
+		wheelLock.lock();
+		try {
+			for (CacheObj<K, V> old : replaced) {
+				timerWheel.unschedule(old);
+			}
+			for (CacheObj<K, V> obj : created) {
+				timerWheel.schedule(obj);
+			}
+			advance(now);
+		} finally {
+			wheelLock.unlock();
+		}
+		return result;
+	}
+
+	/**
+	 * [存入缓存，使用默认过期时长](Put into the cache with the default timeout)
+	 * @description zh - 存入缓存，使用默认过期时长
+	 * @description en - Put into the cache with the default timeout
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:32:06
+	 * @param key 键
+	 * @param value 值
+	 * @return V
+	 */
+	public V put(K key, V value) {
+		return put(key, value, timeToLive, timeToIdle);
+	}
+
+	/**
+	 * [存入缓存，指定写入后过期时长](Put into the cache with the specified time-to-live)
+	 * @description zh - 存入缓存，指定写入后过期时长
+	 * @description en - Put into the cache with the specified time-to-live
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:33:15
+	 * @param key 键
+	 * @param value 值
+	 * @param timeToLive 写入后过期时长，单位毫秒，0表示不过期
+	 * @return V
+	 */
+	public V put(K key, V value, long timeToLive) {
+		return put(key, value, timeToLive, timeToIdle);
+	}
+
+	/**
+	 * [存入缓存，指定写入后过期和闲置过期时长](Put into the cache with the specified time-to-live and time-to-idle)
+	 * @description zh - 存入缓存，指定写入后过期和闲置过期时长。值为null时等同于移除
+	 * @description en - Put into the cache with the specified time-to-live and time-to-idle. A null value is equivalent to removal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:34:27
+	 * @param key 键
+	 * @param value 值
+	 * @param timeToLive 写入后过期时长，单位毫秒，0表示不过期
+	 * @param timeToIdle 闲置过期时长，单位毫秒，0表示不过期
+	 * @return V
+	 */
+	public V put(K key, V value, long timeToLive, long timeToIdle) {
+		if (null == value) {
+			remove(key);
+			return null;
+		}
+		Assertion.isTrue(timeToLive >= 0 && timeToIdle >= 0, "timeout must not be negative");
+		final long now = clock.currentTimeMillis();
+		final CacheObj<K, V> obj = new CacheObj<>(key, value, now, timeToLive, timeToIdle);
+		final CacheObj<K, V> old = cache.put(key, obj);
+		wheelLock.lock();
+		try {
+			if (null != old) {
+				timerWheel.unschedule(old);
+			}
+			timerWheel.schedule(obj);
+			advance(now);
+		} finally {
+			wheelLock.unlock();
+		}
+		return value;
+	}
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 移除缓存
+	 * @description en - Remove cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:36:50
+	 * @param key 键
+	 * @return V 未过期的旧值
+	 */
+	public V remove(K key) {
+		final CacheObj<K, V> obj = cache.remove(key);
+		if (null == obj) {
+			return null;
+		}
+		wheelLock.lock();
+		try {
+			timerWheel.unschedule(obj);
+		} finally {
+			wheelLock.unlock();
+		}
+		return obj.isExpired(clock.currentTimeMillis()) ? null : obj.value;
+	}
+
+	/**
+	 * [清空缓存池](Clear cache pool)
+	 * @description zh - 清空缓存池
+	 * @description en - Clear cache pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:37:31
+	 */
+	public void clear() {
+		wheelLock.lock();
+		try {
+			cache.clear();
+			timerWheel.clear();
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	/**
+	 * [清理已过期的条目](Clean up expired entries)
+	 * @description zh - 清理已过期的条目，只访问时间轮中已经经过的槽
+	 * @description en - Clean up expired entries, only the slots of the timer wheel that have passed are visited
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:38:12
+	 */
+	public void cleanUp() {
+		final long now = clock.currentTimeMillis();
+		wheelLock.lock();
+		try {
+			advance(now);
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	/**
+	 * [当前条目数量，可能包含已过期但尚未清理的条目](Current number of entries, may include expired entries that have not been cleaned up)
+	 * @description zh - 当前条目数量，可能包含已过期但尚未清理的条目
+	 * @description en - Current number of entries, may include expired entries that have not been cleaned up
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:39:03
+	 * @return int
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * [开启统计](Enable statistics)
+	 * @description zh - 开启统计，过期回收计入淘汰次数
+	 * @description en - Enable statistics, expired entries are counted as evictions
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:42:30
+	 * @return com.xiaoTools.cache.timed.TimedCache<K,V>
+	 */
+	public synchronized TimedCache<K, V> recordStats() {
+		if (null == statsCounter) {
+			statsCounter = new StatsCounter();
+		}
+		return this;
+	}
+
+	/**
+	 * [获取统计快照](Get a statistics snapshot)
+	 * @description zh - 获取统计快照，未开启统计时返回空统计
+	 * @description en - Get a statistics snapshot, empty statistics are returned when not enabled
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:43:02
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		final StatsCounter counter = this.statsCounter;
+		return null == counter ? CacheStats.EMPTY : counter.snapshot(size());
+	}
+
+	/**
+	 * [定时清理过期条目](Clean up expired entries regularly)
+	 * @description zh - 定时清理过期条目，适用于访问稀少、需要及时释放内存的场景
+	 * @description en - Clean up expired entries regularly, suitable for rarely accessed caches that need to release memory in time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:40:25
+	 * @param delay 间隔时长，单位毫秒
+	 */
+	public synchronized void schedulePrune(long delay) {
+		cancelPruneSchedule();
+		pruneJobFuture = PruneScheduler.INSTANCE.scheduleAtFixedRate(this::cleanUp, delay, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * [取消定时清理](Cancel the regular cleanup)
+	 * @description zh - 取消定时清理
+	 * @description en - Cancel the regular cleanup
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:41:10
+	 */
+	public synchronized void cancelPruneSchedule() {
+		if (null != pruneJobFuture) {
+			pruneJobFuture.cancel(true);
+			pruneJobFuture = null;
+		}
+	}
+
+	/**
+	 * [重写迭代器，只遍历未过期的条目](Override iterator, only unexpired entries are iterated)
+	 * @description zh - 重写迭代器，只遍历未过期的条目
+	 * @description en - Override iterator, only unexpired entries are iterated
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:42:01
+	 * @return java.util.Iterator<java.util.Map.Entry<K,V>>
+	 */
+	@Override
+	public Iterator<Map.Entry<K, V>> iterator() {
+		final long now = clock.currentTimeMillis();
+		final List<Map.Entry<K, V>> entries = new ArrayList<>(cache.size());
+		for (CacheObj<K, V> obj : cache.values()) {
+			if (!obj.isExpired(now)) {
+				entries.add(new AbstractMap.SimpleImmutableEntry<>(obj.key, obj.value));
+			}
+		}
+		return entries.iterator();
+	}
+
+	/**
+	 * [时间经过至少一格时尝试推进时间轮，拿不到锁则交给其它线程](Try to advance the wheel when at least one tick has passed, leave it to other threads if the lock is not available)
+	 * @description zh - 时间经过至少一格时尝试推进时间轮，拿不到锁则交给其它线程
+	 * @description en - Try to advance the wheel when at least one tick has passed, leave it to other threads if the lock is not available
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:43:37
+	 * @param now 当前时间
+	 */
+	private void cleanUpIfNeeded(long now) {
+		if (now - lastCleanUp >= timerWheel.getTickMillis() && wheelLock.tryLock()) {
+			try {
+				advance(now);
+			} finally {
+				wheelLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * [推进时间轮并移除过期条目，需持有时间轮锁](Advance the wheel and remove expired entries, the wheel lock must be held)
+	 * @description zh - 推进时间轮并移除过期条目，需持有时间轮锁
+	 * @description en - Advance the wheel and remove expired entries, the wheel lock must be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:44:15
+	 * @param now 当前时间
+	 */
+	private void advance(long now) {
+		lastCleanUp = now;
+		timerWheel.advance(now, this::removeExpired);
+	}
+
+	/**
+	 * [移除过期条目，开启统计时计入淘汰次数](Remove an expired entry, counted as an eviction when statistics are enabled)
+	 * @description zh - 移除过期条目，开启统计时计入淘汰次数
+	 * @description en - Remove an expired entry, counted as an eviction when statistics are enabled
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 13:44:18
+	 * @param obj 过期条目
+	 */
+	private void removeExpired(CacheObj<K, V> obj) {
+		if (cache.remove(obj.key, obj)) {
+			final StatsCounter counter = this.statsCounter;
+			if (null != counter) {
+				counter.recordEviction();
+			}
+		}
+	}
+
+	/**
+	 * [根据过期时长选择时间轮每一格的大小](Choose the size of each tick according to the timeout)
+	 * @description zh - 根据过期时长选择时间轮每一格的大小，在1毫秒到1秒之间
+	 * @description en - Choose the size of each tick according to the timeout, between 1 millisecond and 1 second
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:45:02
+	 * @param timeToLive 写入后过期时长
+	 * @param timeToIdle 闲置过期时长
+	 * @return long
+	 */
+	private static long tickMillis(long timeToLive, long timeToIdle) {
+		long shortest = Long.MAX_VALUE;
+		if (timeToLive > 0) {
+			shortest = timeToLive;
+		}
+		if (timeToIdle > 0) {
+			shortest = Math.min(shortest, timeToIdle);
+		}
+		return Math.max(1L, Math.min(shortest / 32, 1000L));
+	}
+
+	/**
+	 * [带过期信息的缓存对象](Cache object with expiration information)
+	 * @description zh - 带过期信息的缓存对象
+	 * @description en - Cache object with expiration information
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:21:40
+	 */
+	private static class CacheObj<K, V> extends TimerWheel.Node {
+		final K key;
+		final V value;
+		final long writeTime;
+		final long timeToLive;
+		final long timeToIdle;
+		volatile long lastAccess;
+
+		CacheObj(K key, V value, long now, long timeToLive, long timeToIdle) {
+			this.key = key;
+			this.value = value;
+			this.writeTime = now;
+			this.lastAccess = now;
+			this.timeToLive = timeToLive;
+			this.timeToIdle = timeToIdle;
+		}
+
+		@Override
+		public long getExpireTime() {
+			long expireTime = Long.MAX_VALUE;
+			if (timeToLive > 0) {
+				expireTime = writeTime + timeToLive;
+			}
+			if (timeToIdle > 0) {
+				expireTime = Math.min(expireTime, lastAccess + timeToIdle);
+			}
+			return expireTime;
+		}
+
+		boolean isExpired(long now) {
+			return getExpireTime() <= now;
+		}
+	}
+
+	/**
+	 * [所有定时缓存共用的清理线程](Cleanup thread shared by all timed caches)
+	 * @description zh - 所有定时缓存共用的清理线程
+	 * @description en - Cleanup thread shared by all timed caches
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:46:18
+	 */
+	private static class PruneScheduler {
+		static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r, "xiaoTools-cache-prune");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+}
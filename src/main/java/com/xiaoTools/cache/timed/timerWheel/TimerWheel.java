@@ -0,0 +1,231 @@
+package com.xiaoTools.cache.timed.timerWheel;
+
+import java.util.function.Consumer;
+
+/**
+ * [哈希时间轮，用于清理过期条目](Hashed timer wheel for cleaning up expired entries)
+ * @description zh - 哈希时间轮，用于清理过期条目。条目按过期时间落入对应的槽，时间推进时只访问经过的槽，
+ * 摊还复杂度为O(1)，无需扫描整个缓存。非线程安全，由调用方加锁。
+ * @description en - Hashed timer wheel for cleaning up expired entries. Entries fall into the slot of their expiration time,
+ * only the slots passed are visited when time advances, so the amortized complexity is O(1) and the whole cache is never scanned.
+ * Not thread safe, the caller must lock.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 11:02:16
+ */
+public class TimerWheel<N extends TimerWheel.Node> {
+
+	/**
+	 * 每一格代表的毫秒数
+	 */
+	private final long tickMillis;
+
+	/**
+	 * 槽，每个槽是一个双向链表的头
+	 */
+	private final Node[] buckets;
+
+	/**
+	 * 槽数量掩码
+	 */
+	private final int mask;
+
+	/**
+	 * 当前已推进到的格
+	 */
+	private long currentTick;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:05:41
+	 * @param tickMillis 每一格代表的毫秒数
+	 * @param wheelSize 槽数量，会调整为2的幂
+	 * @param now 当前时间
+	 */
+	public TimerWheel(long tickMillis, int wheelSize, long now) {
+		this.tickMillis = Math.max(1L, tickMillis);
+		final int size = 1 << -Integer.numberOfLeadingZeros(Math.max(2, wheelSize) - 1);
+		this.buckets = new Node[size];
+		this.mask = size - 1;
+		this.currentTick = now / this.tickMillis;
+	}
+
+	/**
+	 * [获取每一格代表的毫秒数](Get the milliseconds represented by each tick)
+	 * @description zh - 获取每一格代表的毫秒数
+	 * @description en - Get the milliseconds represented by each tick
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:06:30
+	 * @return long
+	 */
+	public long getTickMillis() {
+		return tickMillis;
+	}
+
+	/**
+	 * [按节点的过期时间放入时间轮，永不过期的节点忽略](Put the node into the wheel by its expiration time, nodes that never expire are ignored)
+	 * @description zh - 按节点的过期时间放入时间轮，永不过期的节点忽略
+	 * @description en - Put the node into the wheel by its expiration time, nodes that never expire are ignored
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:07:52
+	 * @param node 节点
+	 */
+	public void schedule(N node) {
+		final long expireTime = node.getExpireTime();
+		if (Long.MAX_VALUE == expireTime) {
+			return;
+		}
+		link(indexOf(expireTime), node);
+	}
+
+	/**
+	 * [把节点移出时间轮](Remove the node from the wheel)
+	 * @description zh - 把节点移出时间轮
+	 * @description en - Remove the node from the wheel
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:08:35
+	 * @param node 节点
+	 */
+	public void unschedule(N node) {
+		final Node scheduled = node;
+		if (scheduled.bucket >= 0) {
+			unlink(scheduled);
+		}
+	}
+
+	/**
+	 * [推进时间轮，把已过期的节点交给回调](Advance the wheel and hand the expired nodes to the callback)
+	 * @description zh - 推进时间轮，把已过期的节点交给回调。过期时间被延后的节点（如访问后续期）会被移到新的槽
+	 * @description en - Advance the wheel and hand the expired nodes to the callback. Nodes whose expiration was postponed (e.g. renewed by access) are moved to their new slot
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:11:20
+	 * @param now 当前时间
+	 * @param expired 过期节点的回调
+	 */
+	@SuppressWarnings("unchecked")
+	public void advance(long now, Consumer<N> expired) {
+		final long targetTick = now / tickMillis;
+		if (targetTick <= currentTick) {
+			return;
+		}
+		// 间隔超过一圈时每个槽只需访问一次
+		final long ticks = Math.min(targetTick - currentTick, buckets.length);
+		final long fromTick = currentTick;
+		currentTick = targetTick;
+		for (long i = 1; i <= ticks; i++) {
+			final int index = (int) ((fromTick + i) & mask);
+			Node node = buckets[index];
+			while (null != node) {
+				final Node next = node.next;
+				final long expireTime = node.getExpireTime();
+				if (expireTime <= now) {
+					unlink(node);
+					expired.accept((N) node);
+				} else {
+					final int newIndex = indexOf(expireTime);
+					if (newIndex != index) {
+						unlink(node);
+						link(newIndex, node);
+					}
+				}
+				node = next;
+			}
+		}
+	}
+
+	/**
+	 * [清空时间轮](Clear the wheel)
+	 * @description zh - 清空时间轮
+	 * @description en - Clear the wheel
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:12:04
+	 */
+	public void clear() {
+		for (int i = 0; i < buckets.length; i++) {
+			Node node = buckets[i];
+			while (null != node) {
+				final Node next = node.next;
+				node.prev = null;
+				node.next = null;
+				node.bucket = -1;
+				node = next;
+			}
+			buckets[i] = null;
+		}
+	}
+
+	/**
+	 * [计算过期时间所在的槽，至少落在下一格，避免要等一整圈才被访问](Calculate the slot of the expiration time, at least the next tick to avoid waiting a whole round)
+	 * @description zh - 计算过期时间所在的槽，至少落在下一格，避免要等一整圈才被访问
+	 * @description en - Calculate the slot of the expiration time, at least the next tick to avoid waiting a whole round
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:13:47
+	 * @param expireTime 过期时间
+	 * @return int
+	 */
+	private int indexOf(long expireTime) {
+		final long tick = Math.max(expireTime / tickMillis, currentTick + 1);
+		return (int) (tick & mask);
+	}
+
+	private void link(int index, Node node) {
+		final Node head = buckets[index];
+		node.prev = null;
+		node.next = head;
+		if (null != head) {
+			head.prev = node;
+		}
+		buckets[index] = node;
+		node.bucket = index;
+	}
+
+	private void unlink(Node node) {
+		if (null == node.prev) {
+			buckets[node.bucket] = node.next;
+		} else {
+			node.prev.next = node.next;
+		}
+		if (null != node.next) {
+			node.next.prev = node.prev;
+		}
+		node.prev = null;
+		node.next = null;
+		node.bucket = -1;
+	}
+
+	/**
+	 * [时间轮节点](Timer wheel node)
+	 * @description zh - 时间轮节点，由需要过期的对象继承
+	 * @description en - Timer wheel node, extended by objects that need to expire
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 11:03:58
+	 */
+	public abstract static class Node {
+		private Node prev;
+		private Node next;
+		private int bucket = -1;
+
+		/**
+		 * [获取过期时间](Get expiration time)
+		 * @description zh - 获取过期时间
+		 * @description en - Get expiration time
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 11:04:30
+		 * @return long 过期时间戳，Long.MAX_VALUE表示永不过期
+		 */
+		public abstract long getExpireTime();
+	}
+
+}
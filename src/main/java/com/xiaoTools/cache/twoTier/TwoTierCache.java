@@ -0,0 +1,296 @@
+package com.xiaoTools.cache.twoTier;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.cache.bounded.BoundedCache;
+import com.xiaoTools.cache.bounded.evictionPolicy.EvictionPolicy;
+import com.xiaoTools.cache.simple.method.CacheFun;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.twoTier.segmentStore.SegmentStore;
+import com.xiaoTools.util.serializeUtil.SerializeUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [两级缓存，内存一级缓存加持久化的二级缓存](Two-tier cache, an in-memory first level backed by a persistent second level)
+ * @description zh - 两级缓存。一级缓存为内存中的有界缓存，二级缓存为内存映射文件上的追加写存储，
+ * 进程重启后二级缓存中的条目仍然可用，无需重新计算。键和值需要可序列化，键的序列化结果应当稳定（如字符串、数字）。
+ * 同一个key的写入、移除和回填按key分段加锁，先写二级缓存再写一级缓存，二级缓存始终是最新值。
+ * @description en - Two-tier cache. The first level is a bounded in-memory cache and the second level is an append-only store on memory-mapped files,
+ * entries of the second level are still available after a restart and do not need to be recomputed. Keys and values must be serializable, and the serialized form of keys should be stable (e.g. strings, numbers).
+ * Puts, removals and fills of the same key are serialized by a striped lock, and the second level is written before the first so it always holds the latest value.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:05:20
+ */
+public class TwoTierCache<K, V> implements Closeable {
+
+	/**
+	 * 分段锁的数量，必须是2的幂
+	 */
+	private static final int LOCK_STRIPES = 64;
+
+	/**
+	 * 一级缓存
+	 */
+	private final BoundedCache<K, V> l1;
+
+	/**
+	 * 二级缓存
+	 */
+	private final SegmentStore l2;
+
+	/**
+	 * 按key分段的锁，同一个key的两级写入在同一把锁内完成
+	 */
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，打开目录中已有的二级缓存
+	 * @description en - Construct, the existing second level in the directory is opened
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:07:02
+	 * @param dir 二级缓存目录
+	 * @param l1MaximumSize 一级缓存的最大条目数量
+	 */
+	public TwoTierCache(File dir, long l1MaximumSize) {
+		this(new SegmentStore(dir), l1MaximumSize);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:07:40
+	 * @param l2 二级缓存
+	 * @param l1MaximumSize 一级缓存的最大条目数量
+	 */
+	public TwoTierCache(SegmentStore l2, long l1MaximumSize) {
+		this.l2 = Assertion.notNull(l2, "l2 must not be null");
+		this.l1 = new BoundedCache<>(l1MaximumSize, EvictionPolicy.W_TINY_LFU);
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * [从缓存中获得对象](Get the object from the cache)
+	 * @description zh - 从缓存中获得对象，一级缓存命中时不加锁，未命中时在key的锁内读取二级缓存并回填
+	 * @description en - Get the object from the cache, first level hits take no lock, on a miss the second level is read and the first level is filled under the lock of the key
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:09:12
+	 * @param key 键
+	 * @return V
+	 */
+	public V get(K key) {
+		V v = l1.get(key);
+		if (null == v) {
+			final ReentrantLock lock = lockOf(key);
+			lock.lock();
+			try {
+				v = readL2(key);
+				if (null != v) {
+					l1.put(key, v);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * [从缓存中获得对象，两级都不存在时返回回调产生的对象](Get the object from the cache, return the object generated by the callback when neither level has it)
+	 * @description zh - 从缓存中获得对象，两级都不存在时返回回调产生的对象，并同时写入两级缓存。整个过程持有key的分段锁，
+	 * 同一个key同时只有一个线程执行回调，落在同一分段的其它key的写入需要等待回调完成
+	 * @description en - Get the object from the cache, return the object generated by the callback when neither level has it and write it to both levels. The striped lock of the key is held throughout,
+	 * only one thread executes the callback for the same key at a time and writes of other keys in the same stripe wait for the callback
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:10:30
+	 * @param key 键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return V
+	 */
+	public V get(K key, CacheFun<V> supplier) {
+		final ReentrantLock lock = lockOf(key);
+		lock.lock();
+		try {
+			return l1.get(key, () -> {
+				V v = readL2(key);
+				if (null == v && null != supplier) {
+					v = supplier.call();
+					writeL2(key, v);
+				}
+				return v;
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [存入缓存](Cache)
+	 * @description zh - 同时存入两级缓存，值为null时等同于移除。先写二级缓存，同一个key的并发写入不会让两级缓存不一致
+	 * @description en - Put into both levels, a null value is equivalent to removal. The second level is written first, concurrent puts of the same key cannot leave the levels out of step
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:11:40
+	 * @param key 键
+	 * @param value 值
+	 * @return V
+	 */
+	public V put(K key, V value) {
+		final ReentrantLock lock = lockOf(key);
+		lock.lock();
+		try {
+			writeL2(key, value);
+			l1.put(key, value);
+		} finally {
+			lock.unlock();
+		}
+		return value;
+	}
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 同时从两级缓存中移除
+	 * @description en - Remove from both levels
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:12:15
+	 * @param key 键
+	 */
+	public void remove(K key) {
+		final ReentrantLock lock = lockOf(key);
+		lock.lock();
+		try {
+			l2.remove(serializeKey(key));
+			l1.remove(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [清空缓存池](Clear cache pool)
+	 * @description zh - 清空两级缓存，并删除二级缓存的文件，期间持有全部分段锁
+	 * @description en - Clear both levels and delete the files of the second level while holding every lock stripe
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:12:50
+	 */
+	public void clear() {
+		for (ReentrantLock lock : locks) {
+			lock.lock();
+		}
+		try {
+			l2.clear();
+			l1.clear();
+		} finally {
+			for (ReentrantLock lock : locks) {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * [把二级缓存刷到磁盘](Flush the second level to disk)
+	 * @description zh - 把二级缓存刷到磁盘
+	 * @description en - Flush the second level to disk
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:13:22
+	 */
+	public void sync() {
+		l2.sync();
+	}
+
+	/**
+	 * [压缩二级缓存](Compact the second level)
+	 * @description zh - 压缩二级缓存，回收失效数据占用的磁盘空间
+	 * @description en - Compact the second level to reclaim the disk space of dead data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:13:55
+	 */
+	public void compact() {
+		l2.compact();
+	}
+
+	/**
+	 * [开启一级缓存的统计](Enable statistics of the first level)
+	 * @description zh - 开启一级缓存的统计，二级缓存命中计为一次加载
+	 * @description en - Enable statistics of the first level, a hit in the second level counts as a load
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:14:30
+	 * @return com.xiaoTools.cache.twoTier.TwoTierCache<K,V>
+	 */
+	public TwoTierCache<K, V> recordStats() {
+		l1.recordStats();
+		return this;
+	}
+
+	/**
+	 * [获取一级缓存的统计快照](Get a statistics snapshot of the first level)
+	 * @description zh - 获取一级缓存的统计快照
+	 * @description en - Get a statistics snapshot of the first level
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:15:02
+	 * @return com.xiaoTools.cache.stats.CacheStats
+	 */
+	public CacheStats getStats() {
+		return l1.getStats();
+	}
+
+	/**
+	 * [关闭二级缓存](Close the second level)
+	 * @description zh - 关闭二级缓存，刷盘后释放映射
+	 * @description en - Close the second level, the mappings are released after flushing
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:15:33
+	 */
+	@Override
+	public void close() {
+		l1.clear();
+		l2.close();
+	}
+
+	private ReentrantLock lockOf(K key) {
+		final int h = Objects.hashCode(key);
+		return locks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
+	}
+
+	private V readL2(K key) {
+		final byte[] bytes = l2.get(serializeKey(key));
+		return null == bytes ? null : SerializeUtil.deserialize(bytes);
+	}
+
+	private void writeL2(K key, V value) {
+		final byte[] k = serializeKey(key);
+		if (null == value) {
+			l2.remove(k);
+			return;
+		}
+		final byte[] v = SerializeUtil.serialize(value);
+		Assertion.notNull(v, "value must be serializable");
+		l2.put(k, v);
+	}
+
+	private byte[] serializeKey(K key) {
+		final byte[] k = SerializeUtil.serialize(key);
+		Assertion.notNull(k, "key must be serializable");
+		return k;
+	}
+
+}
@@ -0,0 +1,718 @@
+package com.xiaoTools.cache.twoTier.segmentStore;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.core.exception.iORuntimeException.IORuntimeException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * [基于内存映射文件的追加写存储](Append-only store based on memory-mapped files)
+ * @description zh - 基于内存映射文件的追加写存储。数据按记录追加到定长的段文件中，写满后滚动到新段，旧段只读。
+ * 每条记录带有CRC校验，重新打开时按段顺序重放，遇到未写完或校验失败的记录即视为崩溃点并截断，之后的数据不会被误读。
+ * 已封存的段中失效数据超过一半时，把仍然有效的记录复制到活动段后删除旧段。
+ * @description en - Append-only store based on memory-mapped files. Records are appended to fixed-size segment files, a full segment is sealed and writing rolls over to a new one.
+ * Each record carries a CRC, on reopen the segments are replayed in order and the first incomplete record or CRC mismatch is treated as the crash point and truncated, so later bytes are never misread.
+ * When more than half of a sealed segment is dead, its live records are copied to the active segment and the old segment is deleted.
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 15:40:12
+ */
+public class SegmentStore implements Closeable {
+
+	/**
+	 * 记录头：键长度、值长度（-1表示删除标记）、CRC
+	 */
+	private static final int HEADER_SIZE = 12;
+
+	/**
+	 * 段文件前缀
+	 */
+	private static final String PREFIX = "segment-";
+
+	/**
+	 * 段文件后缀
+	 */
+	private static final String SUFFIX = ".seg";
+
+	/**
+	 * 默认的段大小，64MB
+	 */
+	private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+	/**
+	 * sun.misc.Unsafe实例，用于主动释放映射，不可用时为null
+	 */
+	private static final Object UNSAFE;
+
+	/**
+	 * Unsafe.invokeCleaner方法，不可用时为null
+	 */
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			final Class<?> clazz = Class.forName("sun.misc.Unsafe");
+			final Field field = clazz.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+			invokeCleaner = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// 不支持时映射只能等待垃圾回收释放
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * 存储目录
+	 */
+	private final File dir;
+
+	/**
+	 * 新段文件的大小
+	 */
+	private final int segmentSize;
+
+	/**
+	 * 所有的段，按编号递增，最后一个是活动段
+	 */
+	private final List<Segment> segments = new ArrayList<>();
+
+	/**
+	 * 键到记录位置的索引
+	 */
+	private final Map<Key, Location> index = new HashMap<>();
+
+	/**
+	 * 压缩后删除失败的段文件，之后压缩或关闭时重试
+	 */
+	private final List<File> pendingDeletes = new ArrayList<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final CRC32 crc = new CRC32();
+
+	private boolean closed;
+
+	/**
+	 * [打开存储，使用64MB的段](Open the store with 64MB segments)
+	 * @description zh - 打开存储，使用64MB的段
+	 * @description en - Open the store with 64MB segments
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:42:30
+	 * @param dir 存储目录，不存在时创建
+	 */
+	public SegmentStore(File dir) {
+		this(dir, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * [打开存储](Open the store)
+	 * @description zh - 打开存储，目录中已有的段会被重放以恢复索引
+	 * @description en - Open the store, the existing segments in the directory are replayed to restore the index
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:43:11
+	 * @param dir 存储目录，不存在时创建
+	 * @param segmentSize 段大小，同时限制单条记录的大小
+	 */
+	public SegmentStore(File dir, int segmentSize) {
+		Assertion.notNull(dir, "dir must not be null");
+		Assertion.isTrue(segmentSize > HEADER_SIZE, "segmentSize is too small");
+		this.dir = dir;
+		this.segmentSize = segmentSize;
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IORuntimeException("Can not create directory: {}", dir);
+		}
+		recover();
+	}
+
+	/**
+	 * [读取值](Read value)
+	 * @description zh - 读取值
+	 * @description en - Read value
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:44:02
+	 * @param key 键
+	 * @return byte[] 不存在时返回null
+	 */
+	public byte[] get(byte[] key) {
+		lock.lock();
+		try {
+			ensureOpen();
+			final Location location = index.get(new Key(key));
+			if (null == location) {
+				return null;
+			}
+			final byte[] value = new byte[location.valueLength];
+			final ByteBuffer buffer = location.segment.buffer.duplicate();
+			buffer.position(location.offset + HEADER_SIZE + location.keyLength);
+			buffer.get(value);
+			return value;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [写入值](Write value)
+	 * @description zh - 写入值，记录超过段大小时不写入并移除旧值
+	 * @description en - Write value, a record larger than a segment is not written and the old value is removed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:45:20
+	 * @param key 键，不能为空数组
+	 * @param value 值
+	 * @return boolean 是否写入
+	 */
+	public boolean put(byte[] key, byte[] value) {
+		Assertion.isTrue(null != key && key.length > 0, "key must not be empty");
+		Assertion.notNull(value, "value must not be null");
+		lock.lock();
+		try {
+			ensureOpen();
+			if ((long) HEADER_SIZE + key.length + value.length > segmentSize) {
+				remove(key);
+				return false;
+			}
+			final Key k = new Key(key);
+			final Location location = append(key, value, value.length);
+			location.segment.liveBytes += location.size();
+			kill(index.put(k, location));
+			compactIfNeeded();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [删除值](Delete value)
+	 * @description zh - 删除值，追加一条删除标记，保证重新打开后不会复活
+	 * @description en - Delete value, a tombstone is appended so the value does not come back after reopening
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:46:03
+	 * @param key 键
+	 * @return boolean 是否存在
+	 */
+	public boolean remove(byte[] key) {
+		lock.lock();
+		try {
+			ensureOpen();
+			final Location old = index.remove(new Key(key));
+			if (null == old) {
+				return false;
+			}
+			kill(old);
+			append(key, null, -1);
+			compactIfNeeded();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [删除全部数据](Delete all data)
+	 * @description zh - 删除全部数据和段文件。先释放映射再删除文件，之后从更大的编号开始新的活动段，即使有文件删除失败，存储也保持为空且可用
+	 * @description en - Delete all data and segment files. The mappings are released before the files are deleted and the new active segment
+	 * takes a larger number, so the store stays empty and usable even if a file can not be deleted
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:46:44
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			ensureOpen();
+			final long nextId = segments.get(segments.size() - 1).id + 1;
+			final List<Segment> detached = new ArrayList<>(segments);
+			index.clear();
+			segments.clear();
+			openSegment(nextId);
+			File failed = null;
+			for (Segment segment : detached) {
+				unmap(segment);
+				if (!delete(segment.file)) {
+					failed = segment.file;
+				}
+			}
+			pendingDeletes.removeIf(this::delete);
+			if (null != failed) {
+				throw new IORuntimeException("Can not delete segment: {}", failed);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [当前键的数量](Current number of keys)
+	 * @description zh - 当前键的数量
+	 * @description en - Current number of keys
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:47:20
+	 * @return int
+	 */
+	public int size() {
+		lock.lock();
+		try {
+			return index.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [当前段文件的数量](Current number of segment files)
+	 * @description zh - 当前段文件的数量
+	 * @description en - Current number of segment files
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:47:52
+	 * @return int
+	 */
+	public int segmentCount() {
+		lock.lock();
+		try {
+			return segments.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [把映射内存刷到磁盘](Flush the mapped memory to disk)
+	 * @description zh - 把映射内存刷到磁盘。进程崩溃时已写入映射内存的数据由操作系统保留，断电时只保留刷盘之前的数据
+	 * @description en - Flush the mapped memory to disk. When the process crashes the data written to mapped memory is kept by the operating system, on power loss only the data flushed before is kept
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:48:40
+	 */
+	public void sync() {
+		lock.lock();
+		try {
+			ensureOpen();
+			for (Segment segment : segments) {
+				segment.buffer.force();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [压缩所有含有失效数据的已封存段](Compact all sealed segments containing dead data)
+	 * @description zh - 压缩所有含有失效数据的已封存段
+	 * @description en - Compact all sealed segments containing dead data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:49:15
+	 */
+	public void compact() {
+		lock.lock();
+		try {
+			ensureOpen();
+			for (Segment segment : new ArrayList<>(segments.subList(0, segments.size() - 1))) {
+				if (segment.liveBytes < segment.writePosition) {
+					compact(segment);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [关闭存储](Close the store)
+	 * @description zh - 关闭存储，刷盘后释放映射。运行环境不支持主动释放时，映射在垃圾回收后释放
+	 * @description en - Close the store, the mappings are released after flushing. When the runtime does not support releasing them explicitly, they are released after garbage collection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:49:50
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+			for (Segment segment : segments) {
+				segment.buffer.force();
+			}
+			index.clear();
+			for (Segment segment : segments) {
+				unmap(segment);
+			}
+			segments.clear();
+			pendingDeletes.removeIf(this::delete);
+			closed = true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * [重放目录中的段，恢复索引](Replay the segments in the directory to restore the index)
+	 * @description zh - 按编号重放目录中的段，恢复索引。遇到未写完或校验失败的记录时截断该段之后的内容
+	 * @description en - Replay the segments in the directory by number to restore the index. The rest of a segment is truncated at the first incomplete record or CRC mismatch
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:51:22
+	 */
+	private void recover() {
+		final File[] files = dir.listFiles((d, name) -> name.startsWith(PREFIX) && name.endsWith(SUFFIX));
+		long[] ids = new long[null == files ? 0 : files.length];
+		int count = 0;
+		for (int i = 0; i < ids.length; i++) {
+			final String name = files[i].getName();
+			try {
+				ids[count++] = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+			} catch (NumberFormatException e) {
+				count--;
+			}
+		}
+		ids = Arrays.copyOf(ids, count);
+		Arrays.sort(ids);
+		for (long id : ids) {
+			final Segment segment = map(id, 0);
+			segments.add(segment);
+			replay(segment);
+		}
+		if (segments.isEmpty()) {
+			openSegment(1L);
+		}
+	}
+
+	/**
+	 * [重放一个段](Replay a segment)
+	 * @description zh - 重放一个段
+	 * @description en - Replay a segment
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:52:40
+	 * @param segment 段
+	 */
+	private void replay(Segment segment) {
+		final MappedByteBuffer buffer = segment.buffer;
+		int position = 0;
+		while (position + HEADER_SIZE <= buffer.capacity()) {
+			final int keyLength = buffer.getInt(position);
+			final int valueLength = buffer.getInt(position + 4);
+			if (keyLength <= 0 || valueLength < -1
+					|| (long) position + HEADER_SIZE + keyLength + Math.max(valueLength, 0) > buffer.capacity()
+					|| buffer.getInt(position + 8) != checksum(buffer, position + HEADER_SIZE, keyLength, valueLength)) {
+				break;
+			}
+			final byte[] key = new byte[keyLength];
+			final ByteBuffer view = buffer.duplicate();
+			view.position(position + HEADER_SIZE);
+			view.get(key);
+			final Location location = new Location(segment, position, keyLength, valueLength);
+			if (valueLength >= 0) {
+				segment.liveBytes += location.size();
+				kill(index.put(new Key(key), location));
+			} else {
+				kill(index.remove(new Key(key)));
+			}
+			position += location.size();
+		}
+		segment.writePosition = position;
+		if (position + 4 <= buffer.capacity() && 0 != buffer.getInt(position)) {
+			// 崩溃留下的半条记录，清零避免之后追加的记录与残留数据拼接
+			for (int i = position; i < buffer.capacity(); i++) {
+				buffer.put(i, (byte) 0);
+			}
+		}
+	}
+
+	/**
+	 * [追加一条记录](Append a record)
+	 * @description zh - 追加一条记录，活动段放不下时滚动到新段。先写键值再写记录头，记录头中的键长度最后写入，作为记录完整的标志
+	 * @description en - Append a record, rolling over to a new segment when the active one is full. The key and value are written before the header, and the key length is written last as the completion mark
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:54:12
+	 * @param key 键
+	 * @param value 值，删除标记为null
+	 * @param valueLength 值长度，删除标记为-1
+	 * @return com.xiaoTools.cache.twoTier.segmentStore.SegmentStore.Location
+	 */
+	private Location append(byte[] key, byte[] value, int valueLength) {
+		final int size = HEADER_SIZE + key.length + Math.max(valueLength, 0);
+		Segment active = segments.get(segments.size() - 1);
+		if (active.writePosition + size > active.buffer.capacity()) {
+			active.buffer.force();
+			active = openSegment(active.id + 1);
+		}
+		final MappedByteBuffer buffer = active.buffer;
+		final int position = active.writePosition;
+		final ByteBuffer view = buffer.duplicate();
+		view.position(position + HEADER_SIZE);
+		view.put(key);
+		if (null != value) {
+			view.put(value);
+		}
+		buffer.putInt(position + 4, valueLength);
+		buffer.putInt(position + 8, checksum(buffer, position + HEADER_SIZE, key.length, valueLength));
+		buffer.putInt(position, key.length);
+		active.writePosition += size;
+		return new Location(active, position, key.length, valueLength);
+	}
+
+	/**
+	 * [压缩失效数据过半的已封存段](Compact sealed segments that are more than half dead)
+	 * @description zh - 压缩失效数据过半的已封存段
+	 * @description en - Compact sealed segments that are more than half dead
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:55:30
+	 */
+	private void compactIfNeeded() {
+		for (int i = segments.size() - 2; i >= 0; i--) {
+			final Segment segment = segments.get(i);
+			if (segment.liveBytes * 2 < segment.writePosition) {
+				compact(segment);
+			}
+		}
+	}
+
+	/**
+	 * [压缩一个已封存的段](Compact a sealed segment)
+	 * @description zh - 把段中仍然有效的记录复制到活动段，索引全部指向新位置并刷盘后，释放映射再删除该段。更早的段还存在时保留删除标记，避免被删除的值在重新打开后复活。
+	 * 复制完成前崩溃时新旧两份记录同时存在，重放时编号大的段生效，结果不变。删除失败的文件不影响结果，留待之后重试
+	 * @description en - Copy the live records of the segment to the active segment, once the index points to the new locations and they are flushed, the mapping is released and the segment is deleted.
+	 * Tombstones are kept while older segments exist so deleted values do not come back after reopening. If a crash happens before copying completes both copies exist
+	 * and the segment with the larger number wins on replay, so the result is unchanged. A file that can not be deleted does not change the result and is retried later
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:57:48
+	 * @param segment 段
+	 */
+	private void compact(Segment segment) {
+		// 删除失败的旧文件在重新打开后仍会被重放，同样需要保留删除标记
+		final boolean olderExists = segments.get(0) != segment || !pendingDeletes.isEmpty();
+		final MappedByteBuffer buffer = segment.buffer;
+		int position = 0;
+		while (position < segment.writePosition) {
+			final int keyLength = buffer.getInt(position);
+			final int valueLength = buffer.getInt(position + 4);
+			final Location record = new Location(segment, position, keyLength, valueLength);
+			final byte[] key = new byte[keyLength];
+			final ByteBuffer view = buffer.duplicate();
+			view.position(position + HEADER_SIZE);
+			view.get(key);
+			final Key k = new Key(key);
+			if (valueLength >= 0) {
+				final Location location = index.get(k);
+				if (null != location && location.segment == segment && location.offset == position) {
+					final byte[] value = new byte[valueLength];
+					view.get(value);
+					final Location moved = append(key, value, valueLength);
+					moved.segment.liveBytes += moved.size();
+					segment.liveBytes -= record.size();
+					index.put(k, moved);
+				}
+			} else if (olderExists && !index.containsKey(k)) {
+				append(key, null, -1);
+			}
+			position += record.size();
+		}
+		segments.get(segments.size() - 1).buffer.force();
+		segments.remove(segment);
+		unmap(segment);
+		pendingDeletes.removeIf(this::delete);
+		if (!delete(segment.file)) {
+			pendingDeletes.add(segment.file);
+		}
+	}
+
+	/**
+	 * [新建并映射一个段](Create and map a new segment)
+	 * @description zh - 新建并映射一个段，作为活动段
+	 * @description en - Create and map a new segment as the active segment
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:58:30
+	 * @param id 段编号
+	 * @return com.xiaoTools.cache.twoTier.segmentStore.SegmentStore.Segment
+	 */
+	private Segment openSegment(long id) {
+		final Segment segment = map(id, segmentSize);
+		segments.add(segment);
+		return segment;
+	}
+
+	/**
+	 * [映射段文件](Map a segment file)
+	 * @description zh - 映射段文件，文件小于指定大小时扩展到该大小，扩展部分为0
+	 * @description en - Map a segment file, the file is extended to the given size with zeros when it is smaller
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:59:12
+	 * @param id 段编号
+	 * @param size 最小大小，0表示按文件现有大小
+	 * @return com.xiaoTools.cache.twoTier.segmentStore.SegmentStore.Segment
+	 */
+	private Segment map(long id, int size) {
+		final File file = new File(dir, PREFIX + id + SUFFIX);
+		try (FileChannel channel = FileChannel.open(file.toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final long length = Math.min(Integer.MAX_VALUE, Math.max(channel.size(), size));
+			// 映射在通道关闭后仍然有效
+			return new Segment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, length));
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	private boolean delete(File file) {
+		return !file.exists() || file.delete();
+	}
+
+	/**
+	 * [释放段的映射](Release the mapping of a segment)
+	 * @description zh - 释放段的映射，Windows下文件仍被映射时无法删除。调用前必须保证索引和段列表中已没有该段的引用，释放后再访问映射会导致进程崩溃
+	 * @description en - Release the mapping of a segment, on Windows a file can not be deleted while it is still mapped. No reference to the segment may remain in the index
+	 * or the segment list before calling, accessing the mapping after it is released crashes the process
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:34:20
+	 * @param segment 段
+	 */
+	private static void unmap(Segment segment) {
+		if (null == INVOKE_CLEANER) {
+			return;
+		}
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, segment.buffer);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// 释放失败时映射在垃圾回收后释放
+		}
+	}
+
+	private void kill(Location old) {
+		if (null != old) {
+			old.segment.liveBytes -= old.size();
+		}
+	}
+
+	private int checksum(ByteBuffer buffer, int position, int keyLength, int valueLength) {
+		crc.reset();
+		crc.update(valueLength >>> 24);
+		crc.update(valueLength >>> 16);
+		crc.update(valueLength >>> 8);
+		crc.update(valueLength);
+		final ByteBuffer view = buffer.duplicate();
+		view.limit(position + keyLength + Math.max(valueLength, 0));
+		view.position(position);
+		crc.update(view);
+		return (int) crc.getValue();
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("SegmentStore is closed");
+		}
+	}
+
+	/**
+	 * [段](Segment)
+	 * @description zh - 段，记录映射的内存、写入位置以及有效字节数
+	 * @description en - Segment, records the mapped memory, the write position and the number of live bytes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:41:05
+	 */
+	private static final class Segment {
+		final long id;
+		final File file;
+		final MappedByteBuffer buffer;
+		int writePosition;
+		long liveBytes;
+
+		Segment(long id, File file, MappedByteBuffer buffer) {
+			this.id = id;
+			this.file = file;
+			this.buffer = buffer;
+		}
+	}
+
+	/**
+	 * [记录位置](Record location)
+	 * @description zh - 记录位置
+	 * @description en - Record location
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:41:30
+	 */
+	private static final class Location {
+		final Segment segment;
+		final int offset;
+		final int keyLength;
+		final int valueLength;
+
+		Location(Segment segment, int offset, int keyLength, int valueLength) {
+			this.segment = segment;
+			this.offset = offset;
+			this.keyLength = keyLength;
+			this.valueLength = valueLength;
+		}
+
+		int size() {
+			return HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+		}
+	}
+
+	/**
+	 * [按内容比较的字节数组键](Byte array key compared by content)
+	 * @description zh - 按内容比较的字节数组键
+	 * @description en - Byte array key compared by content
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:41:52
+	 */
+	private static final class Key {
+		final byte[] bytes;
+		final int hash;
+
+		Key(byte[] bytes) {
+			this.bytes = bytes;
+			this.hash = Arrays.hashCode(bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && Arrays.equals(bytes, ((Key) obj).bytes);
+		}
+	}
+
+}
@@ -6,7 +6,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import com.xiaoTools.core.eval.functionRegistry.FunctionRegistry;
+import com.xiaoTools.core.eval.numericType.NumericType;
 import com.xiaoTools.core.eval.operator.Operator;
+import com.xiaoTools.core.eval.parser.Parser;
 
 public class Eval {
 	// 各个符号的常量, 匹配的符号映射, 各个符号的优先级
@@ -65,6 +69,73 @@ public class Eval {
         return val;
     }
 
+	/**
+	 * [编译公式](Compile a formula)
+	 * @description zh - 编译公式，返回可重复使用、线程安全的表达式，按double求值，只能调用内置函数。同一公式需要多次求值时，编译一次后反复求值，不再重复解析
+	 * @description en - Compile a formula into a reusable, thread safe expression evaluated as double that can only call the built-in functions. When the same formula is evaluated many times, compile it once and evaluate it repeatedly without parsing again
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:55:10
+	 * @param formula 公式
+	 * @return com.xiaoTools.core.eval.compiledExpression.CompiledExpression
+	 */
+	public static CompiledExpression compile(String formula) {
+		return new CompiledExpression(formula, Parser.parse(formula));
+	}
+
+	/**
+	 * [按给定数值类型编译公式](Compile a formula with the given numeric type)
+	 * @description zh - 按给定数值类型编译公式，只能调用内置函数，变量按第一次出现的顺序分配槽位
+	 * @description en - Compile a formula with the given numeric type, only the built-in functions can be called and variables get slots in order of first appearance
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:08:10
+	 * @param formula 公式
+	 * @param type 数值类型
+	 * @return com.xiaoTools.core.eval.compiledExpression.CompiledExpression
+	 */
+	public static CompiledExpression compile(String formula, NumericType type) {
+		return compile(formula, type, null);
+	}
+
+	/**
+	 * [按给定数值类型、函数和变量编译公式](Compile a formula with the given numeric type, functions and variables)
+	 * @description zh - 按给定数值类型、函数和变量编译公式。给出变量名时变量的槽位就是它的位置，公式中不能出现其他变量；不给出时按第一次出现的顺序分配槽位
+	 * @description en - Compile a formula with the given numeric type, functions and variables. When variable names are given the slot of a variable is its position and no other variable may appear in the formula; otherwise slots follow the order of first appearance
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:09:02
+	 * @param formula 公式
+	 * @param type 数值类型
+	 * @param functions 函数注册表，为null时只有内置函数
+	 * @param variables 变量名
+	 * @return com.xiaoTools.core.eval.compiledExpression.CompiledExpression
+	 */
+	public static CompiledExpression compile(String formula, NumericType type, FunctionRegistry functions, String... variables) {
+		final String[] declared = null == variables || variables.length == 0 ? null : variables;
+		return new CompiledExpression(formula, Parser.parse(formula, functions, declared), type, declared);
+	}
+
+	/**
+	 * [编译公式为字节码](Compile a formula into bytecode)
+	 * @description zh - 与compile相同，但long和double表达式被生成为隐藏类，适合在热点路径上长期反复求值的公式；
+	 * 生成字节码的开销比求值树大，BigDecimal表达式或无法生成字节码时使用求值树，可以用isBytecode()查看结果
+	 * @description en - Same as compile, but long and double expressions are generated as a hidden class, which suits formulas evaluated repeatedly on a hot path for a long time;
+	 * generating bytecode costs more than the evaluation tree, BigDecimal expressions and expressions that cannot be generated use the evaluation tree, see isBytecode() for the outcome
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:55:10
+	 * @param formula 公式
+	 * @param type 数值类型
+	 * @param functions 函数注册表，为null时只有内置函数
+	 * @param variables 变量名
+	 * @return com.xiaoTools.core.eval.compiledExpression.CompiledExpression
+	 */
+	public static CompiledExpression compileToBytecode(String formula, NumericType type, FunctionRegistry functions, String... variables) {
+		final String[] declared = null == variables || variables.length == 0 ? null : variables;
+		return new CompiledExpression(formula, Parser.parse(formula, functions, declared), type, declared, true);
+	}
+
 	private static int eval0(String formula, List<Operator> optr, List<Integer> resInBrackets, Operator lastOptNow) {
         int res = 0;
         if(lastOptNow == null) {
@@ -0,0 +1,557 @@
+package com.xiaoTools.core.eval.batchEvaluator;
+
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.evalFunction.EvalFunction;
+import com.xiaoTools.core.eval.evalFunction.builtinFunction.BuiltinFunction;
+import com.xiaoTools.core.eval.node.Node;
+import com.xiaoTools.core.eval.numericType.NumericType;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * [按列批量求值](Batch evaluation over columns)
+ * @description zh - 按列批量求值，对多行数据计算同一个表达式。第i列是槽位为i的变量，第row行的结果写入out[row]。
+ * double表达式按块逐列计算：每个节点对一块连续的行做一个紧凑的循环，便于JIT展开和向量化；其他数值类型逐行赋值后求值。
+ * 按列计算时if的两个分支都会计算再按条件选取，所以if的分支中调用了自定义函数的表达式也逐行求值，自定义函数只在被选中的分支中调用。
+ * 编译结果不可变，可以被多个线程同时使用，行数较多时可以交给ForkJoinPool分段并行计算
+ * @description en - Batch evaluation over columns, the same expression is computed for many rows. Column i is the variable in slot i and the result of row is written to out[row].
+ * Double expressions are computed column-wise in chunks: each node runs one tight loop over a run of rows, which the JIT can unroll and vectorise; other numeric types set the variables and evaluate row by row.
+ * Column-wise evaluation computes both branches of if and then selects by the condition, so expressions calling a custom function inside a branch of if are evaluated row by row as well, and custom functions are only called in the chosen branch.
+ * The compiled form is immutable and may be used by many threads at once, large row counts can be split across a ForkJoinPool
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 23:20:10
+ */
+public final class BatchEvaluator {
+
+	/**
+	 * 每块的行数
+	 */
+	private static final int CHUNK = 1024;
+
+	/**
+	 * 并行计算时每个任务至少处理的行数
+	 */
+	private static final int SPLIT_THRESHOLD = 16 * CHUNK;
+
+	private final CompiledExpression expression;
+
+	/**
+	 * 按列计算的求值树，逐行求值时为null
+	 */
+	private final Kernel kernel;
+
+	/**
+	 * 求值树需要的临时缓冲区个数
+	 */
+	private final int buffers;
+
+	/**
+	 * 各调用点的参数个数
+	 */
+	private final int[] callSites;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，编译按列计算的求值树，不能按列计算时逐行求值
+	 * @description en - Construct, the column-wise evaluation tree is compiled, the expression is evaluated row by row when it cannot be computed column-wise
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:21:02
+	 * @param expression 表达式
+	 */
+	public BatchEvaluator(CompiledExpression expression) {
+		this.expression = expression;
+		if (expression.getType().getKind() == NumericType.Kind.DOUBLE && !callsInBranch(expression.getRoot())) {
+			final KernelCompiler compiler = new KernelCompiler();
+			this.kernel = expression.getRoot().accept(compiler);
+			this.buffers = compiler.buffers;
+			this.callSites = compiler.callSites;
+		} else {
+			this.kernel = null;
+			this.buffers = 0;
+			this.callSites = new int[0];
+		}
+	}
+
+	/**
+	 * [按列批量求值](Evaluate over columns)
+	 * @description zh - 按列批量求值，在当前线程中计算，使用表达式上缓存的求值器，重复调用不会重新编译
+	 * @description en - Evaluate over columns in the current thread with the evaluator cached on the expression, repeated calls do not compile again
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:22:10
+	 * @param expression 表达式
+	 * @param columns 按槽位排列的列，每列至少有out.length行
+	 * @param out 结果
+	 */
+	public static void evaluate(CompiledExpression expression, double[][] columns, double[] out) {
+		expression.getBatchEvaluator().evaluate(columns, out);
+	}
+
+	/**
+	 * [按列并行批量求值](Evaluate over columns in parallel)
+	 * @description zh - 按列批量求值，行数较多时分段交给ForkJoinPool并行计算，返回时全部计算完毕。使用表达式上缓存的求值器
+	 * @description en - Evaluate over columns, large row counts are split across the ForkJoinPool, all rows are done when it returns. The evaluator cached on the expression is used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:22:50
+	 * @param expression 表达式
+	 * @param columns 按槽位排列的列，每列至少有out.length行
+	 * @param out 结果
+	 * @param pool 线程池
+	 */
+	public static void evaluate(CompiledExpression expression, double[][] columns, double[] out, ForkJoinPool pool) {
+		expression.getBatchEvaluator().evaluate(columns, out, pool);
+	}
+
+	/**
+	 * [按列批量求值](Evaluate over columns)
+	 * @description zh - 按列批量求值，在当前线程中计算
+	 * @description en - Evaluate over columns in the current thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:23:30
+	 * @param columns 按槽位排列的列，每列至少有out.length行
+	 * @param out 结果
+	 */
+	public void evaluate(double[][] columns, double[] out) {
+		check(columns, out);
+		evaluateRange(columns, out, 0, out.length);
+	}
+
+	/**
+	 * [按列并行批量求值](Evaluate over columns in parallel)
+	 * @description zh - 按列批量求值，行数较多时分段交给ForkJoinPool并行计算，返回时全部计算完毕
+	 * @description en - Evaluate over columns, large row counts are split across the ForkJoinPool, all rows are done when it returns
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:24:02
+	 * @param columns 按槽位排列的列，每列至少有out.length行
+	 * @param out 结果
+	 * @param pool 线程池
+	 */
+	public void evaluate(double[][] columns, double[] out, ForkJoinPool pool) {
+		check(columns, out);
+		if (out.length <= SPLIT_THRESHOLD) {
+			evaluateRange(columns, out, 0, out.length);
+		} else {
+			pool.invoke(new RangeTask(columns, out, 0, out.length));
+		}
+	}
+
+	private void check(double[][] columns, double[] out) {
+		if (null == columns || columns.length < expression.getVariableCount()) {
+			throw new IllegalArgumentException("Expected " + expression.getVariableCount() + " columns for formula: " + expression.getFormula());
+		}
+		for (int i = 0; i < expression.getVariableCount(); i++) {
+			if (null == columns[i] || columns[i].length < out.length) {
+				throw new IllegalArgumentException("Column " + i + " has fewer than " + out.length + " rows");
+			}
+		}
+	}
+
+	private void evaluateRange(double[][] columns, double[] out, int from, int to) {
+		if (null == kernel) {
+			evaluateRows(columns, out, from, to);
+			return;
+		}
+		final Frame frame = new Frame(columns, buffers, callSites, Math.min(CHUNK, to - from));
+		final double[] dest = new double[frame.chunk];
+		for (int start = from; start < to; start += frame.chunk) {
+			final int length = Math.min(frame.chunk, to - start);
+			kernel.apply(frame, start, length, dest);
+			System.arraycopy(dest, 0, out, start, length);
+		}
+	}
+
+	/**
+	 * [逐行求值](Evaluate row by row)
+	 * @description zh - 逐行赋值后求值，用于long和BigDecimal表达式，以及if的分支中调用了自定义函数的表达式
+	 * @description en - Set the variables and evaluate row by row, used by long and BigDecimal expressions and by expressions calling a custom function inside a branch of if
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:25:10
+	 */
+	private void evaluateRows(double[][] columns, double[] out, int from, int to) {
+		final Context context = expression.newContext();
+		final int slots = expression.getVariableCount();
+		for (int row = from; row < to; row++) {
+			for (int slot = 0; slot < slots; slot++) {
+				context.set(slot, columns[slot][row]);
+			}
+			out[row] = expression.evaluateDouble(context);
+		}
+	}
+
+	/**
+	 * [if的分支中是否调用了自定义函数](Whether a branch of if calls a custom function)
+	 * @description zh - if的分支中是否调用了自定义函数。按列计算会计算if的两个分支，自定义函数可能有副作用或在未选中的分支中抛出异常
+	 * @description en - Whether a branch of if calls a custom function. Column-wise evaluation computes both branches of if, and a custom function may have side effects or throw in the branch that is not chosen
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:55:30
+	 * @param root 语法树
+	 * @return boolean
+	 */
+	private static boolean callsInBranch(Node root) {
+		final boolean[] found = new boolean[1];
+		root.walk(node -> {
+			if (node instanceof Node.Call && ((Node.Call) node).getFunction() == BuiltinFunction.IF) {
+				final Node.Call call = (Node.Call) node;
+				for (int i = 1; i < call.getArgCount(); i++) {
+					call.getArg(i).walk(branch -> {
+						if (branch instanceof Node.Call && !(((Node.Call) branch).getFunction() instanceof BuiltinFunction)) {
+							found[0] = true;
+						}
+					});
+				}
+			}
+		});
+		return found[0];
+	}
+
+	/**
+	 * [分段计算的任务](Task computing a range of rows)
+	 * @description zh - 分段计算的任务，行数超过阈值时一分为二
+	 * @description en - Task computing a range of rows, it splits in two while the range exceeds the threshold
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:25:50
+	 */
+	private final class RangeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final double[][] columns;
+		private final double[] out;
+		private final int from;
+		private final int to;
+
+		RangeTask(double[][] columns, double[] out, int from, int to) {
+			this.columns = columns;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= SPLIT_THRESHOLD) {
+				evaluateRange(columns, out, from, to);
+				return;
+			}
+			// 按块对齐地一分为二
+			final int middle = from + (to - from) / 2 / CHUNK * CHUNK;
+			invokeAll(new RangeTask(columns, out, from, middle), new RangeTask(columns, out, middle, to));
+		}
+
+	}
+
+	/**
+	 * [一个任务的工作区](Working area of one task)
+	 * @description zh - 一个任务的工作区，包括输入列、临时缓冲区和调用点的参数数组，只由一个线程使用
+	 * @description en - Working area of one task, holding the input columns, temporary buffers and call site argument arrays, used by a single thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:26:30
+	 */
+	private static final class Frame {
+
+		final double[][] columns;
+		final double[][] buffers;
+		final double[][] arguments;
+		final int chunk;
+
+		Frame(double[][] columns, int buffers, int[] callSites, int chunk) {
+			this.columns = columns;
+			this.chunk = chunk;
+			this.buffers = new double[buffers][chunk];
+			this.arguments = new double[callSites.length][];
+			for (int i = 0; i < callSites.length; i++) {
+				arguments[i] = new double[callSites[i]];
+			}
+		}
+
+	}
+
+	/**
+	 * [按列计算的节点](Column-wise node)
+	 * @description zh - 按列计算的节点，把第from行开始的length行的结果写入dest[0, length)
+	 * @description en - Column-wise node, writes the results of the length rows starting at row from into dest[0, length)
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:27:10
+	 */
+	@FunctionalInterface
+	private interface Kernel {
+		void apply(Frame frame, int from, int length, double[] dest);
+	}
+
+	/**
+	 * [按列计算的求值树编译器](Compiler of the column-wise evaluation tree)
+	 * @description zh - 按列计算的求值树编译器，为每个需要保存中间结果的操作数分配一个临时缓冲区
+	 * @description en - Compiler of the column-wise evaluation tree, a temporary buffer is assigned to every operand whose intermediate result must be kept
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:27:50
+	 */
+	private static final class KernelCompiler implements Node.Visitor<Kernel> {
+
+		int buffers;
+
+		int[] callSites = new int[0];
+
+		@Override
+		public Kernel visitLiteral(Node.Literal node) {
+			final double value = Double.parseDouble(node.getText());
+			return (frame, from, length, dest) -> Arrays.fill(dest, 0, length, value);
+		}
+
+		@Override
+		public Kernel visitVariable(Node.Variable node) {
+			final int slot = node.getSlot();
+			return (frame, from, length, dest) -> System.arraycopy(frame.columns[slot], from, dest, 0, length);
+		}
+
+		@Override
+		public Kernel visitNegate(Node.Negate node) {
+			final Kernel operand = node.getOperand().accept(this);
+			return (frame, from, length, dest) -> {
+				operand.apply(frame, from, length, dest);
+				for (int i = 0; i < length; i++) {
+					dest[i] = -dest[i];
+				}
+			};
+		}
+
+		@Override
+		public Kernel visitBinary(Node.Binary node) {
+			final Kernel left = node.getLeft().accept(this);
+			final Kernel right = node.getRight().accept(this);
+			final int tmp = buffers++;
+			switch (node.getOperator()) {
+				case '+':
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] + dest[i];
+						}
+					};
+				case '-':
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] - dest[i];
+						}
+					};
+				case '*':
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] * dest[i];
+						}
+					};
+				case '/':
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] / dest[i];
+						}
+					};
+				case '%':
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] % dest[i];
+						}
+					};
+				default:
+					throw new IllegalArgumentException("Unsupported operator '" + node.getOperator() + "' at " + node.getPosition());
+			}
+		}
+
+		@Override
+		public Kernel visitCompare(Node.Compare node) {
+			final Kernel left = node.getLeft().accept(this);
+			final Kernel right = node.getRight().accept(this);
+			final int tmp = buffers++;
+			switch (node.getOperator()) {
+				case LT:
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] < dest[i] ? 1 : 0;
+						}
+					};
+				case LE:
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] <= dest[i] ? 1 : 0;
+						}
+					};
+				case GT:
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] > dest[i] ? 1 : 0;
+						}
+					};
+				case GE:
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] >= dest[i] ? 1 : 0;
+						}
+					};
+				case EQ:
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] == dest[i] ? 1 : 0;
+						}
+					};
+				case NE:
+					return (frame, from, length, dest) -> {
+						final double[] l = operands(frame, left, right, tmp, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = l[i] != dest[i] ? 1 : 0;
+						}
+					};
+				default:
+					throw new IllegalArgumentException("Unsupported operator '" + node.getOperator().getSymbol() + "' at " + node.getPosition());
+			}
+		}
+
+		@Override
+		public Kernel visitCall(Node.Call node) {
+			final Kernel[] args = new Kernel[node.getArgCount()];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = node.getArg(i).accept(this);
+			}
+			final EvalFunction function = node.getFunction();
+			if (function instanceof BuiltinFunction) {
+				final Kernel builtin = builtin((BuiltinFunction) function, args);
+				if (null != builtin) {
+					return builtin;
+				}
+			}
+			final int site = node.getSite();
+			if (site >= callSites.length) {
+				callSites = Arrays.copyOf(callSites, site + 1);
+			}
+			callSites[site] = args.length;
+			// 最后一个参数直接写入dest，其余参数各占一个缓冲区
+			final int first = buffers;
+			buffers += args.length - 1;
+			return (frame, from, length, dest) -> {
+				final int last = args.length - 1;
+				for (int k = 0; k < last; k++) {
+					args[k].apply(frame, from, length, frame.buffers[first + k]);
+				}
+				if (last >= 0) {
+					args[last].apply(frame, from, length, dest);
+				}
+				final double[] values = frame.arguments[site];
+				for (int i = 0; i < length; i++) {
+					for (int k = 0; k < last; k++) {
+						values[k] = frame.buffers[first + k][i];
+					}
+					if (last >= 0) {
+						values[last] = dest[i];
+					}
+					dest[i] = function.applyDouble(values);
+				}
+			};
+		}
+
+		private Kernel builtin(BuiltinFunction function, Kernel[] args) {
+			switch (function) {
+				case IF: {
+					final int condition = buffers++;
+					final int then = buffers++;
+					return (frame, from, length, dest) -> {
+						final double[] c = frame.buffers[condition];
+						final double[] t = frame.buffers[then];
+						args[0].apply(frame, from, length, c);
+						args[1].apply(frame, from, length, t);
+						args[2].apply(frame, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = BuiltinFunction.test(c[i]) ? t[i] : dest[i];
+						}
+					};
+				}
+				case ABS:
+					return (frame, from, length, dest) -> {
+						args[0].apply(frame, from, length, dest);
+						for (int i = 0; i < length; i++) {
+							dest[i] = BuiltinFunction.abs(dest[i]);
+						}
+					};
+				case ROUND: {
+					if (args.length == 1) {
+						return (frame, from, length, dest) -> {
+							args[0].apply(frame, from, length, dest);
+							for (int i = 0; i < length; i++) {
+								dest[i] = BuiltinFunction.round(dest[i], 0);
+							}
+						};
+					}
+					final int digits = buffers++;
+					return (frame, from, length, dest) -> {
+						final double[] d = frame.buffers[digits];
+						args[0].apply(frame, from, length, dest);
+						args[1].apply(frame, from, length, d);
+						for (int i = 0; i < length; i++) {
+							dest[i] = BuiltinFunction.round(dest[i], (int) d[i]);
+						}
+					};
+				}
+				case MIN:
+				case MAX: {
+					final boolean min = function == BuiltinFunction.MIN;
+					final int tmp = buffers++;
+					return (frame, from, length, dest) -> {
+						final double[] t = frame.buffers[tmp];
+						args[0].apply(frame, from, length, dest);
+						for (int k = 1; k < args.length; k++) {
+							args[k].apply(frame, from, length, t);
+							if (min) {
+								for (int i = 0; i < length; i++) {
+									dest[i] = BuiltinFunction.min(dest[i], t[i]);
+								}
+							} else {
+								for (int i = 0; i < length; i++) {
+									dest[i] = BuiltinFunction.max(dest[i], t[i]);
+								}
+							}
+						}
+					};
+				}
+				default:
+					return null;
+			}
+		}
+
+		/**
+		 * [计算二元运算的两个操作数](Compute both operands of a binary operation)
+		 * @description zh - 左操作数写入临时缓冲区并返回，右操作数写入dest
+		 * @description en - The left operand is written into a temporary buffer which is returned, the right operand is written into dest
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 23:29:10
+		 */
+		private static double[] operands(Frame frame, Kernel left, Kernel right, int tmp, int from, int length, double[] dest) {
+			final double[] l = frame.buffers[tmp];
+			left.apply(frame, from, length, l);
+			right.apply(frame, from, length, dest);
+			return l;
+		}
+
+	}
+
+}
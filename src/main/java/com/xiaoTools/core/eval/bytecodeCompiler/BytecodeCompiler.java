@@ -0,0 +1,676 @@
+package com.xiaoTools.core.eval.bytecodeCompiler;
+
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.evalFunction.EvalFunction;
+import com.xiaoTools.core.eval.evalFunction.builtinFunction.BuiltinFunction;
+import com.xiaoTools.core.eval.node.Node;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * [字节码编译器](Bytecode compiler)
+ * @description zh - 字节码编译器，把语法树生成为一个隐藏类，整个表达式是一个直线方法，JIT可以像手写的Java代码一样内联其中的运算，没有逐节点的虚调用。
+ * 只支持long和double；生成失败时（方法过大、运行环境不允许定义隐藏类等）抛出UnsupportedOperationException，调用方应回退到求值树。
+ * 隐藏类不被任何类加载器强引用，表达式不再使用后可以被卸载
+ * @description en - Bytecode compiler, generates a hidden class from a syntax tree so that the whole expression is one straight-line method whose arithmetic the JIT can inline like hand written Java, with no per-node virtual call.
+ * Only long and double are supported; when generation fails (the method is too large, the runtime does not allow hidden classes and so on) an UnsupportedOperationException is thrown and the caller should fall back to the evaluation tree.
+ * The hidden class is not strongly held by any class loader and can be unloaded once the expression is no longer used
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 23:45:10
+ */
+public final class BytecodeCompiler {
+
+	/**
+	 * 生成的类使用Java 5的格式，分支处不需要StackMapTable
+	 */
+	private static final int CLASS_VERSION = 49;
+
+	/**
+	 * 保证跳转偏移量不超过16位有符号数
+	 */
+	private static final int MAX_CODE_LENGTH = Short.MAX_VALUE;
+
+	private static final String CLASS_NAME = BytecodeCompiler.class.getPackageName().replace('.', '/') + "/GeneratedExpression";
+	private static final String CONTEXT = Context.class.getName().replace('.', '/');
+	private static final String FUNCTION = EvalFunction.class.getName().replace('.', '/');
+	private static final String BUILTIN = BuiltinFunction.class.getName().replace('.', '/');
+	private static final String FUNCTIONS_FIELD = "functions";
+	private static final String FUNCTIONS_DESCRIPTOR = "[L" + FUNCTION + ";";
+
+	private BytecodeCompiler() { }
+
+	/**
+	 * [编译为double求值方法](Compile into a double evaluation method)
+	 * @description zh - 编译为double求值方法，语义与TreeCompiler.compileDouble相同
+	 * @description en - Compile into a double evaluation method, with the same semantics as TreeCompiler.compileDouble
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:46:02
+	 * @param root 语法树的根节点
+	 * @return java.util.function.ToDoubleFunction<com.xiaoTools.core.eval.context.Context>
+	 */
+	@SuppressWarnings("unchecked")
+	public static ToDoubleFunction<Context> compileDouble(Node root) {
+		return (ToDoubleFunction<Context>) define(root, false);
+	}
+
+	/**
+	 * [编译为long求值方法](Compile into a long evaluation method)
+	 * @description zh - 编译为long求值方法，语义与TreeCompiler.compileLong相同
+	 * @description en - Compile into a long evaluation method, with the same semantics as TreeCompiler.compileLong
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:46:40
+	 * @param root 语法树的根节点
+	 * @return java.util.function.ToLongFunction<com.xiaoTools.core.eval.context.Context>
+	 */
+	@SuppressWarnings("unchecked")
+	public static ToLongFunction<Context> compileLong(Node root) {
+		return (ToLongFunction<Context>) define(root, true);
+	}
+
+	private static Object define(Node root, boolean isLong) {
+		final ClassFile classFile = new ClassFile(isLong);
+		final byte[] bytes = classFile.generate(root);
+		try {
+			final Class<?> type = MethodHandles.lookup().defineHiddenClass(bytes, true).lookupClass();
+			return type.getConstructor(EvalFunction[].class).newInstance((Object) classFile.functions.toArray(new EvalFunction[0]));
+		} catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+			throw new UnsupportedOperationException("Failed to define the hidden class of the expression", e);
+		}
+	}
+
+	/**
+	 * [生成中的类文件](Class file being generated)
+	 * @description zh - 生成中的类文件，包括常量池和求值方法的字节码。生成的类实现ToDoubleFunction或ToLongFunction，自定义函数保存在构造时传入的数组中
+	 * @description en - Class file being generated, holding the constant pool and the bytecode of the evaluation method. The generated class implements ToDoubleFunction or ToLongFunction and keeps custom functions in an array passed to its constructor
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:47:30
+	 */
+	private static final class ClassFile implements Node.Visitor<Void> {
+
+		private final boolean isLong;
+
+		/**
+		 * 数值类型的描述符，J或D
+		 */
+		private final String descriptor;
+
+		private final ConstantPool pool = new ConstantPool();
+
+		private final Code code = new Code();
+
+		/**
+		 * 自定义函数，下标即数组中的位置
+		 */
+		final List<EvalFunction> functions = new ArrayList<>();
+
+		ClassFile(boolean isLong) {
+			this.isLong = isLong;
+			this.descriptor = isLong ? "J" : "D";
+		}
+
+		byte[] generate(Node root) {
+			// applyAsXxx(Object)：把参数转换为Context放入局部变量1，随后是表达式本身
+			code.op(Op.ALOAD_1, 1);
+			code.op(Op.CHECKCAST, 0).u2(pool.classRef(CONTEXT));
+			code.op(Op.ASTORE_1, -1);
+			root.accept(this);
+			code.op(isLong ? Op.LRETURN : Op.DRETURN, -2);
+			if (code.length > MAX_CODE_LENGTH) {
+				throw new UnsupportedOperationException("Expression is too large for bytecode generation");
+			}
+
+			final String interfaceName = isLong ? "java/util/function/ToLongFunction" : "java/util/function/ToDoubleFunction";
+			final String methodName = isLong ? "applyAsLong" : "applyAsDouble";
+			final int thisClass = pool.classRef(CLASS_NAME);
+			final int superClass = pool.classRef("java/lang/Object");
+			final int interfaceClass = pool.classRef(interfaceName);
+			final int fieldName = pool.utf8(FUNCTIONS_FIELD);
+			final int fieldDescriptor = pool.utf8(FUNCTIONS_DESCRIPTOR);
+			final int initName = pool.utf8("<init>");
+			final int initDescriptor = pool.utf8("(" + FUNCTIONS_DESCRIPTOR + ")V");
+			final int applyName = pool.utf8(methodName);
+			final int applyDescriptor = pool.utf8("(Ljava/lang/Object;)" + descriptor);
+			final int codeName = pool.utf8("Code");
+			final int superInit = pool.methodRef("java/lang/Object", "<init>", "()V");
+			final int functionsField = pool.fieldRef(CLASS_NAME, FUNCTIONS_FIELD, FUNCTIONS_DESCRIPTOR);
+
+			// 构造方法：super()，保存函数数组
+			final Code init = new Code();
+			init.op(Op.ALOAD_0, 1);
+			init.op(Op.INVOKESPECIAL, -1).u2(superInit);
+			init.op(Op.ALOAD_0, 1);
+			init.op(Op.ALOAD_1, 1);
+			init.op(Op.PUTFIELD, -2).u2(functionsField);
+			init.op(Op.RETURN, 0);
+
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(0xCAFEBABE);
+				out.writeShort(0);
+				out.writeShort(CLASS_VERSION);
+				pool.write(out);
+				out.writeShort(Modifier.PUBLIC | Modifier.FINAL | Modifier.SUPER);
+				out.writeShort(thisClass);
+				out.writeShort(superClass);
+				out.writeShort(1);
+				out.writeShort(interfaceClass);
+				// 字段
+				out.writeShort(1);
+				out.writeShort(Modifier.PRIVATE | Modifier.FINAL);
+				out.writeShort(fieldName);
+				out.writeShort(fieldDescriptor);
+				out.writeShort(0);
+				// 方法
+				out.writeShort(2);
+				writeMethod(out, initName, initDescriptor, codeName, init, 2);
+				writeMethod(out, applyName, applyDescriptor, codeName, code, 2);
+				// 类属性
+				out.writeShort(0);
+			} catch (IOException e) {
+				throw new UnsupportedOperationException(e);
+			}
+			return bytes.toByteArray();
+		}
+
+		private static void writeMethod(DataOutputStream out, int name, int descriptor, int codeName, Code code, int maxLocals) throws IOException {
+			out.writeShort(Modifier.PUBLIC);
+			out.writeShort(name);
+			out.writeShort(descriptor);
+			out.writeShort(1);
+			out.writeShort(codeName);
+			out.writeInt(12 + code.length);
+			out.writeShort(code.maxStack);
+			out.writeShort(maxLocals);
+			out.writeInt(code.length);
+			out.write(code.bytes, 0, code.length);
+			// 异常表和属性
+			out.writeShort(0);
+			out.writeShort(0);
+		}
+
+		@Override
+		public Void visitLiteral(Node.Literal node) {
+			if (isLong) {
+				if (node.getText().indexOf('.') >= 0) {
+					throw new IllegalArgumentException("Decimal literal " + node.getText() + " is not allowed in a LONG expression at " + node.getPosition());
+				}
+				final long value = Long.parseLong(node.getText());
+				if (value == 0 || value == 1) {
+					code.op(value == 0 ? Op.LCONST_0 : Op.LCONST_1, 2);
+				} else {
+					code.op(Op.LDC2_W, 2).u2(pool.longConstant(value));
+				}
+			} else {
+				final double value = Double.parseDouble(node.getText());
+				if (value == 0 || value == 1) {
+					code.op(value == 0 ? Op.DCONST_0 : Op.DCONST_1, 2);
+				} else {
+					code.op(Op.LDC2_W, 2).u2(pool.doubleConstant(value));
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Void visitVariable(Node.Variable node) {
+			code.op(Op.ALOAD_1, 1);
+			pushInt(node.getSlot());
+			code.op(Op.INVOKEVIRTUAL, 0).u2(pool.methodRef(CONTEXT, isLong ? "getLong" : "getDouble", "(I)" + descriptor));
+			return null;
+		}
+
+		@Override
+		public Void visitNegate(Node.Negate node) {
+			node.getOperand().accept(this);
+			code.op(isLong ? Op.LNEG : Op.DNEG, 0);
+			return null;
+		}
+
+		@Override
+		public Void visitBinary(Node.Binary node) {
+			node.getLeft().accept(this);
+			node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case '+':
+					code.op(isLong ? Op.LADD : Op.DADD, -2);
+					break;
+				case '-':
+					code.op(isLong ? Op.LSUB : Op.DSUB, -2);
+					break;
+				case '*':
+					code.op(isLong ? Op.LMUL : Op.DMUL, -2);
+					break;
+				case '/':
+					code.op(isLong ? Op.LDIV : Op.DDIV, -2);
+					break;
+				case '%':
+					code.op(isLong ? Op.LREM : Op.DREM, -2);
+					break;
+				default:
+					throw new IllegalArgumentException("Unsupported operator '" + node.getOperator() + "' at " + node.getPosition());
+			}
+			return null;
+		}
+
+		@Override
+		public Void visitCompare(Node.Compare node) {
+			node.getLeft().accept(this);
+			node.getRight().accept(this);
+			// NaN参与比较时<、<=、>、>=、==均不成立，!=成立
+			final Node.Relation operator = node.getOperator();
+			final boolean less = Node.Relation.LT == operator || Node.Relation.LE == operator;
+			code.op(isLong ? Op.LCMP : less ? Op.DCMPG : Op.DCMPL, -3);
+			final int jumpToFalse;
+			switch (operator) {
+				case LT:
+					jumpToFalse = Op.IFGE;
+					break;
+				case LE:
+					jumpToFalse = Op.IFGT;
+					break;
+				case GT:
+					jumpToFalse = Op.IFLE;
+					break;
+				case GE:
+					jumpToFalse = Op.IFLT;
+					break;
+				case EQ:
+					jumpToFalse = Op.IFNE;
+					break;
+				default:
+					jumpToFalse = Op.IFEQ;
+			}
+			final int falseBranch = code.jump(jumpToFalse, -1);
+			code.op(isLong ? Op.LCONST_1 : Op.DCONST_1, 2);
+			final int end = code.jump(Op.GOTO, 0);
+			code.land(falseBranch);
+			// 两个分支各压入一个值，只计一次
+			code.stack -= 2;
+			code.op(isLong ? Op.LCONST_0 : Op.DCONST_0, 2);
+			code.land(end);
+			return null;
+		}
+
+		@Override
+		public Void visitCall(Node.Call node) {
+			final EvalFunction function = node.getFunction();
+			if (function instanceof BuiltinFunction && builtin((BuiltinFunction) function, node)) {
+				return null;
+			}
+			// functions[i].applyXxx(context.xxxArguments(site))，参数逐个写入数组
+			code.op(Op.ALOAD_0, 1);
+			code.op(Op.GETFIELD, 0).u2(pool.fieldRef(CLASS_NAME, FUNCTIONS_FIELD, FUNCTIONS_DESCRIPTOR));
+			pushInt(functions.size());
+			functions.add(function);
+			code.op(Op.AALOAD, -1);
+			code.op(Op.ALOAD_1, 1);
+			pushInt(node.getSite());
+			code.op(Op.INVOKEVIRTUAL, -1).u2(pool.methodRef(CONTEXT, isLong ? "longArguments" : "doubleArguments", "(I)[" + descriptor));
+			for (int i = 0; i < node.getArgCount(); i++) {
+				code.op(Op.DUP, 1);
+				pushInt(i);
+				node.getArg(i).accept(this);
+				code.op(isLong ? Op.LASTORE : Op.DASTORE, -4);
+			}
+			final String method = isLong ? "applyLong" : "applyDouble";
+			code.op(Op.INVOKEINTERFACE, 0).u2(pool.interfaceMethodRef(FUNCTION, method, "([" + descriptor + ")" + descriptor)).u1(2).u1(0);
+			return null;
+		}
+
+		/**
+		 * [生成内置函数](Generate a built-in function)
+		 * @description zh - 生成内置函数，直接调用BuiltinFunction的静态方法，if只计算被选中的分支
+		 * @description en - Generate a built-in function calling the static methods of BuiltinFunction directly, if only evaluates the chosen branch
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 23:49:10
+		 * @return boolean 是否已生成
+		 */
+		private boolean builtin(BuiltinFunction function, Node.Call node) {
+			switch (function) {
+				case IF: {
+					node.getArg(0).accept(this);
+					code.op(Op.INVOKESTATIC, -1).u2(pool.methodRef(BUILTIN, "test", "(" + descriptor + ")Z"));
+					final int elseBranch = code.jump(Op.IFEQ, -1);
+					node.getArg(1).accept(this);
+					final int end = code.jump(Op.GOTO, 0);
+					code.land(elseBranch);
+					code.stack -= 2;
+					node.getArg(2).accept(this);
+					code.land(end);
+					return true;
+				}
+				case ABS:
+					node.getArg(0).accept(this);
+					code.op(Op.INVOKESTATIC, 0).u2(pool.methodRef(BUILTIN, "abs", "(" + descriptor + ")" + descriptor));
+					return true;
+				case MIN:
+				case MAX: {
+					final int method = pool.methodRef(BUILTIN, function == BuiltinFunction.MIN ? "min" : "max", "(" + descriptor + descriptor + ")" + descriptor);
+					node.getArg(0).accept(this);
+					for (int i = 1; i < node.getArgCount(); i++) {
+						node.getArg(i).accept(this);
+						code.op(Op.INVOKESTATIC, -2).u2(method);
+					}
+					return true;
+				}
+				case ROUND:
+					node.getArg(0).accept(this);
+					if (node.getArgCount() == 1) {
+						if (isLong) {
+							return true;
+						}
+						code.op(Op.ICONST_0, 1);
+					} else {
+						node.getArg(1).accept(this);
+						code.op(isLong ? Op.L2I : Op.D2I, -1);
+					}
+					code.op(Op.INVOKESTATIC, -1).u2(pool.methodRef(BUILTIN, "round", "(" + descriptor + "I)" + descriptor));
+					return true;
+				default:
+					return false;
+			}
+		}
+
+		private void pushInt(int value) {
+			if (value >= -1 && value <= 5) {
+				code.op(Op.ICONST_0 + value, 1);
+			} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+				code.op(Op.BIPUSH, 1).u1(value);
+			} else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+				code.op(Op.SIPUSH, 1).u2(value);
+			} else {
+				code.op(Op.LDC_W, 1).u2(pool.intConstant(value));
+			}
+		}
+
+	}
+
+	/**
+	 * [方法的字节码](Bytecode of a method)
+	 * @description zh - 方法的字节码，记录操作数栈的当前深度和最大深度（按槽计算，long和double占两个槽）
+	 * @description en - Bytecode of a method, tracking the current and maximum operand stack depth (in slots, long and double take two)
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:50:10
+	 */
+	private static final class Code {
+
+		byte[] bytes = new byte[256];
+		int length;
+		int stack;
+		int maxStack;
+
+		/**
+		 * [写入指令](Write an instruction)
+		 * @description zh - 写入指令并按它对操作数栈的影响调整深度
+		 * @description en - Write an instruction and adjust the depth by its effect on the operand stack
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 23:50:40
+		 */
+		Code op(int opcode, int stackDelta) {
+			stack += stackDelta;
+			maxStack = Math.max(maxStack, stack);
+			return u1(opcode);
+		}
+
+		Code u1(int value) {
+			if (length == bytes.length) {
+				bytes = Arrays.copyOf(bytes, length * 2);
+			}
+			bytes[length++] = (byte) value;
+			return this;
+		}
+
+		Code u2(int value) {
+			return u1(value >>> 8).u1(value);
+		}
+
+		/**
+		 * [写入跳转指令](Write a jump instruction)
+		 * @description zh - 写入跳转指令，偏移量稍后由land填写
+		 * @description en - Write a jump instruction whose offset is filled in later by land
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 23:51:10
+		 * @return int 跳转指令的位置
+		 */
+		int jump(int opcode, int stackDelta) {
+			final int at = length;
+			op(opcode, stackDelta).u2(0);
+			return at;
+		}
+
+		/**
+		 * [把跳转目标设为当前位置](Set the jump target to the current position)
+		 * @description zh - 把跳转目标设为当前位置
+		 * @description en - Set the jump target to the current position
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 23:51:40
+		 * @param at 跳转指令的位置
+		 */
+		void land(int at) {
+			final int offset = length - at;
+			bytes[at + 1] = (byte) (offset >>> 8);
+			bytes[at + 2] = (byte) offset;
+		}
+
+	}
+
+	/**
+	 * [常量池](Constant pool)
+	 * @description zh - 常量池，相同的常量只写入一次
+	 * @description en - Constant pool, each constant is written only once
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:52:10
+	 */
+	private static final class ConstantPool {
+
+		private static final int UTF8 = 1;
+		private static final int INTEGER = 3;
+		private static final int LONG = 5;
+		private static final int DOUBLE = 6;
+		private static final int CLASS = 7;
+		private static final int FIELD_REF = 9;
+		private static final int METHOD_REF = 10;
+		private static final int INTERFACE_METHOD_REF = 11;
+		private static final int NAME_AND_TYPE = 12;
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private final DataOutputStream out = new DataOutputStream(bytes);
+		private final Map<String, Integer> indexes = new HashMap<>();
+
+		/**
+		 * 下一个常量的下标，从1开始，long和double占两个
+		 */
+		private int next = 1;
+
+		int utf8(String value) {
+			return add("U" + value, 1, () -> {
+				out.writeByte(UTF8);
+				out.writeUTF(value);
+			});
+		}
+
+		int intConstant(int value) {
+			return add("I" + value, 1, () -> {
+				out.writeByte(INTEGER);
+				out.writeInt(value);
+			});
+		}
+
+		int longConstant(long value) {
+			return add("J" + value, 2, () -> {
+				out.writeByte(LONG);
+				out.writeLong(value);
+			});
+		}
+
+		int doubleConstant(double value) {
+			return add("D" + Double.doubleToRawLongBits(value), 2, () -> {
+				out.writeByte(DOUBLE);
+				out.writeDouble(value);
+			});
+		}
+
+		int classRef(String internalName) {
+			final int name = utf8(internalName);
+			return add("C" + internalName, 1, () -> {
+				out.writeByte(CLASS);
+				out.writeShort(name);
+			});
+		}
+
+		int fieldRef(String owner, String name, String descriptor) {
+			return memberRef(FIELD_REF, owner, name, descriptor);
+		}
+
+		int methodRef(String owner, String name, String descriptor) {
+			return memberRef(METHOD_REF, owner, name, descriptor);
+		}
+
+		int interfaceMethodRef(String owner, String name, String descriptor) {
+			return memberRef(INTERFACE_METHOD_REF, owner, name, descriptor);
+		}
+
+		private int memberRef(int tag, String owner, String name, String descriptor) {
+			final int ownerClass = classRef(owner);
+			final int nameIndex = utf8(name);
+			final int descriptorIndex = utf8(descriptor);
+			final int nameAndType = add("N" + name + ":" + descriptor, 1, () -> {
+				out.writeByte(NAME_AND_TYPE);
+				out.writeShort(nameIndex);
+				out.writeShort(descriptorIndex);
+			});
+			return add("M" + tag + owner + "." + name + ":" + descriptor, 1, () -> {
+				out.writeByte(tag);
+				out.writeShort(ownerClass);
+				out.writeShort(nameAndType);
+			});
+		}
+
+		private int add(String key, int size, Entry entry) {
+			final Integer index = indexes.get(key);
+			if (null != index) {
+				return index;
+			}
+			try {
+				entry.write();
+			} catch (IOException e) {
+				throw new UnsupportedOperationException(e);
+			}
+			final int added = next;
+			next += size;
+			if (next > 0xFFFF) {
+				throw new UnsupportedOperationException("Expression has too many constants for bytecode generation");
+			}
+			indexes.put(key, added);
+			return added;
+		}
+
+		void write(DataOutputStream target) throws IOException {
+			target.writeShort(next);
+			bytes.writeTo(target);
+		}
+
+		@FunctionalInterface
+		private interface Entry {
+			void write() throws IOException;
+		}
+
+	}
+
+	/**
+	 * [用到的访问标志](Access flags in use)
+	 * @description zh - 用到的访问标志
+	 * @description en - Access flags in use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:53:10
+	 */
+	private static final class Modifier {
+		static final int PUBLIC = 0x0001;
+		static final int PRIVATE = 0x0002;
+		static final int FINAL = 0x0010;
+		static final int SUPER = 0x0020;
+	}
+
+	/**
+	 * [用到的操作码](Opcodes in use)
+	 * @description zh - 用到的操作码
+	 * @description en - Opcodes in use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:53:40
+	 */
+	private static final class Op {
+		static final int ICONST_0 = 0x03;
+		static final int LCONST_0 = 0x09;
+		static final int LCONST_1 = 0x0a;
+		static final int DCONST_0 = 0x0e;
+		static final int DCONST_1 = 0x0f;
+		static final int BIPUSH = 0x10;
+		static final int SIPUSH = 0x11;
+		static final int LDC_W = 0x13;
+		static final int LDC2_W = 0x14;
+		static final int ALOAD_0 = 0x2a;
+		static final int ALOAD_1 = 0x2b;
+		static final int AALOAD = 0x32;
+		static final int ASTORE_1 = 0x4c;
+		static final int LASTORE = 0x50;
+		static final int DASTORE = 0x52;
+		static final int DUP = 0x59;
+		static final int LADD = 0x61;
+		static final int DADD = 0x63;
+		static final int LSUB = 0x65;
+		static final int DSUB = 0x67;
+		static final int LMUL = 0x69;
+		static final int DMUL = 0x6b;
+		static final int LDIV = 0x6d;
+		static final int DDIV = 0x6f;
+		static final int LREM = 0x71;
+		static final int DREM = 0x73;
+		static final int LNEG = 0x75;
+		static final int DNEG = 0x77;
+		static final int L2I = 0x88;
+		static final int D2I = 0x8e;
+		static final int LCMP = 0x94;
+		static final int DCMPL = 0x97;
+		static final int DCMPG = 0x98;
+		static final int IFEQ = 0x99;
+		static final int IFNE = 0x9a;
+		static final int IFLT = 0x9b;
+		static final int IFGE = 0x9c;
+		static final int IFGT = 0x9d;
+		static final int IFLE = 0x9e;
+		static final int GOTO = 0xa7;
+		static final int LRETURN = 0xad;
+		static final int DRETURN = 0xaf;
+		static final int RETURN = 0xb1;
+		static final int GETFIELD = 0xb4;
+		static final int PUTFIELD = 0xb5;
+		static final int INVOKEVIRTUAL = 0xb6;
+		static final int INVOKESPECIAL = 0xb7;
+		static final int INVOKESTATIC = 0xb8;
+		static final int INVOKEINTERFACE = 0xb9;
+		static final int CHECKCAST = 0xc0;
+	}
+
+}
@@ -0,0 +1,436 @@
+package com.xiaoTools.core.eval.compiledExpression;
+
+import com.xiaoTools.core.eval.batchEvaluator.BatchEvaluator;
+import com.xiaoTools.core.eval.bytecodeCompiler.BytecodeCompiler;
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.node.Node;
+import com.xiaoTools.core.eval.numericType.NumericType;
+import com.xiaoTools.core.eval.treeCompiler.TreeCompiler;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * [编译后的表达式](Compiled expression)
+ * @description zh - 编译后的表达式。公式只解析一次，语法树被转换为由闭包组成的求值树，求值时不再解析，long和double求值也不产生任何对象。
+ * 实例不可变，可以被多个线程同时使用，变量的值放在每个线程自己的Context中。数值类型在编译时选定，按其他类型取结果时做一次转换。
+ * 无变量的整数公式也可以用evaluate()按int求值，语义与Eval.eval相同：除法向零取整，溢出时回绕
+ * @description en - Compiled expression. The formula is parsed once and the syntax tree is turned into a tree of closures, so evaluation does no parsing and long and double evaluation creates no object.
+ * Instances are immutable and may be used by many threads at once, variable values live in a Context owned by each thread. The numeric type is chosen at compile time and a result read as another type is converted once.
+ * An integer formula without variables can also be evaluated as int with evaluate(), which behaves like Eval.eval: division truncates towards zero and overflow wraps around
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 21:50:10
+ */
+public final class CompiledExpression {
+
+	private final String formula;
+
+	private final Node root;
+
+	private final NumericType type;
+
+	/**
+	 * 按槽位排列的变量名
+	 */
+	private final String[] variables;
+
+	private final Map<String, Integer> slots;
+
+	private final ToLongFunction<Context> longEvaluator;
+
+	private final ToDoubleFunction<Context> doubleEvaluator;
+
+	private final Function<Context, BigDecimal> decimalEvaluator;
+
+	/**
+	 * 求值方法是否是生成的字节码
+	 */
+	private final boolean bytecode;
+
+	/**
+	 * int求值树，第一次调用evaluate()时才编译，重复编译的结果相同，不需要加锁
+	 */
+	private volatile IntSupplier intEvaluator;
+
+	/**
+	 * 按列批量求值器，第一次取用时才编译，重复编译的结果相同，不需要加锁
+	 */
+	private volatile BatchEvaluator batchEvaluator;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，按double编译，变量按第一次出现的顺序分配槽位
+	 * @description en - Construct, compiled as double with variable slots in order of first appearance
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:51:02
+	 * @param formula 公式
+	 * @param root 语法树的根节点
+	 */
+	public CompiledExpression(String formula, Node root) {
+		this(formula, root, NumericType.DOUBLE, null);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，把语法树编译为给定数值类型的求值树
+	 * @description en - Construct, the syntax tree is compiled into an evaluation tree of the given numeric type
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:00:10
+	 * @param formula 公式
+	 * @param root 语法树的根节点
+	 * @param type 数值类型
+	 * @param variables 解析时声明的变量名，为null时从语法树中收集
+	 */
+	public CompiledExpression(String formula, Node root, NumericType type, String[] variables) {
+		this(formula, root, type, variables, false);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，bytecode为true时long和double表达式先尝试生成隐藏类，失败时回退到求值树
+	 * @description en - Construct, when bytecode is true long and double expressions are first generated as a hidden class, falling back to the evaluation tree on failure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:56:02
+	 * @param formula 公式
+	 * @param root 语法树的根节点
+	 * @param type 数值类型
+	 * @param variables 解析时声明的变量名，为null时从语法树中收集
+	 * @param bytecode 是否生成字节码
+	 */
+	public CompiledExpression(String formula, Node root, NumericType type, String[] variables, boolean bytecode) {
+		this.formula = formula;
+		this.root = root;
+		this.type = type;
+		this.variables = null != variables ? variables.clone() : collectVariables(root);
+		this.slots = new HashMap<>(this.variables.length * 2);
+		for (int i = 0; i < this.variables.length; i++) {
+			slots.put(this.variables[i], i);
+		}
+		ToLongFunction<Context> longCode = null;
+		ToDoubleFunction<Context> doubleCode = null;
+		if (bytecode && type.getKind() != NumericType.Kind.DECIMAL) {
+			try {
+				if (type.getKind() == NumericType.Kind.LONG) {
+					longCode = BytecodeCompiler.compileLong(root);
+				} else {
+					doubleCode = BytecodeCompiler.compileDouble(root);
+				}
+			} catch (UnsupportedOperationException e) {
+				// 回退到求值树
+			}
+		}
+		this.bytecode = null != longCode || null != doubleCode;
+		if (type.getKind() == NumericType.Kind.LONG && null == longCode) {
+			longCode = TreeCompiler.compileLong(root);
+		}
+		if (type.getKind() == NumericType.Kind.DOUBLE && null == doubleCode) {
+			doubleCode = TreeCompiler.compileDouble(root);
+		}
+		this.longEvaluator = longCode;
+		this.doubleEvaluator = doubleCode;
+		this.decimalEvaluator = type.getKind() == NumericType.Kind.DECIMAL ? TreeCompiler.compileDecimal(root, type.getMathContext()) : null;
+	}
+
+	/**
+	 * [创建求值上下文](Create an evaluation context)
+	 * @description zh - 创建求值上下文，每个线程使用自己的上下文，可以反复使用
+	 * @description en - Create an evaluation context, each thread uses its own and may reuse it
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:01:10
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context newContext() {
+		return new Context(this);
+	}
+
+	/**
+	 * [按long求值](Evaluate as long)
+	 * @description zh - 按long求值，其他数值类型的结果向零取整
+	 * @description en - Evaluate as long, results of other numeric types are truncated towards zero
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:02:02
+	 * @param context 由本表达式创建的上下文
+	 * @return long
+	 */
+	public long evaluateLong(Context context) {
+		checkContext(context);
+		switch (type.getKind()) {
+			case LONG:
+				return longEvaluator.applyAsLong(context);
+			case DOUBLE:
+				return (long) doubleEvaluator.applyAsDouble(context);
+			default:
+				return decimalEvaluator.apply(context).longValue();
+		}
+	}
+
+	/**
+	 * [按double求值](Evaluate as double)
+	 * @description zh - 按double求值
+	 * @description en - Evaluate as double
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:02:40
+	 * @param context 由本表达式创建的上下文
+	 * @return double
+	 */
+	public double evaluateDouble(Context context) {
+		checkContext(context);
+		switch (type.getKind()) {
+			case LONG:
+				return longEvaluator.applyAsLong(context);
+			case DOUBLE:
+				return doubleEvaluator.applyAsDouble(context);
+			default:
+				return decimalEvaluator.apply(context).doubleValue();
+		}
+	}
+
+	/**
+	 * [按BigDecimal求值](Evaluate as BigDecimal)
+	 * @description zh - 按BigDecimal求值
+	 * @description en - Evaluate as BigDecimal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:03:10
+	 * @param context 由本表达式创建的上下文
+	 * @return java.math.BigDecimal
+	 */
+	public BigDecimal evaluateDecimal(Context context) {
+		checkContext(context);
+		switch (type.getKind()) {
+			case LONG:
+				return BigDecimal.valueOf(longEvaluator.applyAsLong(context));
+			case DOUBLE:
+				return BigDecimal.valueOf(doubleEvaluator.applyAsDouble(context));
+			default:
+				return decimalEvaluator.apply(context);
+		}
+	}
+
+	/**
+	 * [按int求值](Evaluate as int)
+	 * @description zh - 按int求值，只支持没有变量和函数调用的整数公式，语义与Eval.eval相同
+	 * @description en - Evaluate as int, only integer formulas without variables and function calls are supported, it behaves like Eval.eval
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:51:40
+	 * @return int
+	 */
+	public int evaluate() {
+		IntSupplier evaluator = intEvaluator;
+		if (null == evaluator) {
+			evaluator = root.accept(IntCompiler.INSTANCE);
+			intEvaluator = evaluator;
+		}
+		return evaluator.getAsInt();
+	}
+
+	/**
+	 * [获取按列批量求值器](Get the batch evaluator over columns)
+	 * @description zh - 获取按列批量求值器，第一次调用时编译并缓存在表达式上，之后的调用不再编译
+	 * @description en - Get the batch evaluator over columns, it is compiled on the first call and cached on the expression, later calls do not compile again
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:48:10
+	 * @return com.xiaoTools.core.eval.batchEvaluator.BatchEvaluator
+	 */
+	public BatchEvaluator getBatchEvaluator() {
+		BatchEvaluator evaluator = batchEvaluator;
+		if (null == evaluator) {
+			evaluator = new BatchEvaluator(this);
+			batchEvaluator = evaluator;
+		}
+		return evaluator;
+	}
+
+	/**
+	 * [获取数值类型](Get the numeric type)
+	 * @description zh - 获取数值类型
+	 * @description en - Get the numeric type
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:04:02
+	 * @return com.xiaoTools.core.eval.numericType.NumericType
+	 */
+	public NumericType getType() {
+		return type;
+	}
+
+	/**
+	 * [是否是字节码](Whether it is bytecode)
+	 * @description zh - 求值方法是否是生成的隐藏类，false表示使用求值树
+	 * @description en - Whether the evaluation method is a generated hidden class, false means the evaluation tree is used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:56:40
+	 * @return boolean
+	 */
+	public boolean isBytecode() {
+		return bytecode;
+	}
+
+	/**
+	 * [获取变量名](Get the variable names)
+	 * @description zh - 获取按槽位排列的变量名
+	 * @description en - Get the variable names in slot order
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:04:30
+	 * @return java.lang.String[]
+	 */
+	public String[] getVariables() {
+		return variables.clone();
+	}
+
+	public int getVariableCount() {
+		return variables.length;
+	}
+
+	/**
+	 * [获取变量的槽位](Get the slot of a variable)
+	 * @description zh - 获取变量的槽位，变量不存在时抛出IllegalArgumentException
+	 * @description en - Get the slot of a variable, an IllegalArgumentException is thrown when the variable does not exist
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 23:05:02
+	 * @param name 变量名
+	 * @return int
+	 */
+	public int slotOf(String name) {
+		final Integer slot = slots.get(name);
+		if (null == slot) {
+			throw new IllegalArgumentException("Unknown variable '" + name + "' in formula: " + formula);
+		}
+		return slot;
+	}
+
+	/**
+	 * [获取公式](Get the formula)
+	 * @description zh - 获取公式
+	 * @description en - Get the formula
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:52:02
+	 * @return java.lang.String
+	 */
+	public String getFormula() {
+		return formula;
+	}
+
+	/**
+	 * [获取语法树](Get the syntax tree)
+	 * @description zh - 获取语法树的根节点
+	 * @description en - Get the root node of the syntax tree
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:52:20
+	 * @return com.xiaoTools.core.eval.node.Node
+	 */
+	public Node getRoot() {
+		return root;
+	}
+
+	@Override
+	public String toString() {
+		return formula;
+	}
+
+	private void checkContext(Context context) {
+		if (context.getExpression() != this) {
+			throw new IllegalArgumentException("The context was created by another expression");
+		}
+	}
+
+	private static String[] collectVariables(Node root) {
+		final List<String> names = new ArrayList<>();
+		root.walk(node -> {
+			if (node instanceof Node.Variable) {
+				final Node.Variable variable = (Node.Variable) node;
+				while (names.size() <= variable.getSlot()) {
+					names.add(null);
+				}
+				names.set(variable.getSlot(), variable.getName());
+			}
+		});
+		return names.toArray(new String[0]);
+	}
+
+	/**
+	 * [整数求值树的编译器](Compiler of the integer evaluation tree)
+	 * @description zh - 整数求值树的编译器，常量在编译时解析，运算符在编译时选定对应的闭包
+	 * @description en - Compiler of the integer evaluation tree, literals are parsed and the closure for each operator is chosen at compile time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:53:10
+	 */
+	private enum IntCompiler implements Node.Visitor<IntSupplier> {
+
+		INSTANCE;
+
+		@Override
+		public IntSupplier visitLiteral(Node.Literal node) {
+			final int value = Integer.parseInt(node.getText());
+			return () -> value;
+		}
+
+		@Override
+		public IntSupplier visitNegate(Node.Negate node) {
+			final IntSupplier operand = node.getOperand().accept(this);
+			return () -> -operand.getAsInt();
+		}
+
+		@Override
+		public IntSupplier visitBinary(Node.Binary node) {
+			final IntSupplier left = node.getLeft().accept(this);
+			final IntSupplier right = node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case '+':
+					return () -> left.getAsInt() + right.getAsInt();
+				case '-':
+					return () -> left.getAsInt() - right.getAsInt();
+				case '*':
+					return () -> left.getAsInt() * right.getAsInt();
+				case '/':
+					return () -> left.getAsInt() / right.getAsInt();
+				case '%':
+					return () -> left.getAsInt() % right.getAsInt();
+				default:
+					throw new IllegalArgumentException("Unsupported operator '" + node.getOperator() + "' at " + node.getPosition());
+			}
+		}
+
+		@Override
+		public IntSupplier visitCompare(Node.Compare node) {
+			final IntSupplier left = node.getLeft().accept(this);
+			final IntSupplier right = node.getRight().accept(this);
+			final Node.Relation operator = node.getOperator();
+			return () -> operator.test(Integer.compare(left.getAsInt(), right.getAsInt())) ? 1 : 0;
+		}
+
+		@Override
+		public IntSupplier visitVariable(Node.Variable node) {
+			throw new IllegalStateException("Variable '" + node.getName() + "' needs a Context, use evaluateLong, evaluateDouble or evaluateDecimal");
+		}
+
+		@Override
+		public IntSupplier visitCall(Node.Call node) {
+			throw new IllegalStateException("Function '" + node.getName() + "' needs a Context, use evaluateLong, evaluateDouble or evaluateDecimal");
+		}
+
+	}
+
+}
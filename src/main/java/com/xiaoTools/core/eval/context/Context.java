@@ -0,0 +1,306 @@
+package com.xiaoTools.core.eval.context;
+
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import com.xiaoTools.core.eval.node.Node;
+import com.xiaoTools.core.eval.numericType.NumericType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * [表达式的求值上下文](Evaluation context of an expression)
+ * @description zh - 表达式的求值上下文，按槽位保存变量的值，并为每个调用点保存可重复使用的参数数组。
+ * 由CompiledExpression.newContext()创建，值按表达式的数值类型保存，long和double表达式求值时不产生任何对象。
+ * 上下文不是线程安全的，每个线程使用自己的上下文；按名称赋值需要一次查找，热点代码中应先用slotOf取得槽位再按槽位赋值。未赋值的变量为0
+ * @description en - Evaluation context of an expression, it keeps variable values by slot and a reusable argument array for each call site.
+ * It is created by CompiledExpression.newContext() and keeps values in the numeric type of the expression, so evaluating long and double expressions creates no object.
+ * A context is not thread safe, each thread uses its own; setting by name costs a lookup, hot code should get the slot with slotOf first and set by slot. Variables that are not set are 0
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:40:10
+ */
+public final class Context {
+
+	private final CompiledExpression expression;
+
+	private final NumericType.Kind kind;
+
+	private long[] longs;
+	private double[] doubles;
+	private BigDecimal[] decimals;
+
+	private long[][] longArguments;
+	private double[][] doubleArguments;
+	private BigDecimal[][] decimalArguments;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，按表达式的变量个数和调用点分配存储
+	 * @description en - Construct, storage is allocated for the variables and call sites of the expression
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:41:02
+	 * @param expression 表达式
+	 */
+	public Context(CompiledExpression expression) {
+		this.expression = expression;
+		this.kind = expression.getType().getKind();
+		final int slots = expression.getVariableCount();
+		final int[] argCounts = callSiteArgCounts(expression.getRoot());
+		switch (kind) {
+			case LONG:
+				longs = new long[slots];
+				longArguments = new long[argCounts.length][];
+				for (int i = 0; i < argCounts.length; i++) {
+					longArguments[i] = new long[argCounts[i]];
+				}
+				break;
+			case DOUBLE:
+				doubles = new double[slots];
+				doubleArguments = new double[argCounts.length][];
+				for (int i = 0; i < argCounts.length; i++) {
+					doubleArguments[i] = new double[argCounts[i]];
+				}
+				break;
+			default:
+				decimals = new BigDecimal[slots];
+				Arrays.fill(decimals, BigDecimal.ZERO);
+				decimalArguments = new BigDecimal[argCounts.length][];
+				for (int i = 0; i < argCounts.length; i++) {
+					decimalArguments[i] = new BigDecimal[argCounts[i]];
+				}
+		}
+	}
+
+	/**
+	 * [获取创建它的表达式](Get the expression it was created for)
+	 * @description zh - 获取创建它的表达式
+	 * @description en - Get the expression it was created for
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:41:40
+	 * @return com.xiaoTools.core.eval.compiledExpression.CompiledExpression
+	 */
+	public CompiledExpression getExpression() {
+		return expression;
+	}
+
+	/**
+	 * [按槽位赋值](Set by slot)
+	 * @description zh - 按槽位赋值，long表达式按原值保存，其他类型转换后保存
+	 * @description en - Set by slot, a long expression keeps the value as is, other types convert it
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:42:20
+	 * @param slot 槽位
+	 * @param value 值
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context set(int slot, long value) {
+		switch (kind) {
+			case LONG:
+				longs[slot] = value;
+				break;
+			case DOUBLE:
+				doubles[slot] = value;
+				break;
+			default:
+				decimals[slot] = BigDecimal.valueOf(value);
+		}
+		return this;
+	}
+
+	/**
+	 * [按槽位赋值](Set by slot)
+	 * @description zh - 按槽位赋值，long表达式向零取整后保存
+	 * @description en - Set by slot, a long expression truncates the value towards zero
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:43:02
+	 * @param slot 槽位
+	 * @param value 值
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context set(int slot, double value) {
+		switch (kind) {
+			case LONG:
+				longs[slot] = (long) value;
+				break;
+			case DOUBLE:
+				doubles[slot] = value;
+				break;
+			default:
+				decimals[slot] = BigDecimal.valueOf(value);
+		}
+		return this;
+	}
+
+	/**
+	 * [按槽位赋值](Set by slot)
+	 * @description zh - 按槽位赋值，long表达式向零取整后保存
+	 * @description en - Set by slot, a long expression truncates the value towards zero
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:43:40
+	 * @param slot 槽位
+	 * @param value 值
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context set(int slot, BigDecimal value) {
+		switch (kind) {
+			case LONG:
+				longs[slot] = value.longValue();
+				break;
+			case DOUBLE:
+				doubles[slot] = value.doubleValue();
+				break;
+			default:
+				decimals[slot] = value;
+		}
+		return this;
+	}
+
+	/**
+	 * [按变量名赋值](Set by variable name)
+	 * @description zh - 按变量名赋值，每次调用都要查找槽位
+	 * @description en - Set by variable name, the slot is looked up on every call
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:44:20
+	 * @param name 变量名
+	 * @param value 值
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context set(String name, long value) {
+		return set(expression.slotOf(name), value);
+	}
+
+	/**
+	 * [按变量名赋值](Set by variable name)
+	 * @description zh - 按变量名赋值，每次调用都要查找槽位
+	 * @description en - Set by variable name, the slot is looked up on every call
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:44:50
+	 * @param name 变量名
+	 * @param value 值
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context set(String name, double value) {
+		return set(expression.slotOf(name), value);
+	}
+
+	/**
+	 * [按变量名赋值](Set by variable name)
+	 * @description zh - 按变量名赋值，每次调用都要查找槽位
+	 * @description en - Set by variable name, the slot is looked up on every call
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:45:20
+	 * @param name 变量名
+	 * @param value 值
+	 * @return com.xiaoTools.core.eval.context.Context
+	 */
+	public Context set(String name, BigDecimal value) {
+		return set(expression.slotOf(name), value);
+	}
+
+	/**
+	 * [读取long变量](Read a long variable)
+	 * @description zh - 读取long表达式的变量，供编译后的求值结构使用
+	 * @description en - Read a variable of a long expression, used by compiled evaluators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:46:02
+	 * @param slot 槽位
+	 * @return long
+	 */
+	public long getLong(int slot) {
+		return longs[slot];
+	}
+
+	/**
+	 * [读取double变量](Read a double variable)
+	 * @description zh - 读取double表达式的变量，供编译后的求值结构使用
+	 * @description en - Read a variable of a double expression, used by compiled evaluators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:46:30
+	 * @param slot 槽位
+	 * @return double
+	 */
+	public double getDouble(int slot) {
+		return doubles[slot];
+	}
+
+	/**
+	 * [读取BigDecimal变量](Read a BigDecimal variable)
+	 * @description zh - 读取BigDecimal表达式的变量，供编译后的求值结构使用
+	 * @description en - Read a variable of a BigDecimal expression, used by compiled evaluators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:47:02
+	 * @param slot 槽位
+	 * @return java.math.BigDecimal
+	 */
+	public BigDecimal getDecimal(int slot) {
+		return decimals[slot];
+	}
+
+	/**
+	 * [获取调用点的long参数数组](Get the long argument array of a call site)
+	 * @description zh - 获取调用点的long参数数组，供编译后的求值结构使用
+	 * @description en - Get the long argument array of a call site, used by compiled evaluators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:47:40
+	 * @param site 调用点编号
+	 * @return long[]
+	 */
+	public long[] longArguments(int site) {
+		return longArguments[site];
+	}
+
+	/**
+	 * [获取调用点的double参数数组](Get the double argument array of a call site)
+	 * @description zh - 获取调用点的double参数数组，供编译后的求值结构使用
+	 * @description en - Get the double argument array of a call site, used by compiled evaluators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:48:10
+	 * @param site 调用点编号
+	 * @return double[]
+	 */
+	public double[] doubleArguments(int site) {
+		return doubleArguments[site];
+	}
+
+	/**
+	 * [获取调用点的BigDecimal参数数组](Get the BigDecimal argument array of a call site)
+	 * @description zh - 获取调用点的BigDecimal参数数组，供编译后的求值结构使用
+	 * @description en - Get the BigDecimal argument array of a call site, used by compiled evaluators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:48:40
+	 * @param site 调用点编号
+	 * @return java.math.BigDecimal[]
+	 */
+	public BigDecimal[] decimalArguments(int site) {
+		return decimalArguments[site];
+	}
+
+	private static int[] callSiteArgCounts(Node root) {
+		final int[][] counts = {new int[0]};
+		root.walk(node -> {
+			if (node instanceof Node.Call) {
+				final Node.Call call = (Node.Call) node;
+				if (call.getSite() >= counts[0].length) {
+					counts[0] = Arrays.copyOf(counts[0], call.getSite() + 1);
+				}
+				counts[0][call.getSite()] = call.getArgCount();
+			}
+		});
+		return counts[0];
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.xiaoTools.core.eval.evalFunction;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * [表达式中可以调用的函数](Function callable from an expression)
+ * @description zh - 表达式中可以调用的函数。参数数组由求值上下文为每个调用点预先分配并反复使用，函数不能保存它，也不应修改它。
+ * 只实现applyDouble的函数只能用于double表达式，在long或BigDecimal表达式中调用时抛出UnsupportedOperationException
+ * @description en - Function callable from an expression. The argument array is allocated once per call site by the evaluation context and reused, the function must not keep it and should not modify it.
+ * A function implementing only applyDouble can only be used in double expressions, calling it from a long or BigDecimal expression throws an UnsupportedOperationException
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:15:10
+ */
+@FunctionalInterface
+public interface EvalFunction {
+
+	/**
+	 * [按double调用](Call with doubles)
+	 * @description zh - 按double调用
+	 * @description en - Call with doubles
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:15:40
+	 * @param args 参数
+	 * @return double
+	 */
+	double applyDouble(double[] args);
+
+	/**
+	 * [按long调用](Call with longs)
+	 * @description zh - 按long调用
+	 * @description en - Call with longs
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:16:10
+	 * @param args 参数
+	 * @return long
+	 */
+	default long applyLong(long[] args) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support LONG expressions");
+	}
+
+	/**
+	 * [按BigDecimal调用](Call with BigDecimals)
+	 * @description zh - 按BigDecimal调用
+	 * @description en - Call with BigDecimals
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:16:40
+	 * @param args 参数
+	 * @param mathContext 表达式的精度
+	 * @return java.math.BigDecimal
+	 */
+	default BigDecimal applyDecimal(BigDecimal[] args, MathContext mathContext) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support DECIMAL expressions");
+	}
+
+}
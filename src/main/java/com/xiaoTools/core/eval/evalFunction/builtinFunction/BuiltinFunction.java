@@ -0,0 +1,409 @@
+package com.xiaoTools.core.eval.evalFunction.builtinFunction;
+
+import com.xiaoTools.core.eval.evalFunction.EvalFunction;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * [内置函数](Built-in functions)
+ * @description zh - 内置函数。编译器识别它们并生成专门的求值结构，不经过参数数组：if只计算被选中的分支，min和max直接在参数上折叠。
+ * 每个函数的语义只由本类的静态方法定义，枚举本身和各个编译器都调用它们
+ * @description en - Built-in functions. The compilers recognise them and build dedicated evaluators that skip the argument array: if only evaluates the chosen branch, min and max fold over their arguments directly.
+ * The semantics of every function are defined only by the static methods of this class, both the constants themselves and all compilers call them
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:18:10
+ */
+public enum BuiltinFunction implements EvalFunction {
+
+	/**
+	 * 最小值，至少1个参数
+	 */
+	MIN("min", 1, Integer.MAX_VALUE) {
+		@Override
+		public double applyDouble(double[] args) {
+			double result = args[0];
+			for (int i = 1; i < args.length; i++) {
+				result = min(result, args[i]);
+			}
+			return result;
+		}
+
+		@Override
+		public long applyLong(long[] args) {
+			long result = args[0];
+			for (int i = 1; i < args.length; i++) {
+				result = min(result, args[i]);
+			}
+			return result;
+		}
+
+		@Override
+		public BigDecimal applyDecimal(BigDecimal[] args, MathContext mathContext) {
+			BigDecimal result = args[0];
+			for (int i = 1; i < args.length; i++) {
+				result = min(result, args[i]);
+			}
+			return result;
+		}
+	},
+
+	/**
+	 * 最大值，至少1个参数
+	 */
+	MAX("max", 1, Integer.MAX_VALUE) {
+		@Override
+		public double applyDouble(double[] args) {
+			double result = args[0];
+			for (int i = 1; i < args.length; i++) {
+				result = max(result, args[i]);
+			}
+			return result;
+		}
+
+		@Override
+		public long applyLong(long[] args) {
+			long result = args[0];
+			for (int i = 1; i < args.length; i++) {
+				result = max(result, args[i]);
+			}
+			return result;
+		}
+
+		@Override
+		public BigDecimal applyDecimal(BigDecimal[] args, MathContext mathContext) {
+			BigDecimal result = args[0];
+			for (int i = 1; i < args.length; i++) {
+				result = max(result, args[i]);
+			}
+			return result;
+		}
+	},
+
+	/**
+	 * 绝对值
+	 */
+	ABS("abs", 1, 1) {
+		@Override
+		public double applyDouble(double[] args) {
+			return abs(args[0]);
+		}
+
+		@Override
+		public long applyLong(long[] args) {
+			return abs(args[0]);
+		}
+
+		@Override
+		public BigDecimal applyDecimal(BigDecimal[] args, MathContext mathContext) {
+			return abs(args[0], mathContext);
+		}
+	},
+
+	/**
+	 * 四舍五入，第二个参数为保留的小数位数，默认为0，可以为负数
+	 */
+	ROUND("round", 1, 2) {
+		@Override
+		public double applyDouble(double[] args) {
+			return round(args[0], args.length > 1 ? (int) args[1] : 0);
+		}
+
+		@Override
+		public long applyLong(long[] args) {
+			return round(args[0], args.length > 1 ? (int) args[1] : 0);
+		}
+
+		@Override
+		public BigDecimal applyDecimal(BigDecimal[] args, MathContext mathContext) {
+			return round(args[0], args.length > 1 ? args[1].intValue() : 0, mathContext);
+		}
+	},
+
+	/**
+	 * 条件，第一个参数不为0时取第二个参数，否则取第三个参数
+	 */
+	IF("if", 3, 3) {
+		@Override
+		public double applyDouble(double[] args) {
+			return test(args[0]) ? args[1] : args[2];
+		}
+
+		@Override
+		public long applyLong(long[] args) {
+			return test(args[0]) ? args[1] : args[2];
+		}
+
+		@Override
+		public BigDecimal applyDecimal(BigDecimal[] args, MathContext mathContext) {
+			return test(args[0]) ? args[1] : args[2];
+		}
+	};
+
+	private final String functionName;
+	private final int minArgs;
+	private final int maxArgs;
+
+	BuiltinFunction(String functionName, int minArgs, int maxArgs) {
+		this.functionName = functionName;
+		this.minArgs = minArgs;
+		this.maxArgs = maxArgs;
+	}
+
+	/**
+	 * [获取在表达式中使用的函数名](Get the name used in expressions)
+	 * @description zh - 获取在表达式中使用的函数名
+	 * @description en - Get the name used in expressions
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:19:30
+	 * @return java.lang.String
+	 */
+	public String getFunctionName() {
+		return functionName;
+	}
+
+	public int getMinArgs() {
+		return minArgs;
+	}
+
+	public int getMaxArgs() {
+		return maxArgs;
+	}
+
+	/**
+	 * [条件是否成立](Whether a condition holds)
+	 * @description zh - if的条件，不为0时成立，NaN也算成立
+	 * @description en - Condition of if, holds when it is not 0, NaN holds as well
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:53:10
+	 * @param value 条件
+	 * @return boolean
+	 */
+	public static boolean test(double value) {
+		return value != 0;
+	}
+
+	/**
+	 * [条件是否成立](Whether a condition holds)
+	 * @description zh - if的条件，不为0时成立
+	 * @description en - Condition of if, holds when it is not 0
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:53:20
+	 * @param value 条件
+	 * @return boolean
+	 */
+	public static boolean test(long value) {
+		return value != 0;
+	}
+
+	/**
+	 * [条件是否成立](Whether a condition holds)
+	 * @description zh - if的条件，不为0时成立，与精度无关
+	 * @description en - Condition of if, holds when it is not 0 regardless of scale
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:53:30
+	 * @param value 条件
+	 * @return boolean
+	 */
+	public static boolean test(BigDecimal value) {
+		return value.signum() != 0;
+	}
+
+	/**
+	 * [绝对值](Absolute value)
+	 * @description zh - 绝对值
+	 * @description en - Absolute value
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:53:40
+	 * @param value 值
+	 * @return double
+	 */
+	public static double abs(double value) {
+		return Math.abs(value);
+	}
+
+	/**
+	 * [绝对值](Absolute value)
+	 * @description zh - 绝对值
+	 * @description en - Absolute value
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:53:50
+	 * @param value 值
+	 * @return long
+	 */
+	public static long abs(long value) {
+		return Math.abs(value);
+	}
+
+	/**
+	 * [绝对值](Absolute value)
+	 * @description zh - 绝对值，按表达式的精度舍入
+	 * @description en - Absolute value, rounded to the precision of the expression
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:54:00
+	 * @param value 值
+	 * @param mathContext 精度
+	 * @return java.math.BigDecimal
+	 */
+	public static BigDecimal abs(BigDecimal value, MathContext mathContext) {
+		return value.abs(mathContext);
+	}
+
+	/**
+	 * [较小值](The smaller value)
+	 * @description zh - 较小值，任一为NaN时为NaN
+	 * @description en - The smaller value, NaN if either is NaN
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:54:10
+	 * @param a 第一个值
+	 * @param b 第二个值
+	 * @return double
+	 */
+	public static double min(double a, double b) {
+		return Math.min(a, b);
+	}
+
+	/**
+	 * [较小值](The smaller value)
+	 * @description zh - 较小值
+	 * @description en - The smaller value
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:54:20
+	 * @param a 第一个值
+	 * @param b 第二个值
+	 * @return long
+	 */
+	public static long min(long a, long b) {
+		return Math.min(a, b);
+	}
+
+	/**
+	 * [较小值](The smaller value)
+	 * @description zh - 较小值，相等时取第一个
+	 * @description en - The smaller value, the first one when they are equal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:54:30
+	 * @param a 第一个值
+	 * @param b 第二个值
+	 * @return java.math.BigDecimal
+	 */
+	public static BigDecimal min(BigDecimal a, BigDecimal b) {
+		return a.min(b);
+	}
+
+	/**
+	 * [较大值](The larger value)
+	 * @description zh - 较大值，任一为NaN时为NaN
+	 * @description en - The larger value, NaN if either is NaN
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:54:40
+	 * @param a 第一个值
+	 * @param b 第二个值
+	 * @return double
+	 */
+	public static double max(double a, double b) {
+		return Math.max(a, b);
+	}
+
+	/**
+	 * [较大值](The larger value)
+	 * @description zh - 较大值
+	 * @description en - The larger value
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:54:50
+	 * @param a 第一个值
+	 * @param b 第二个值
+	 * @return long
+	 */
+	public static long max(long a, long b) {
+		return Math.max(a, b);
+	}
+
+	/**
+	 * [较大值](The larger value)
+	 * @description zh - 较大值，相等时取第一个
+	 * @description en - The larger value, the first one when they are equal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:55:00
+	 * @param a 第一个值
+	 * @param b 第二个值
+	 * @return java.math.BigDecimal
+	 */
+	public static BigDecimal max(BigDecimal a, BigDecimal b) {
+		return a.max(b);
+	}
+
+	/**
+	 * [按小数位数四舍五入](Round half up to the given number of decimal places)
+	 * @description zh - 按小数位数四舍五入，正负数对称
+	 * @description en - Round half up to the given number of decimal places, symmetric for negative numbers
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:20:10
+	 * @param value 值
+	 * @param digits 小数位数
+	 * @return double
+	 */
+	public static double round(double value, int digits) {
+		final double scale = Math.pow(10, digits);
+		return Math.copySign(Math.floor(Math.abs(value) * scale + 0.5) / scale, value);
+	}
+
+	/**
+	 * [按小数位数四舍五入](Round half up to the given number of decimal places)
+	 * @description zh - 按小数位数四舍五入，整数只有小数位数为负时才会变化
+	 * @description en - Round half up to the given number of decimal places, an integer only changes when the number of places is negative
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:20:40
+	 * @param value 值
+	 * @param digits 小数位数
+	 * @return long
+	 */
+	public static long round(long value, int digits) {
+		if (digits >= 0) {
+			return value;
+		}
+		if (digits < -18) {
+			return 0;
+		}
+		long unit = 1;
+		for (int i = 0; i < -digits; i++) {
+			unit *= 10;
+		}
+		final long rounded = (Math.abs(value) + unit / 2) / unit * unit;
+		return value < 0 ? -rounded : rounded;
+	}
+
+	/**
+	 * [按小数位数四舍五入](Round half up to the given number of decimal places)
+	 * @description zh - 按小数位数四舍五入，再按表达式的精度舍入
+	 * @description en - Round half up to the given number of decimal places, then round to the precision of the expression
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:21:10
+	 * @param value 值
+	 * @param digits 小数位数
+	 * @param mathContext 精度
+	 * @return java.math.BigDecimal
+	 */
+	public static BigDecimal round(BigDecimal value, int digits, MathContext mathContext) {
+		return value.setScale(digits, RoundingMode.HALF_UP).round(mathContext);
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.xiaoTools.core.eval.functionRegistry;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.core.eval.evalFunction.EvalFunction;
+import com.xiaoTools.core.eval.evalFunction.builtinFunction.BuiltinFunction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [函数注册表](Function registry)
+ * @description zh - 函数注册表，只在编译时按名称查找函数并检查参数个数，求值时不再查找。新建的注册表包含min、max、abs、round、if，注册同名函数会覆盖它们
+ * @description en - Function registry, functions are looked up by name and their argument counts checked only at compile time, never during evaluation. A new registry holds min, max, abs, round and if, registering the same name replaces them
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:25:10
+ */
+public class FunctionRegistry {
+
+	private final Map<String, Entry> functions = new ConcurrentHashMap<>();
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，包含全部内置函数
+	 * @description en - Construct, with all the built-in functions
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:25:40
+	 */
+	public FunctionRegistry() {
+		for (BuiltinFunction function : BuiltinFunction.values()) {
+			register(function.getFunctionName(), function.getMinArgs(), function.getMaxArgs(), function);
+		}
+	}
+
+	/**
+	 * [注册固定参数个数的函数](Register a function with a fixed number of arguments)
+	 * @description zh - 注册固定参数个数的函数
+	 * @description en - Register a function with a fixed number of arguments
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:26:20
+	 * @param name 函数名
+	 * @param arity 参数个数
+	 * @param function 函数
+	 * @return com.xiaoTools.core.eval.functionRegistry.FunctionRegistry
+	 */
+	public FunctionRegistry register(String name, int arity, EvalFunction function) {
+		return register(name, arity, arity, function);
+	}
+
+	/**
+	 * [注册函数](Register a function)
+	 * @description zh - 注册函数，参数个数在minArgs和maxArgs之间
+	 * @description en - Register a function taking between minArgs and maxArgs arguments
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:27:02
+	 * @param name 函数名
+	 * @param minArgs 最少参数个数
+	 * @param maxArgs 最多参数个数
+	 * @param function 函数
+	 * @return com.xiaoTools.core.eval.functionRegistry.FunctionRegistry
+	 */
+	public FunctionRegistry register(String name, int minArgs, int maxArgs, EvalFunction function) {
+		Assertion.isTrue(null != name && isIdentifier(name), "Invalid function name: {}", name);
+		Assertion.isTrue(minArgs >= 0 && minArgs <= maxArgs, "Invalid argument count range [{}, {}]", minArgs, maxArgs);
+		functions.put(name, new Entry(minArgs, maxArgs, Assertion.notNull(function, "function must not be null")));
+		return this;
+	}
+
+	/**
+	 * [按名称和参数个数查找函数](Look up a function by name and argument count)
+	 * @description zh - 按名称和参数个数查找函数，函数不存在或参数个数不符时抛出IllegalArgumentException
+	 * @description en - Look up a function by name and argument count, an IllegalArgumentException is thrown when the function does not exist or the argument count does not fit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:27:50
+	 * @param name 函数名
+	 * @param argCount 参数个数
+	 * @return com.xiaoTools.core.eval.evalFunction.EvalFunction
+	 */
+	public EvalFunction resolve(String name, int argCount) {
+		final Entry entry = functions.get(name);
+		if (null == entry) {
+			throw new IllegalArgumentException("Unknown function '" + name + "'");
+		}
+		if (argCount < entry.minArgs || argCount > entry.maxArgs) {
+			throw new IllegalArgumentException("Function '" + name + "' does not take " + argCount + " arguments");
+		}
+		return entry.function;
+	}
+
+	private static boolean isIdentifier(String name) {
+		if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0)) || name.charAt(0) == '$') {
+			return false;
+		}
+		for (int i = 1; i < name.length(); i++) {
+			if (!Character.isJavaIdentifierPart(name.charAt(i)) || name.charAt(i) == '$') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class Entry {
+		final int minArgs;
+		final int maxArgs;
+		final EvalFunction function;
+
+		Entry(int minArgs, int maxArgs, EvalFunction function) {
+			this.minArgs = minArgs;
+			this.maxArgs = maxArgs;
+			this.function = function;
+		}
+	}
+
+}
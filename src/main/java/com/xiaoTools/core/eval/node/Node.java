@@ -0,0 +1,457 @@
+package com.xiaoTools.core.eval.node;
+
+import com.xiaoTools.core.eval.evalFunction.EvalFunction;
+
+import java.util.function.Consumer;
+
+/**
+ * [表达式语法树的节点](Node of the expression syntax tree)
+ * @description zh - 表达式语法树的节点，解析一次后不可变，可以被多个线程共享。各种求值方式通过Visitor遍历语法树生成自己的求值结构
+ * @description en - Node of the expression syntax tree, immutable once parsed and safe to share between threads. Each evaluation strategy walks the tree through a Visitor to build its own evaluator
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 21:40:10
+ */
+public abstract class Node {
+
+	/**
+	 * 节点在公式中的位置，用于报错
+	 */
+	private final int position;
+
+	protected Node(int position) {
+		this.position = position;
+	}
+
+	/**
+	 * [获取节点在公式中的位置](Get the position of the node in the formula)
+	 * @description zh - 获取节点在公式中的位置
+	 * @description en - Get the position of the node in the formula
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:40:40
+	 * @return int
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * [接受访问者](Accept a visitor)
+	 * @description zh - 接受访问者
+	 * @description en - Accept a visitor
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:41:02
+	 * @param visitor 访问者
+	 * @return R
+	 */
+	public abstract <R> R accept(Visitor<R> visitor);
+
+	/**
+	 * [先序遍历语法树](Walk the syntax tree in pre-order)
+	 * @description zh - 先序遍历以本节点为根的语法树
+	 * @description en - Walk the syntax tree rooted at this node in pre-order
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:36:10
+	 * @param action 对每个节点的操作
+	 */
+	public abstract void walk(Consumer<? super Node> action);
+
+	/**
+	 * [语法树访问者](Syntax tree visitor)
+	 * @description zh - 语法树访问者
+	 * @description en - Syntax tree visitor
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:41:30
+	 */
+	public interface Visitor<R> {
+
+		R visitLiteral(Literal node);
+
+		R visitNegate(Negate node);
+
+		R visitBinary(Binary node);
+
+		R visitCompare(Compare node);
+
+		R visitVariable(Variable node);
+
+		R visitCall(Call node);
+
+	}
+
+	/**
+	 * [数字常量](Number literal)
+	 * @description zh - 数字常量，保留原始文本，由各求值方式按自己的数值类型解析
+	 * @description en - Number literal, the original text is kept and each evaluation strategy parses it into its own numeric type
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:42:10
+	 */
+	public static final class Literal extends Node {
+
+		private final String text;
+
+		public Literal(int position, String text) {
+			super(position);
+			this.text = text;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		@Override
+		public void walk(Consumer<? super Node> action) {
+			action.accept(this);
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) {
+			return visitor.visitLiteral(this);
+		}
+
+		@Override
+		public String toString() {
+			return text;
+		}
+
+	}
+
+	/**
+	 * [取负](Negation)
+	 * @description zh - 取负
+	 * @description en - Negation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:42:50
+	 */
+	public static final class Negate extends Node {
+
+		private final Node operand;
+
+		public Negate(int position, Node operand) {
+			super(position);
+			this.operand = operand;
+		}
+
+		public Node getOperand() {
+			return operand;
+		}
+
+		@Override
+		public void walk(Consumer<? super Node> action) {
+			action.accept(this);
+			operand.walk(action);
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) {
+			return visitor.visitNegate(this);
+		}
+
+		@Override
+		public String toString() {
+			return "(-" + operand + ")";
+		}
+
+	}
+
+	/**
+	 * [二元运算](Binary operation)
+	 * @description zh - 二元运算，运算符为+、-、*、/、%之一
+	 * @description en - Binary operation, the operator is one of +, -, *, / and %
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:43:30
+	 */
+	public static final class Binary extends Node {
+
+		private final char operator;
+		private final Node left;
+		private final Node right;
+
+		public Binary(int position, char operator, Node left, Node right) {
+			super(position);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public char getOperator() {
+			return operator;
+		}
+
+		public Node getLeft() {
+			return left;
+		}
+
+		public Node getRight() {
+			return right;
+		}
+
+		@Override
+		public void walk(Consumer<? super Node> action) {
+			action.accept(this);
+			left.walk(action);
+			right.walk(action);
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) {
+			return visitor.visitBinary(this);
+		}
+
+		@Override
+		public String toString() {
+			return "(" + left + " " + operator + " " + right + ")";
+		}
+
+	}
+
+	/**
+	 * [比较运算](Comparison)
+	 * @description zh - 比较运算，成立时结果为1，否则为0。运算符在解析时已确定为枚举，各求值方式在编译时按它选定对应的求值结构
+	 * @description en - Comparison, the result is 1 when it holds and 0 otherwise. The operator is resolved to an enum while parsing and each evaluation strategy picks its evaluator by it at compile time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:33:10
+	 */
+	public static final class Compare extends Node {
+
+		private final Relation operator;
+		private final Node left;
+		private final Node right;
+
+		public Compare(int position, Relation operator, Node left, Node right) {
+			super(position);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public Relation getOperator() {
+			return operator;
+		}
+
+		public Node getLeft() {
+			return left;
+		}
+
+		public Node getRight() {
+			return right;
+		}
+
+		@Override
+		public void walk(Consumer<? super Node> action) {
+			action.accept(this);
+			left.walk(action);
+			right.walk(action);
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) {
+			return visitor.visitCompare(this);
+		}
+
+		@Override
+		public String toString() {
+			return "(" + left + " " + operator.getSymbol() + " " + right + ")";
+		}
+
+	}
+
+	/**
+	 * [比较运算符](Comparison operator)
+	 * @description zh - 比较运算符，每个运算符自带对compareTo风格比较结果的判断，求值时不需要再分支选择
+	 * @description en - Comparison operator, each one carries its own test of a compareTo style result so no branch is needed during evaluation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:46:30
+	 */
+	public enum Relation {
+
+		LT("<") {
+			@Override
+			public boolean test(int compare) {
+				return compare < 0;
+			}
+		},
+
+		LE("<=") {
+			@Override
+			public boolean test(int compare) {
+				return compare <= 0;
+			}
+		},
+
+		GT(">") {
+			@Override
+			public boolean test(int compare) {
+				return compare > 0;
+			}
+		},
+
+		GE(">=") {
+			@Override
+			public boolean test(int compare) {
+				return compare >= 0;
+			}
+		},
+
+		EQ("==") {
+			@Override
+			public boolean test(int compare) {
+				return compare == 0;
+			}
+		},
+
+		NE("!=") {
+			@Override
+			public boolean test(int compare) {
+				return compare != 0;
+			}
+		};
+
+		private final String symbol;
+
+		Relation(String symbol) {
+			this.symbol = symbol;
+		}
+
+		public String getSymbol() {
+			return symbol;
+		}
+
+		/**
+		 * [根据比较结果判断是否成立](Whether the comparison holds for a compare result)
+		 * @description zh - 根据compareTo风格的比较结果判断是否成立
+		 * @description en - Whether the comparison holds for a compareTo style result
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 22:33:40
+		 * @param compare 比较结果
+		 * @return boolean
+		 */
+		public abstract boolean test(int compare);
+
+	}
+
+	/**
+	 * [变量](Variable)
+	 * @description zh - 变量，解析时已分配槽位，求值时按槽位从上下文中读取
+	 * @description en - Variable, its slot is assigned while parsing and its value is read from the context by slot during evaluation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:34:20
+	 */
+	public static final class Variable extends Node {
+
+		private final String name;
+		private final int slot;
+
+		public Variable(int position, String name, int slot) {
+			super(position);
+			this.name = name;
+			this.slot = slot;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getSlot() {
+			return slot;
+		}
+
+		@Override
+		public void walk(Consumer<? super Node> action) {
+			action.accept(this);
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) {
+			return visitor.visitVariable(this);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+
+	}
+
+	/**
+	 * [函数调用](Function call)
+	 * @description zh - 函数调用，解析时已找到函数。每个调用点有一个编号，求值上下文按编号为它准备参数数组
+	 * @description en - Function call, the function is found while parsing. Each call site has a number by which the evaluation context keeps its argument array
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:35:02
+	 */
+	public static final class Call extends Node {
+
+		private final String name;
+		private final EvalFunction function;
+		private final int site;
+		private final Node[] args;
+
+		public Call(int position, String name, EvalFunction function, int site, Node[] args) {
+			super(position);
+			this.name = name;
+			this.function = function;
+			this.site = site;
+			this.args = args.clone();
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public EvalFunction getFunction() {
+			return function;
+		}
+
+		public int getSite() {
+			return site;
+		}
+
+		public int getArgCount() {
+			return args.length;
+		}
+
+		public Node getArg(int index) {
+			return args[index];
+		}
+
+		@Override
+		public void walk(Consumer<? super Node> action) {
+			action.accept(this);
+			for (Node arg : args) {
+				arg.walk(action);
+			}
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) {
+			return visitor.visitCall(this);
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder(name).append('(');
+			for (int i = 0; i < args.length; i++) {
+				if (i > 0) {
+					builder.append(", ");
+				}
+				builder.append(args[i]);
+			}
+			return builder.append(')').toString();
+		}
+
+	}
+
+}
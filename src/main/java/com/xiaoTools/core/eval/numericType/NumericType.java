@@ -0,0 +1,89 @@
+package com.xiaoTools.core.eval.numericType;
+
+import com.xiaoTools.assertion.Assertion;
+
+import java.math.MathContext;
+
+/**
+ * [表达式的数值类型](Numeric type of an expression)
+ * @description zh - 表达式的数值类型，编译时选定，决定常量、变量和运算使用long、double还是BigDecimal。BigDecimal的每一步运算都按给定的MathContext舍入
+ * @description en - Numeric type of an expression, chosen at compile time, it decides whether literals, variables and arithmetic use long, double or BigDecimal. Every BigDecimal operation is rounded with the given MathContext
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:10:10
+ */
+public final class NumericType {
+
+	/**
+	 * [数值类型的种类](Kind of numeric type)
+	 * @description zh - 数值类型的种类
+	 * @description en - Kind of numeric type
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:10:40
+	 */
+	public enum Kind {
+		LONG, DOUBLE, DECIMAL
+	}
+
+	/**
+	 * long，除法向零取整，溢出时回绕，不允许带小数点的常量
+	 */
+	public static final NumericType LONG = new NumericType(Kind.LONG, null);
+
+	/**
+	 * double，按IEEE 754运算
+	 */
+	public static final NumericType DOUBLE = new NumericType(Kind.DOUBLE, null);
+
+	/**
+	 * BigDecimal，按MathContext.DECIMAL128舍入
+	 */
+	public static final NumericType DECIMAL = new NumericType(Kind.DECIMAL, MathContext.DECIMAL128);
+
+	private final Kind kind;
+
+	private final MathContext mathContext;
+
+	private NumericType(Kind kind, MathContext mathContext) {
+		this.kind = kind;
+		this.mathContext = mathContext;
+	}
+
+	/**
+	 * [按给定精度使用BigDecimal](BigDecimal with the given precision)
+	 * @description zh - 按给定精度使用BigDecimal。使用MathContext.UNLIMITED时，除不尽的除法会抛出ArithmeticException
+	 * @description en - BigDecimal with the given precision. With MathContext.UNLIMITED a division that does not terminate throws an ArithmeticException
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:11:30
+	 * @param mathContext 精度和舍入方式
+	 * @return com.xiaoTools.core.eval.numericType.NumericType
+	 */
+	public static NumericType decimal(MathContext mathContext) {
+		return new NumericType(Kind.DECIMAL, Assertion.notNull(mathContext, "mathContext must not be null"));
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * [获取BigDecimal的精度](Get the BigDecimal precision)
+	 * @description zh - 获取BigDecimal的精度，long和double时为null
+	 * @description en - Get the BigDecimal precision, null for long and double
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:12:02
+	 * @return java.math.MathContext
+	 */
+	public MathContext getMathContext() {
+		return mathContext;
+	}
+
+	@Override
+	public String toString() {
+		return null == mathContext ? kind.name() : kind.name() + "(" + mathContext + ")";
+	}
+
+}
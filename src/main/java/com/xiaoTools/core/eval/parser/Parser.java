@@ -0,0 +1,294 @@
+package com.xiaoTools.core.eval.parser;
+
+import com.xiaoTools.core.eval.functionRegistry.FunctionRegistry;
+import com.xiaoTools.core.eval.node.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [表达式解析器](Expression parser)
+ * @description zh - 表达式解析器，递归下降地把公式解析为语法树。优先级从低到高为比较运算、+和-、*、/和%，同级运算从左到右结合，支持括号、一元正负号、小数、变量和函数调用，忽略空白。
+ * 变量在解析时就分配好槽位，函数在解析时就查找并检查参数个数，语法树中不再有需要按名称查找的东西
+ * @description en - Expression parser, parses a formula into a syntax tree by recursive descent. From lowest to highest precedence: comparisons, + and -, then *, / and %, operators of the same level are left associative; parentheses, unary signs, decimals, variables and function calls are supported and whitespace is ignored.
+ * Variables get their slots and functions are looked up and their argument counts checked while parsing, so nothing in the syntax tree needs a lookup by name
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 21:45:10
+ */
+public class Parser {
+
+	/**
+	 * 只包含内置函数的注册表，不对外暴露，不会被修改
+	 */
+	private static final FunctionRegistry BUILTINS = new FunctionRegistry();
+
+	private final String formula;
+
+	private final FunctionRegistry functions;
+
+	/**
+	 * 变量名到槽位的映射，按槽位顺序排列
+	 */
+	private final Map<String, Integer> slots = new LinkedHashMap<>();
+
+	/**
+	 * 是否只允许预先声明的变量
+	 */
+	private final boolean declared;
+
+	/**
+	 * 已分配的调用点个数
+	 */
+	private int callSites;
+
+	/**
+	 * 当前读取位置
+	 */
+	private int pos;
+
+	private Parser(String formula, FunctionRegistry functions, String[] variables) {
+		this.formula = formula;
+		this.functions = functions;
+		this.declared = null != variables;
+		if (declared) {
+			for (String variable : variables) {
+				if (null != slots.putIfAbsent(variable, slots.size())) {
+					throw new IllegalArgumentException("Duplicate variable '" + variable + "'");
+				}
+			}
+		}
+	}
+
+	/**
+	 * [解析公式](Parse a formula)
+	 * @description zh - 解析公式，只能调用内置函数，变量按第一次出现的顺序分配槽位。格式错误时抛出IllegalArgumentException并指明位置
+	 * @description en - Parse a formula, only the built-in functions can be called and variables get slots in order of first appearance. An IllegalArgumentException naming the position is thrown when it is malformed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:46:02
+	 * @param formula 公式
+	 * @return com.xiaoTools.core.eval.node.Node
+	 */
+	public static Node parse(String formula) {
+		return parse(formula, BUILTINS, null);
+	}
+
+	/**
+	 * [解析公式](Parse a formula)
+	 * @description zh - 解析公式。给出变量名时变量的槽位就是它在数组中的位置，公式中出现未声明的变量视为错误；不给出时按第一次出现的顺序分配槽位
+	 * @description en - Parse a formula. When variable names are given the slot of a variable is its index in the array and an undeclared variable in the formula is an error; otherwise slots are assigned in order of first appearance
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:30:10
+	 * @param formula 公式
+	 * @param functions 函数注册表
+	 * @param variables 变量名，可以为null
+	 * @return com.xiaoTools.core.eval.node.Node
+	 */
+	public static Node parse(String formula, FunctionRegistry functions, String[] variables) {
+		if (null == formula) {
+			throw new IllegalArgumentException("formula must not be null");
+		}
+		final Parser parser = new Parser(formula, null == functions ? BUILTINS : functions, null == variables ? null : Arrays.copyOf(variables, variables.length));
+		final Node root = parser.comparison();
+		parser.skipWhitespace();
+		if (parser.pos < formula.length()) {
+			throw parser.error("Unexpected character '" + formula.charAt(parser.pos) + "'");
+		}
+		return root;
+	}
+
+	private Node comparison() {
+		Node left = expression();
+		while (true) {
+			final int position = peekPosition();
+			final Node.Relation operator = comparisonOperator();
+			if (null == operator) {
+				return left;
+			}
+			left = new Node.Compare(position, operator, left, expression());
+		}
+	}
+
+	/**
+	 * [读取比较运算符](Read a comparison operator)
+	 * @description zh - 读取比较运算符，不是比较运算符时不移动位置并返回null
+	 * @description en - Read a comparison operator, the position is unchanged and null is returned when there is none
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:31:20
+	 * @return com.xiaoTools.core.eval.node.Node.Relation
+	 */
+	private Node.Relation comparisonOperator() {
+		final char c = peek();
+		final char next = pos + 1 < formula.length() ? formula.charAt(pos + 1) : 0;
+		if (c == '<' || c == '>') {
+			if (next == '=') {
+				pos += 2;
+				return c == '<' ? Node.Relation.LE : Node.Relation.GE;
+			}
+			pos++;
+			return c == '<' ? Node.Relation.LT : Node.Relation.GT;
+		}
+		if ((c == '=' || c == '!') && next == '=') {
+			pos += 2;
+			return c == '=' ? Node.Relation.EQ : Node.Relation.NE;
+		}
+		return null;
+	}
+
+	private Node expression() {
+		Node left = term();
+		while (true) {
+			final char c = peek();
+			if (c != '+' && c != '-') {
+				return left;
+			}
+			final int position = pos++;
+			left = new Node.Binary(position, c, left, term());
+		}
+	}
+
+	private Node term() {
+		Node left = unary();
+		while (true) {
+			final char c = peek();
+			if (c != '*' && c != '/' && c != '%') {
+				return left;
+			}
+			final int position = pos++;
+			left = new Node.Binary(position, c, left, unary());
+		}
+	}
+
+	private Node unary() {
+		final char c = peek();
+		if (c == '-') {
+			final int position = pos++;
+			return new Node.Negate(position, unary());
+		}
+		if (c == '+') {
+			pos++;
+			return unary();
+		}
+		return primary();
+	}
+
+	private Node primary() {
+		final char c = peek();
+		if (c == '(') {
+			pos++;
+			final Node inner = comparison();
+			expect(')');
+			return inner;
+		}
+		if (isDigit(c) || c == '.') {
+			return number();
+		}
+		if (Character.isJavaIdentifierStart(c) && c != '$') {
+			return identifier();
+		}
+		throw pos < formula.length() ? error("Unexpected character '" + c + "'") : error("Unexpected end of formula");
+	}
+
+	private Node number() {
+		final int start = pos;
+		while (pos < formula.length() && isDigit(formula.charAt(pos))) {
+			pos++;
+		}
+		if (pos < formula.length() && formula.charAt(pos) == '.') {
+			pos++;
+			final int fraction = pos;
+			while (pos < formula.length() && isDigit(formula.charAt(pos))) {
+				pos++;
+			}
+			if (pos == fraction) {
+				throw error("Missing digits after '.'");
+			}
+		}
+		return new Node.Literal(start, formula.substring(start, pos));
+	}
+
+	private Node identifier() {
+		final int start = pos;
+		while (pos < formula.length() && Character.isJavaIdentifierPart(formula.charAt(pos)) && formula.charAt(pos) != '$') {
+			pos++;
+		}
+		final String name = formula.substring(start, pos);
+		if (peek() != '(') {
+			return new Node.Variable(start, name, slotOf(name, start));
+		}
+		pos++;
+		final List<Node> args = new ArrayList<>();
+		if (peek() != ')') {
+			args.add(comparison());
+			while (peek() == ',') {
+				pos++;
+				args.add(comparison());
+			}
+		}
+		expect(')');
+		try {
+			return new Node.Call(start, name, functions.resolve(name, args.size()), callSites++, args.toArray(new Node[0]));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + " at " + start + " in formula: " + formula, e);
+		}
+	}
+
+	private int slotOf(String name, int position) {
+		final Integer slot = slots.get(name);
+		if (null != slot) {
+			return slot;
+		}
+		if (declared) {
+			throw new IllegalArgumentException("Undeclared variable '" + name + "' at " + position + " in formula: " + formula);
+		}
+		slots.put(name, slots.size());
+		return slots.size() - 1;
+	}
+
+	private void expect(char c) {
+		if (peek() != c) {
+			throw error("Missing '" + c + "'");
+		}
+		pos++;
+	}
+
+	/**
+	 * [跳过空白后查看当前字符](Peek at the current character after skipping whitespace)
+	 * @description zh - 跳过空白后查看当前字符，到达末尾时返回0
+	 * @description en - Peek at the current character after skipping whitespace, 0 is returned at the end
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:47:20
+	 * @return char
+	 */
+	private char peek() {
+		skipWhitespace();
+		return pos < formula.length() ? formula.charAt(pos) : 0;
+	}
+
+	private int peekPosition() {
+		skipWhitespace();
+		return pos;
+	}
+
+	private void skipWhitespace() {
+		while (pos < formula.length() && Character.isWhitespace(formula.charAt(pos))) {
+			pos++;
+		}
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(message + " at " + pos + " in formula: " + formula);
+	}
+
+}
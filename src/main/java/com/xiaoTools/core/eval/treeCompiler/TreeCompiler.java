@@ -0,0 +1,453 @@
+package com.xiaoTools.core.eval.treeCompiler;
+
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.evalFunction.EvalFunction;
+import com.xiaoTools.core.eval.evalFunction.builtinFunction.BuiltinFunction;
+import com.xiaoTools.core.eval.node.Node;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * [求值树编译器](Evaluation tree compiler)
+ * @description zh - 求值树编译器，把语法树转换为由闭包组成的求值树。常量在编译时解析，运算符和内置函数在编译时选定对应的闭包，
+ * 变量按槽位读取，求值时不查找、不解析，long和double求值不产生任何对象
+ * @description en - Evaluation tree compiler, turns a syntax tree into a tree of closures. Literals are parsed and the closure for each operator and built-in function is chosen at compile time,
+ * variables are read by slot, so evaluation does no lookup or parsing and long and double evaluation creates no object
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 22:50:10
+ */
+public final class TreeCompiler {
+
+	private TreeCompiler() { }
+
+	/**
+	 * [编译为long求值树](Compile into a long evaluation tree)
+	 * @description zh - 编译为long求值树，除法向零取整，溢出时回绕，带小数点的常量视为错误
+	 * @description en - Compile into a long evaluation tree, division truncates towards zero, overflow wraps around and a literal with a decimal point is an error
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:51:02
+	 * @param root 语法树的根节点
+	 * @return java.util.function.ToLongFunction<com.xiaoTools.core.eval.context.Context>
+	 */
+	public static ToLongFunction<Context> compileLong(Node root) {
+		return root.accept(LongCompiler.INSTANCE);
+	}
+
+	/**
+	 * [编译为double求值树](Compile into a double evaluation tree)
+	 * @description zh - 编译为double求值树
+	 * @description en - Compile into a double evaluation tree
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:51:40
+	 * @param root 语法树的根节点
+	 * @return java.util.function.ToDoubleFunction<com.xiaoTools.core.eval.context.Context>
+	 */
+	public static ToDoubleFunction<Context> compileDouble(Node root) {
+		return root.accept(DoubleCompiler.INSTANCE);
+	}
+
+	/**
+	 * [编译为BigDecimal求值树](Compile into a BigDecimal evaluation tree)
+	 * @description zh - 编译为BigDecimal求值树，每一步运算都按给定精度舍入
+	 * @description en - Compile into a BigDecimal evaluation tree, every operation is rounded to the given precision
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:52:10
+	 * @param root 语法树的根节点
+	 * @param mathContext 精度
+	 * @return java.util.function.Function<com.xiaoTools.core.eval.context.Context, java.math.BigDecimal>
+	 */
+	public static Function<Context, BigDecimal> compileDecimal(Node root, MathContext mathContext) {
+		return root.accept(new DecimalCompiler(mathContext));
+	}
+
+	private static IllegalArgumentException unsupported(Node node, String what) {
+		return new IllegalArgumentException("Unsupported " + what + " at " + node.getPosition());
+	}
+
+	/**
+	 * [long求值树编译器](Long evaluation tree compiler)
+	 * @description zh - long求值树编译器
+	 * @description en - Long evaluation tree compiler
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:53:02
+	 */
+	private enum LongCompiler implements Node.Visitor<ToLongFunction<Context>> {
+
+		INSTANCE;
+
+		@Override
+		public ToLongFunction<Context> visitLiteral(Node.Literal node) {
+			if (node.getText().indexOf('.') >= 0) {
+				throw new IllegalArgumentException("Decimal literal " + node.getText() + " is not allowed in a LONG expression at " + node.getPosition());
+			}
+			final long value = Long.parseLong(node.getText());
+			return context -> value;
+		}
+
+		@Override
+		public ToLongFunction<Context> visitNegate(Node.Negate node) {
+			final ToLongFunction<Context> operand = node.getOperand().accept(this);
+			return context -> -operand.applyAsLong(context);
+		}
+
+		@Override
+		public ToLongFunction<Context> visitBinary(Node.Binary node) {
+			final ToLongFunction<Context> left = node.getLeft().accept(this);
+			final ToLongFunction<Context> right = node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case '+':
+					return context -> left.applyAsLong(context) + right.applyAsLong(context);
+				case '-':
+					return context -> left.applyAsLong(context) - right.applyAsLong(context);
+				case '*':
+					return context -> left.applyAsLong(context) * right.applyAsLong(context);
+				case '/':
+					return context -> left.applyAsLong(context) / right.applyAsLong(context);
+				case '%':
+					return context -> left.applyAsLong(context) % right.applyAsLong(context);
+				default:
+					throw unsupported(node, "operator '" + node.getOperator() + "'");
+			}
+		}
+
+		@Override
+		public ToLongFunction<Context> visitCompare(Node.Compare node) {
+			final ToLongFunction<Context> left = node.getLeft().accept(this);
+			final ToLongFunction<Context> right = node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case LT:
+					return context -> left.applyAsLong(context) < right.applyAsLong(context) ? 1 : 0;
+				case LE:
+					return context -> left.applyAsLong(context) <= right.applyAsLong(context) ? 1 : 0;
+				case GT:
+					return context -> left.applyAsLong(context) > right.applyAsLong(context) ? 1 : 0;
+				case GE:
+					return context -> left.applyAsLong(context) >= right.applyAsLong(context) ? 1 : 0;
+				case EQ:
+					return context -> left.applyAsLong(context) == right.applyAsLong(context) ? 1 : 0;
+				case NE:
+					return context -> left.applyAsLong(context) != right.applyAsLong(context) ? 1 : 0;
+				default:
+					throw unsupported(node, "operator '" + node.getOperator().getSymbol() + "'");
+			}
+		}
+
+		@Override
+		public ToLongFunction<Context> visitVariable(Node.Variable node) {
+			final int slot = node.getSlot();
+			return context -> context.getLong(slot);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ToLongFunction<Context> visitCall(Node.Call node) {
+			final ToLongFunction<Context>[] args = (ToLongFunction<Context>[]) new ToLongFunction<?>[node.getArgCount()];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = node.getArg(i).accept(this);
+			}
+			final EvalFunction function = node.getFunction();
+			if (function instanceof BuiltinFunction) {
+				switch ((BuiltinFunction) function) {
+					case IF:
+						return context -> BuiltinFunction.test(args[0].applyAsLong(context)) ? args[1].applyAsLong(context) : args[2].applyAsLong(context);
+					case ABS:
+						return context -> BuiltinFunction.abs(args[0].applyAsLong(context));
+					case ROUND:
+						if (args.length == 1) {
+							return args[0];
+						}
+						return context -> BuiltinFunction.round(args[0].applyAsLong(context), (int) args[1].applyAsLong(context));
+					case MIN:
+						return context -> {
+							long result = args[0].applyAsLong(context);
+							for (int i = 1; i < args.length; i++) {
+								result = BuiltinFunction.min(result, args[i].applyAsLong(context));
+							}
+							return result;
+						};
+					case MAX:
+						return context -> {
+							long result = args[0].applyAsLong(context);
+							for (int i = 1; i < args.length; i++) {
+								result = BuiltinFunction.max(result, args[i].applyAsLong(context));
+							}
+							return result;
+						};
+					default:
+						break;
+				}
+			}
+			final int site = node.getSite();
+			return context -> {
+				final long[] values = context.longArguments(site);
+				for (int i = 0; i < args.length; i++) {
+					values[i] = args[i].applyAsLong(context);
+				}
+				return function.applyLong(values);
+			};
+		}
+
+	}
+
+	/**
+	 * [double求值树编译器](Double evaluation tree compiler)
+	 * @description zh - double求值树编译器
+	 * @description en - Double evaluation tree compiler
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:55:10
+	 */
+	private enum DoubleCompiler implements Node.Visitor<ToDoubleFunction<Context>> {
+
+		INSTANCE;
+
+		@Override
+		public ToDoubleFunction<Context> visitLiteral(Node.Literal node) {
+			final double value = Double.parseDouble(node.getText());
+			return context -> value;
+		}
+
+		@Override
+		public ToDoubleFunction<Context> visitNegate(Node.Negate node) {
+			final ToDoubleFunction<Context> operand = node.getOperand().accept(this);
+			return context -> -operand.applyAsDouble(context);
+		}
+
+		@Override
+		public ToDoubleFunction<Context> visitBinary(Node.Binary node) {
+			final ToDoubleFunction<Context> left = node.getLeft().accept(this);
+			final ToDoubleFunction<Context> right = node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case '+':
+					return context -> left.applyAsDouble(context) + right.applyAsDouble(context);
+				case '-':
+					return context -> left.applyAsDouble(context) - right.applyAsDouble(context);
+				case '*':
+					return context -> left.applyAsDouble(context) * right.applyAsDouble(context);
+				case '/':
+					return context -> left.applyAsDouble(context) / right.applyAsDouble(context);
+				case '%':
+					return context -> left.applyAsDouble(context) % right.applyAsDouble(context);
+				default:
+					throw unsupported(node, "operator '" + node.getOperator() + "'");
+			}
+		}
+
+		@Override
+		public ToDoubleFunction<Context> visitCompare(Node.Compare node) {
+			final ToDoubleFunction<Context> left = node.getLeft().accept(this);
+			final ToDoubleFunction<Context> right = node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case LT:
+					return context -> left.applyAsDouble(context) < right.applyAsDouble(context) ? 1 : 0;
+				case LE:
+					return context -> left.applyAsDouble(context) <= right.applyAsDouble(context) ? 1 : 0;
+				case GT:
+					return context -> left.applyAsDouble(context) > right.applyAsDouble(context) ? 1 : 0;
+				case GE:
+					return context -> left.applyAsDouble(context) >= right.applyAsDouble(context) ? 1 : 0;
+				case EQ:
+					return context -> left.applyAsDouble(context) == right.applyAsDouble(context) ? 1 : 0;
+				case NE:
+					return context -> left.applyAsDouble(context) != right.applyAsDouble(context) ? 1 : 0;
+				default:
+					throw unsupported(node, "operator '" + node.getOperator().getSymbol() + "'");
+			}
+		}
+
+		@Override
+		public ToDoubleFunction<Context> visitVariable(Node.Variable node) {
+			final int slot = node.getSlot();
+			return context -> context.getDouble(slot);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ToDoubleFunction<Context> visitCall(Node.Call node) {
+			final ToDoubleFunction<Context>[] args = (ToDoubleFunction<Context>[]) new ToDoubleFunction<?>[node.getArgCount()];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = node.getArg(i).accept(this);
+			}
+			final EvalFunction function = node.getFunction();
+			if (function instanceof BuiltinFunction) {
+				switch ((BuiltinFunction) function) {
+					case IF:
+						return context -> BuiltinFunction.test(args[0].applyAsDouble(context)) ? args[1].applyAsDouble(context) : args[2].applyAsDouble(context);
+					case ABS:
+						return context -> BuiltinFunction.abs(args[0].applyAsDouble(context));
+					case ROUND:
+						if (args.length == 1) {
+							return context -> BuiltinFunction.round(args[0].applyAsDouble(context), 0);
+						}
+						return context -> BuiltinFunction.round(args[0].applyAsDouble(context), (int) args[1].applyAsDouble(context));
+					case MIN:
+						return context -> {
+							double result = args[0].applyAsDouble(context);
+							for (int i = 1; i < args.length; i++) {
+								result = BuiltinFunction.min(result, args[i].applyAsDouble(context));
+							}
+							return result;
+						};
+					case MAX:
+						return context -> {
+							double result = args[0].applyAsDouble(context);
+							for (int i = 1; i < args.length; i++) {
+								result = BuiltinFunction.max(result, args[i].applyAsDouble(context));
+							}
+							return result;
+						};
+					default:
+						break;
+				}
+			}
+			final int site = node.getSite();
+			return context -> {
+				final double[] values = context.doubleArguments(site);
+				for (int i = 0; i < args.length; i++) {
+					values[i] = args[i].applyAsDouble(context);
+				}
+				return function.applyDouble(values);
+			};
+		}
+
+	}
+
+	/**
+	 * [BigDecimal求值树编译器](BigDecimal evaluation tree compiler)
+	 * @description zh - BigDecimal求值树编译器
+	 * @description en - BigDecimal evaluation tree compiler
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 22:57:10
+	 */
+	private static final class DecimalCompiler implements Node.Visitor<Function<Context, BigDecimal>> {
+
+		private final MathContext mathContext;
+
+		DecimalCompiler(MathContext mathContext) {
+			this.mathContext = mathContext;
+		}
+
+		@Override
+		public Function<Context, BigDecimal> visitLiteral(Node.Literal node) {
+			final BigDecimal value = new BigDecimal(node.getText()).round(mathContext);
+			return context -> value;
+		}
+
+		@Override
+		public Function<Context, BigDecimal> visitNegate(Node.Negate node) {
+			final Function<Context, BigDecimal> operand = node.getOperand().accept(this);
+			return context -> operand.apply(context).negate(mathContext);
+		}
+
+		@Override
+		public Function<Context, BigDecimal> visitBinary(Node.Binary node) {
+			final Function<Context, BigDecimal> left = node.getLeft().accept(this);
+			final Function<Context, BigDecimal> right = node.getRight().accept(this);
+			final MathContext mc = mathContext;
+			switch (node.getOperator()) {
+				case '+':
+					return context -> left.apply(context).add(right.apply(context), mc);
+				case '-':
+					return context -> left.apply(context).subtract(right.apply(context), mc);
+				case '*':
+					return context -> left.apply(context).multiply(right.apply(context), mc);
+				case '/':
+					return context -> left.apply(context).divide(right.apply(context), mc);
+				case '%':
+					return context -> left.apply(context).remainder(right.apply(context), mc);
+				default:
+					throw unsupported(node, "operator '" + node.getOperator() + "'");
+			}
+		}
+
+		@Override
+		public Function<Context, BigDecimal> visitCompare(Node.Compare node) {
+			final Function<Context, BigDecimal> left = node.getLeft().accept(this);
+			final Function<Context, BigDecimal> right = node.getRight().accept(this);
+			switch (node.getOperator()) {
+				case LT:
+					return context -> left.apply(context).compareTo(right.apply(context)) < 0 ? BigDecimal.ONE : BigDecimal.ZERO;
+				case LE:
+					return context -> left.apply(context).compareTo(right.apply(context)) <= 0 ? BigDecimal.ONE : BigDecimal.ZERO;
+				case GT:
+					return context -> left.apply(context).compareTo(right.apply(context)) > 0 ? BigDecimal.ONE : BigDecimal.ZERO;
+				case GE:
+					return context -> left.apply(context).compareTo(right.apply(context)) >= 0 ? BigDecimal.ONE : BigDecimal.ZERO;
+				case EQ:
+					return context -> left.apply(context).compareTo(right.apply(context)) == 0 ? BigDecimal.ONE : BigDecimal.ZERO;
+				case NE:
+					return context -> left.apply(context).compareTo(right.apply(context)) != 0 ? BigDecimal.ONE : BigDecimal.ZERO;
+				default:
+					throw unsupported(node, "operator '" + node.getOperator().getSymbol() + "'");
+			}
+		}
+
+		@Override
+		public Function<Context, BigDecimal> visitVariable(Node.Variable node) {
+			final int slot = node.getSlot();
+			return context -> context.getDecimal(slot);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Function<Context, BigDecimal> visitCall(Node.Call node) {
+			final Function<Context, BigDecimal>[] args = (Function<Context, BigDecimal>[]) new Function<?, ?>[node.getArgCount()];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = node.getArg(i).accept(this);
+			}
+			final EvalFunction function = node.getFunction();
+			final MathContext mc = mathContext;
+			if (function instanceof BuiltinFunction) {
+				switch ((BuiltinFunction) function) {
+					case IF:
+						return context -> BuiltinFunction.test(args[0].apply(context)) ? args[1].apply(context) : args[2].apply(context);
+					case ABS:
+						return context -> BuiltinFunction.abs(args[0].apply(context), mc);
+					case ROUND:
+						if (args.length == 1) {
+							return context -> BuiltinFunction.round(args[0].apply(context), 0, mc);
+						}
+						return context -> BuiltinFunction.round(args[0].apply(context), args[1].apply(context).intValue(), mc);
+					case MIN:
+						return context -> {
+							BigDecimal result = args[0].apply(context);
+							for (int i = 1; i < args.length; i++) {
+								result = BuiltinFunction.min(result, args[i].apply(context));
+							}
+							return result;
+						};
+					case MAX:
+						return context -> {
+							BigDecimal result = args[0].apply(context);
+							for (int i = 1; i < args.length; i++) {
+								result = BuiltinFunction.max(result, args[i].apply(context));
+							}
+							return result;
+						};
+					default:
+						break;
+				}
+			}
+			final int site = node.getSite();
+			return context -> {
+				final BigDecimal[] values = context.decimalArguments(site);
+				for (int i = 0; i < args.length; i++) {
+					values[i] = args[i].apply(context);
+				}
+				return function.applyDecimal(values, mc);
+			};
+		}
+
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.xiaoTools.core.regular.patternPool;
 
-import com.xiaoTools.cache.simple.SimpleCache;
+import com.xiaoTools.cache.bounded.BoundedCache;
+import com.xiaoTools.cache.bounded.evictionPolicy.EvictionPolicy;
+import com.xiaoTools.cache.stats.CacheStats;
 
 import java.util.regex.Pattern;
 
@@ -122,9 +124,9 @@ public class PatternPool {
     /*方法-----------------------------------------------------------Method*/
 
     /**
-     * [Pattern池](Pattern pool)
+     * [Pattern池，限制容量，避免动态正则无限增长](Pattern pool with limited capacity to avoid unlimited growth of dynamic regular expressions)
      */
-    private static final SimpleCache<RegexWithFlag, Pattern> POOL = new SimpleCache<>();
+    private static final BoundedCache<RegexWithFlag, Pattern> POOL = new BoundedCache<>(4096, EvictionPolicy.W_TINY_LFU);
 
     /**
      * [先从Pattern池中查找正则对应的Pattern，找不到则编译正则表达式并入池](First, find the pattern corresponding to the regular expression from the pattern pool. If not, compile the regular expression into the pool)
@@ -152,14 +154,7 @@ public class PatternPool {
      * @return java.util.regex.Pattern
     */
     public static Pattern get(String regex, int flags) {
-        final RegexWithFlag regexWithFlag = new RegexWithFlag(regex, flags);
-
-        Pattern pattern = POOL.get(regexWithFlag);
-        if (null == pattern) {
-            pattern = Pattern.compile(regex, flags);
-            POOL.put(regexWithFlag, pattern);
-        }
-        return pattern;
+        return POOL.get(new RegexWithFlag(regex, flags), () -> Pattern.compile(regex, flags));
     }
 
     /**
@@ -189,6 +184,31 @@ public class PatternPool {
         POOL.clear();
     }
 
+    /**
+     * [开启Pattern池的统计](Enable statistics of the pattern pool)
+     * @description: zh - 开启Pattern池的统计，记录命中、未命中、淘汰次数以及编译耗时
+     * @description: en - Enable statistics of the pattern pool, record hits, misses, evictions and compile time
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:56 下午
+    */
+    public static void recordStats() {
+        POOL.recordStats();
+    }
+
+    /**
+     * [获取Pattern池的统计快照](Get a statistics snapshot of the pattern pool)
+     * @description: zh - 获取Pattern池的统计快照，未开启统计时返回空统计
+     * @description: en - Get a statistics snapshot of the pattern pool, empty statistics are returned when not enabled
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:57 下午
+     * @return com.xiaoTools.cache.stats.CacheStats
+    */
+    public static CacheStats getStats() {
+        return POOL.getStats();
+    }
+
     /**
      * [正则表达式和正则标识位的包装](Packaging of regular expressions and regular identifier bits)
      * @description: zh - 正则表达式和正则标识位的包装
@@ -0,0 +1,70 @@
+package com.xiaoTools.date.clock;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * [时钟](Clock)
+ * @description zh - 时钟，ID生成器、日期工具和秒表通过它读取时间，便于替换为粗粒度时钟或测试时钟
+ * @description en - Clock, ID generators, date utilities and stopwatches read time through it so it can be replaced with a coarse clock or a test clock
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:50:10
+ */
+public interface Clock {
+
+	/**
+	 * 等待下一毫秒时先自旋的次数，超过后改为短暂挂起
+	 */
+	int SPIN_TRIES = 100;
+
+	/**
+	 * 每次挂起的纳秒数
+	 */
+	long PARK_NANOS = 50_000L;
+
+	/**
+	 * [当前毫秒时间戳](Current millisecond timestamp)
+	 * @description zh - 当前毫秒时间戳
+	 * @description en - Current millisecond timestamp
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:51:02
+	 * @return long
+	 */
+	long currentTimeMillis();
+
+	/**
+	 * [当前纳秒计时](Current nanosecond timer)
+	 * @description zh - 当前纳秒计时，只用于计算时间间隔
+	 * @description en - Current nanosecond timer, only used to measure intervals
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:51:30
+	 * @return long
+	 */
+	long nanoTime();
+
+	/**
+	 * [等待到大于给定毫秒的时间](Wait until a time greater than the given millisecond)
+	 * @description zh - 等待到大于给定毫秒的时间并返回。先自旋少量次数，仍未到达时短暂挂起线程，不长时间占满CPU
+	 * @description en - Wait until a time greater than the given millisecond and return it. It spins a few times first and then parks the thread briefly, without burning a CPU for long
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:52:40
+	 * @param lastMillis 上一次的毫秒时间戳
+	 * @return long
+	 */
+	default long waitNextMillis(long lastMillis) {
+		int tries = 0;
+		long now;
+		while ((now = currentTimeMillis()) <= lastMillis) {
+			if (tries++ < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else {
+				LockSupport.parkNanos(PARK_NANOS);
+			}
+		}
+		return now;
+	}
+
+}
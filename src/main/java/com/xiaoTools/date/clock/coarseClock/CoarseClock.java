@@ -0,0 +1,110 @@
+package com.xiaoTools.date.clock.coarseClock;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.date.clock.Clock;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [粗粒度时钟](Coarse clock)
+ * @description zh - 粗粒度时钟。后台线程按固定周期把当前时间写入一个volatile字段，读取时间只是一次内存读，
+ * 适合每秒调用成千上万次的场景。时间最多落后一个周期，纳秒计时仍然使用System.nanoTime()
+ * @description en - Coarse clock. A background thread writes the current time into a volatile field at a fixed period, so reading the time is a single memory read,
+ * which suits callers that read it many thousands of times per second. The time lags by at most one period, and the nanosecond timer still uses System.nanoTime()
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:58:20
+ */
+public class CoarseClock implements Clock, Closeable {
+
+	private volatile long now = System.currentTimeMillis();
+
+	private final ScheduledFuture<?> future;
+
+	/**
+	 * 是否为共享实例，共享实例不能被关闭
+	 */
+	private final boolean shared;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，立即开始走时
+	 * @description en - Construct, it starts ticking immediately
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:59:40
+	 * @param periodMillis 走时周期，毫秒
+	 */
+	public CoarseClock(long periodMillis) {
+		this(periodMillis, false);
+	}
+
+	private CoarseClock(long periodMillis, boolean shared) {
+		Assertion.isTrue(periodMillis > 0, "periodMillis must be greater than 0");
+		this.future = Ticker.INSTANCE.scheduleAtFixedRate(() -> now = System.currentTimeMillis(), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+		this.shared = shared;
+	}
+
+	/**
+	 * [获取共享的1毫秒粗粒度时钟](Get the shared 1 millisecond coarse clock)
+	 * @description zh - 获取共享的1毫秒粗粒度时钟，第一次调用时启动。共享实例的close()不做任何事
+	 * @description en - Get the shared 1 millisecond coarse clock, it is started on the first call. close() does nothing on the shared instance
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:00:30
+	 * @return com.xiaoTools.date.clock.coarseClock.CoarseClock
+	 */
+	public static CoarseClock getInstance() {
+		return Shared.INSTANCE;
+	}
+
+	@Override
+	public long currentTimeMillis() {
+		return now;
+	}
+
+	@Override
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * [停止走时](Stop ticking)
+	 * @description zh - 停止走时，之后读到的时间不再变化。共享实例被多个调用方使用，对其调用时不做任何事
+	 * @description en - Stop ticking, the time read afterwards no longer changes. The shared instance is used by many callers, so the call does nothing on it
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:01:15
+	 */
+	@Override
+	public void close() {
+		if (!shared) {
+			future.cancel(false);
+		}
+	}
+
+	private static class Shared {
+		static final CoarseClock INSTANCE = new CoarseClock(1, true);
+	}
+
+	/**
+	 * [所有粗粒度时钟共用的走时线程](Ticking thread shared by all coarse clocks)
+	 * @description zh - 所有粗粒度时钟共用的走时线程
+	 * @description en - Ticking thread shared by all coarse clocks
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:58:50
+	 */
+	private static class Ticker {
+		static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r, "xiaoTools-coarse-clock");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+}
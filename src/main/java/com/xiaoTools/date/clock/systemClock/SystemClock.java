@@ -0,0 +1,27 @@
+package com.xiaoTools.date.clock.systemClock;
+
+import com.xiaoTools.date.clock.Clock;
+
+/**
+ * [系统时钟](System clock)
+ * @description zh - 系统时钟，直接读取System.currentTimeMillis()和System.nanoTime()
+ * @description en - System clock, reads System.currentTimeMillis() and System.nanoTime() directly
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:55:10
+ */
+public enum SystemClock implements Clock {
+
+	INSTANCE;
+
+	@Override
+	public long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	@Override
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+
+}
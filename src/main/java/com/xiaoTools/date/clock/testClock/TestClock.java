@@ -0,0 +1,105 @@
+package com.xiaoTools.date.clock.testClock;
+
+import com.xiaoTools.date.clock.Clock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [可控制的测试时钟](Controllable test clock)
+ * @description zh - 可控制的测试时钟，时间只在调用set或advance时变化，可以模拟时钟回拨、序列号耗尽等场景。
+ * 等待下一毫秒时直接把时间拨到下一毫秒，避免单线程测试永远等待
+ * @description en - Controllable test clock, time only changes when set or advance is called, so clock regressions, sequence exhaustion and similar cases can be simulated.
+ * Waiting for the next millisecond moves the time to it directly so single threaded tests never wait forever
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:03:10
+ */
+public class TestClock implements Clock {
+
+	private volatile long millis;
+	private volatile long nanos;
+
+	/**
+	 * 拨快时不足一毫秒的纳秒余数
+	 */
+	private long remainderNanos;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，起始于当前系统时间
+	 * @description en - Construct, starting at the current system time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:04:02
+	 */
+	public TestClock() {
+		this(System.currentTimeMillis());
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:04:30
+	 * @param millis 起始毫秒时间戳
+	 */
+	public TestClock(long millis) {
+		this.millis = millis;
+	}
+
+	@Override
+	public long currentTimeMillis() {
+		return millis;
+	}
+
+	@Override
+	public long nanoTime() {
+		return nanos;
+	}
+
+	@Override
+	public synchronized long waitNextMillis(long lastMillis) {
+		if (millis <= lastMillis) {
+			advance(lastMillis + 1 - millis, TimeUnit.MILLISECONDS);
+		}
+		return millis;
+	}
+
+	/**
+	 * [设置当前时间](Set the current time)
+	 * @description zh - 设置当前时间，可以早于原来的时间以模拟时钟回拨，纳秒计时不受影响
+	 * @description en - Set the current time, it may be earlier than before to simulate a clock regression, the nanosecond timer is not affected
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:05:12
+	 * @param millis 毫秒时间戳
+	 * @return com.xiaoTools.date.clock.testClock.TestClock
+	 */
+	public synchronized TestClock set(long millis) {
+		this.millis = millis;
+		return this;
+	}
+
+	/**
+	 * [拨快时间](Advance the time)
+	 * @description zh - 拨快时间，毫秒时间戳和纳秒计时同时前进
+	 * @description en - Advance the time, both the millisecond timestamp and the nanosecond timer move forward
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:05:50
+	 * @param duration 时长
+	 * @param unit 单位
+	 * @return com.xiaoTools.date.clock.testClock.TestClock
+	 */
+	public synchronized TestClock advance(long duration, TimeUnit unit) {
+		final long delta = unit.toNanos(duration);
+		this.nanos += delta;
+		remainderNanos += delta;
+		this.millis += TimeUnit.NANOSECONDS.toMillis(remainderNanos);
+		remainderNanos %= TimeUnit.MILLISECONDS.toNanos(1);
+		return this;
+	}
+
+}
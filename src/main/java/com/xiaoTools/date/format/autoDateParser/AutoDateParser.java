@@ -0,0 +1,202 @@
+package com.xiaoTools.date.format.autoDateParser;
+
+import com.xiaoTools.date.datePattern.DatePattern;
+import com.xiaoTools.date.format.dateParser.DateParser;
+import com.xiaoTools.date.format.fastDateParser.FastDateParser;
+import com.xiaoTools.lang.constant.Constant;
+
+import java.text.ParsePosition;
+import java.util.Arrays;
+
+/**
+ * [自动识别格式的日期解析器](Date parser detecting the format automatically)
+ * @description: zh - 自动识别格式的日期解析器。由多个定宽纯数字格式按长度和每个位置是数字还是哪个分隔符建立判定树，
+ * 输入只需从头到尾扫描一遍即可找到唯一对应的解析器，不需要逐个格式尝试，也不依赖异常。多个格式形状相同时先给出的优先。
+ * 创建后不可变，可以被多个线程同时使用
+ * @description: en - Date parser detecting the format automatically. A decision tree is built from several fixed width numeric patterns by length and by whether each position is a digit or which separator it is,
+ * so a single scan of the input finds the only matching parser, with no trying of one format after another and no exceptions. When patterns have the same shape the one given first wins.
+ * Immutable once created and may be used by many threads at once
+ * @version: V1.0
+ * @author XiaoXunYao
+ * @since 2026/10/19 1:05 上午
+*/
+public final class AutoDateParser {
+
+    /**
+     * 按输入长度索引的判定树根节点，没有该长度的格式时为 null
+     */
+    private final Node[] roots;
+
+    /**
+     * [使用 DatePattern 中的格式构造](Construct with the patterns in DatePattern)
+     * @description: zh - 使用 DatePattern 中的定宽格式构造，各格式使用 DatePattern 中对应实例的时区。
+     * HH:mm:ss 在 DateUtil 中表示当天的时间因此不包括；yyyyMM 与 HHmmss 形状相同，按 HHmmss 解析
+     * @description: en - Construct with the fixed width patterns in DatePattern, each with the time zone of its DatePattern instance.
+     * HH:mm:ss is left out since DateUtil reads it as a time of today; yyyyMM has the same shape as HHmmss, which is used
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:06 上午
+    */
+    public AutoDateParser() {
+        this(DatePattern.NORM_DATETIME_MS_FORMAT, DatePattern.ISO8601_FORMAT, DatePattern.NORM_DATETIME_FORMAT, DatePattern.NORM_DATETIME_MINUTE_FORMAT,
+                DatePattern.NORM_DATE_FORMAT, DatePattern.NORM_MONTH_FORMAT, DatePattern.UTC_MS_FORMAT, DatePattern.UTC_FORMAT, DatePattern.UTC_SIMPLE_MS_FORMAT,
+                DatePattern.UTC_SIMPLE_FORMAT, DatePattern.CHINESE_DATE_TIME_FORMAT, DatePattern.CHINESE_DATE_FORMAT, DatePattern.PURE_DATETIME_MS_FORMAT,
+                DatePattern.PURE_DATETIME_FORMAT, DatePattern.PURE_DATE_FORMAT, DatePattern.PURE_TIME_FORMAT);
+    }
+
+    /**
+     * [使用给定的格式构造](Construct with the given patterns)
+     * @description: zh - 使用给定格式的模式、时区和区域设置构造，所有格式都必须是定宽纯数字格式
+     * @description: en - Construct with the pattern, time zone and locale of the given formats, all of which must be fixed width numeric patterns
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:07 上午
+     * @param formats: 日期格式，先给出的优先
+     * @throws IllegalArgumentException 格式不是定宽纯数字格式时
+    */
+    public AutoDateParser(final DateParser... formats) {
+        Node[] nodes = new Node[Constant.ZERO];
+        for (final DateParser format : formats) {
+            final FastDateParser parser = format instanceof FastDateParser ? (FastDateParser) format : new FastDateParser(format.getPattern(), format.getTimeZone(), format.getLocale());
+            final String layout = parser.getFixedWidthLayout();
+            if (layout == Constant.NULL) {
+                throw new IllegalArgumentException("Pattern '" + format.getPattern() + "' is not a fixed width numeric pattern");
+            }
+            if (layout.length() >= nodes.length) {
+                nodes = Arrays.copyOf(nodes, layout.length() + Constant.ONE);
+            }
+            if (nodes[layout.length()] == Constant.NULL) {
+                nodes[layout.length()] = new Node();
+            }
+            Node node = nodes[layout.length()];
+            for (int i = Constant.ZERO; i < layout.length(); i++) {
+                node = node.child(layout.charAt(i));
+            }
+            if (node.parser == Constant.NULL) {
+                node.parser = parser;
+            }
+        }
+        roots = nodes;
+    }
+
+    /**
+     * [获取与输入形状一致的解析器](Gets the parser matching the shape of the input)
+     * @description: zh - 按长度和每个位置是数字还是哪个分隔符找到与输入形状一致的解析器，没有时返回 null
+     * @description: en - Finds the parser matching the shape of the input by its length and by whether each position is a digit or which separator it is, or null when there is none
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:08 上午
+     * @param source: 日期字符串
+     * @return com.xiaoTools.date.format.dateParser.DateParser
+    */
+    public DateParser match(final CharSequence source) {
+        final int length = source.length();
+        if (length >= roots.length) {
+            return (DateParser) Constant.NULL;
+        }
+        Node node = roots[length];
+        for (int i = Constant.ZERO; i < length && node != Constant.NULL; i++) {
+            final char c = source.charAt(i);
+            node = c >= Constant.CHAR_ZERO && c <= Constant.CHAR_NINE ? node.digit : node.literal(c);
+        }
+        return node == Constant.NULL ? (DateParser) Constant.NULL : node.parser;
+    }
+
+    /**
+     * [将日期字符串解析为毫秒数](Parses a date string into a millisecond value)
+     * @description: zh - 找到与输入形状一致的解析器并解析为毫秒数，没有对应的格式或解析失败时返回 Long.MIN_VALUE
+     * @description: en - Finds the parser matching the shape of the input and parses it into a millisecond value, returning Long.MIN_VALUE when no pattern matches or parsing fails
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:09 上午
+     * @param source: 日期字符串
+     * @return long
+    */
+    public long parseMillis(final CharSequence source) {
+        final DateParser parser = match(source);
+        return parser == Constant.NULL ? Long.MIN_VALUE : parseMillis(parser, source);
+    }
+
+    /**
+     * [使用给定的解析器解析整个字符串](Parses the whole string with the given parser)
+     * @description: zh - 使用 match 返回的解析器解析整个字符串，没有用完整个字符串或解析失败时返回 Long.MIN_VALUE
+     * @description: en - Parses the whole string with a parser returned by match, returning Long.MIN_VALUE when the string is not used up or parsing fails
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:10 上午
+     * @param parser: match 返回的解析器
+     * @param source: 日期字符串
+     * @return long
+    */
+    public static long parseMillis(final DateParser parser, final CharSequence source) {
+        final ParsePosition pos = new ParsePosition(Constant.ZERO);
+        final long millis = parser.parseMillis(source, pos);
+        return pos.getIndex() == source.length() ? millis : Long.MIN_VALUE;
+    }
+
+    /**
+     * [判定树的节点](Node of the decision tree)
+     * @description: zh - 判定树的节点，数字位置走 digit，分隔符按字符查找下一个节点，叶子节点保存解析器
+     * @description: en - Node of the decision tree, digit positions follow digit and separators look up the next node by character, leaves hold the parser
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:11 上午
+    */
+    private static final class Node {
+
+        private Node digit;
+
+        private char[] literals = new char[Constant.ZERO];
+
+        private Node[] literalNodes = new Node[Constant.ZERO];
+
+        private DateParser parser;
+
+        /**
+         * [获取分隔符对应的下一个节点](Gets the next node for a separator)
+         * @description: zh - 获取分隔符对应的下一个节点，没有时返回 null
+         * @description: en - Gets the next node for a separator, or null when there is none
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 1:12 上午
+         * @param c: 分隔符
+         * @return com.xiaoTools.date.format.autoDateParser.AutoDateParser.Node
+        */
+        Node literal(final char c) {
+            for (int i = Constant.ZERO; i < literals.length; i++) {
+                if (literals[i] == c) {
+                    return literalNodes[i];
+                }
+            }
+            return (Node) Constant.NULL;
+        }
+
+        /**
+         * [获取或创建布局字符对应的下一个节点](Gets or creates the next node for a layout character)
+         * @description: zh - 获取或创建布局字符对应的下一个节点，布局中的 '0' 表示数字位置
+         * @description: en - Gets or creates the next node for a layout character, where '0' in the layout marks a digit position
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 1:13 上午
+         * @param c: 布局字符
+         * @return com.xiaoTools.date.format.autoDateParser.AutoDateParser.Node
+        */
+        Node child(final char c) {
+            if (c == Constant.CHAR_ZERO) {
+                if (digit == Constant.NULL) {
+                    digit = new Node();
+                }
+                return digit;
+            }
+            Node node = literal(c);
+            if (node == Constant.NULL) {
+                node = new Node();
+                literals = Arrays.copyOf(literals, literals.length + Constant.ONE);
+                literalNodes = Arrays.copyOf(literalNodes, literalNodes.length + Constant.ONE);
+                literals[literals.length - Constant.ONE] = c;
+                literalNodes[literalNodes.length - Constant.ONE] = node;
+            }
+            return node;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.xiaoTools.date.format.dateParser;
 
 import com.xiaoTools.date.format.basic.DateBasic;
+import com.xiaoTools.lang.constant.Constant;
 
 import java.text.ParseException;
 import java.text.ParsePosition;
@@ -56,6 +57,24 @@ public interface DateParser extends DateBasic {
     */
     boolean parse(String source, ParsePosition pos, Calendar calendar);
 
+    /**
+     * [将日期字符串解析为毫秒数](Parses a date string into a millisecond value)
+     * @description: zh - 将日期字符串解析为毫秒数，解析失败时返回 Long.MIN_VALUE，错误位置由 parse(String, ParsePosition) 设置。
+     * 默认通过 parse(String, ParsePosition) 解析，FastDateParser 对定宽的纯数字格式不创建 Calendar 和 Date，适合大量解析的场景
+     * @description: en - Parses a date string into a millisecond value, returning Long.MIN_VALUE on failure with the error index set by parse(String, ParsePosition).
+     * By default parse(String, ParsePosition) is used, FastDateParser creates no Calendar or Date for fixed width numeric patterns, suitable for parsing at high rates
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:53 上午
+     * @param source: 日期字符串
+     * @param pos: 定义开始转换的位置
+     * @return long
+    */
+    default long parseMillis(CharSequence source, ParsePosition pos) {
+        final Date date = parse(source.toString(), pos);
+        return date == Constant.NULL ? Long.MIN_VALUE : date.getTime();
+    }
+
     /**
      * [将日期字符串解析并转换为 Date 对象](Parses and converts a date string to a date object)
      * @description: zh - 将日期字符串解析并转换为 Date 对象
@@ -1,7 +1,10 @@
 package com.xiaoTools.date.format.datePrinter;
 
 import com.xiaoTools.date.format.basic.DateBasic;
+import com.xiaoTools.lang.constant.Constant;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -89,4 +92,40 @@ public interface DatePrinter extends DateBasic {
      * @return B
     */
     <B extends Appendable> B format(Calendar calendar, B buf);
+
+    /**
+     * [将毫秒数格式化到给定的字符数组中](Formats a millisecond value into the given char array)
+     * @description: zh - 将毫秒数格式化到给定的字符数组中。默认复制 format(long) 的结果，FastDatePrinter 在常见模式下不创建 Calendar 和 String，适合每秒大量格式化的场景
+     * @description: en - Formats a millisecond value into the given char array. By default the result of format(long) is copied, FastDatePrinter creates no Calendar or String for common patterns, suitable for formatting at high rates
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:20 上午
+     * @param millis: 要格式化的毫秒值
+     * @param dest: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @return int 写入的最后一个字符之后的位置
+    */
+    default int format(long millis, char[] dest, int offset) {
+        final String text = format(millis);
+        text.getChars(Constant.ZERO, text.length(), dest, offset);
+        return offset + text.length();
+    }
+
+    /**
+     * [将毫秒数按 UTF-8 格式化到给定的字节缓冲区中](Formats a millisecond value into the given byte buffer as UTF-8)
+     * @description: zh - 将毫秒数按 UTF-8 格式化到给定的字节缓冲区中，从当前位置开始写入并前移位置。默认编码 format(long) 的结果，
+     * 剩余空间不足时抛出 BufferOverflowException，此时缓冲区不被修改
+     * @description: en - Formats a millisecond value into the given byte buffer as UTF-8, writing at and advancing the current position. By default the result of format(long) is encoded,
+     * a BufferOverflowException is thrown when there is not enough remaining space, and the buffer is left untouched
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:21 上午
+     * @param millis: 要格式化的毫秒值
+     * @param dest: 目标缓冲区
+     * @return java.nio.ByteBuffer
+    */
+    default ByteBuffer format(long millis, ByteBuffer dest) {
+        // 空间不足时 put 抛出 BufferOverflowException 且不写入任何字节
+        return dest.put(format(millis).getBytes(StandardCharsets.UTF_8));
+    }
 }
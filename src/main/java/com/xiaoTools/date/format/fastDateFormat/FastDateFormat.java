@@ -1,6 +1,7 @@
 package com.xiaoTools.date.format.fastDateFormat;
 
 import com.xiaoTools.cache.format.FormatCache;
+import com.xiaoTools.cache.stats.CacheStats;
 import com.xiaoTools.date.format.dateParser.DateParser;
 import com.xiaoTools.date.format.datePrinter.DatePrinter;
 import com.xiaoTools.date.format.fastDateParser.FastDateParser;
@@ -8,6 +9,7 @@ import com.xiaoTools.date.format.fastDatePrinter.FastDatePrinter;
 import com.xiaoTools.lang.constant.Constant;
 
 import java.io.Serial;
+import java.nio.ByteBuffer;
 import java.text.*;
 import java.util.Calendar;
 import java.util.Date;
@@ -72,6 +74,31 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         return CACHE.getInstance();
     }
 
+    /**
+     * [开启格式化器缓存的统计](Enable statistics of the formatter cache)
+     * @description: zh - 开启格式化器缓存的统计
+     * @description: en - Enable statistics of the formatter cache
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 1:59 下午
+    */
+    public static void recordCacheStats() {
+        CACHE.recordStats();
+    }
+
+    /**
+     * [获取格式化器缓存的统计快照](Get a statistics snapshot of the formatter cache)
+     * @description: zh - 获取格式化器缓存的统计快照，未开启统计时返回空统计
+     * @description: en - Get a statistics snapshot of the formatter cache, empty statistics are returned when not enabled
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 2:00 下午
+     * @return com.xiaoTools.cache.stats.CacheStats
+    */
+    public static CacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
     /**
      * [获得 FastDateFormat 实例，使用默认地区](Get the FastDateFormat instance and use the default region)
      * @description: zh - 获得 FastDateFormat 实例，使用默认地区
@@ -407,6 +434,16 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         return printer.format(calendar, buf);
     }
 
+    @Override
+    public int format(final long millis, final char[] dest, final int offset) {
+        return printer.format(millis, dest, offset);
+    }
+
+    @Override
+    public ByteBuffer format(final long millis, final ByteBuffer dest) {
+        return printer.format(millis, dest);
+    }
+
     //解析----------------------------------------------------------------------- Parsing
 
     @Override
@@ -424,6 +461,11 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         return parser.parse(source, pos, calendar);
     }
 
+    @Override
+    public long parseMillis(final CharSequence source, final ParsePosition pos) {
+        return parser.parseMillis(source, pos);
+    }
+
     @Override
     public Object parseObject(final String source, final ParsePosition pos) {
         return parser.parseObject(source, pos);
@@ -32,6 +32,28 @@ public class FastDateParser extends AbstractDateBasic implements DateParser {
      */
     private transient List<StrategyAndWidth> patterns;
 
+    /**
+     * 定宽纯数字格式中每个位置对应的日历字段，文本位置为 -1，格式不是定宽纯数字格式时为 null
+     */
+    private transient int[] fixedFields;
+
+    /**
+     * 定宽纯数字格式展开后的文本，数字位置的字符不使用
+     */
+    private transient String fixedText;
+
+    /**
+     * 定宽纯数字格式中出现的日历字段的位掩码
+     */
+    private transient int fixedMask;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * 早于此年份的日期使用 Calendar 处理儒略历
+     */
+    private static final int FIRST_GREGORIAN_YEAR = 1583;
+
     /**
      * 长首小写
      */
@@ -88,6 +110,236 @@ public class FastDateParser extends AbstractDateBasic implements DateParser {
             }
             patterns.add(field);
         }
+        initFixedWidth(definingCalendar);
+    }
+
+    /**
+     * [初始化定宽纯数字格式](Initialize the fixed width numeric pattern)
+     * @description: zh - 格式只由四位或两位年份、两位的月日时分秒、三位毫秒和非数字文本组成，且使用公历时，记录每个位置对应的字段，解析时直接读取数字计算毫秒数
+     * @description: en - When the pattern consists only of four or two digit years, two digit months, days, hours, minutes and seconds, three digit milliseconds and non digit literals, and the calendar is Gregorian, records the field of every position so parsing can read the digits straight into millis
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:54 上午
+     * @param definingCalendar: 用于初始化此FastDateParser的日历实例
+    */
+    private void initFixedWidth(final Calendar definingCalendar) {
+        if (!(definingCalendar instanceof GregorianCalendar) || !"gregory".equals(definingCalendar.getCalendarType())) {
+            return;
+        }
+        final List<Integer> fields = new ArrayList<>();
+        final StringBuilder text = new StringBuilder();
+        int mask = Constant.ZERO;
+        int idx = Constant.ZERO;
+        boolean activeQuote = Constant.FALSE;
+        while (idx < pattern.length()) {
+            final char c = pattern.charAt(idx);
+            if (c == Constant.CHAR_SLASH_SPOT && (++idx == pattern.length() || pattern.charAt(idx) != Constant.CHAR_SLASH_SPOT)) {
+                activeQuote = !activeQuote;
+                continue;
+            }
+            if (activeQuote || !isFormatLetter(c)) {
+                if (Character.isDigit(c)) {
+                    return;
+                }
+                fields.add(Constant.NEGATIVE_ONE);
+                text.append(c);
+                ++idx;
+                continue;
+            }
+            final int begin = idx;
+            while (++idx < pattern.length() && pattern.charAt(idx) == c) {
+                // 同一字母的连续部分
+            }
+            final int width = idx - begin;
+            final int field = fixedWidthField(c, width);
+            if (field < Constant.ZERO || (mask & Constant.ONE << field) != Constant.ZERO) {
+                return;
+            }
+            mask |= Constant.ONE << field;
+            for (int i = Constant.ZERO; i < width; i++) {
+                fields.add(field);
+                text.append(Constant.CHAR_ZERO);
+            }
+        }
+        if (mask == Constant.ZERO) {
+            return;
+        }
+        fixedFields = fields.stream().mapToInt(Integer::intValue).toArray();
+        fixedText = text.toString();
+        fixedMask = mask;
+    }
+
+    /**
+     * [获取定宽数字字段](Gets the fixed width numeric field)
+     * @description: zh - 获取格式字母和宽度对应的定宽数字字段，不是定宽数字字段时返回 -1。两位年份记为 Calendar.ERA 以便按世纪调整
+     * @description: en - Gets the fixed width numeric field for a format letter and width, or -1 when it is not one. Two digit years are recorded as Calendar.ERA so they get adjusted to the century
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:55 上午
+     * @param c: 格式字母
+     * @param width: 宽度
+     * @return int
+    */
+    private static int fixedWidthField(final char c, final int width) {
+        return switch (c) {
+            case Constant.CHAR_DOWN_Y -> width == Constant.FOUR ? Calendar.YEAR : width == Constant.TWO ? Calendar.ERA : Constant.NEGATIVE_ONE;
+            case Constant.CHAR_UP_M -> width == Constant.TWO ? Calendar.MONTH : Constant.NEGATIVE_ONE;
+            case Constant.CHAR_DOWN_D -> width == Constant.TWO ? Calendar.DAY_OF_MONTH : Constant.NEGATIVE_ONE;
+            case Constant.CHAR_UP_H -> width == Constant.TWO ? Calendar.HOUR_OF_DAY : Constant.NEGATIVE_ONE;
+            case Constant.CHAR_DOWN_M -> width == Constant.TWO ? Calendar.MINUTE : Constant.NEGATIVE_ONE;
+            case Constant.CHAR_DOWN_S -> width == Constant.TWO ? Calendar.SECOND : Constant.NEGATIVE_ONE;
+            case Constant.CHAR_UP_S -> width == Constant.THREE ? Calendar.MILLISECOND : Constant.NEGATIVE_ONE;
+            default -> Constant.NEGATIVE_ONE;
+        };
+    }
+
+    /**
+     * [按定宽纯数字格式解析](Parse with the fixed width numeric pattern)
+     * @description: zh - 按定宽纯数字格式直接读取数字计算毫秒数。输入与格式不完全一致、字段超出范围、早于公历切换或在时区偏移变化的前后一天内时返回 Long.MIN_VALUE，由通用解析处理
+     * @description: en - Reads the digits straight into millis using the fixed width numeric pattern. Returns Long.MIN_VALUE, leaving the input to the general parse, when it does not match the pattern exactly, a field is out of range, the date is before the Gregorian cutover or within a day of a zone offset change
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:56 上午
+     * @param source: 日期字符串
+     * @param start: 开始解析的位置
+     * @return long
+    */
+    private long parseFixedWidth(final CharSequence source, final int start) {
+        final int[] fields = fixedFields;
+        final int end = start + fields.length;
+        if (start < Constant.ZERO || end > source.length()) {
+            return Long.MIN_VALUE;
+        }
+        // 通用解析会继续读取紧跟在最后一个数字字段后的数字
+        if (end < source.length() && fields[fields.length - Constant.ONE] >= Constant.ZERO && Character.isDigit(source.charAt(end))) {
+            return Long.MIN_VALUE;
+        }
+        int year = Constant.ZERO, month = Constant.ZERO, day = Constant.ZERO, hour = Constant.ZERO, minute = Constant.ZERO, second = Constant.ZERO, millisecond = Constant.ZERO;
+        for (int i = Constant.ZERO; i < fields.length; i++) {
+            final char c = source.charAt(start + i);
+            final int field = fields[i];
+            if (field < Constant.ZERO) {
+                if (c != fixedText.charAt(i)) {
+                    return Long.MIN_VALUE;
+                }
+                continue;
+            }
+            final int digit = c - Constant.CHAR_ZERO;
+            if (digit < Constant.ZERO || digit > Constant.NINE) {
+                return Long.MIN_VALUE;
+            }
+            switch (field) {
+                case Calendar.ERA, Calendar.YEAR -> year = year * Constant.TEN + digit;
+                case Calendar.MONTH -> month = month * Constant.TEN + digit;
+                case Calendar.DAY_OF_MONTH -> day = day * Constant.TEN + digit;
+                case Calendar.HOUR_OF_DAY -> hour = hour * Constant.TEN + digit;
+                case Calendar.MINUTE -> minute = minute * Constant.TEN + digit;
+                case Calendar.SECOND -> second = second * Constant.TEN + digit;
+                default -> millisecond = millisecond * Constant.TEN + digit;
+            }
+        }
+        // 没有出现的字段与清空后的 Calendar 一致，默认为 1970-01-01
+        if ((fixedMask & Constant.ONE << Calendar.ERA) != Constant.ZERO) {
+            year = adjustYear(year);
+        } else if ((fixedMask & Constant.ONE << Calendar.YEAR) == Constant.ZERO) {
+            year = 1970;
+        }
+        if ((fixedMask & Constant.ONE << Calendar.MONTH) == Constant.ZERO) {
+            month = Constant.ONE;
+        }
+        if ((fixedMask & Constant.ONE << Calendar.DAY_OF_MONTH) == Constant.ZERO) {
+            day = Constant.ONE;
+        }
+        if (year < FIRST_GREGORIAN_YEAR || month < Constant.ONE || month > Constant.TWELVE || day < Constant.ONE || day > lengthOfMonth(year, month)
+                || hour > Constant.TWENTY_THREE || minute >= Constant.SIXTY || second >= Constant.SIXTY) {
+            return Long.MIN_VALUE;
+        }
+        final long local = (daysFromCivil(year, month, day) * 86400L + hour * 3600L + minute * Constant.SIXTY + second) * Constant.ONE_THOUSAND + millisecond;
+        final int offset = timeZone.getOffset(local - timeZone.getRawOffset());
+        final long millis = local - offset;
+        // 夏令时切换等偏移变化附近的当地时间可能不存在或有两个，交给 Calendar 处理
+        if (timeZone.getOffset(millis) != offset || timeZone.getOffset(millis - MILLIS_PER_DAY) != offset || timeZone.getOffset(millis + MILLIS_PER_DAY) != offset) {
+            return Long.MIN_VALUE;
+        }
+        return millis;
+    }
+
+    /**
+     * [获取月份的天数](Gets the length of a month)
+     * @description: zh - 获取公历月份的天数
+     * @description: en - Gets the length of a Gregorian month
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:57 上午
+     * @param year: 年
+     * @param month: 月，从 1 开始
+     * @return int
+    */
+    private static int lengthOfMonth(final int year, final int month) {
+        if (month == Constant.TWO) {
+            return (year & Constant.THREE) == Constant.ZERO && (year % Constant.HUNDRED != Constant.ZERO || year % 400 == Constant.ZERO) ? 29 : 28;
+        }
+        return month == Constant.FOUR || month == Constant.SIX || month == Constant.NINE || month == Constant.ELEVEN ? 30 : 31;
+    }
+
+    /**
+     * [计算公历日期距 1970-01-01 的天数](Computes the days from 1970-01-01 to a Gregorian date)
+     * @description: zh - 以 3 月 1 日为年初、400 年为一个周期计算公历日期距 1970-01-01 的天数
+     * @description: en - Computes the days from 1970-01-01 to a Gregorian date, treating March 1 as the start of the year and 400 years as a cycle
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:58 上午
+     * @param year: 年
+     * @param month: 月，从 1 开始
+     * @param day: 日
+     * @return long
+    */
+    private static long daysFromCivil(final int year, final int month, final int day) {
+        final int marchYear = month <= Constant.TWO ? year - Constant.ONE : year;
+        final int era = Math.floorDiv(marchYear, 400);
+        final int yearOfEra = marchYear - era * 400;
+        final int dayOfYear = (153 * (month > Constant.TWO ? month - Constant.THREE : month + 9) + Constant.TWO) / 5 + day - Constant.ONE;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / Constant.FOUR - yearOfEra / Constant.HUNDRED + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    /**
+     * [是否使用定宽纯数字格式解析](Whether the fixed width numeric parse is used)
+     * @description: zh - 格式是定宽纯数字格式时为 true，此时与格式完全一致的输入不经过 Calendar 解析
+     * @description: en - True when the pattern is a fixed width numeric one, in which case input matching it exactly is parsed without a Calendar
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:59 上午
+     * @return boolean
+    */
+    public boolean isFixedWidth() {
+        return fixedFields != Constant.NULL;
+    }
+
+    /**
+     * [获取定宽纯数字格式的长度](Gets the length of the fixed width numeric pattern)
+     * @description: zh - 获取定宽纯数字格式匹配的字符数，不是定宽纯数字格式时返回 -1
+     * @description: en - Gets the number of characters matched by the fixed width numeric pattern, or -1 when the pattern is not one
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:00 上午
+     * @return int
+    */
+    public int getFixedWidth() {
+        return fixedFields == Constant.NULL ? Constant.NEGATIVE_ONE : fixedFields.length;
+    }
+
+    /**
+     * [获取定宽纯数字格式的布局](Gets the layout of the fixed width numeric pattern)
+     * @description: zh - 获取定宽纯数字格式展开后的文本，每个数字位置为 '0'，文本位置为对应的字符（不会是数字），不是定宽纯数字格式时返回 null
+     * @description: en - Gets the expanded text of the fixed width numeric pattern, with '0' at every digit position and the literal character (never a digit) elsewhere, or null when the pattern is not one
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:04 上午
+     * @return java.lang.String
+    */
+    public String getFixedWidthLayout() {
+        return fixedText;
     }
 
     private static class StrategyAndWidth {
@@ -228,6 +480,13 @@ public class FastDateParser extends AbstractDateBasic implements DateParser {
 
     @Override
     public Date parse(final String source, final ParsePosition pos) {
+        if (fixedFields != Constant.NULL) {
+            final long millis = parseFixedWidth(source, pos.getIndex());
+            if (millis != Long.MIN_VALUE) {
+                pos.setIndex(pos.getIndex() + fixedFields.length);
+                return new Date(millis);
+            }
+        }
         final Calendar cal = Calendar.getInstance(timeZone, locale);
         cal.clear();
         return parse(source, pos, cal) ? cal.getTime() : Constant.DATE_NULL;
@@ -246,6 +505,20 @@ public class FastDateParser extends AbstractDateBasic implements DateParser {
         return Constant.TRUE;
     }
 
+    @Override
+    public long parseMillis(final CharSequence source, final ParsePosition pos) {
+        if (fixedFields != Constant.NULL) {
+            final long millis = parseFixedWidth(source, pos.getIndex());
+            if (millis != Long.MIN_VALUE) {
+                pos.setIndex(pos.getIndex() + fixedFields.length);
+                return millis;
+            }
+        }
+        final Calendar cal = Calendar.getInstance(timeZone, locale);
+        cal.clear();
+        return parse(source.toString(), pos, cal) ? cal.getTimeInMillis() : Long.MIN_VALUE;
+    }
+
     private static StringBuilder simpleQuote(final StringBuilder sb, final String value) {
         for (int i = Constant.ZERO; i < value.length(); ++i) {
             final char c = value.charAt(i);
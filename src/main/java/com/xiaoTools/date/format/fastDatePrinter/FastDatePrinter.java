@@ -7,6 +7,8 @@ import com.xiaoTools.lang.constant.Constant;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.text.DateFormatSymbols;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +36,56 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
      */
     private transient int mMaxLengthEstimate;
 
+    /**
+     * 是否所有规则都能直接由纪元毫秒数计算，而不经过 Calendar
+     */
+    private transient boolean epochSupported;
+
+    /**
+     * 是否缓存按天、小时、分钟或秒渲染好的文本，不参与序列化，反序列化得到的对象不使用缓存
+     */
+    private transient boolean caching;
+
+    /**
+     * 缓存文本的有效时长（毫秒），0 表示模式不适合缓存
+     */
+    private transient long cachePeriod;
+
+    /**
+     * 每次从缓存复制后需要重写的定宽时间字段及其宽度
+     */
+    private transient int[] patchFields;
+
+    private transient int[] patchWidths;
+
+    /**
+     * 当前时间段内渲染好的文本，不可变，只替换为紧随其后的时间段，多个线程同时替换时各自重建即可
+     */
+    private transient volatile CachedText cache;
+
+    /**
+     * 不在当前及下一个时间段内的毫秒数使用的文本，偶尔出现的过去或未来的时间戳不会移动 cache
+     */
+    private transient volatile CachedText spare;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private static final long MILLIS_PER_MINUTE = 60000L;
+
+    private static final long MILLIS_PER_HOUR = 3600000L;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * GregorianCalendar 默认的儒略历切换时间（1582-10-15）按当地时间比较，加上一天后任何时区都已切换，此前的日期仍使用 Calendar
+     */
+    private static final long GREGORIAN_CUTOVER = -12219292800000L + 86400000L;
+
+    /**
+     * 每个线程复用的日期字段，零分配格式化时不创建对象
+     */
+    private static final ThreadLocal<EpochFields> EPOCH_FIELDS = ThreadLocal.withInitial(EpochFields::new);
+
     private static final ConcurrentMap<TimeZoneDisplayKey, String> C_TIME_ZONE_DISPLAY_CACHE = new ConcurrentHashMap<>(7);
 
     /*初始化--------------------------------------------------------------------initialization*/
@@ -50,7 +102,29 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
      * @param locale: 非空Locale 日期地理位置
     */
     public FastDatePrinter(final String pattern, final TimeZone timeZone, final Locale locale) {
+        this(pattern, timeZone, locale, Constant.FALSE);
+    }
+
+    /**
+     * [可选择缓存模式的构造函数](Constructor with an optional caching mode)
+     * @description: zh - 可选择缓存模式的构造函数。缓存模式下按模式允许的最长时间段（天、小时、分钟或秒）缓存渲染好的文本，
+     * 同一时间段内的毫秒数只复制缓存并重写变化的定宽时间字段（HH、mm、ss、SSS），适合日志、监控等时间戳连续递增的场景。
+     * 模式含有非定宽的毫秒字段（S、SS）或不能直接由纪元毫秒数格式化时不缓存。缓存模式不参与序列化，反序列化得到的对象不使用缓存
+     * @description: en - Constructor with an optional caching mode. In caching mode the rendered text is cached for the longest period the pattern allows (a day, hour, minute or second),
+     * and millis in the same period only copy the cache and rewrite the changing fixed width time fields (HH, mm, ss, SSS), which suits logs and metrics whose timestamps keep increasing.
+     * Patterns with a variable width millisecond field (S, SS) or that cannot be formatted from the epoch millis directly are not cached.
+     * The caching mode is not serialized, a deserialized printer formats without caching
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:40 上午
+     * @param pattern: 使用java.text.SimpleDateFormat 相同的日期格式
+     * @param timeZone: 非空时区TimeZone
+     * @param locale: 非空Locale 日期地理位置
+     * @param caching: 是否使用缓存模式
+    */
+    public FastDatePrinter(final String pattern, final TimeZone timeZone, final Locale locale, final boolean caching) {
         super(pattern, timeZone, locale);
+        this.caching = caching;
         init();
     }
 
@@ -66,10 +140,69 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         final List<Rule> rulesList = parsePattern();
         rules = rulesList.toArray(new Rule[0]);
         int len = 0;
+        boolean supported = "gregory".equals(Calendar.getInstance(timeZone, locale).getCalendarType());
         for (int i = rules.length; --i >= 0;) {
             len += rules[i].estimateLength();
+            supported &= rules[i].supportsEpoch();
         }
         mMaxLengthEstimate = len;
+        epochSupported = supported;
+        if (caching && supported) {
+            initCache();
+        }
+    }
+
+    /**
+     * [初始化缓存模式](Initialize the caching mode)
+     * @description: zh - 初始化缓存模式。定宽的时、分、秒、毫秒字段在每次格式化时重写，其余规则中变化最快的决定缓存文本的有效时长
+     * @description: en - Initialize the caching mode. Fixed width hour, minute, second and millisecond fields are rewritten on every format, and the fastest changing of the other rules decides how long the cached text stays valid
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:42 上午
+    */
+    private void initCache() {
+        long period = MILLIS_PER_DAY;
+        int patches = Constant.ZERO;
+        final int[] fields = new int[rules.length];
+        final int[] widths = new int[rules.length];
+        for (final Rule rule : rules) {
+            final int field = patchField(rule);
+            if (field >= Constant.ZERO) {
+                fields[patches] = field;
+                widths[patches++] = rule.estimateLength();
+            } else {
+                period = Math.min(period, rule.stablePeriod());
+            }
+        }
+        if (period < MILLIS_PER_SECOND) {
+            return;
+        }
+        cachePeriod = period;
+        patchFields = Arrays.copyOf(fields, patches);
+        patchWidths = Arrays.copyOf(widths, patches);
+    }
+
+    /**
+     * [获取可重写的字段](Gets the rewritable field)
+     * @description: zh - 获取可以在缓存文本中原位重写的字段，只有输出定宽的时、分、秒、毫秒字段可以重写，其他规则返回 -1
+     * @description: en - Gets the field that can be rewritten in place in the cached text, only hour, minute, second and millisecond fields with a fixed output width can, other rules return -1
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:43 上午
+     * @param rule: 规则
+     * @return int Calendar 中的字段
+    */
+    private static int patchField(final Rule rule) {
+        final int field;
+        if (rule instanceof PaddedNumberField) {
+            field = ((PaddedNumberField) rule).mField;
+        } else if (rule instanceof TwoDigitNumberField && ((TwoDigitNumberField) rule).mField != Calendar.MILLISECOND) {
+            // 两位的毫秒字段在 100 毫秒以上时输出三位，不定宽
+            field = ((TwoDigitNumberField) rule).mField;
+        } else {
+            return Constant.NEGATIVE_ONE;
+        }
+        return field == Calendar.HOUR_OF_DAY || field == Calendar.MINUTE || field == Calendar.SECOND || field == Calendar.MILLISECOND ? field : Constant.NEGATIVE_ONE;
     }
 
     /*分析格式--------------------------------------------------------------------Parse the pattern*/
@@ -318,6 +451,11 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
     @Override
     public String format(final long millis) {
+        if (cachePeriod != Constant.ZERO && millis >= GREGORIAN_CUTOVER) {
+            final EpochFields fields = EPOCH_FIELDS.get();
+            final char[] chars = fields.chars(mMaxLengthEstimate + rules.length * Constant.TEN);
+            return new String(chars, Constant.ZERO, formatCached(millis, chars, Constant.ZERO, fields));
+        }
         final Calendar c = Calendar.getInstance(timeZone, locale);
         c.setTimeInMillis(millis);
         return applyRulesToString(c);
@@ -325,6 +463,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
     @Override
     public String format(final Date date) {
+        if (cachePeriod != Constant.ZERO) {
+            return format(date.getTime());
+        }
         final Calendar c = Calendar.getInstance(timeZone, locale);
         c.setTime(date);
         return applyRulesToString(c);
@@ -337,6 +478,19 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
     @Override
     public <B extends Appendable> B format(final long millis, final B buf) {
+        if (cachePeriod != Constant.ZERO && millis >= GREGORIAN_CUTOVER) {
+            final EpochFields fields = EPOCH_FIELDS.get();
+            final char[] chars = fields.chars(mMaxLengthEstimate + rules.length * Constant.TEN);
+            final int length = formatCached(millis, chars, Constant.ZERO, fields);
+            try {
+                for (int i = Constant.ZERO; i < length; i++) {
+                    buf.append(chars[i]);
+                }
+            } catch (final IOException e) {
+                throw new DateException(e);
+            }
+            return buf;
+        }
         final Calendar c = Calendar.getInstance(timeZone, locale);
         c.setTimeInMillis(millis);
         return applyRules(c, buf);
@@ -344,6 +498,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
     @Override
     public <B extends Appendable> B format(final Date date, final B buf) {
+        if (cachePeriod != Constant.ZERO) {
+            return format(date.getTime(), buf);
+        }
         final Calendar c = Calendar.getInstance(timeZone, locale);
         c.setTime(date);
         return applyRules(c, buf);
@@ -359,6 +516,141 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         return applyRules(calendar, buf);
     }
 
+    /**
+     * [将毫秒数格式化到给定的字符数组中](Formats a millisecond value into the given char array)
+     * @description: zh - 将毫秒数格式化到给定的字符数组中。规则直接使用由纪元毫秒数算出的日期字段，不创建 Calendar、StringBuilder 或 String。
+     * 模式含有周（w、W、Y）、夏令时有不同名称的时区名称（z）、区域设置使用非公历，或日期早于 1582 年公历切换时，退回到 Calendar 格式化后再复制。数组空间不足时抛出 IndexOutOfBoundsException
+     * @description: en - Formats a millisecond value into the given char array. The rules run on date fields computed from the epoch millis, creating no Calendar, StringBuilder or String.
+     * Patterns with week fields (w, W, Y) or with time zone names (z) that differ in daylight time, locales using a non-Gregorian calendar and dates before the 1582 Gregorian cutover fall back to formatting with a Calendar and copying. An IndexOutOfBoundsException is thrown when the array is too small
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:05 上午
+     * @param millis: 要格式化的毫秒值
+     * @param dest: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @return int 写入的最后一个字符之后的位置
+    */
+    @Override
+    public int format(final long millis, final char[] dest, final int offset) {
+        return format(millis, dest, offset, EPOCH_FIELDS.get());
+    }
+
+    /**
+     * [将毫秒数按 UTF-8 格式化到给定的字节缓冲区中](Formats a millisecond value into the given byte buffer as UTF-8)
+     * @description: zh - 将毫秒数按 UTF-8 格式化到给定的字节缓冲区中，从缓冲区的当前位置开始写入并前移位置，不创建对象，退回 Calendar 的条件与字符数组版本相同。
+     * 剩余空间不足时抛出 BufferOverflowException，此时缓冲区不被修改
+     * @description: en - Formats a millisecond value into the given byte buffer as UTF-8, writing at and advancing the current position of the buffer without creating objects, it falls back to a Calendar in the same cases as the char array version.
+     * A BufferOverflowException is thrown when there is not enough remaining space, and the buffer is left untouched
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:06 上午
+     * @param millis: 要格式化的毫秒值
+     * @param dest: 目标缓冲区
+     * @return java.nio.ByteBuffer
+    */
+    @Override
+    public ByteBuffer format(final long millis, final ByteBuffer dest) {
+        final EpochFields fields = EPOCH_FIELDS.get();
+        final char[] chars = fields.chars(mMaxLengthEstimate + rules.length * Constant.TEN);
+        final int length = format(millis, chars, Constant.ZERO, fields);
+        if (dest.remaining() < utf8Length(chars, length)) {
+            throw new BufferOverflowException();
+        }
+        putUtf8(dest, chars, length);
+        return dest;
+    }
+
+    /**
+     * [将毫秒数格式化到给定的字符数组中](Formats a millisecond value into the given char array)
+     * @description: zh - 将毫秒数格式化到给定的字符数组中，使用给定的日期字段
+     * @description: en - Formats a millisecond value into the given char array using the given date fields
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:07 上午
+     * @param millis: 要格式化的毫秒值
+     * @param dest: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @param fields: 当前线程的日期字段
+     * @return int
+    */
+    private int format(final long millis, final char[] dest, final int offset, final EpochFields fields) {
+        if (!epochSupported || millis < GREGORIAN_CUTOVER) {
+            final String text = format(millis);
+            text.getChars(Constant.ZERO, text.length(), dest, offset);
+            return offset + text.length();
+        }
+        if (cachePeriod != Constant.ZERO) {
+            return formatCached(millis, dest, offset, fields);
+        }
+        return formatEpoch(millis, dest, offset, fields);
+    }
+
+    /**
+     * [由纪元毫秒数直接格式化](Formats directly from the epoch millis)
+     * @description: zh - 由纪元毫秒数算出日期字段后依次应用规则，不使用缓存文本
+     * @description: en - Computes the date fields from the epoch millis and applies the rules in turn, without the cached text
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:44 上午
+     * @param millis: 要格式化的毫秒值，不早于公历切换时间
+     * @param dest: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @param fields: 当前线程的日期字段
+     * @return int
+    */
+    private int formatEpoch(final long millis, final char[] dest, final int offset, final EpochFields fields) {
+        fields.set(millis, timeZone);
+        int position = offset;
+        for (final Rule rule : rules) {
+            position = rule.appendTo(dest, position, fields);
+        }
+        return position;
+    }
+
+    /**
+     * [使用缓存文本格式化](Formats using the cached text)
+     * @description: zh - 使用缓存文本格式化，复制缓存文本并重写定宽的时间字段。毫秒数落在紧随缓存之后的时间段时 cache 前移到该时间段，
+     * 更早或更晚的毫秒数使用另一个缓存 spare，单个离群的时间戳不会移动 cache，之后正常的时间戳仍然命中缓存
+     * @description: en - Formats using the cached text, copying it and rewriting the fixed width time fields. Millis falling in the period right after the cache move cache forward to that period,
+     * earlier or later millis use the second slot spare, so a single outlying timestamp does not move cache and the normal timestamps after it still hit the cache
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:48 上午
+     * @param millis: 要格式化的毫秒值，不早于公历切换时间
+     * @param dest: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @param fields: 当前线程的日期字段
+     * @return int
+    */
+    private int formatCached(final long millis, final char[] dest, final int offset, final EpochFields fields) {
+        CachedText cached = cache;
+        if (null == cached || millis >= cached.end && millis - cached.end < cachePeriod) {
+            cached = new CachedText(millis, fields);
+            cache = cached;
+        } else if (millis < cached.start || millis >= cached.end) {
+            cached = spare;
+            if (null == cached || millis < cached.start || millis >= cached.end) {
+                cached = new CachedText(millis, fields);
+                spare = cached;
+            }
+        }
+        final char[] text = cached.text;
+        System.arraycopy(text, Constant.ZERO, dest, offset, text.length);
+        if (patchFields.length > Constant.ZERO) {
+            final int time = (int) Math.floorMod(millis + cached.zoneOffset, MILLIS_PER_DAY);
+            for (int i = Constant.ZERO; i < patchFields.length; i++) {
+                final int value = switch (patchFields[i]) {
+                    case Calendar.MILLISECOND -> time % Constant.ONE_THOUSAND;
+                    case Calendar.SECOND -> time / Constant.ONE_THOUSAND % Constant.SIXTY;
+                    case Calendar.MINUTE -> time / (Constant.SIXTY * Constant.ONE_THOUSAND) % Constant.SIXTY;
+                    default -> time / (Constant.SIXTY * Constant.SIXTY * Constant.ONE_THOUSAND);
+                };
+                writeDigits(dest, offset + cached.positions[i], patchWidths[i], value);
+            }
+        }
+        return offset + text.length;
+    }
+
     /**
      * [通过对给定日历应用此打印机的规则来创建该日历的字符串表示形式。](Creates a String representation of the given Calendar by applying the rules of this printer to it.)
      * @description: zh - 通过对给定日历应用此打印机的规则来创建该日历的字符串表示形式。
@@ -408,6 +700,19 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         return mMaxLengthEstimate;
     }
 
+    /**
+     * [是否正在使用缓存文本格式化](Whether the cached text is in use for formatting)
+     * @description: zh - 以缓存模式创建，且格式中除定宽的时、分、秒、毫秒外没有每秒都变化的字段时为 true
+     * @description: en - True when created in caching mode and the pattern has no field changing every second other than fixed width hours, minutes, seconds and milliseconds
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:52 上午
+     * @return boolean
+    */
+    public boolean isCaching() {
+        return cachePeriod != Constant.ZERO;
+    }
+
     /*序列化--------------------------------------------------------------------Serializing*/
 
     /**
@@ -515,6 +820,133 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         }
     }
 
+    /**
+     * [将两个数字写入给定的字符数组。](Writes two digits into the given char array.)
+     * @description: zh - 将两个数字写入给定的字符数组。
+     * @description: en - Writes two digits into the given char array.
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:08 上午
+     * @param buffer: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @param value: 要写入的值
+     * @return int
+    */
+    private static int appendDigits(final char[] buffer, final int offset, final int value) {
+        buffer[offset] = (char) (value / Constant.TEN + Constant.CHAR_ZERO);
+        buffer[offset + Constant.ONE] = (char) (value % Constant.TEN + Constant.CHAR_ZERO);
+        return offset + Constant.TWO;
+    }
+
+    /**
+     * [将所有数字写入给定的字符数组。](Writes all digits into the given char array.)
+     * @description: zh - 将所有数字写入给定的字符数组，不足最小宽度时左侧补零。
+     * @description: en - Writes all digits into the given char array, left padded with zeros up to the minimum width.
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:09 上午
+     * @param buffer: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @param value: 要写入的值
+     * @param minFieldWidth: 最小字段宽度
+     * @return int
+    */
+    private static int appendFullDigits(final char[] buffer, int offset, int value, final int minFieldWidth) {
+        int digits = Constant.ONE;
+        for (int rest = value / Constant.TEN; rest != Constant.ZERO; rest /= Constant.TEN) {
+            digits++;
+        }
+        for (int i = minFieldWidth - digits; i > Constant.ZERO; --i) {
+            buffer[offset++] = Constant.CHAR_ZERO;
+        }
+        final int end = offset + digits;
+        for (int i = end - Constant.ONE; i >= offset; --i) {
+            buffer[i] = (char) (value % Constant.TEN + Constant.CHAR_ZERO);
+            value /= Constant.TEN;
+        }
+        return end;
+    }
+
+    /**
+     * [将定宽数字写入字符数组](Writes a fixed width number into a char array)
+     * @description: zh - 从右向左写入定宽数字，左侧补零。
+     * @description: en - Writes a fixed width number from right to left, left padded with zeros.
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:49 上午
+     * @param buffer: 目标字符数组
+     * @param offset: 开始写入的位置
+     * @param width: 宽度
+     * @param value: 要写入的值
+    */
+    private static void writeDigits(final char[] buffer, final int offset, final int width, int value) {
+        for (int i = offset + width - Constant.ONE; i >= offset; --i) {
+            buffer[i] = (char) (value % Constant.TEN + Constant.CHAR_ZERO);
+            value /= Constant.TEN;
+        }
+    }
+
+    /**
+     * [计算字符按 UTF-8 编码后的字节数](Counts the bytes of characters encoded as UTF-8)
+     * @description: zh - 计算字符按 UTF-8 编码后的字节数，与 putUtf8 写入的字节数相同
+     * @description: en - Counts the bytes of characters encoded as UTF-8, the same number putUtf8 writes
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:10 上午
+     * @param chars: 字符
+     * @param length: 字符个数
+     * @return int
+    */
+    private static int utf8Length(final char[] chars, final int length) {
+        int bytes = length;
+        for (int i = Constant.ZERO; i < length; i++) {
+            final char c = chars[i];
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + Constant.ONE < length && Character.isLowSurrogate(chars[i + Constant.ONE])) {
+                    // 一对代理字符共 4 个字节
+                    i++;
+                }
+                bytes += Constant.TWO;
+            } else if (c >= 0x80) {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * [将字符按 UTF-8 编码写入缓冲区](Writes characters into a buffer encoded as UTF-8)
+     * @description: zh - 将字符按 UTF-8 编码写入缓冲区
+     * @description: en - Writes characters into a buffer encoded as UTF-8
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:11 上午
+     * @param dest: 目标缓冲区
+     * @param chars: 字符
+     * @param length: 字符个数
+    */
+    private static void putUtf8(final ByteBuffer dest, final char[] chars, final int length) {
+        for (int i = Constant.ZERO; i < length; i++) {
+            final char c = chars[i];
+            if (c < 0x80) {
+                dest.put((byte) c);
+            } else if (c < 0x800) {
+                dest.put((byte) (0xC0 | c >> 6));
+                dest.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + Constant.ONE < length && Character.isLowSurrogate(chars[i + Constant.ONE])) {
+                final int codePoint = Character.toCodePoint(c, chars[++i]);
+                dest.put((byte) (0xF0 | codePoint >> 18));
+                dest.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                dest.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                dest.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                dest.put((byte) (0xE0 | c >> 12));
+                dest.put((byte) (0x80 | c >> 6 & 0x3F));
+                dest.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
     /*私有的--------------------------------------------------------------------private*/
 
     /**
@@ -591,6 +1023,20 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
                 buffer.append(getTimeZoneDisplay(zone, false, mStyle, mLocale));
             }
         }
+
+        /**
+         * 夏令时与标准时间名称相同（如 GMT、UTC）时不需要由 Calendar 判断是否处于夏令时
+         */
+        @Override
+        public boolean supportsEpoch() {
+            return mStandard.equals(mDaylight);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            mStandard.getChars(Constant.ZERO, mStandard.length(), buffer, offset);
+            return offset + mStandard.length();
+        }
     }
 
     /**
@@ -645,6 +1091,29 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
             final int minutes = offset / (Constant.SIXTY * Constant.ONE_THOUSAND) - Constant.SIXTY * hours;
             appendDigits(buffer, minutes);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, int offset, final EpochFields fields) {
+            int zoneOffset = fields.offset;
+            if (zoneOffset < Constant.ZERO) {
+                buffer[offset++] = Constant.CHAR_DASH;
+                zoneOffset = -zoneOffset;
+            } else {
+                buffer[offset++] = Constant.CHAR_PLUS;
+            }
+            final int hours = zoneOffset / (Constant.SIXTY * Constant.SIXTY * Constant.ONE_THOUSAND);
+            offset = appendDigits(buffer, offset, hours);
+            if (mColon) {
+                buffer[offset++] = Constant.CHAR_COLON;
+            }
+            final int minutes = zoneOffset / (Constant.SIXTY * Constant.ONE_THOUSAND) - Constant.SIXTY * hours;
+            return appendDigits(buffer, offset, minutes);
+        }
     }
 
     /**
@@ -712,6 +1181,36 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
             final int minutes = offset / (Constant.SIXTY * Constant.ONE_THOUSAND) - Constant.SIXTY * hours;
             appendDigits(buffer, minutes);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, int offset, final EpochFields fields) {
+            int zoneOffset = fields.offset;
+            if (zoneOffset == Constant.ZERO) {
+                buffer[offset] = Constant.CHAR_UP_Z;
+                return offset + Constant.ONE;
+            }
+            if (zoneOffset < Constant.ZERO) {
+                buffer[offset++] = Constant.CHAR_DASH;
+                zoneOffset = -zoneOffset;
+            } else {
+                buffer[offset++] = Constant.CHAR_PLUS;
+            }
+            final int hours = zoneOffset / (Constant.SIXTY * Constant.SIXTY * Constant.ONE_THOUSAND);
+            offset = appendDigits(buffer, offset, hours);
+            if (length < Constant.FIVE) {
+                return offset;
+            }
+            if (length == Constant.SIX) {
+                buffer[offset++] = Constant.CHAR_COLON;
+            }
+            final int minutes = zoneOffset / (Constant.SIXTY * Constant.ONE_THOUSAND) - Constant.SIXTY * hours;
+            return appendDigits(buffer, offset, minutes);
+        }
     }
 
     /*类--------------------------------------------------------------------class*/
@@ -749,6 +1248,48 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
          * @throws IOException
          */
         void appendTo(Appendable buf, Calendar calendar) throws IOException;
+
+        /**
+         * [是否可以不经过日历输出](Whether it can be output without a calendar)
+         * @description: zh - 是否可以只用由纪元毫秒数算出的日期字段输出，不经过日历。
+         * @description: en - Whether it can be output from the date fields computed from the epoch millis alone, without a calendar.
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:12 上午
+         * @return boolean
+         */
+        default boolean supportsEpoch() {
+            return Constant.FALSE;
+        }
+
+        /**
+         * [根据规则实现将日期字段写入字符数组。](Writes the date fields into a char array based on the rule implementation.)
+         * @description: zh - 根据规则实现将日期字段写入字符数组，只在 supportsEpoch 为 true 时调用。
+         * @description: en - Writes the date fields into a char array based on the rule implementation, only called when supportsEpoch is true.
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:13 上午
+         * @param buffer: 目标字符数组
+         * @param offset: 开始写入的位置
+         * @param fields: 日期字段
+         * @return int 写入后的位置
+         */
+        default int appendTo(char[] buffer, int offset, EpochFields fields) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " needs a Calendar");
+        }
+
+        /**
+         * [输出保持不变的时长](How long the output stays the same)
+         * @description: zh - 在按当地时间对齐的多长时间段（毫秒）内输出保持不变，用于决定缓存文本的有效时长，默认按天变化。
+         * @description: en - The length in millis of the local time aligned periods within which the output stays the same, used to decide how long cached text stays valid, changing daily by default.
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:45 上午
+         * @return long
+         */
+        default long stablePeriod() {
+            return MILLIS_PER_DAY;
+        }
     }
 
     /**
@@ -772,6 +1313,20 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
          * @throws IOException
          */
         void appendTo(Appendable buffer, int value) throws IOException;
+
+        /**
+         * [根据规则实现将指定的值写入字符数组。](Writes the specified value into a char array based on the rule implementation.)
+         * @description: zh - 根据规则实现将指定的值写入字符数组。
+         * @description: en - Writes the specified value into a char array based on the rule implementation.
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:14 上午
+         * @param buffer: 目标字符数组
+         * @param offset: 开始写入的位置
+         * @param value: 要写入的值
+         * @return int 写入后的位置
+         */
+        int appendTo(char[] buffer, int offset, int value);
     }
 
     /**
@@ -807,6 +1362,22 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValue);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            buffer[offset] = mValue;
+            return offset + Constant.ONE;
+        }
+
+        @Override
+        public long stablePeriod() {
+            return Long.MAX_VALUE;
+        }
     }
 
     /**
@@ -842,6 +1413,22 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValue);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            mValue.getChars(Constant.ZERO, mValue.length(), buffer, offset);
+            return offset + mValue.length();
+        }
+
+        @Override
+        public long stablePeriod() {
+            return Long.MAX_VALUE;
+        }
     }
 
     /**
@@ -887,6 +1474,23 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValues[calendar.get(mField)]);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return EpochFields.supports(mField);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            final String value = mValues[fields.get(mField)];
+            value.getChars(Constant.ZERO, value.length(), buffer, offset);
+            return offset + value.length();
+        }
+
+        @Override
+        public long stablePeriod() {
+            return EpochFields.stablePeriod(mField);
+        }
     }
 
     /**
@@ -933,6 +1537,26 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
                 appendFullDigits(buffer, value, Constant.ONE);
             }
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return EpochFields.supports(mField);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return appendTo(buffer, offset, fields.get(mField));
+        }
+
+        @Override
+        public final int appendTo(final char[] buffer, final int offset, final int value) {
+            return appendFullDigits(buffer, offset, value, Constant.ONE);
+        }
+
+        @Override
+        public long stablePeriod() {
+            return EpochFields.stablePeriod(mField);
+        }
     }
 
     /**
@@ -967,6 +1591,25 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
                 appendDigits(buffer, value);
             }
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return appendTo(buffer, offset, fields.month + Constant.ONE);
+        }
+
+        @Override
+        public final int appendTo(final char[] buffer, final int offset, final int value) {
+            if (value < Constant.TEN) {
+                buffer[offset] = (char) (value + Constant.CHAR_ZERO);
+                return offset + Constant.ONE;
+            }
+            return appendDigits(buffer, offset, value);
+        }
     }
 
     /**
@@ -1013,6 +1656,26 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public final void appendTo(final Appendable buffer, final int value) throws IOException {
             appendFullDigits(buffer, value, mSize);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return EpochFields.supports(mField);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return appendTo(buffer, offset, fields.get(mField));
+        }
+
+        @Override
+        public final int appendTo(final char[] buffer, final int offset, final int value) {
+            return appendFullDigits(buffer, offset, value, mSize);
+        }
+
+        @Override
+        public long stablePeriod() {
+            return EpochFields.stablePeriod(mField);
+        }
     }
 
     /**
@@ -1057,6 +1720,29 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
                 appendFullDigits(buffer, value, Constant.TWO);
             }
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return EpochFields.supports(mField);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return appendTo(buffer, offset, fields.get(mField));
+        }
+
+        @Override
+        public final int appendTo(final char[] buffer, final int offset, final int value) {
+            if (value < Constant.HUNDRED) {
+                return appendDigits(buffer, offset, value);
+            }
+            return appendFullDigits(buffer, offset, value, Constant.TWO);
+        }
+
+        @Override
+        public long stablePeriod() {
+            return EpochFields.stablePeriod(mField);
+        }
     }
 
     /**
@@ -1087,6 +1773,21 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public final void appendTo(final Appendable buffer, final int value) throws IOException {
             appendDigits(buffer, value);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return appendDigits(buffer, offset, fields.year % Constant.HUNDRED);
+        }
+
+        @Override
+        public final int appendTo(final char[] buffer, final int offset, final int value) {
+            return appendDigits(buffer, offset, value);
+        }
     }
 
     /**
@@ -1117,6 +1818,21 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public final void appendTo(final Appendable buffer, final int value) throws IOException {
             appendDigits(buffer, value);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return Constant.TRUE;
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return appendDigits(buffer, offset, fields.month + Constant.ONE);
+        }
+
+        @Override
+        public final int appendTo(final char[] buffer, final int offset, final int value) {
+            return appendDigits(buffer, offset, value);
+        }
     }
 
     /**
@@ -1161,6 +1877,27 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return mRule.supportsEpoch();
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            final int value = fields.get(Calendar.HOUR);
+            return mRule.appendTo(buffer, offset, value == Constant.ZERO ? Constant.TWELVE : value);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final int value) {
+            return mRule.appendTo(buffer, offset, value);
+        }
+
+        @Override
+        public long stablePeriod() {
+            return mRule.stablePeriod();
+        }
     }
 
     /**
@@ -1196,6 +1933,26 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return mRule.supportsEpoch();
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            return mRule.appendTo(buffer, offset, fields.hour == Constant.ZERO ? Constant.TWENTY_FOUR : fields.hour);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final int value) {
+            return mRule.appendTo(buffer, offset, value);
+        }
+
+        @Override
+        public long stablePeriod() {
+            return mRule.stablePeriod();
+        }
     }
 
     /**
@@ -1228,6 +1985,27 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        @Override
+        public boolean supportsEpoch() {
+            return mRule.supportsEpoch();
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final EpochFields fields) {
+            final int value = fields.dayOfWeek;
+            return mRule.appendTo(buffer, offset, value != Calendar.SUNDAY ? value - Constant.ONE : Constant.SEVEN);
+        }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final int value) {
+            return mRule.appendTo(buffer, offset, value);
+        }
+
+        @Override
+        public long stablePeriod() {
+            return mRule.stablePeriod();
+        }
     }
 
     /**
@@ -1259,6 +2037,222 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        @Override
+        public int appendTo(final char[] buffer, final int offset, final int value) {
+            return mRule.appendTo(buffer, offset, value);
+        }
+    }
+
+    /**
+     * [缓存的文本](Cached text)
+     * @description: zh - 一个按当地时间对齐、时区偏移不变的时间段内渲染好的文本，以及其中定宽时间字段的位置，创建后不可变
+     * @description: en - The text rendered for a local time aligned period in which the zone offset does not change, with the positions of its fixed width time fields, immutable once created
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:50 上午
+    */
+    private final class CachedText {
+        /**
+         * 时间段的起止毫秒数，包括起点不包括终点
+         */
+        final long start;
+        final long end;
+        final int zoneOffset;
+        final char[] text;
+        final int[] positions;
+
+        /**
+         * [渲染包含给定毫秒数的时间段](Render the period containing the given millis)
+         * @description: zh - 渲染包含给定毫秒数的时间段。时间段内时区偏移发生变化（如夏令时切换当天）时依次缩短为小时、分钟、秒
+         * @description: en - Render the period containing the given millis. When the zone offset changes within the period (such as on the day daylight saving time switches) it is shortened to an hour, a minute and then a second
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:51 上午
+         * @param millis: 毫秒数
+         * @param fields: 当前线程的日期字段
+        */
+        CachedText(final long millis, final EpochFields fields) {
+            fields.set(millis, timeZone);
+            zoneOffset = fields.offset;
+            final long local = millis + zoneOffset;
+            long period = cachePeriod;
+            long begin = Math.floorDiv(local, period) * period - zoneOffset;
+            while (period > MILLIS_PER_SECOND && (timeZone.getOffset(begin) != zoneOffset || timeZone.getOffset(begin + period - Constant.ONE) != zoneOffset)) {
+                period = period == MILLIS_PER_DAY ? MILLIS_PER_HOUR : period == MILLIS_PER_HOUR ? MILLIS_PER_MINUTE : MILLIS_PER_SECOND;
+                begin = Math.floorDiv(local, period) * period - zoneOffset;
+            }
+            start = begin;
+            end = begin + period;
+
+            final char[] buffer = new char[mMaxLengthEstimate + rules.length * Constant.TEN];
+            positions = new int[patchFields.length];
+            int position = Constant.ZERO;
+            int patch = Constant.ZERO;
+            for (final Rule rule : rules) {
+                if (patch < positions.length && patchField(rule) >= Constant.ZERO) {
+                    positions[patch++] = position;
+                }
+                position = rule.appendTo(buffer, position, fields);
+            }
+            text = Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * [由纪元毫秒数算出的日期字段](Date fields computed from the epoch millis)
+     * @description: zh - 由纪元毫秒数算出的公历日期字段，取值与 GregorianCalendar 相同。每个线程复用一个实例，计算时不创建对象，同时保存字节缓冲区格式化所用的字符数组
+     * @description: en - Gregorian date fields computed from the epoch millis, with the same values as GregorianCalendar. Each thread reuses one instance and computing creates no objects, it also keeps the char array used when formatting into a byte buffer
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 12:15 上午
+    */
+    private static final class EpochFields {
+        /**
+         * 平年中每月之前的天数
+         */
+        private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+        int year;
+        int month;
+        int day;
+        int hour;
+        int minute;
+        int second;
+        int millisecond;
+        int dayOfWeek;
+        int dayOfYear;
+
+        /**
+         * 时区偏移，等于 Calendar 的 ZONE_OFFSET 与 DST_OFFSET 之和
+         */
+        int offset;
+
+        private char[] chars = new char[Constant.SIXTY_FOUR];
+
+        /**
+         * [计算日期字段](Computes the date fields)
+         * @description: zh - 按给定时区计算毫秒数对应的日期字段，使用公历，不处理儒略历切换
+         * @description: en - Computes the date fields of the millis in the given time zone using the Gregorian calendar, the Julian cutover is not handled
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:16 上午
+         * @param millis: 毫秒数
+         * @param zone: 时区
+        */
+        void set(final long millis, final TimeZone zone) {
+            offset = zone.getOffset(millis);
+            final long local = millis + offset;
+            final long days = Math.floorDiv(local, MILLIS_PER_DAY);
+            int time = (int) Math.floorMod(local, MILLIS_PER_DAY);
+            millisecond = time % Constant.ONE_THOUSAND;
+            time /= Constant.ONE_THOUSAND;
+            second = time % Constant.SIXTY;
+            time /= Constant.SIXTY;
+            minute = time % Constant.SIXTY;
+            hour = time / Constant.SIXTY;
+            // 1970-01-01 是星期四
+            dayOfWeek = Math.floorMod(days + Constant.FOUR, Constant.SEVEN) + Calendar.SUNDAY;
+
+            // 以 3 月 1 日为年初、400 年为一个周期计算年月日
+            final long shifted = days + 719468;
+            final long era = Math.floorDiv(shifted, 146097);
+            final int dayOfEra = (int) (shifted - era * 146097);
+            final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            final int dayOfMarchYear = dayOfEra - (365 * yearOfEra + yearOfEra / Constant.FOUR - yearOfEra / Constant.HUNDRED);
+            final int marchMonth = (5 * dayOfMarchYear + Constant.TWO) / 153;
+            day = dayOfMarchYear - (153 * marchMonth + Constant.TWO) / 5 + Constant.ONE;
+            month = marchMonth < Constant.TEN ? marchMonth + Constant.TWO : marchMonth - Constant.TEN;
+            year = (int) (yearOfEra + era * 400) + (month < Calendar.MARCH ? Constant.ONE : Constant.ZERO);
+
+            final boolean leap = (year & Constant.THREE) == Constant.ZERO && (year % Constant.HUNDRED != Constant.ZERO || year % 400 == Constant.ZERO);
+            dayOfYear = DAYS_BEFORE_MONTH[month] + day + (leap && month > Calendar.FEBRUARY ? Constant.ONE : Constant.ZERO);
+        }
+
+        /**
+         * [获取日历字段的值](Gets the value of a calendar field)
+         * @description: zh - 获取日历字段的值，字段必须是 supports 返回 true 的字段
+         * @description: en - Gets the value of a calendar field, which must be one for which supports returns true
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:17 上午
+         * @param field: Calendar 中的字段
+         * @return int
+        */
+        int get(final int field) {
+            return switch (field) {
+                case Calendar.ERA -> GregorianCalendar.AD;
+                case Calendar.YEAR -> year;
+                case Calendar.MONTH -> month;
+                case Calendar.DAY_OF_MONTH -> day;
+                case Calendar.HOUR_OF_DAY -> hour;
+                case Calendar.HOUR -> hour % Constant.TWELVE;
+                case Calendar.AM_PM -> hour / Constant.TWELVE;
+                case Calendar.MINUTE -> minute;
+                case Calendar.SECOND -> second;
+                case Calendar.MILLISECOND -> millisecond;
+                case Calendar.DAY_OF_WEEK -> dayOfWeek;
+                case Calendar.DAY_OF_YEAR -> dayOfYear;
+                case Calendar.DAY_OF_WEEK_IN_MONTH -> (day - Constant.ONE) / Constant.SEVEN + Constant.ONE;
+                default -> throw new IllegalArgumentException("Unsupported calendar field: " + field);
+            };
+        }
+
+        /**
+         * [获取字符数组](Gets the char array)
+         * @description: zh - 获取至少有给定长度的字符数组，只在不够长时重新分配
+         * @description: en - Gets a char array of at least the given length, reallocated only when it is too short
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:18 上午
+         * @param length: 最小长度
+         * @return char[]
+        */
+        char[] chars(final int length) {
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            return chars;
+        }
+
+        /**
+         * [日历字段保持不变的时长](How long a calendar field stays the same)
+         * @description: zh - 日历字段在按当地时间对齐的多长时间段（毫秒）内保持不变
+         * @description: en - The length in millis of the local time aligned periods within which a calendar field stays the same
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:46 上午
+         * @param field: Calendar 中的字段
+         * @return long
+        */
+        static long stablePeriod(final int field) {
+            return switch (field) {
+                case Calendar.MILLISECOND -> Constant.ONE;
+                case Calendar.SECOND -> MILLIS_PER_SECOND;
+                case Calendar.MINUTE -> MILLIS_PER_MINUTE;
+                case Calendar.HOUR_OF_DAY, Calendar.HOUR, Calendar.AM_PM -> MILLIS_PER_HOUR;
+                default -> MILLIS_PER_DAY;
+            };
+        }
+
+        /**
+         * [是否支持给定的日历字段](Whether the given calendar field is supported)
+         * @description: zh - 是否支持给定的日历字段，与区域设置有关的周字段不支持
+         * @description: en - Whether the given calendar field is supported, the locale dependent week fields are not
+         * @version: V1.0
+         * @author XiaoXunYao
+         * @since 2026/10/19 12:19 上午
+         * @param field: Calendar 中的字段
+         * @return boolean
+        */
+        static boolean supports(final int field) {
+            return switch (field) {
+                case Calendar.ERA, Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.HOUR, Calendar.AM_PM,
+                        Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND, Calendar.DAY_OF_WEEK, Calendar.DAY_OF_YEAR,
+                        Calendar.DAY_OF_WEEK_IN_MONTH -> Constant.TRUE;
+                default -> Constant.FALSE;
+            };
+        }
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.xiaoTools.date.timer.stopWatch;
 
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.date.clock.Clock;
+import com.xiaoTools.date.clock.systemClock.SystemClock;
 import com.xiaoTools.lang.constant.Constant;
 import com.xiaoTools.util.dateUtil.DateUtil;
 import com.xiaoTools.util.fileUtil.fileUtil.FileUtil;
@@ -24,6 +27,7 @@ public class StopWatch {
 
     private final String id;
     private List<TaskInfo> taskList;
+    private final Clock clock;
 
     /**
      * 存放任务名称和花费时间对象
@@ -131,7 +135,23 @@ public class StopWatch {
      * @param keepTaskList 是否在停止后保留任务，{@code false} 表示停止运行后不保留任务
      */
     public StopWatch(String id, boolean keepTaskList) {
+        this(id, keepTaskList, SystemClock.INSTANCE);
+    }
+
+    /**
+     * [构造，不启动任何任务，使用给定的时钟计时](Construct without starting any task, timing with the given clock)
+     * @description: zh - 构造，不启动任何任务，使用给定的时钟计时
+     * @description: en - Construct without starting any task, timing with the given clock
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 8:25 下午
+     * @param id: 用于标识秒表的唯一ID
+     * @param keepTaskList: 是否在停止后保留任务
+     * @param clock: 时钟
+    */
+    public StopWatch(String id, boolean keepTaskList, Clock clock) {
         this.id = id;
+        this.clock = Assertion.notNull(clock, "clock must not be null");
         if (keepTaskList) {
             this.taskList = new ArrayList<>();
         }
@@ -195,7 +215,7 @@ public class StopWatch {
             throw new IllegalStateException("Can't start StopWatch: it's already running");
         }
         this.currentTaskName = taskName;
-        this.startTimeNanos = System.nanoTime();
+        this.startTimeNanos = clock.nanoTime();
     }
 
     /**
@@ -211,7 +231,7 @@ public class StopWatch {
         if (Constant.NULL == this.currentTaskName) {
             throw new IllegalStateException("Can't stop StopWatch: it's not running");
         }
-        final long lastTime = System.nanoTime() - this.startTimeNanos;
+        final long lastTime = clock.nanoTime() - this.startTimeNanos;
         this.totalTimeNanos += lastTime;
         this.lastTaskInfo = new TaskInfo(this.currentTaskName, lastTime);
         if (Constant.NULL != this.taskList) {
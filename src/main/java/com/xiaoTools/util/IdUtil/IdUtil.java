@@ -1,9 +1,20 @@
 package com.xiaoTools.util.IdUtil;
 
+import com.xiaoTools.date.clock.Clock;
 import com.xiaoTools.lang.constant.Constant;
 import com.xiaoTools.util.IdUtil.objectId.ObjectId;
+import com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId;
+import com.xiaoTools.util.IdUtil.segmentIdGenerator.SegmentIdGenerator;
+import com.xiaoTools.util.IdUtil.segmentIdGenerator.rangeSource.RangeSource;
+import com.xiaoTools.util.IdUtil.segmentIdGenerator.rangeSource.fileRangeSource.FileRangeSource;
 import com.xiaoTools.util.IdUtil.snowflake.Snowflake;
+import com.xiaoTools.util.IdUtil.snowflake.shardedSnowflake.ShardedSnowflake;
+import com.xiaoTools.util.IdUtil.ulid.Ulid;
+import com.xiaoTools.util.IdUtil.ulid.ulidGenerator.UlidGenerator;
 import com.xiaoTools.util.IdUtil.uuid.UUID;
+import com.xiaoTools.util.IdUtil.uuid.timeOrderedUUIDGenerator.TimeOrderedUUIDGenerator;
+
+import java.io.File;
 
 /**
  * [产生的随机ID工具类](Generated random ID tool class)
@@ -67,6 +78,88 @@ public class IdUtil {
         return UUID.fastUUID().toString(Constant.TRUE);
     }
 
+    /**
+     * [产生时间有序的UUID（版本7），携带`-`](Generate a time-ordered UUID (version 7) with '-')
+     * @description: zh - 产生时间有序的UUID（版本7），携带`-`。同一进程内严格递增，适合作为数据库主键
+     * @description: en - Generate a time-ordered UUID (version 7) with '-'. Strictly increasing within a process, suitable as a database primary key
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 7:35 下午
+     * @return java.lang.String
+    */
+    public static String timeOrderedUUID(){
+        return UUID.timeOrderedUUID().toString();
+    }
+
+    /**
+     * [产生ULID](Generate ULID)
+     * @description: zh - 产生26位Crockford Base32的ULID，同一进程内严格递增
+     * @description: en - Generate a 26 character Crockford Base32 ULID, strictly increasing within a process
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 7:36 下午
+     * @return java.lang.String
+    */
+    public static String ulid(){
+        return Ulid.nextUlid().toString();
+    }
+
+    /**
+     * [批量产生UUID，携带`-`](Generate UUIDs in bulk, with '-')
+     * @description: zh - 批量产生UUID，携带`-`
+     * @description: en - Generate UUIDs in bulk, with '-'
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:14 下午
+     * @param n: 数量
+     * @return java.lang.String[]
+    */
+    public static String[] randomUUIDs(int n){
+        return toStrings(UUID.randomUUIDs(n), Constant.FALSE);
+    }
+
+    /**
+     * [批量产生简化的UUID，去除了`-`](Generate simplified UUIDs in bulk, without '-')
+     * @description: zh - 批量产生简化的UUID，去除了`-`
+     * @description: en - Generate simplified UUIDs in bulk, without '-'
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:15 下午
+     * @param n: 数量
+     * @return java.lang.String[]
+    */
+    public static String[] simpleUUIDs(int n){
+        return toStrings(UUID.randomUUIDs(n), Constant.TRUE);
+    }
+
+    /**
+     * [批量产生性能更快的UUID，携带`-`](Generate faster UUIDs in bulk, with '-')
+     * @description: zh - 批量产生性能更快的UUID，携带`-`
+     * @description: en - Generate faster UUIDs in bulk, with '-'
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:16 下午
+     * @param n: 数量
+     * @return java.lang.String[]
+    */
+    public static String[] fastUUIDs(int n){
+        return toStrings(UUID.fastUUIDs(n), Constant.FALSE);
+    }
+
+    /**
+     * [批量产生性能更快并且没有`-`的UUID](Generate faster UUIDs in bulk without '-')
+     * @description: zh - 批量产生性能更快并且没有`-`的UUID
+     * @description: en - Generate faster UUIDs in bulk without '-'
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:17 下午
+     * @param n: 数量
+     * @return java.lang.String[]
+    */
+    public static String[] fastSimpleUUIDs(int n){
+        return toStrings(UUID.fastUUIDs(n), Constant.TRUE);
+    }
+
     /**
      * [创建一个简单的ObjectID](Create a simple ObjectID)
      * @description: zh - 创建一个简单的ObjectID
@@ -80,6 +173,33 @@ public class IdUtil {
         return ObjectId.nextId();
     }
 
+    /**
+     * [批量创建ObjectID](Create ObjectIDs in bulk)
+     * @description: zh - 批量创建ObjectID，一次预留一段连续的自增值
+     * @description: en - Create ObjectIDs in bulk, a range of consecutive increments is reserved at once
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:18 下午
+     * @param n: 数量
+     * @return java.lang.String[]
+    */
+    public static String[] objectIds(int n) {
+        return ObjectId.nextIds(n, Constant.TRUE);
+    }
+
+    /**
+     * [创建二进制形式的ObjectID](Create an ObjectID in binary form)
+     * @description: zh - 创建二进制形式的ObjectID，12个字节保存在两个基本类型中，需要时再转为十六进制
+     * @description: en - Create an ObjectID in binary form, the 12 bytes are kept in two primitives and converted to hexadecimal only when needed
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 9:35 下午
+     * @return com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId
+    */
+    public static BinaryObjectId binaryObjectId() {
+        return ObjectId.nextBinaryId();
+    }
+
     /**
      * [创建Twitter的Snowflake 算法生成器。](Create Twitter's snowflake algorithm generator.)
      * @description: zh - 创建Twitter的Snowflake 算法生成器。
@@ -95,4 +215,102 @@ public class IdUtil {
         return new Snowflake(workId,datacenterId);
     }
 
+    /**
+     * [创建使用给定时钟的Snowflake 算法生成器。](Create a snowflake algorithm generator using the given clock.)
+     * @description: zh - 创建使用给定时钟的Snowflake 算法生成器。高频调用时可以传入CoarseClock
+     * @description: en - Create a snowflake algorithm generator using the given clock. A CoarseClock can be passed for high rate callers
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 8:30 下午
+     * @param workId: [终端ID](Terminal ID)
+     * @param datacenterId: [数据中心ID](Data center ID)
+     * @param clock: [时钟](Clock)
+     * @return com.xiaoTools.util.IdUtil.snowflake.Snowflake
+    */
+    public static Snowflake createSnowflakeId(long workId,long datacenterId,Clock clock){
+        return new Snowflake(workId,datacenterId,clock);
+    }
+
+    /**
+     * [创建号段ID生成器](Create a segment ID generator)
+     * @description: zh - 创建号段ID生成器，ID稠密且严格递增，不依赖时钟
+     * @description: en - Create a segment ID generator, the IDs are dense and strictly increasing and do not depend on the clock
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:55 下午
+     * @param source: 号段来源
+     * @param step: 每次取的号段长度
+     * @return com.xiaoTools.util.IdUtil.segmentIdGenerator.SegmentIdGenerator
+    */
+    public static SegmentIdGenerator createSegmentIdGenerator(RangeSource source, long step){
+        return new SegmentIdGenerator(source, step);
+    }
+
+    /**
+     * [创建基于本地文件的号段ID生成器](Create a segment ID generator based on a local file)
+     * @description: zh - 创建基于本地文件的号段ID生成器，进程重启后从文件中记录的位置继续
+     * @description: en - Create a segment ID generator based on a local file, it continues from the position recorded in the file after a restart
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:56 下午
+     * @param file: 保存已分配最大值的文件
+     * @param step: 每次取的号段长度
+     * @return com.xiaoTools.util.IdUtil.segmentIdGenerator.SegmentIdGenerator
+    */
+    public static SegmentIdGenerator createSegmentIdGenerator(File file, long step){
+        return new SegmentIdGenerator(new FileRangeSource(file), step);
+    }
+
+    /**
+     * [创建按线程分片的Snowflake 算法生成器。](Create a snowflake algorithm generator sharded by thread.)
+     * @description: zh - 创建按线程分片的Snowflake 算法生成器。每个线程独占序列号的一个分片，取号时不加锁也没有CAS
+     * @description: en - Create a snowflake algorithm generator sharded by thread. Each thread owns a shard of the sequence and generates IDs without locking or CAS
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 9:05 下午
+     * @param workId: [终端ID](Terminal ID)
+     * @param datacenterId: [数据中心ID](Data center ID)
+     * @param shardBits: 分片号占用的位数，1到10
+     * @return com.xiaoTools.util.IdUtil.snowflake.shardedSnowflake.ShardedSnowflake
+    */
+    public static ShardedSnowflake createShardedSnowflakeId(long workId,long datacenterId,int shardBits){
+        return new ShardedSnowflake(workId,datacenterId,shardBits);
+    }
+
+    /**
+     * [创建使用给定时钟的时间有序UUID（版本7）生成器。](Create a time-ordered UUID (version 7) generator using the given clock.)
+     * @description: zh - 创建使用给定时钟的时间有序UUID（版本7）生成器。单调递增的状态属于生成器，与timeOrderedUUID()以及其它生成器互不影响
+     * @description: en - Create a time-ordered UUID (version 7) generator using the given clock. The monotonic state belongs to the generator and does not affect timeOrderedUUID() or other generators
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:42 上午
+     * @param clock: [时钟](Clock)
+     * @return com.xiaoTools.util.IdUtil.uuid.timeOrderedUUIDGenerator.TimeOrderedUUIDGenerator
+    */
+    public static TimeOrderedUUIDGenerator createTimeOrderedUUIDGenerator(Clock clock){
+        return new TimeOrderedUUIDGenerator(clock);
+    }
+
+    /**
+     * [创建使用给定时钟的ULID生成器。](Create a ULID generator using the given clock.)
+     * @description: zh - 创建使用给定时钟的ULID生成器。单调递增的状态属于生成器，与ulid()以及其它生成器互不影响
+     * @description: en - Create a ULID generator using the given clock. The monotonic state belongs to the generator and does not affect ulid() or other generators
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:43 上午
+     * @param clock: [时钟](Clock)
+     * @return com.xiaoTools.util.IdUtil.ulid.ulidGenerator.UlidGenerator
+    */
+    public static UlidGenerator createUlidGenerator(Clock clock){
+        return new UlidGenerator(clock);
+    }
+
+    private static String[] toStrings(UUID[] uuids, boolean isSimple) {
+        String[] result = new String[uuids.length];
+        for (int i = Constant.ZERO; i < uuids.length; i++) {
+            result[i] = uuids[i].toString(isSimple);
+        }
+        return result;
+    }
+
 }
@@ -1,11 +1,11 @@
 package com.xiaoTools.util.IdUtil.objectId;
 
 import com.xiaoTools.lang.constant.Constant;
+import com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId;
 import com.xiaoTools.util.randomUtil.RandomUtil;
 import com.xiaoTools.util.strUtil.StrUtil;
 
 import java.net.NetworkInterface;
-import java.nio.ByteBuffer;
 import java.util.Enumeration;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -138,27 +138,76 @@ public class ObjectId {
      * @return java.lang.String
     */
     public static String nextId(boolean withHyphen){
-        byte[] b = new byte[Constant.TWELVE];
-        ByteBuffer bb = ByteBuffer.wrap(b);
-        //4位
-        bb.putInt((int) (System.currentTimeMillis() / Constant.ONE_THOUSAND));
-        //4位
-        bb.putInt(MACHINE);
-        //4位
-        bb.putInt(NEXT_INC.getAndIncrement());
-        StringBuilder buf = new StringBuilder(Constant.TWENTY_FOUR);
-        // 原来objectId格式化太慢
-        byte[] array = bb.array();
-        for (int i = Constant.ZERO; i < array.length; i++) {
-            if (withHyphen && i % Constant.FOUR == Constant.ZERO && i != Constant.ZERO) { buf.append(Constant.DASH); }
-            int t = array[i] & Constant.BYTE_TWO;
-            if (t < Constant.SIXTEEN) {
-                buf.append(Constant.STRING_ZERO).append(Integer.toHexString(t));
-            }else {
-                buf.append(Integer.toHexString(t));
-            }
+        return format((int) (System.currentTimeMillis() / Constant.ONE_THOUSAND), NEXT_INC.getAndIncrement(), withHyphen);
+    }
+
+    /**
+     * [批量产生ObjectID](Generate ObjectIDs in bulk)
+     * @description: zh - 批量产生ObjectID，一次预留一段连续的自增值，时间戳只读取一次
+     * @description: en - Generate ObjectIDs in bulk, a range of consecutive increments is reserved at once and the timestamp is read only once
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:10 下午
+     * @param n: 数量
+     * @param withHyphen: 是否需要产生带`-`的ObjectID
+     * @return java.lang.String[]
+    */
+    public static String[] nextIds(int n, boolean withHyphen){
+        if (n < Constant.ZERO) { throw new IllegalArgumentException("n can't be less than 0！"); }
+        final int time = (int) (System.currentTimeMillis() / Constant.ONE_THOUSAND);
+        final int inc = NEXT_INC.getAndAdd(n);
+        final String[] ids = new String[n];
+        for (int i = Constant.ZERO; i < n; i++) {
+            ids[i] = format(time, inc + i, withHyphen);
         }
-        return buf.toString();
+        return ids;
+    }
+
+    /**
+     * [产生二进制形式的ObjectID](Generate an ObjectID in binary form)
+     * @description: zh - 产生二进制形式的ObjectID，除结果对象外不产生任何中间对象，机器信息和自增值与字符串形式共用
+     * @description: en - Generate an ObjectID in binary form, no intermediate object is created besides the result, the machine information and increment are shared with the string form
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 9:30 下午
+     * @return com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId
+    */
+    public static BinaryObjectId nextBinaryId(){
+        return new BinaryObjectId((int) (System.currentTimeMillis() / Constant.ONE_THOUSAND), MACHINE, NEXT_INC.getAndIncrement());
+    }
+
+    /**
+     * [产生ObjectID并写入字符数组](Generate an ObjectID and write it into a char array)
+     * @description: zh - 产生ObjectID并直接写入字符数组，不产生任何对象
+     * @description: en - Generate an ObjectID and write it into a char array directly without creating any object
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 9:32 下午
+     * @param dest: 目标数组
+     * @param offset: 起始位置
+     * @param withHyphen: 是否需要产生带`-`的ObjectID
+     * @return int 写入后的下一个位置
+    */
+    public static int nextId(char[] dest, int offset, boolean withHyphen){
+        return BinaryObjectId.toChars((int) (System.currentTimeMillis() / Constant.ONE_THOUSAND), MACHINE, NEXT_INC.getAndIncrement(), dest, offset, withHyphen);
+    }
+
+    /**
+     * [格式化ObjectID](Format ObjectID)
+     * @description: zh - 把时间戳、机器信息和自增值按顺序格式化为十六进制，带`-`时每4个字节一段
+     * @description: en - Format the timestamp, machine information and increment as hexadecimal in order, with '-' every 4 bytes when required
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:08 下午
+     * @param time: 秒级时间戳
+     * @param inc: 自增值
+     * @param withHyphen: 是否需要带`-`
+     * @return java.lang.String
+    */
+    private static String format(int time, int inc, boolean withHyphen){
+        final char[] buf = new char[withHyphen ? BinaryObjectId.HYPHEN_LENGTH : BinaryObjectId.LENGTH];
+        BinaryObjectId.toChars(time, MACHINE, inc, buf, Constant.ZERO, withHyphen);
+        return new String(buf);
     }
 
     /**
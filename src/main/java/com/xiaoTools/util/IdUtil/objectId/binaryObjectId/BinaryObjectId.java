@@ -0,0 +1,299 @@
+package com.xiaoTools.util.IdUtil.objectId.binaryObjectId;
+
+import com.xiaoTools.util.hexUtil.HexUtil;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * [二进制形式的ObjectID](ObjectID in binary form)
+ * @description zh - 二进制形式的ObjectID。12个字节保存在一个long和一个int中：long的高32位为秒级时间戳，低32位为机器信息，int为自增值。
+ * 每个实例只占一个小对象，十六进制形式只在需要时写入调用方提供的缓冲区，适合在内存中大量保存ObjectID
+ * @description en - ObjectID in binary form. The 12 bytes are kept in a long and an int: the high 32 bits of the long are the timestamp in seconds, the low 32 bits are the machine information, and the int is the increment.
+ * Each instance is a single small object and the hexadecimal form is only written into a caller provided buffer when needed, which suits keeping large numbers of ObjectIDs in memory
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 21:20:10
+ */
+public final class BinaryObjectId implements Comparable<BinaryObjectId>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 字节数
+	 */
+	public static final int BYTES = 12;
+
+	/**
+	 * 不带`-`的十六进制形式的长度
+	 */
+	public static final int LENGTH = 24;
+
+	/**
+	 * 带`-`的十六进制形式的长度
+	 */
+	public static final int HYPHEN_LENGTH = 26;
+
+	/**
+	 * 秒级时间戳和机器信息
+	 */
+	private final long high;
+
+	/**
+	 * 自增值
+	 */
+	private final int inc;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:21:30
+	 * @param time 秒级时间戳
+	 * @param machine 机器信息
+	 * @param inc 自增值
+	 */
+	public BinaryObjectId(int time, int machine, int inc) {
+		this.high = (long) time << 32 | machine & 0xFFFFFFFFL;
+		this.inc = inc;
+	}
+
+	/**
+	 * [解析十六进制形式的ObjectID](Parse an ObjectID in hexadecimal form)
+	 * @description zh - 解析十六进制形式的ObjectID，带不带`-`均可，不区分大小写
+	 * @description en - Parse an ObjectID in hexadecimal form, with or without '-', case insensitive
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:22:40
+	 * @param text 字符串
+	 * @return com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId
+	 */
+	public static BinaryObjectId parse(CharSequence text) {
+		if (null == text || (text.length() != LENGTH && text.length() != HYPHEN_LENGTH)) {
+			throw new IllegalArgumentException("Invalid ObjectID string: " + text);
+		}
+		final boolean withHyphen = text.length() == HYPHEN_LENGTH;
+		if (withHyphen && (text.charAt(8) != '-' || text.charAt(17) != '-')) {
+			throw new IllegalArgumentException("Invalid ObjectID string: " + text);
+		}
+		final int step = withHyphen ? 9 : 8;
+		return new BinaryObjectId(parseInt(text, 0), parseInt(text, step), parseInt(text, step * 2));
+	}
+
+	/**
+	 * [从字节数组读取ObjectID](Read an ObjectID from a byte array)
+	 * @description zh - 从字节数组按大端序读取12个字节
+	 * @description en - Read 12 bytes in big endian order from a byte array
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:23:20
+	 * @param src 源数组
+	 * @param offset 起始位置
+	 * @return com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId
+	 */
+	public static BinaryObjectId fromBytes(byte[] src, int offset) {
+		return new BinaryObjectId(readInt(src, offset), readInt(src, offset + 4), readInt(src, offset + 8));
+	}
+
+	/**
+	 * [获取秒级时间戳](Get the timestamp in seconds)
+	 * @description zh - 获取秒级时间戳
+	 * @description en - Get the timestamp in seconds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:24:02
+	 * @return int
+	 */
+	public int getTimestamp() {
+		return (int) (high >>> 32);
+	}
+
+	/**
+	 * [获取机器信息](Get the machine information)
+	 * @description zh - 获取机器信息，即机器码和进程码
+	 * @description en - Get the machine information, that is the machine code and the process code
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:24:30
+	 * @return int
+	 */
+	public int getMachine() {
+		return (int) high;
+	}
+
+	/**
+	 * [获取自增值](Get the increment)
+	 * @description zh - 获取自增值
+	 * @description en - Get the increment
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:24:50
+	 * @return int
+	 */
+	public int getInc() {
+		return inc;
+	}
+
+	/**
+	 * [把12个字节写入字节数组](Write the 12 bytes into a byte array)
+	 * @description zh - 按大端序把12个字节写入字节数组，不产生任何对象
+	 * @description en - Write the 12 bytes into a byte array in big endian order without creating any object
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:25:30
+	 * @param dest 目标数组
+	 * @param offset 起始位置
+	 * @return int 写入后的下一个位置
+	 */
+	public int toBytes(byte[] dest, int offset) {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			dest[offset++] = (byte) (high >>> shift);
+		}
+		for (int shift = 24; shift >= 0; shift -= 8) {
+			dest[offset++] = (byte) (inc >>> shift);
+		}
+		return offset;
+	}
+
+	/**
+	 * [把十六进制形式写入字符数组](Write the hexadecimal form into a char array)
+	 * @description zh - 把十六进制形式写入字符数组，不产生任何对象，带`-`时每4个字节一段
+	 * @description en - Write the hexadecimal form into a char array without creating any object, with '-' every 4 bytes when required
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:26:10
+	 * @param dest 目标数组
+	 * @param offset 起始位置
+	 * @param withHyphen 是否带`-`
+	 * @return int 写入后的下一个位置
+	 */
+	public int toChars(char[] dest, int offset, boolean withHyphen) {
+		return toChars(getTimestamp(), getMachine(), inc, dest, offset, withHyphen);
+	}
+
+	/**
+	 * [把三个部分的十六进制形式写入字符数组](Write the hexadecimal form of the three parts into a char array)
+	 * @description zh - 把时间戳、机器信息和自增值按顺序以十六进制写入字符数组，不产生任何对象，带`-`时每4个字节一段。ObjectId的字符串形式也由此生成
+	 * @description en - Write the timestamp, machine information and increment in order as hexadecimal into a char array without creating any object, with '-' every 4 bytes when required.
+	 * The string form of ObjectId is produced by it as well
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:52:10
+	 * @param time 秒级时间戳
+	 * @param machine 机器信息
+	 * @param inc 自增值
+	 * @param dest 目标数组
+	 * @param offset 起始位置
+	 * @param withHyphen 是否带`-`
+	 * @return int 写入后的下一个位置
+	 */
+	public static int toChars(int time, int machine, int inc, char[] dest, int offset, boolean withHyphen) {
+		offset = appendHex(dest, offset, time);
+		if (withHyphen) {
+			dest[offset++] = '-';
+		}
+		offset = appendHex(dest, offset, machine);
+		if (withHyphen) {
+			dest[offset++] = '-';
+		}
+		return appendHex(dest, offset, inc);
+	}
+
+	/**
+	 * [把十六进制形式追加到StringBuilder](Append the hexadecimal form to a StringBuilder)
+	 * @description zh - 把十六进制形式追加到StringBuilder，只使用一个临时字符数组，不产生中间字符串
+	 * @description en - Append the hexadecimal form to a StringBuilder using a single temporary char array, without creating intermediate strings
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:26:50
+	 * @param builder 目标
+	 * @param withHyphen 是否带`-`
+	 * @return java.lang.StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder builder, boolean withHyphen) {
+		final char[] chars = new char[withHyphen ? HYPHEN_LENGTH : LENGTH];
+		toChars(chars, 0, withHyphen);
+		return builder.append(chars);
+	}
+
+	/**
+	 * [转为字符串](Convert to string)
+	 * @description zh - 转为字符串
+	 * @description en - Convert to string
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:27:20
+	 * @param withHyphen 是否带`-`
+	 * @return java.lang.String
+	 */
+	public String toString(boolean withHyphen) {
+		final char[] chars = new char[withHyphen ? HYPHEN_LENGTH : LENGTH];
+		toChars(chars, 0, withHyphen);
+		return new String(chars);
+	}
+
+	private static int appendHex(char[] dest, int offset, int value) {
+		for (int shift = 28; shift >= 0; shift -= 4) {
+			dest[offset++] = HexUtil.toHexChar(value >>> shift);
+		}
+		return offset;
+	}
+
+	private static int parseInt(CharSequence text, int offset) {
+		int value = 0;
+		for (int i = offset; i < offset + 8; i++) {
+			final int digit = Character.digit(text.charAt(i), 16);
+			if (digit < 0) {
+				throw new IllegalArgumentException("Invalid ObjectID string: " + text);
+			}
+			value = value << 4 | digit;
+		}
+		return value;
+	}
+
+	private static int readInt(byte[] src, int offset) {
+		return (src[offset] & 0xFF) << 24 | (src[offset + 1] & 0xFF) << 16 | (src[offset + 2] & 0xFF) << 8 | src[offset + 3] & 0xFF;
+	}
+
+	/**
+	 * [比较](Compare)
+	 * @description zh - 按12个字节的无符号字典序比较，与十六进制字符串的顺序一致
+	 * @description en - Compare the 12 bytes in unsigned lexicographic order, the same as the order of the hexadecimal strings
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:28:02
+	 * @param o 另一个ObjectID
+	 * @return int
+	 */
+	@Override
+	public int compareTo(BinaryObjectId o) {
+		final int compare = Long.compareUnsigned(high, o.high);
+		return 0 != compare ? compare : Integer.compareUnsigned(inc, o.inc);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof BinaryObjectId)) {
+			return false;
+		}
+		final BinaryObjectId other = (BinaryObjectId) obj;
+		return high == other.high && inc == other.inc;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Long.hashCode(high) + inc;
+	}
+
+	@Override
+	public String toString() {
+		return toString(true);
+	}
+
+}
@@ -0,0 +1,261 @@
+package com.xiaoTools.util.IdUtil.segmentIdGenerator;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.lang.segment.Segment;
+import com.xiaoTools.util.IdUtil.segmentIdGenerator.rangeSource.RangeSource;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [号段ID生成器，双缓冲](Segment ID generator with double buffering)
+ * @description zh - 号段ID生成器。从号段来源一次取一段ID放在内存中分配，当前号段用掉一定比例后在后台预取下一段，
+ * 当前号段用完时直接切换，取号不依赖时钟，热路径上只有一次原子自增。生成的ID稠密且严格递增
+ * @description en - Segment ID generator. A range of IDs is taken from the range source at a time and handed out from memory, the next range is prefetched in the background
+ * once a share of the current one is used, and it is switched in directly when the current one runs out. No clock is involved and the hot path is a single atomic increment. The generated IDs are dense and strictly increasing
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:40:10
+ */
+public class SegmentIdGenerator implements Closeable {
+
+	/**
+	 * 默认在当前号段用掉10%时预取下一段
+	 */
+	public static final double DEFAULT_PREFETCH_RATIO = 0.1;
+
+	private final RangeSource source;
+	private final long step;
+	private final double prefetchRatio;
+
+	/**
+	 * 当前号段
+	 */
+	private volatile Buffer current;
+
+	/**
+	 * 预取中的下一段，只在持有this的锁时读写
+	 */
+	private CompletableFuture<Buffer> next;
+
+	/**
+	 * 是否已关闭，只在持有this的锁时读写
+	 */
+	private boolean closed;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，在当前号段用掉10%时预取下一段
+	 * @description en - Construct, the next range is prefetched once 10% of the current one is used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:42:30
+	 * @param source 号段来源
+	 * @param step 每次取的号段长度
+	 */
+	public SegmentIdGenerator(RangeSource source, long step) {
+		this(source, step, DEFAULT_PREFETCH_RATIO);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，首个号段在构造时同步获取
+	 * @description en - Construct, the first range is fetched synchronously
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:43:15
+	 * @param source 号段来源
+	 * @param step 每次取的号段长度
+	 * @param prefetchRatio 当前号段用掉多少比例后预取下一段，0到1之间
+	 */
+	public SegmentIdGenerator(RangeSource source, long step, double prefetchRatio) {
+		this.source = Assertion.notNull(source, "source must not be null");
+		Assertion.isTrue(step > 0, "step must be greater than 0");
+		Assertion.isTrue(prefetchRatio >= 0 && prefetchRatio < 1, "prefetchRatio must be in [0, 1)");
+		this.step = step;
+		this.prefetchRatio = prefetchRatio;
+		this.current = load();
+	}
+
+	/**
+	 * [获取下一个ID](Get the next ID)
+	 * @description zh - 获取下一个ID
+	 * @description en - Get the next ID
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:45:02
+	 * @return long
+	 */
+	public long nextId() {
+		Buffer buffer = current;
+		while (true) {
+			final long id = buffer.cursor.getAndIncrement();
+			if (id < buffer.end) {
+				// 恰好取到预取位置的线程只有一个，由它触发预取
+				if (id == buffer.prefetchAt) {
+					prefetch(buffer);
+				}
+				return id;
+			}
+			buffer = switchBuffer(buffer);
+		}
+	}
+
+	/**
+	 * [批量获取ID并填满数组](Get IDs in bulk and fill the array)
+	 * @description zh - 批量获取ID并填满数组，每个号段只做一次原子加法
+	 * @description en - Get IDs in bulk and fill the array, only one atomic add is done per range
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:46:20
+	 * @param dest 目标数组
+	 */
+	public void nextIds(long[] dest) {
+		int pos = 0;
+		Buffer buffer = current;
+		while (pos < dest.length) {
+			final int remaining = dest.length - pos;
+			final long first = buffer.cursor.getAndAdd(remaining);
+			if (first < buffer.end) {
+				final long last = Math.min(first + remaining, buffer.end);
+				if (first <= buffer.prefetchAt && buffer.prefetchAt < last) {
+					prefetch(buffer);
+				}
+				for (long id = first; id < last; id++) {
+					dest[pos++] = id;
+				}
+			}
+			if (pos < dest.length) {
+				buffer = switchBuffer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * [在后台预取下一段](Prefetch the next range in the background)
+	 * @description zh - 在后台预取下一段
+	 * @description en - Prefetch the next range in the background
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:47:40
+	 * @param buffer 触发预取的号段
+	 */
+	private synchronized void prefetch(Buffer buffer) {
+		// 号段已经被切换掉时不再预取，保证号段按取得的顺序使用
+		if (!closed && current == buffer && null == next) {
+			next = CompletableFuture.supplyAsync(this::load, Prefetcher.INSTANCE);
+		}
+	}
+
+	/**
+	 * [切换到下一段](Switch to the next range)
+	 * @description zh - 切换到下一段，优先使用预取的号段，预取失败或尚未预取时同步获取
+	 * @description en - Switch to the next range, the prefetched range is preferred and it is fetched synchronously when prefetching failed or has not started
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:48:55
+	 * @param exhausted 已用完的号段
+	 * @return com.xiaoTools.util.IdUtil.segmentIdGenerator.SegmentIdGenerator.Buffer
+	 */
+	private synchronized Buffer switchBuffer(Buffer exhausted) {
+		if (current != exhausted) {
+			return current;
+		}
+		if (closed) {
+			throw new IllegalStateException("SegmentIdGenerator is closed");
+		}
+		Buffer buffer = null;
+		if (null != next) {
+			try {
+				buffer = next.join();
+			} catch (CompletionException ignored) {
+				// 预取失败，下面同步重试，重试仍失败时把异常抛给调用方
+			}
+			next = null;
+		}
+		if (null == buffer) {
+			buffer = load();
+		}
+		current = buffer;
+		return buffer;
+	}
+
+	/**
+	 * [关闭生成器](Close the generator)
+	 * @description zh - 关闭生成器，不再预取并等待进行中的预取结束，之后号段来源不会再被访问。当前号段剩余的ID仍可取得，用完后抛出IllegalStateException。
+	 * 预取到但尚未使用的号段被丢弃
+	 * @description en - Close the generator, no more prefetching is started and an in-flight prefetch is waited for, the range source is not accessed afterwards.
+	 * The IDs left in the current range can still be taken, after that IllegalStateException is thrown. A prefetched range that was not used yet is discarded
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:36:05
+	 */
+	@Override
+	public void close() {
+		final CompletableFuture<Buffer> pending;
+		synchronized (this) {
+			closed = true;
+			pending = next;
+			next = null;
+		}
+		if (null != pending) {
+			try {
+				pending.join();
+			} catch (CompletionException ignored) {
+				// 预取失败的号段本来就不会被使用
+			}
+		}
+	}
+
+	private Buffer load() {
+		final Segment<Long> range = source.next(step);
+		final long start = range.getStartIndex();
+		final long end = range.getEndIndex();
+		Assertion.isTrue(end > start, "range must not be empty");
+		if (null != current) {
+			Assertion.isTrue(start >= current.end, "range must be greater than the previous one");
+		}
+		return new Buffer(start, end, start + (long) ((end - start) * prefetchRatio));
+	}
+
+	/**
+	 * [内存中的号段](Range in memory)
+	 * @description zh - 内存中的号段，游标越过end后号段用完
+	 * @description en - Range in memory, the range is used up once the cursor passes end
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:41:02
+	 */
+	private static final class Buffer {
+		final AtomicLong cursor;
+		final long end;
+		final long prefetchAt;
+
+		Buffer(long start, long end, long prefetchAt) {
+			this.cursor = new AtomicLong(start);
+			this.end = end;
+			this.prefetchAt = prefetchAt;
+		}
+	}
+
+	/**
+	 * [所有号段ID生成器共用的预取线程](Prefetch threads shared by all segment ID generators)
+	 * @description zh - 所有号段ID生成器共用的预取线程
+	 * @description en - Prefetch threads shared by all segment ID generators
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:41:40
+	 */
+	private static class Prefetcher {
+		static final ExecutorService INSTANCE = Executors.newCachedThreadPool(r -> {
+			final Thread thread = new Thread(r, "xiaoTools-segment-prefetch");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.xiaoTools.util.IdUtil.segmentIdGenerator.rangeSource;
+
+import com.xiaoTools.lang.segment.Segment;
+
+/**
+ * [号段来源](Range source)
+ * @description zh - 号段来源，每次调用分配一段新的ID范围，左闭右开。后一次分配的范围必须整体大于前一次，
+ * 多个进程共用同一来源时由实现保证范围不重叠
+ * @description en - Range source, each call allocates a new range of IDs, closed on the left and open on the right. A range must be entirely greater than the previous one,
+ * and implementations guarantee that ranges do not overlap when several processes share the same source
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:30:12
+ */
+@FunctionalInterface
+public interface RangeSource {
+
+	/**
+	 * [分配下一个号段](Allocate the next range)
+	 * @description zh - 分配下一个号段
+	 * @description en - Allocate the next range
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:31:40
+	 * @param step 号段长度
+	 * @return com.xiaoTools.lang.segment.Segment<java.lang.Long>
+	 */
+	Segment<Long> next(long step);
+
+}
@@ -0,0 +1,115 @@
+package com.xiaoTools.util.IdUtil.segmentIdGenerator.rangeSource.fileRangeSource;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.core.exception.iORuntimeException.IORuntimeException;
+import com.xiaoTools.lang.segment.Segment;
+import com.xiaoTools.lang.segment.defaultSegment.DefaultSegment;
+import com.xiaoTools.util.IdUtil.segmentIdGenerator.rangeSource.RangeSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * [基于本地文件的号段来源](Range source based on a local file)
+ * @description zh - 基于本地文件的号段来源。文件中以十进制文本保存已分配出去的最大值（不含），分配时加文件锁读取并写回，
+ * 刷盘后才返回号段，因此进程重启或多个进程共用同一文件都不会分配出重复的ID。文件不存在时从1开始
+ * @description en - Range source based on a local file. The file keeps the largest allocated value (exclusive) as decimal text, it is read and written back under a file lock,
+ * and the range is returned only after flushing to disk, so neither a restart nor several processes sharing the file hand out duplicate IDs. It starts from 1 when the file does not exist
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:33:05
+ */
+public class FileRangeSource implements RangeSource {
+
+	/**
+	 * 文件不存在时的起始值
+	 */
+	private static final long INITIAL_VALUE = 1L;
+
+	/**
+	 * 同一JVM内按文件路径共用的锁，文件锁只能区分进程，同一JVM内重复加锁会抛出OverlappingFileLockException
+	 */
+	private static final ConcurrentMap<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+	private final File file;
+
+	private final Object lock;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:34:20
+	 * @param file 保存已分配最大值的文件
+	 */
+	public FileRangeSource(File file) {
+		this.file = Assertion.notNull(file, "file must not be null");
+		this.lock = LOCKS.computeIfAbsent(file.getAbsoluteFile().toPath().normalize().toString(), k -> new Object());
+	}
+
+	/**
+	 * [分配下一个号段](Allocate the next range)
+	 * @description zh - 分配下一个号段
+	 * @description en - Allocate the next range
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:35:12
+	 * @param step 号段长度
+	 * @return com.xiaoTools.lang.segment.Segment<java.lang.Long>
+	 */
+	@Override
+	public Segment<Long> next(long step) {
+		Assertion.isTrue(step > 0, "step must be greater than 0");
+		synchronized (lock) {
+			return allocate(step);
+		}
+	}
+
+	private Segment<Long> allocate(long step) {
+		final File parent = file.getAbsoluteFile().getParentFile();
+		if (null != parent && !parent.exists() && !parent.mkdirs() && !parent.exists()) {
+			throw new IORuntimeException("Can not create directory {}", parent);
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final FileLock fileLock = channel.lock();
+			try {
+				final long start = read(channel);
+				final long end = Math.addExact(start, step);
+				final byte[] bytes = Long.toString(end).getBytes(StandardCharsets.US_ASCII);
+				channel.truncate(bytes.length);
+				channel.write(ByteBuffer.wrap(bytes), 0);
+				channel.force(true);
+				return new DefaultSegment<>(start, end);
+			} finally {
+				fileLock.release();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e, "Allocate range from {} failed", file);
+		} catch (NumberFormatException e) {
+			throw new IORuntimeException(e, "Range file {} is corrupted", file);
+		}
+	}
+
+	private static long read(FileChannel channel) throws IOException {
+		final int size = (int) Math.min(channel.size(), 32);
+		if (size == 0) {
+			return INITIAL_VALUE;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(size);
+		while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+			// 读满为止
+		}
+		final String text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).trim();
+		return text.isEmpty() ? INITIAL_VALUE : Long.parseLong(text);
+	}
+
+}
@@ -1,14 +1,20 @@
 package com.xiaoTools.util.IdUtil.snowflake;
 
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.date.clock.Clock;
+import com.xiaoTools.date.clock.systemClock.SystemClock;
 import com.xiaoTools.lang.constant.Constant;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * [雪花ID算法](Snowflake ID algorithm)
- * @description: zh - 雪花ID算法
- * @description: en - Snowflake ID algorithm
+ * @description: zh - 雪花ID算法。生成ID不加锁，上一次的时间戳和序列号打包在一个AtomicLong中，通过CAS一次更新
+ * @description: en - Snowflake ID algorithm. IDs are generated without locking, the last timestamp and sequence are packed into one AtomicLong and updated by a single CAS
  * @version: V1.0
  * @author XiaoXunYao
  * @since 2021/6/6 8:51 下午
@@ -23,7 +29,7 @@ public class Snowflake implements Serializable {
     /**
      * 序列号占用的位数
      */
-    private final static long SEQUENCE_BIT = 12;
+    protected final static long SEQUENCE_BIT = 12;
 
     /**
      * 机器标识占用的位数
@@ -40,7 +46,7 @@ public class Snowflake implements Serializable {
     /**
      * 最大序列
      */
-    private final static long MAX_SEQUENCE = ~(-1L << SEQUENCE_BIT);
+    protected final static long MAX_SEQUENCE = ~(-1L << SEQUENCE_BIT);
 
     /**
      * 最大机器数
@@ -72,22 +78,22 @@ public class Snowflake implements Serializable {
     /**
      * 数据中心
      */
-    private long dataCenterId;
+    private final long dataCenterId;
 
     /**
      * 机器标识
      */
-    private long machineId;
+    private final long machineId;
 
     /**
-     * 序列号
+     * 时钟，反序列化后恢复为系统时钟
      */
-    private long sequence = 0L;
+    private transient Clock clock;
 
     /**
-     * 上一次时间戳
+     * 上一次的状态，高位为相对START_TIMESTAMP的时间戳，低SEQUENCE_BIT位为序列号。不参与序列化，反序列化后重新创建
      */
-    private long lastTimeStamp = -1L;
+    private transient AtomicLong state = new AtomicLong();
 
     /**
      *
@@ -100,10 +106,26 @@ public class Snowflake implements Serializable {
      * @param machineId: [机器标志ID](Machine logo ID)
     */
     public Snowflake(long dataCenterId, long machineId) {
+        this(dataCenterId, machineId, SystemClock.INSTANCE);
+    }
+
+    /**
+     * [根据指定的数据中心ID、机器标志ID和时钟构造](Construct with the specified data center ID, machine ID and clock)
+     * @description: zh - 根据指定的数据中心ID、机器标志ID和时钟构造，高频调用时可以传入粗粒度时钟，测试时可以传入测试时钟
+     * @description: en - Construct with the specified data center ID, machine ID and clock, a coarse clock can be passed for high rate callers and a test clock for tests
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 8:10 下午
+     * @param dataCenterId: [数据中心ID](Data center ID)
+     * @param machineId: [机器标志ID](Machine logo ID)
+     * @param clock: [时钟](Clock)
+    */
+    public Snowflake(long dataCenterId, long machineId, Clock clock) {
         if (dataCenterId > MAX_DATA_CENTER_NUM || dataCenterId < 0) { throw new IllegalArgumentException("DtaCenterId can't be greater than MAX_DATA_CENTER_NUM or less than 0！"); }
         if (machineId > MAX_MACHINE_NUM || machineId < 0) { throw new IllegalArgumentException("MachineId can't be greater than MAX_MACHINE_NUM or less than 0！"); }
         this.dataCenterId = dataCenterId;
         this.machineId = machineId;
+        this.clock = Assertion.notNull(clock, "clock must not be null");
     }
 
     /**
@@ -153,25 +175,125 @@ public class Snowflake implements Serializable {
      * @since 2021/6/7 7:40 上午
      * @return long
     */
-    public synchronized long nextId() {
-        long currTimeStamp = getNewTimeStamp();
-        if (currTimeStamp < lastTimeStamp) { throw new RuntimeException("Clock moved backwards.  Refusing to generate id"); }
-        if (currTimeStamp == lastTimeStamp) {
-            //相同毫秒内，序列号自增
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            //同一毫秒的序列数已经达到最大
-            if (sequence == 0L) { currTimeStamp = getNextMill(); }
-        } else {/*不同毫秒内，序列号置为0*/sequence = 0L; }
-        lastTimeStamp = currTimeStamp;
+    public long nextId() {
+        return toId(reserve(Constant.ONE, MAX_SEQUENCE));
+    }
+
+    /**
+     * [批量产生ID](Generate IDs in bulk)
+     * @description: zh - 批量产生ID，每次CAS预留当前毫秒内尽可能多的序列号，不逐个加锁也不装箱
+     * @description: en - Generate IDs in bulk, each CAS reserves as many sequence numbers of the current millisecond as possible, without locking or boxing per ID
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 5:52 下午
+     * @param n: ID的数量
+     * @return long[]
+    */
+    public long[] nextIds(int n) {
+        if (n < 0) { throw new IllegalArgumentException("n can't be less than 0！"); }
+        final long[] ids = new long[n];
+        nextIds(ids);
+        return ids;
+    }
+
+    /**
+     * [批量产生ID并填满数组](Generate IDs in bulk and fill the array)
+     * @description: zh - 批量产生ID并填满数组，数组中的ID严格递增
+     * @description: en - Generate IDs in bulk and fill the array, the IDs in the array are strictly increasing
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 5:54 下午
+     * @param dest: 目标数组
+    */
+    public void nextIds(long[] dest) {
+        fill(dest, MAX_SEQUENCE);
+    }
+
+    /**
+     * [批量产生ID并填满数组](Generate IDs in bulk and fill the array)
+     * @description: zh - 批量产生ID并填满数组，每毫秒的序列号不超过maxSequence
+     * @description: en - Generate IDs in bulk and fill the array, the sequence within a millisecond never exceeds maxSequence
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:45 上午
+     * @param dest: 目标数组
+     * @param maxSequence: 每毫秒最大的序列号，不超过MAX_SEQUENCE
+    */
+    protected final void fill(long[] dest, long maxSequence) {
+        int pos = Constant.ZERO;
+        while (pos < dest.length) {
+            final int remaining = dest.length - pos;
+            final long first = reserve(remaining, maxSequence);
+            final long count = Math.min(remaining, maxSequence - (first & MAX_SEQUENCE) + 1);
+            for (long i = 0; i < count; i++) {
+                dest[pos++] = toId(first + i);
+            }
+        }
+    }
+
+    /**
+     * [预留一段连续的序列号](Reserve a range of consecutive sequence numbers)
+     * @description: zh - 在同一毫秒内预留最多max个连续的序列号，返回第一个的状态。
+     * 实际预留的数量为 min(max, maxSequence - 第一个的序列号 + 1)
+     * @description: en - Reserve at most max consecutive sequence numbers within one millisecond and return the state of the first one.
+     * The number actually reserved is min(max, maxSequence - sequence of the first + 1)
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 5:47 下午
+     * @param max: 最多预留的数量，大于0
+     * @param maxSequence: 每毫秒最大的序列号，不超过MAX_SEQUENCE
+     * @return long
+    */
+    protected final long reserve(int max, long maxSequence) {
+        while (true) {
+            final long prev = state.get();
+            // 先读状态再读时钟，状态中的时间戳都来自更早的时钟读数，读到更小的时间只可能是时钟回拨
+            final long currTimeStamp = getNewTimeStamp() - Constant.START_TIMESTAMP;
+            final long lastTimeStamp = prev >>> SEQUENCE_BIT;
+            if (currTimeStamp < lastTimeStamp) { throw new RuntimeException("Clock moved backwards.  Refusing to generate id"); }
+            final long first;
+            final long last;
+            if (currTimeStamp == lastTimeStamp) {
+                final long available = maxSequence - (prev & MAX_SEQUENCE);
+                //同一毫秒的序列数已经达到最大，等到下一毫秒再重试
+                if (available == 0) {
+                    clock.waitNextMillis(lastTimeStamp + Constant.START_TIMESTAMP);
+                    continue;
+                }
+                //相同毫秒内，序列号自增
+                first = prev + 1;
+                last = prev + Math.min(max, available);
+            } else {
+                //不同毫秒内，序列号从0开始
+                first = currTimeStamp << SEQUENCE_BIT;
+                last = first + Math.min(max, maxSequence + 1) - 1;
+            }
+            if (state.compareAndSet(prev, last)) {
+                return first;
+            }
+        }
+    }
+
+    /**
+     * [由状态拼出ID](Compose the ID from the state)
+     * @description: zh - 由状态拼出ID，状态为相对START_TIMESTAMP的时间戳左移SEQUENCE_BIT位再加上序列号
+     * @description: en - Compose the ID from the state, which is the timestamp relative to START_TIMESTAMP shifted left by SEQUENCE_BIT plus the sequence
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 5:36 下午
+     * @param state: 打包的时间戳和序列号
+     * @return long
+     */
+    protected long toId(long state) {
         return
                 //时间戳部分
-                (currTimeStamp - Constant.START_TIMESTAMP) << TIMESTAMP_LEFT
+                (state >>> SEQUENCE_BIT) << TIMESTAMP_LEFT
                 //数据中心部分
                 | dataCenterId << DATA_CENTER_LEFT
                 //机器标识部分
                 | machineId << MACHINE_LEFT
                 //序列号部分
-                | sequence;
+                | state & MAX_SEQUENCE;
     }
 
     /**
@@ -197,32 +319,35 @@ public class Snowflake implements Serializable {
     public Long idLong(){ return nextId(); }
 
     /**
-     * [获取下一个频率](Get the next frequency)
-     * @description: zh - 获取下一个频率
-     * @description: en - Get the next frequency
+     * [获取新的时间戳](Get a new timestamp)
+     * @description: zh - 获取新的时间戳
+     * @description: en - Get a new timestamp
      * @version: V1.0
      * @author XiaoXunYao
-     * @since 2021/6/7 7:45 上午
+     * @since 2021/6/7 7:41 上午
      * @return long
      */
-    private long getNextMill() {
-        long mill = getNewTimeStamp();
-        while (mill <= lastTimeStamp) {
-            mill = getNewTimeStamp();
-        }
-        return mill;
+    private long getNewTimeStamp() {
+        return clock.currentTimeMillis();
     }
 
     /**
-     * [获取新的时间戳](Get a new timestamp)
-     * @description: zh - 获取新的时间戳
-     * @description: en - Get a new timestamp
+     * [获取时钟](Get the clock)
+     * @description: zh - 获取时钟
+     * @description: en - Get the clock
      * @version: V1.0
      * @author XiaoXunYao
-     * @since 2021/6/7 7:41 上午
-     * @return long
+     * @since 2026/10/18 8:45 下午
+     * @return com.xiaoTools.date.clock.Clock
      */
-    private long getNewTimeStamp() {
-        return System.currentTimeMillis();
+    protected Clock getClock() {
+        return clock;
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.clock = SystemClock.INSTANCE;
+        this.state = new AtomicLong();
     }
 }
@@ -0,0 +1,333 @@
+package com.xiaoTools.util.IdUtil.snowflake.shardedSnowflake;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.date.clock.Clock;
+import com.xiaoTools.date.clock.systemClock.SystemClock;
+import com.xiaoTools.lang.constant.Constant;
+import com.xiaoTools.util.IdUtil.snowflake.Snowflake;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.lang.ref.Cleaner;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * [按线程分片的雪花ID算法](Snowflake ID algorithm sharded by thread)
+ * @description zh - 按线程分片的雪花ID算法。12位序列号的高shardBits位作为分片号，每个线程第一次取号时独占一个分片，
+ * 之后在分片内取号，既不加锁也没有CAS。时间戳、数据中心和机器标识的位置与Snowflake相同，仍可用getWorkerId、getDataCenterId和getGenerateDateTime解析。
+ * 线程不再取号时应调用release()归还分片，线程池中的工作线程可以在退出前调用。没有归还的分片只能在线程结束且被垃圾回收后回收，
+ * 线程频繁创建和销毁时回收跟不上。没有空闲分片时，线程在共用的0号分片上按Snowflake的方式CAS取号，不加锁，也不占住0号分片，下次取号时重新尝试租用。
+ * 分片交接时新的主人从交接时刻的下一毫秒开始取号，不读取上一个主人留下的状态，ID不会重复。不要与相同数据中心和机器标识的普通Snowflake混用
+ * @description en - Snowflake ID algorithm sharded by thread. The high shardBits bits of the 12 bit sequence are the shard number, each thread takes an exclusive shard on its first call
+ * and then generates IDs within it without locking or CAS. Timestamp, data center and machine bits are where Snowflake puts them, so getWorkerId, getDataCenterId and getGenerateDateTime still decode the IDs.
+ * A thread that stops generating IDs should give its shard back with release(), pool worker threads can call it before they exit. A shard that is not released is only reclaimed after
+ * its thread has ended and been garbage collected, which falls behind under heavy thread churn. When no shard is free, the thread generates IDs on the shared shard 0 with the CAS of Snowflake,
+ * without locking and without keeping shard 0, and tries to lease a shard again on its next call.
+ * On handover the new owner starts from the millisecond after the handover and never reads the state left by the previous owner, so IDs never repeat. Do not mix it with a plain Snowflake using the same data center and machine IDs
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:50:10
+ */
+public class ShardedSnowflake extends Snowflake {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 没有调用release()的线程结束后回收分片
+	 */
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	/**
+	 * 分片号占用的位数
+	 */
+	private final int shardBits;
+
+	/**
+	 * 分片内序列号占用的位数
+	 */
+	private final int sequenceBits;
+
+	/**
+	 * 0号分片每毫秒最大的序列号
+	 */
+	private transient long sharedMaxSequence;
+	private transient Queue<Shard> free;
+	private transient ThreadLocal<Lease> lease;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:52:30
+	 * @param dataCenterId 数据中心ID
+	 * @param machineId 机器标志ID
+	 * @param shardBits 分片号占用的位数，1到10，分片数为2^shardBits，每个分片每毫秒可产生2^(12-shardBits)个ID
+	 */
+	public ShardedSnowflake(long dataCenterId, long machineId, int shardBits) {
+		this(dataCenterId, machineId, shardBits, SystemClock.INSTANCE);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:53:10
+	 * @param dataCenterId 数据中心ID
+	 * @param machineId 机器标志ID
+	 * @param shardBits 分片号占用的位数，1到10
+	 * @param clock 时钟
+	 */
+	public ShardedSnowflake(long dataCenterId, long machineId, int shardBits, Clock clock) {
+		super(dataCenterId, machineId, clock);
+		Assertion.isTrue(shardBits >= 1 && shardBits <= 10, "shardBits must be in [1, 10]");
+		this.shardBits = shardBits;
+		this.sequenceBits = (int) SEQUENCE_BIT - shardBits;
+		init();
+	}
+
+	/**
+	 * [产生下一个ID](Generate next ID)
+	 * @description zh - 产生下一个ID，独占分片的线程不加锁也没有CAS，没有分片的线程在0号分片上CAS取号
+	 * @description en - Generate next ID, threads owning a shard take no lock and do no CAS, threads without a shard use CAS on shard 0
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:55:02
+	 * @return long
+	 */
+	@Override
+	public long nextId() {
+		final Lease current = lease();
+		if (null == current) {
+			return toId(reserve(1, sharedMaxSequence));
+		}
+		return next(current.shard);
+	}
+
+	/**
+	 * [批量产生ID并填满数组](Generate IDs in bulk and fill the array)
+	 * @description zh - 批量产生ID并填满数组，在0号分片上取号时每次CAS预留当前毫秒内尽可能多的序列号
+	 * @description en - Generate IDs in bulk and fill the array, on shard 0 each CAS reserves as many sequence numbers of the current millisecond as possible
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:56:10
+	 * @param dest 目标数组
+	 */
+	@Override
+	public void nextIds(long[] dest) {
+		final Lease current = lease();
+		if (null == current) {
+			fill(dest, sharedMaxSequence);
+		} else {
+			fill(current.shard, dest);
+		}
+	}
+
+	/**
+	 * [归还当前线程的分片](Release the shard of the current thread)
+	 * @description zh - 归还当前线程的分片，之后其它线程可以立即租用。当前线程再次取号时重新租用分片。没有租用分片的线程调用时不做任何事
+	 * @description en - Release the shard of the current thread so other threads can lease it right away. The current thread leases a shard again when it generates IDs later.
+	 * Nothing happens when the thread holds no shard
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:44:20
+	 */
+	public void release() {
+		final Lease current = lease.get();
+		if (null != current) {
+			lease.remove();
+			current.release();
+		}
+	}
+
+	/**
+	 * [获取分片数量](Get the number of shards)
+	 * @description zh - 获取分片数量，包含共用的0号分片
+	 * @description en - Get the number of shards, including the shared shard 0
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:56:50
+	 * @return int
+	 */
+	public int getShardCount() {
+		return 1 << shardBits;
+	}
+
+	/**
+	 * [根据ID获取分片号](Get the shard number from the ID)
+	 * @description zh - 根据ID获取分片号
+	 * @description en - Get the shard number from the ID
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:57:20
+	 * @param id ID
+	 * @return int
+	 */
+	public int getShard(long id) {
+		return (int) ((id & MAX_SEQUENCE) >>> sequenceBits);
+	}
+
+	private void fill(Shard shard, long[] dest) {
+		for (int i = 0; i < dest.length; i++) {
+			dest[i] = next(shard);
+		}
+	}
+
+	/**
+	 * [在分片内产生下一个ID](Generate the next ID within the shard)
+	 * @description zh - 在分片内产生下一个ID，调用方需独占分片
+	 * @description en - Generate the next ID within the shard, the caller must own the shard
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:58:30
+	 * @param shard 分片
+	 * @return long
+	 */
+	private long next(Shard shard) {
+		long timeStamp = getClock().currentTimeMillis() - Constant.START_TIMESTAMP;
+		if (timeStamp < shard.lastTimeStamp) { throw new RuntimeException("Clock moved backwards.  Refusing to generate id"); }
+		if (timeStamp == shard.lastTimeStamp) {
+			//分片内同一毫秒的序列数已经达到最大，等到下一毫秒
+			if (shard.sequence == ~(-1L << sequenceBits)) {
+				timeStamp = getClock().waitNextMillis(shard.lastTimeStamp + Constant.START_TIMESTAMP) - Constant.START_TIMESTAMP;
+				shard.sequence = 0;
+			} else {
+				shard.sequence++;
+			}
+		} else {
+			shard.sequence = 0;
+		}
+		shard.lastTimeStamp = timeStamp;
+		return toId(timeStamp << SEQUENCE_BIT | (long) shard.index << sequenceBits | shard.sequence);
+	}
+
+	private Lease lease() {
+		Lease current = lease.get();
+		if (null == current) {
+			current = acquire();
+			if (null != current) {
+				lease.set(current);
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * [为当前线程租用分片](Lease a shard for the current thread)
+	 * @description zh - 为当前线程租用分片，调用release()或者租约不可达（线程结束）时分片回到空闲队列。没有空闲分片时返回null，不记录在线程中
+	 * @description en - Lease a shard for the current thread, the shard returns to the free queue when release() is called or the lease is unreachable (the thread has ended).
+	 * null is returned and nothing is stored in the thread when no shard is free
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:59:40
+	 * @return com.xiaoTools.util.IdUtil.snowflake.shardedSnowflake.ShardedSnowflake.Lease
+	 */
+	private Lease acquire() {
+		final Shard shard = free.poll();
+		if (null == shard) {
+			return null;
+		}
+		final Lease result = new Lease(shard);
+		// 回收动作不能引用租约本身，否则租约永远可达
+		result.cleanable = CLEANER.register(result, new Handover(free, shard.index, sequenceBits, getClock()));
+		return result;
+	}
+
+	private void init() {
+		this.sharedMaxSequence = ~(-1L << sequenceBits);
+		this.free = new ConcurrentLinkedQueue<>();
+		for (int i = 1; i < 1 << shardBits; i++) {
+			free.offer(new Shard(i, -1L, 0));
+		}
+		this.lease = new ThreadLocal<>();
+	}
+
+	@Serial
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		init();
+	}
+
+	/**
+	 * [分片](Shard)
+	 * @description zh - 分片，状态只由独占它的线程读写。换主人时放入空闲队列的是新建的分片对象，新主人不会读到上一个主人留下的状态
+	 * @description en - Shard, its state is only accessed by the thread owning it. A new shard object is put into the free queue when the owner changes, so the new owner never reads the state left by the previous one
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:51:10
+	 */
+	private static final class Shard {
+		final int index;
+		long lastTimeStamp;
+		long sequence;
+
+		Shard(int index, long lastTimeStamp, long sequence) {
+			this.index = index;
+			this.lastTimeStamp = lastTimeStamp;
+			this.sequence = sequence;
+		}
+	}
+
+	/**
+	 * [线程持有的分片租约](Shard lease held by a thread)
+	 * @description zh - 线程持有的分片租约
+	 * @description en - Shard lease held by a thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:51:40
+	 */
+	private static final class Lease {
+		final Shard shard;
+
+		/**
+		 * 归还分片的动作
+		 */
+		Cleaner.Cleanable cleanable;
+
+		Lease(Shard shard) {
+			this.shard = shard;
+		}
+
+		void release() {
+			// 只会执行一次，之后线程结束时不会重复归还
+			cleanable.clean();
+		}
+	}
+
+	/**
+	 * [分片交接](Shard handover)
+	 * @description zh - 分片交接，在归还时刻新建分片放回空闲队列。新分片的时间戳为交接时刻且序列号已满，新主人在同一毫秒内取号时会等到下一毫秒，
+	 * 而上一个主人的最后一次取号一定不晚于交接时刻，因此不需要读取上一个主人写入的状态，由线程结束触发的回收也不依赖与上一个主人之间的内存可见性
+	 * @description en - Shard handover, a new shard is created at the time of release and put back into the free queue. Its timestamp is the handover time with the sequence exhausted,
+	 * so the new owner waits for the next millisecond when it generates IDs within the same millisecond. The last ID of the previous owner is never later than the handover,
+	 * so the state written by the previous owner is never read, and a reclaim triggered by a thread ending does not rely on memory visibility from the previous owner
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:45:10
+	 */
+	private static final class Handover implements Runnable {
+		final Queue<Shard> free;
+		final int index;
+		final int sequenceBits;
+		final Clock clock;
+
+		Handover(Queue<Shard> free, int index, int sequenceBits, Clock clock) {
+			this.free = free;
+			this.index = index;
+			this.sequenceBits = sequenceBits;
+			this.clock = clock;
+		}
+
+		@Override
+		public void run() {
+			free.offer(new Shard(index, clock.currentTimeMillis() - Constant.START_TIMESTAMP, ~(-1L << sequenceBits)));
+		}
+	}
+
+}
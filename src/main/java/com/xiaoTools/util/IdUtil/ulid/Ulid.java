@@ -0,0 +1,269 @@
+package com.xiaoTools.util.IdUtil.ulid;
+
+import com.xiaoTools.util.IdUtil.ulid.ulidGenerator.UlidGenerator;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * [ULID，按时间排序的128位唯一标识](ULID, a time-sorted 128 bit unique identifier)
+ * @description zh - ULID，高48位为毫秒时间戳，低80位为随机数，字符串形式为26位Crockford Base32，字典序与时间顺序一致。
+ * 同一毫秒内生成的ULID在上一个的随机部分上加1，保证同一进程内严格递增；随机部分溢出时借用下一毫秒
+ * @description en - ULID, the high 48 bits are the millisecond timestamp and the low 80 bits are random, its string form is 26 characters of Crockford Base32 whose lexical order matches time order.
+ * A ULID generated within the same millisecond adds 1 to the random part of the previous one so they are strictly increasing within a process; the next millisecond is borrowed when the random part overflows
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:20:10
+ */
+public final class Ulid implements Comparable<Ulid>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 字符串形式的长度
+	 */
+	public static final int LENGTH = 26;
+
+	/**
+	 * Crockford Base32字符，去掉了I、L、O、U
+	 */
+	private static final char[] ENCODE = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	/**
+	 * 字符到5位值的映射，非法字符为-1，兼容小写以及I、L、O的易混写法
+	 */
+	private static final byte[] DECODE = new byte[128];
+
+	static {
+		Arrays.fill(DECODE, (byte) -1);
+		for (int i = 0; i < ENCODE.length; i++) {
+			DECODE[ENCODE[i]] = (byte) i;
+			DECODE[Character.toLowerCase(ENCODE[i])] = (byte) i;
+		}
+		DECODE['I'] = DECODE['i'] = DECODE['L'] = DECODE['l'] = 1;
+		DECODE['O'] = DECODE['o'] = 0;
+	}
+
+	/**
+	 * 默认的生成器，使用系统时钟
+	 */
+	private static final UlidGenerator GENERATOR = new UlidGenerator();
+
+	/**
+	 * 高64位：48位时间戳和16位随机数
+	 */
+	private final long msb;
+
+	/**
+	 * 低64位随机数
+	 */
+	private final long lsb;
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造
+	 * @description en - structure
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:22:30
+	 * @param msb 高64位
+	 * @param lsb 低64位
+	 */
+	public Ulid(long msb, long lsb) {
+		this.msb = msb;
+		this.lsb = lsb;
+	}
+
+	/**
+	 * [产生下一个ULID](Generate the next ULID)
+	 * @description zh - 产生下一个ULID，同一进程内严格递增。需要指定时钟时使用UlidGenerator
+	 * @description en - Generate the next ULID, strictly increasing within a process. Use UlidGenerator when a specific clock is needed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:23:15
+	 * @return com.xiaoTools.util.IdUtil.ulid.Ulid
+	 */
+	public static Ulid nextUlid() {
+		return GENERATOR.next();
+	}
+
+	/**
+	 * [解析字符串形式的ULID](Parse a ULID in string form)
+	 * @description zh - 解析字符串形式的ULID，不区分大小写
+	 * @description en - Parse a ULID in string form, case insensitive
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:24:40
+	 * @param text 字符串
+	 * @return com.xiaoTools.util.IdUtil.ulid.Ulid
+	 */
+	public static Ulid parse(CharSequence text) {
+		if (null == text || text.length() != LENGTH || text.charAt(0) > '7') {
+			throw new IllegalArgumentException("Invalid ULID string: " + text);
+		}
+		long msb = 0;
+		long lsb = 0;
+		for (int i = 0; i < LENGTH; i++) {
+			final char c = text.charAt(i);
+			final int value = c < DECODE.length ? DECODE[c] : -1;
+			if (value < 0) {
+				throw new IllegalArgumentException("Invalid ULID string: " + text);
+			}
+			// 128位整体左移5位
+			msb = msb << 5 | lsb >>> 59;
+			lsb = lsb << 5 | value;
+		}
+		return new Ulid(msb, lsb);
+	}
+
+	/**
+	 * [获取毫秒时间戳](Get the millisecond timestamp)
+	 * @description zh - 获取毫秒时间戳
+	 * @description en - Get the millisecond timestamp
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:25:30
+	 * @return long
+	 */
+	public long getTimestamp() {
+		return msb >>> 16;
+	}
+
+	/**
+	 * [获取高64位](Get the most significant 64 bits)
+	 * @description zh - 获取高64位
+	 * @description en - Get the most significant 64 bits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:25:50
+	 * @return long
+	 */
+	public long getMostSignificantBits() {
+		return msb;
+	}
+
+	/**
+	 * [获取低64位](Get the least significant 64 bits)
+	 * @description zh - 获取低64位
+	 * @description en - Get the least significant 64 bits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:26:10
+	 * @return long
+	 */
+	public long getLeastSignificantBits() {
+		return lsb;
+	}
+
+	/**
+	 * [把字符串形式写入字符数组](Write the string form into a char array)
+	 * @description zh - 把字符串形式写入字符数组，不产生任何对象
+	 * @description en - Write the string form into a char array without creating any object
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:27:02
+	 * @param dest 目标数组
+	 * @param offset 起始位置
+	 * @return int 写入后的下一个位置
+	 */
+	public int toChars(char[] dest, int offset) {
+		for (int i = 0; i < LENGTH; i++) {
+			dest[offset++] = charAt(i);
+		}
+		return offset;
+	}
+
+	/**
+	 * [把字符串形式以ASCII写入字节数组](Write the string form into a byte array as ASCII)
+	 * @description zh - 把字符串形式以ASCII写入字节数组，不产生任何对象
+	 * @description en - Write the string form into a byte array as ASCII without creating any object
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:27:40
+	 * @param dest 目标数组
+	 * @param offset 起始位置
+	 * @return int 写入后的下一个位置
+	 */
+	public int toBytes(byte[] dest, int offset) {
+		for (int i = 0; i < LENGTH; i++) {
+			dest[offset++] = (byte) charAt(i);
+		}
+		return offset;
+	}
+
+	/**
+	 * [把字符串形式追加到StringBuilder](Append the string form to a StringBuilder)
+	 * @description zh - 把字符串形式追加到StringBuilder，不产生中间字符串
+	 * @description en - Append the string form to a StringBuilder without creating intermediate strings
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:28:15
+	 * @param builder 目标
+	 * @return java.lang.StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
+		builder.ensureCapacity(builder.length() + LENGTH);
+		for (int i = 0; i < LENGTH; i++) {
+			builder.append(charAt(i));
+		}
+		return builder;
+	}
+
+	/**
+	 * [获取第几个Base32字符](Get the Base32 character at the given position)
+	 * @description zh - 获取第几个Base32字符。第i个字符对应128位中从第5*(25-i)位开始的5位，首个字符只有3位
+	 * @description en - Get the Base32 character at the given position. Character i takes the 5 bits starting at bit 5*(25-i) of the 128 bits, the first one has only 3 bits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:26:40
+	 * @param index 位置，0到25
+	 * @return char
+	 */
+	private char charAt(int index) {
+		final int shift = 5 * (LENGTH - 1 - index);
+		final long bits;
+		if (shift >= 64) {
+			bits = msb >>> (shift - 64);
+		} else if (shift > 59) {
+			// 跨越高低64位
+			bits = lsb >>> shift | msb << (64 - shift);
+		} else {
+			bits = lsb >>> shift;
+		}
+		return ENCODE[(int) bits & 31];
+	}
+
+	@Override
+	public int compareTo(Ulid o) {
+		final int compare = Long.compareUnsigned(msb, o.msb);
+		return 0 != compare ? compare : Long.compareUnsigned(lsb, o.lsb);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Ulid)) {
+			return false;
+		}
+		final Ulid other = (Ulid) obj;
+		return msb == other.msb && lsb == other.lsb;
+	}
+
+	@Override
+	public int hashCode() {
+		final long hilo = msb ^ lsb;
+		return (int) (hilo >> 32) ^ (int) hilo;
+	}
+
+	@Override
+	public String toString() {
+		final char[] chars = new char[LENGTH];
+		toChars(chars, 0);
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.xiaoTools.util.IdUtil.ulid.ulidGenerator;
+
+import com.xiaoTools.assertion.Assertion;
+import com.xiaoTools.date.clock.Clock;
+import com.xiaoTools.date.clock.systemClock.SystemClock;
+import com.xiaoTools.util.IdUtil.ulid.Ulid;
+import com.xiaoTools.util.randomUtil.RandomUtil;
+
+import java.util.Random;
+
+/**
+ * [单调递增的ULID生成器](Monotonic ULID generator)
+ * @description zh - 单调递增的ULID生成器。同一毫秒内生成的ULID在上一个的随机部分上加1，随机部分溢出时借用下一毫秒。
+ * 上一次的值保存在生成器中，同一个生成器产生的ULID严格递增，不同生成器（例如使用不同时钟的生成器）互不影响
+ * @description en - Monotonic ULID generator. A ULID generated within the same millisecond adds 1 to the random part of the previous one, the next millisecond is borrowed when the random part overflows.
+ * The last value is kept in the generator, ULIDs from one generator are strictly increasing and different generators (for example ones using different clocks) do not affect each other
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-19 01:40:05
+ */
+public class UlidGenerator {
+
+	private final Clock clock;
+
+	/**
+	 * 上一次生成的值，只在持有this的锁时读写
+	 */
+	private long lastMsb;
+	private long lastLsb;
+
+	/**
+	 * [构造，使用系统时钟](Construct with the system clock)
+	 * @description zh - 构造，使用系统时钟
+	 * @description en - Construct with the system clock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:40:30
+	 */
+	public UlidGenerator() {
+		this(SystemClock.INSTANCE);
+	}
+
+	/**
+	 * [构造](structure)
+	 * @description zh - 构造，测试中可以传入TestClock
+	 * @description en - Construct, tests can pass a TestClock
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:40:52
+	 * @param clock 时钟
+	 */
+	public UlidGenerator(Clock clock) {
+		this.clock = Assertion.notNull(clock, "clock must not be null");
+	}
+
+	/**
+	 * [产生下一个ULID](Generate the next ULID)
+	 * @description zh - 产生下一个ULID，比同一生成器之前产生的都大
+	 * @description en - Generate the next ULID, greater than all previous ones from this generator
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-19 01:41:15
+	 * @return com.xiaoTools.util.IdUtil.ulid.Ulid
+	 */
+	public Ulid next() {
+		final long time = clock.currentTimeMillis();
+		// 随机数在锁外生成，锁内只做比较和加法
+		final Random random = RandomUtil.getRandom();
+		final long randomHigh = random.nextInt(1 << 16);
+		final long randomLow = random.nextLong();
+		long msb;
+		long lsb;
+		synchronized (this) {
+			if (time > lastMsb >>> 16) {
+				msb = time << 16 | randomHigh;
+				lsb = randomLow;
+			} else {
+				// 80位随机部分加1，进位越过随机部分时时间戳随之进位
+				msb = lastMsb;
+				lsb = lastLsb + 1;
+				if (lsb == 0) {
+					msb++;
+				}
+			}
+			lastMsb = msb;
+			lastLsb = lsb;
+		}
+		return new Ulid(msb, lsb);
+	}
+
+}
@@ -1,11 +1,13 @@
 package com.xiaoTools.util.IdUtil.uuid;
 
 import com.xiaoTools.lang.constant.Constant;
+import com.xiaoTools.util.hexUtil.HexUtil;
+import com.xiaoTools.util.IdUtil.uuid.timeOrderedUUIDGenerator.TimeOrderedUUIDGenerator;
 import com.xiaoTools.util.randomUtil.RandomUtil;
-import com.xiaoTools.util.strUtil.StrUtil;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -24,6 +26,11 @@ public class UUID implements Serializable {
     @Serial
     private static final long serialVersionUID = -1185015143654744140L;
 
+    /**
+     * [默认的时间有序UUID生成器，使用系统时钟](Default time-ordered UUID generator using the system clock)
+     */
+    private static final TimeOrderedUUIDGenerator TIME_ORDERED = new TimeOrderedUUIDGenerator();
+
     /**
      * [最大信号位](Maximum signal bit)
      */
@@ -90,6 +97,67 @@ public class UUID implements Serializable {
         return new UUID(randomBytes);
     }
 
+    /**
+     * [批量随机产生UUID](Generate UUIDs randomly in bulk)
+     * @description: zh - 批量随机产生UUID，所有随机字节通过一次nextBytes取得
+     * @description: en - Generate UUIDs randomly in bulk, all random bytes are obtained with a single nextBytes call
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:02 下午
+     * @param n: [数量](Quantity)
+     * @param isSecure: [产生是否安全的UUID](Generate a UUID that is safe or not)
+     * @return com.xiaoTools.util.IdUtil.uuid.UUID[]
+    */
+    private static UUID[] randomUUIDs(int n, boolean isSecure){
+        if (n < Constant.ZERO) { throw new IllegalArgumentException("n can't be less than 0！"); }
+        final int length;
+        try {
+            length = Math.multiplyExact(n, Constant.SIXTEEN);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("n is too large: " + n, e);
+        }
+        Random ng = isSecure ? UUID.Holder.NUMBER_GENERATOR : RandomUtil.getRandom();
+        byte[] randomBytes = new byte[length];
+        ng.nextBytes(randomBytes);
+        ByteBuffer buffer = ByteBuffer.wrap(randomBytes);
+        UUID[] uuids = new UUID[n];
+        for (int i = Constant.ZERO; i < n; i++) {
+            // 与单个生成相同：版本号置为4，变体置为IETF
+            long msb = buffer.getLong() & 0xFFFFFFFFFFFF0FFFL | 0x0000000000004000L;
+            long lsb = buffer.getLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+            uuids[i] = new UUID(msb, lsb);
+        }
+        return uuids;
+    }
+
+    /**
+     * [批量产生快速的UUID](Generate fast UUIDs in bulk)
+     * @description: zh - 批量产生快速的UUID
+     * @description: en - Generate fast UUIDs in bulk
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:04 下午
+     * @param n: [数量](Quantity)
+     * @return com.xiaoTools.util.IdUtil.uuid.UUID[]
+    */
+    public static UUID[] fastUUIDs(int n){
+        return randomUUIDs(n, Constant.FALSE);
+    }
+
+    /**
+     * [批量产生安全的UUID](Generate secure UUIDs in bulk)
+     * @description: zh - 批量产生安全的UUID
+     * @description: en - Generate secure UUIDs in bulk
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 6:05 下午
+     * @param n: [数量](Quantity)
+     * @return com.xiaoTools.util.IdUtil.uuid.UUID[]
+    */
+    public static UUID[] randomUUIDs(int n){
+        return randomUUIDs(n, Constant.TRUE);
+    }
+
     /**
      * [产生快速的UUID](Generate fast UUID)
      * @description: zh - 产生快速的UUID
@@ -116,6 +184,22 @@ public class UUID implements Serializable {
         return randomUUID(Constant.TRUE);
     }
 
+    /**
+     * [产生时间有序的UUID（版本7）](Generate a time-ordered UUID (version 7))
+     * @description: zh - 产生时间有序的UUID（版本7）。高48位为毫秒时间戳，随后12位为计数器：新的毫秒从随机值开始，
+     * 同一毫秒内递增，溢出时借用下一毫秒，因此同一进程内生成的UUID严格递增，作为主键时不会打散B树索引。需要指定时钟时使用TimeOrderedUUIDGenerator
+     * @description: en - Generate a time-ordered UUID (version 7). The high 48 bits are the millisecond timestamp followed by a 12 bit counter: a new millisecond starts from a random value,
+     * it is incremented within the same millisecond and borrows the next millisecond on overflow, so UUIDs generated in one process are strictly increasing and do not fragment B-tree indexes as primary keys.
+     * Use TimeOrderedUUIDGenerator when a specific clock is needed
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 7:10 下午
+     * @return com.xiaoTools.util.IdUtil.uuid.UUID
+    */
+    public static UUID timeOrderedUUID(){
+        return TIME_ORDERED.next();
+    }
+
     /**
      * [通过字节依据产生UUID](Generating UUID by byte)
      * @description: zh - 通过字节依据产生UUID
@@ -302,33 +386,88 @@ public class UUID implements Serializable {
      * @return java.lang.String
     */
     public String toString(boolean isSimple) {
-        StringBuilder builder = StrUtil.builder(isSimple ? Constant.THIRTY_TWO : Constant.THIRTY_SIX);
-        builder.append(digits(this.mostSigBits >> Constant.THIRTY_TWO, Constant.EIGHT));
-        if (!isSimple) { builder.append(Constant.CHAR_DASH); }
-        builder.append(digits(this.mostSigBits >> Constant.SIXTEEN, Constant.FOUR));
-        if (!isSimple) { builder.append(Constant.CHAR_DASH); }
-        builder.append(digits(this.mostSigBits, Constant.FOUR));
-        if (!isSimple) { builder.append(Constant.CHAR_DASH); }
-        builder.append(digits(this.leastSigBits >> Constant.FORTY_EIGHT, Constant.FOUR));
-        if (!isSimple) { builder.append(Constant.CHAR_DASH); }
-        builder.append(digits(this.leastSigBits, Constant.TWELVE));
-        return builder.toString();
+        final char[] chars = new char[isSimple ? Constant.THIRTY_TWO : Constant.THIRTY_SIX];
+        toChars(chars, Constant.ZERO, isSimple);
+        return new String(chars);
     }
 
     /**
-     * [获取数字](Get digits)
-     * @description: zh - 获取数字
-     * @description: en - Get digits
+     * [把字符串形式写入字符数组](Write the string form into a char array)
+     * @description: zh - 把字符串形式写入字符数组，不产生任何对象
+     * @description: en - Write the string form into a char array without creating any object
      * @version: V1.0
      * @author XiaoXunYao
-     * @since 2021/6/6 2:26 下午
-     * @param val: [判断值](Judgment value)
-     * @param digits: [数字](number)
-     * @return java.lang.String
+     * @since 2026/10/18 7:14 下午
+     * @param dest: 目标数组
+     * @param offset: 起始位置
+     * @param isSimple: [判断是否需要加上短杠](Judge whether short bars are needed)
+     * @return int 写入后的下一个位置
+    */
+    public int toChars(char[] dest, int offset, boolean isSimple) {
+        for (int nibble = Constant.ZERO; nibble < Constant.THIRTY_TWO; nibble++) {
+            if (!isSimple && isDashBefore(nibble)) { dest[offset++] = Constant.CHAR_DASH; }
+            dest[offset++] = hexAt(nibble);
+        }
+        return offset;
+    }
+
+    /**
+     * [把字符串形式以ASCII写入字节数组](Write the string form into a byte array as ASCII)
+     * @description: zh - 把字符串形式以ASCII写入字节数组，不产生任何对象
+     * @description: en - Write the string form into a byte array as ASCII without creating any object
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 7:15 下午
+     * @param dest: 目标数组
+     * @param offset: 起始位置
+     * @param isSimple: [判断是否需要加上短杠](Judge whether short bars are needed)
+     * @return int 写入后的下一个位置
     */
-    private static String digits(long val, int digits) {
-        long hi = Constant.LONG_ONE << digits * Constant.FOUR;
-        return Long.toHexString(hi | val & hi - Constant.LONG_ONE).substring(Constant.ONE);
+    public int toBytes(byte[] dest, int offset, boolean isSimple) {
+        for (int nibble = Constant.ZERO; nibble < Constant.THIRTY_TWO; nibble++) {
+            if (!isSimple && isDashBefore(nibble)) { dest[offset++] = (byte) Constant.CHAR_DASH; }
+            dest[offset++] = (byte) hexAt(nibble);
+        }
+        return offset;
+    }
+
+    /**
+     * [把字符串形式追加到StringBuilder](Append the string form to a StringBuilder)
+     * @description: zh - 把字符串形式追加到StringBuilder，不产生中间字符串
+     * @description: en - Append the string form to a StringBuilder without creating intermediate strings
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 7:16 下午
+     * @param builder: 目标
+     * @param isSimple: [判断是否需要加上短杠](Judge whether short bars are needed)
+     * @return java.lang.StringBuilder
+    */
+    public StringBuilder appendTo(StringBuilder builder, boolean isSimple) {
+        builder.ensureCapacity(builder.length() + (isSimple ? Constant.THIRTY_TWO : Constant.THIRTY_SIX));
+        for (int nibble = Constant.ZERO; nibble < Constant.THIRTY_TWO; nibble++) {
+            if (!isSimple && isDashBefore(nibble)) { builder.append(Constant.CHAR_DASH); }
+            builder.append(hexAt(nibble));
+        }
+        return builder;
+    }
+
+    /**
+     * [获取第几个十六进制字符](Get the hexadecimal character at the given position)
+     * @description: zh - 获取第几个十六进制字符，从最高位开始
+     * @description: en - Get the hexadecimal character at the given position, starting from the most significant one
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 7:12 下午
+     * @param nibble: 位置，0到31
+     * @return char
+    */
+    private char hexAt(int nibble) {
+        final long bits = nibble < Constant.SIXTEEN ? this.mostSigBits : this.leastSigBits;
+        return HexUtil.toHexChar((int) (bits >>> (Constant.SIXTY - (nibble & Constant.FIFTEEN) * Constant.FOUR)));
+    }
+
+    private static boolean isDashBefore(int nibble) {
+        return nibble == Constant.EIGHT || nibble == Constant.TWELVE || nibble == Constant.SIXTEEN || nibble == Constant.TWENTY;
     }
 
     /**
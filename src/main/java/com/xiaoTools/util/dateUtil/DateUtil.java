@@ -3,6 +3,7 @@ package com.xiaoTools.util.dateUtil;
 import com.xiaoTools.assertion.Assertion;
 import com.xiaoTools.core.exception.dateException.DateException;
 import com.xiaoTools.core.regular.patternPool.PatternPool;
+import com.xiaoTools.date.clock.Clock;
 import com.xiaoTools.date.betweenFormatter.BetweenFormatter;
 import com.xiaoTools.date.dateBetween.DateBetween;
 import com.xiaoTools.date.dateField.DateField;
@@ -10,6 +11,7 @@ import com.xiaoTools.date.datePattern.DatePattern;
 import com.xiaoTools.date.dateRange.DateRange;
 import com.xiaoTools.date.dateTime.DateTime;
 import com.xiaoTools.date.dateUnit.DateUnit;
+import com.xiaoTools.date.format.autoDateParser.AutoDateParser;
 import com.xiaoTools.date.format.dateParser.DateParser;
 import com.xiaoTools.date.format.datePrinter.DatePrinter;
 import com.xiaoTools.date.leven.Level;
@@ -62,6 +64,11 @@ public class DateUtil extends CalendarUtil {
         "gmt", "ut", "utc", "est", "edt", "cst", "cdt", "mst", "mdt", "pst", "pdt"
     };
 
+    /**
+     * DatePattern 中定宽格式的自动识别解析器
+     */
+    private final static AutoDateParser AUTO_PARSER = new AutoDateParser();
+
     /**
      * [当前时间，转换为 DateTime 对象](Current time, converted to a DateTime object)
      * @description: zh - 当前时间，转换为 DateTime 对象
@@ -75,6 +82,20 @@ public class DateUtil extends CalendarUtil {
         return new DateTime();
     }
 
+    /**
+     * [按给定时钟的当前时间，转换为 DateTime 对象](Current time of the given clock, converted to a DateTime object)
+     * @description: zh - 按给定时钟的当前时间，转换为 DateTime 对象
+     * @description: en - Current time of the given clock, converted to a DateTime object
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 8:20 下午
+     * @param clock: 时钟
+     * @return com.xiaoTools.date.dateTime.DateTime
+    */
+    public static DateTime date(Clock clock) {
+        return new DateTime(clock.currentTimeMillis());
+    }
+
     /**
      * [当前时间，转换为 DateTime 对象，忽略毫秒部分](Current time, converted to DateTime object, ignoring the millisecond part)
      * @description: zh - 当前时间，转换为 DateTime 对象，忽略毫秒部分
@@ -161,6 +182,18 @@ public class DateUtil extends CalendarUtil {
     */
     public static long current() { return System.currentTimeMillis(); }
 
+    /**
+     * [给定时钟的当前时间戳](The current timestamp of the given clock)
+     * @description: zh - 给定时钟的当前时间戳
+     * @description: en - The current timestamp of the given clock
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 8:21 下午
+     * @param clock: 时钟
+     * @return long
+    */
+    public static long current(Clock clock) { return clock.currentTimeMillis(); }
+
     /**
      * [当前时间的时间戳（秒）](Timestamp of the current time in seconds)
      * @description: zh - 当前时间的时间戳（秒）
@@ -183,6 +216,18 @@ public class DateUtil extends CalendarUtil {
     */
     public static String now() { return formatDateTime(new DateTime()); }
 
+    /**
+     * [给定时钟的当前时间，格式 yyyy-MM-dd HH:mm:ss](Current time of the given clock, format yyyy-MM-dd HH:mm:ss)
+     * @description: zh - 给定时钟的当前时间，格式 yyyy-MM-dd HH:mm:ss
+     * @description: en - Current time of the given clock, format yyyy-MM-dd HH:mm:ss
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/18 8:22 下午
+     * @param clock: 时钟
+     * @return java.lang.String
+    */
+    public static String now(Clock clock) { return formatDateTime(date(clock)); }
+
     /**
      * [当前日期，格式 yyyy-MM-dd](Current date, format yyyy MM DD)
      * @description: zh - 当前日期，格式 yyyy-MM-dd
@@ -1019,8 +1064,10 @@ public class DateUtil extends CalendarUtil {
 
     /**
      * [将日期字符串转换为 DateTime 对象](Converts a date string to a DateTime object)
-     * @description: zh - 将日期字符串转换为 DateTime 对象
-     * @description: en - Converts a date string to a DateTime object
+     * @description: zh - 将日期字符串转换为 DateTime 对象。定宽格式按 DatePattern 中的标准格式匹配，
+     * 因此 yyyy-MM 和 yyyy-MM-dd HH:mm:ss,SSS 形式的字符串也能解析，此前这两种形式会抛出 DateException
+     * @description: en - Converts a date string to a DateTime object. Fixed width input is matched against the standard formats in DatePattern,
+     * so strings of the form yyyy-MM and yyyy-MM-dd HH:mm:ss,SSS are parsed as well, both of which previously threw a DateException
      * @version: V1.0
      * @author XiaoXunYao
      * @since 2021/6/23 8:37 上午
@@ -1029,9 +1076,17 @@ public class DateUtil extends CalendarUtil {
     */
     public static DateTime parse(CharSequence dateCharSequence) {
         if (StrUtil.isBlank(dateCharSequence)) { return Constant.DATE_TIME_NULL; }
-        String dateStr = dateCharSequence.toString();
-        // 去掉两边空格并去掉中文日期中的“日”和“秒”，以规范长度
-        dateStr = StrUtil.removeAll(dateStr.trim(), Constant.CHAR_DAY, Constant.CHAR_SECOND);
+        String dateStr = dateCharSequence.toString().trim();
+        // 定宽格式按长度和分隔符位置直接找到对应的解析器
+        final DateParser parser = AUTO_PARSER.match(dateStr);
+        if (parser != Constant.NULL) {
+            final long millis = AutoDateParser.parseMillis(parser, dateStr);
+            if (millis != Long.MIN_VALUE) {
+                return new DateTime(millis, parser.getTimeZone());
+            }
+        }
+        // 去掉中文日期中的“日”和“秒”，以规范长度
+        dateStr = StrUtil.removeAll(dateStr, Constant.CHAR_DAY, Constant.CHAR_SECOND);
         int length = dateStr.length();
         if (NumUtil.isNumber(dateStr)) {
             // 纯数字形式
@@ -382,6 +382,20 @@ public class HexUtil {
         return Long.toHexString(value);
     }
 
+    /**
+     * [获取小写的16进制字符](Get the lowercase hexadecimal character)
+     * @description: zh - 获取value低4位对应的小写16进制字符，高位被忽略
+     * @description: en - Get the lowercase hexadecimal character of the low 4 bits of value, higher bits are ignored
+     * @version: V1.0
+     * @author XiaoXunYao
+     * @since 2026/10/19 1:46 上午
+     * @param value: 值
+     * @return char
+    */
+    public static char toHexChar(int value) {
+        return DIGITS_LOWER[value & Constant.FIFTEEN];
+    }
+
     /**
      * [将byte值转为16进制并添加到StringBuilder中](Convert the byte value to hexadecimal and add it to StringBuilder)
      * @description: zh - 将byte值转为16进制并添加到StringBuilder中
@@ -2,7 +2,7 @@ package com.xiaoTools.util.reflectUtil;
 
 import com.xiaoTools.annotation.alias.Alias;
 import com.xiaoTools.assertion.Assertion;
-import com.xiaoTools.cache.simple.SimpleCache;
+import com.xiaoTools.cache.classValueCache.ClassValueCache;
 import com.xiaoTools.core.convert.Convert;
 import com.xiaoTools.core.exception.utilException.UtilException;
 import com.xiaoTools.core.filter.Filter;
@@ -36,17 +36,17 @@ public class ReflectUtil {
     /**
      * 构造对象缓存
      */
-    private static final SimpleCache<Class<?>, Constructor<?>[]> CONSTRUCTORS_CACHE = new SimpleCache<>();
+    private static final ClassValueCache<Constructor<?>[]> CONSTRUCTORS_CACHE = new ClassValueCache<>();
 
     /**
      * 字段缓存
      */
-    private static final SimpleCache<Class<?>, Field[]> FIELDS_CACHE = new SimpleCache<>();
+    private static final ClassValueCache<Field[]> FIELDS_CACHE = new ClassValueCache<>();
 
     /**
      * 方法缓存
      */
-    private static final SimpleCache<Class<?>, Method[]> METHODS_CACHE = new SimpleCache<>();
+    private static final ClassValueCache<Method[]> METHODS_CACHE = new ClassValueCache<>();
 
     /*建造模块--------------------------------------------------------------------Constructor*/
 
@@ -90,13 +90,7 @@ public class ReflectUtil {
 	@SuppressWarnings("unchecked")
     public static <T> Constructor<T>[] getConstructors(Class<T> beanClass) throws SecurityException {
         Assertion.notNull(beanClass);
-        Constructor<?>[] constructors = CONSTRUCTORS_CACHE.get(beanClass);
-        if (null != constructors) {
-            return (Constructor<T>[]) constructors;
-        }
-
-        constructors = getConstructorsDirectly(beanClass);
-        return (Constructor<T>[]) CONSTRUCTORS_CACHE.put(beanClass, constructors);
+        return (Constructor<T>[]) CONSTRUCTORS_CACHE.get(beanClass, () -> getConstructorsDirectly(beanClass));
     }
 
     /**
@@ -159,10 +153,8 @@ public class ReflectUtil {
      * @return java.lang.reflect.Field[]
     */
     public static Field[] getFields(Class<?> beanClass) throws SecurityException {
-        Field[] allFields = FIELDS_CACHE.get(beanClass);
-        if (Constant.NULL != allFields) { return allFields; }
-        allFields = getFieldsDirectly(beanClass, Constant.TRUE);
-        return FIELDS_CACHE.put(beanClass, allFields);
+        Assertion.notNull(beanClass);
+        return FIELDS_CACHE.get(beanClass, () -> getFieldsDirectly(beanClass, Constant.TRUE));
     }
 
     /**
@@ -379,13 +371,8 @@ public class ReflectUtil {
 	 * @return java.lang.reflect.Method
 	 */
 	public static Method[] getMethods(Class<?> beanClass) throws SecurityException {
-		Method[] allMethods = METHODS_CACHE.get(beanClass);
-		if (null != allMethods) {
-			return allMethods;
-		}
-
-		allMethods = getMethodsDirectly(beanClass, true);
-		return METHODS_CACHE.put(beanClass, allMethods);
+		Assertion.notNull(beanClass);
+		return METHODS_CACHE.get(beanClass, () -> getMethodsDirectly(beanClass, true));
 	}
 
 	/**
@@ -0,0 +1,498 @@
+package com.xiaoTools.CacheTest;
+
+import com.xiaoTools.cache.async.AsyncCache;
+import com.xiaoTools.cache.bounded.BoundedCache;
+import com.xiaoTools.cache.bounded.evictionPolicy.EvictionPolicy;
+import com.xiaoTools.cache.classValueCache.ClassValueCache;
+import com.xiaoTools.cache.offHeap.OffHeapCache;
+import com.xiaoTools.cache.simple.SimpleCache;
+import com.xiaoTools.cache.stats.CacheStats;
+import com.xiaoTools.cache.timed.TimedCache;
+import com.xiaoTools.cache.twoTier.TwoTierCache;
+import com.xiaoTools.cache.twoTier.segmentStore.SegmentStore;
+import com.xiaoTools.date.clock.testClock.TestClock;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CacheTest {
+
+	@Test
+	public void test_lru(){
+		BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		// 访问a之后，b成为最久未使用的条目
+		cache.get("a");
+		cache.put("c", 3);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertNull(cache.get("b"));
+		Assert.assertEquals(Integer.valueOf(1), cache.get("a"));
+		Assert.assertEquals(Integer.valueOf(3), cache.get("c"));
+	}
+
+	@Test
+	public void test_boundedConcurrentReads() throws InterruptedException {
+		for (EvictionPolicy policy : EvictionPolicy.values()) {
+			final BoundedCache<Integer, Integer> cache = new BoundedCache<>(64, policy);
+			final Thread[] threads = new Thread[4];
+			for (int t = 0; t < threads.length; t++) {
+				final int seed = t;
+				threads[t] = new Thread(() -> {
+					for (int i = 0; i < 20000; i++) {
+						final int key = (i * 31 + seed * 7) % 200;
+						if (null == cache.get(key)) {
+							cache.put(key, key);
+						} else if (i % 97 == 0) {
+							cache.remove(key);
+						}
+					}
+				});
+				threads[t].start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			// 读缓冲区中已移除条目的访问记录不会破坏队列和权重
+			cache.put(-1, -1);
+			Assert.assertTrue(cache.size() <= 64);
+			Assert.assertEquals(cache.size(), cache.weightedSize());
+			cache.forEach(entry -> Assert.assertEquals(entry.getKey(), entry.getValue()));
+		}
+	}
+
+	@Test
+	public void test_weight(){
+		BoundedCache<String, String> cache = new BoundedCache<>(10, EvictionPolicy.LRU, (k, v) -> v.length());
+		cache.put("a", "12345");
+		cache.put("b", "12345");
+		cache.put("c", "123");
+		Assert.assertTrue(cache.weightedSize() <= 10);
+		Assert.assertNull(cache.get("a"));
+	}
+
+	@Test
+	public void test_tinyLfu(){
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>(100, EvictionPolicy.W_TINY_LFU);
+		// 热点数据被反复访问
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 50; i++) {
+				cache.get(i, () -> 0);
+			}
+		}
+		// 一次性扫描大量冷数据
+		for (int i = 1000; i < 11000; i++) {
+			cache.get(i, () -> 1);
+		}
+		Assert.assertEquals(100, cache.size());
+		int hot = 0;
+		for (int i = 0; i < 50; i++) {
+			if (null != cache.get(i)) {
+				hot++;
+			}
+		}
+		// 扫描不会冲掉热点数据
+		Assert.assertTrue(hot > 40);
+	}
+
+	@Test
+	public void test_concurrentSingleFlight() throws InterruptedException {
+		SimpleCache<String, Integer> cache = new SimpleCache<>(new ConcurrentHashMap<>());
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				cache.get("key", () -> {
+					loads.incrementAndGet();
+					Thread.sleep(50);
+					return 1;
+				});
+			});
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		// 同一个key只加载一次
+		Assert.assertEquals(1, loads.get());
+		Assert.assertEquals(Integer.valueOf(1), cache.get("key"));
+	}
+
+	@Test
+	public void test_concurrentReentrantLoad(){
+		SimpleCache<String, Integer> cache = new SimpleCache<>(new ConcurrentHashMap<>());
+		// 回调中加载同一个key不会等待自己
+		Assert.assertEquals(Integer.valueOf(2), cache.get("key", () -> cache.get("key", () -> 1) + 1));
+		Assert.assertEquals(Integer.valueOf(2), cache.get("key"));
+		final IllegalStateException failure = new IllegalStateException("load failed");
+		try {
+			cache.get("other", () -> {
+				throw failure;
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			Assert.assertSame(failure, e);
+		}
+		Assert.assertNull(cache.get("other"));
+	}
+
+	@Test
+	public void test_timed(){
+		final TestClock clock = new TestClock(1_000_000L);
+		TimedCache<String, String> cache = new TimedCache<>(100, 0, clock);
+		cache.put("ttl", "value");
+		cache.put("forever", "value", 0);
+		cache.put("idle", "value", 0, 100);
+		clock.advance(60, TimeUnit.MILLISECONDS);
+		// 持续访问的条目不会闲置过期
+		Assert.assertEquals("value", cache.get("idle"));
+		clock.advance(60, TimeUnit.MILLISECONDS);
+		// ttl已过期但没有被读取过，仍占用空间，直到时间轮回收
+		Assert.assertEquals(3, cache.size());
+		cache.cleanUp();
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("value", cache.get("forever"));
+		Assert.assertEquals("value", cache.get("idle"));
+		clock.advance(150, TimeUnit.MILLISECONDS);
+		cache.cleanUp();
+		Assert.assertEquals(1, cache.size());
+		Assert.assertNull(cache.get("idle"));
+		Assert.assertNull(cache.get("ttl"));
+		Assert.assertEquals("value", cache.get("forever"));
+	}
+
+	@Test
+	public void test_async() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		// 每个加载或刷新任务结束时计数
+		CountDownLatch tasks = new CountDownLatch(2);
+		Executor executor = task -> pool.execute(() -> {
+			try {
+				task.run();
+			} finally {
+				tasks.countDown();
+			}
+		});
+		try {
+			final TestClock clock = new TestClock(1_000_000L);
+			AsyncCache<String, Integer> cache = new AsyncCache<>(executor, 100, clock);
+			AtomicInteger loads = new AtomicInteger();
+			CountDownLatch release = new CountDownLatch(1);
+			CompletableFuture<Integer> first = cache.get("key", () -> {
+				release.await();
+				return loads.incrementAndGet();
+			});
+			// 加载期间的重复请求共用同一个结果
+			CompletableFuture<Integer> second = cache.get("key", loads::incrementAndGet);
+			Assert.assertSame(first, second);
+			release.countDown();
+			Assert.assertEquals(Integer.valueOf(1), first.get());
+
+			// 未到刷新间隔不刷新
+			clock.advance(99, TimeUnit.MILLISECONDS);
+			Assert.assertEquals(Integer.valueOf(1), cache.get("key", loads::incrementAndGet).get());
+			Assert.assertEquals(1, loads.get());
+			clock.advance(1, TimeUnit.MILLISECONDS);
+			// 超过刷新间隔后先返回旧值，后台刷新
+			Assert.assertEquals(Integer.valueOf(1), cache.get("key", loads::incrementAndGet).get());
+			Assert.assertTrue(tasks.await(10, TimeUnit.SECONDS));
+			Assert.assertEquals(Integer.valueOf(2), cache.get("key").get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+
+	@Test
+	public void test_stats(){
+		SimpleCache<String, Integer> cache = new SimpleCache<String, Integer>().recordStats();
+		cache.get("a");
+		cache.get("a", () -> 1);
+		cache.get("a");
+		try {
+			cache.get("b", () -> { throw new IllegalStateException(); });
+		} catch (RuntimeException ignored) {
+		}
+		CacheStats stats = cache.getStats();
+		Assert.assertEquals(1, stats.getHitCount());
+		Assert.assertEquals(3, stats.getMissCount());
+		Assert.assertEquals(1, stats.getLoadSuccessCount());
+		Assert.assertEquals(1, stats.getLoadFailureCount());
+		Assert.assertEquals(1, stats.getSize());
+
+		BoundedCache<String, Integer> bounded = new BoundedCache<String, Integer>(1).recordStats();
+		bounded.put("a", 1);
+		bounded.put("b", 2);
+		Assert.assertEquals(1, bounded.getStats().getEvictionCount());
+
+		Assert.assertSame(CacheStats.EMPTY, new SimpleCache<String, Integer>().getStats());
+	}
+
+	@Test
+	public void test_getAll(){
+		SimpleCache<String, Integer> cache = new SimpleCache<>(new ConcurrentHashMap<>());
+		cache.put("a", 1);
+		AtomicInteger calls = new AtomicInteger();
+		Map<String, Integer> result = cache.getAll(Arrays.asList("a", "b", "c", "d"), keys -> {
+			calls.incrementAndGet();
+			Assert.assertEquals(3, keys.size());
+			Map<String, Integer> loaded = new HashMap<>();
+			loaded.put("b", 2);
+			loaded.put("c", 3);
+			return loaded;
+		});
+		Assert.assertEquals(1, calls.get());
+		Assert.assertEquals(3, result.size());
+		Assert.assertNull(result.get("d"));
+		Assert.assertEquals(Integer.valueOf(3), cache.get("c"));
+
+		BoundedCache<String, Integer> bounded = new BoundedCache<>(10);
+		Assert.assertEquals(2, bounded.getAll(Arrays.asList("x", "y"), keys -> {
+			Map<String, Integer> loaded = new HashMap<>();
+			keys.forEach(k -> loaded.put(k, k.length()));
+			return loaded;
+		}).size());
+		Assert.assertEquals(2, bounded.size());
+
+		TimedCache<String, Integer> timed = new TimedCache<>(10000);
+		timed.put("x", 1);
+		Assert.assertEquals(Integer.valueOf(1), timed.getAll(Arrays.asList("x", "y"), keys -> new HashMap<>()).get("x"));
+		// 加载期间其它线程写入的值不会被批量加载的结果覆盖
+		Map<String, Integer> raced = timed.getAll(Arrays.asList("y", "z"), keys -> {
+			timed.put("y", 100);
+			Map<String, Integer> loaded = new HashMap<>();
+			keys.forEach(k -> loaded.put(k, k.length()));
+			return loaded;
+		});
+		Assert.assertEquals(Integer.valueOf(100), raced.get("y"));
+		Assert.assertEquals(Integer.valueOf(1), raced.get("z"));
+		Assert.assertEquals(Integer.valueOf(100), timed.get("y"));
+		Assert.assertEquals(3, timed.size());
+	}
+
+	@Test
+	public void test_offHeap(){
+		// 两个4KB的slab
+		OffHeapCache<String> cache = new OffHeapCache<String>(8192, 4096).recordStats();
+		Assert.assertTrue(cache.putObject("a", "hello"));
+		Assert.assertEquals("hello", cache.getObject("a"));
+		// 超过总容量的值不缓存
+		Assert.assertFalse(cache.put("big", new byte[8193]));
+
+		// 同一大小级别内按LRU淘汰
+		Assert.assertTrue(cache.put("x", new byte[4000]));
+		Assert.assertTrue(cache.put("y", new byte[4000]));
+		Assert.assertNotNull(cache.get("a"));
+		Assert.assertNull(cache.get("x"));
+		for (int i = 0; i < 100; i++) {
+			Assert.assertTrue(cache.put("k" + i, new byte[]{(byte) i}));
+		}
+		Assert.assertEquals(99, cache.get("k99")[0]);
+
+		// 大块占满内存后，小值需要回收其中一个slab
+		cache.clear();
+		Assert.assertTrue(cache.put("x", new byte[4000]));
+		Assert.assertTrue(cache.put("y", new byte[4000]));
+		Assert.assertTrue(cache.put("a", new byte[]{1}));
+		Assert.assertNull(cache.get("x"));
+		Assert.assertArrayEquals(new byte[4000], cache.get("y"));
+		Assert.assertEquals(1, cache.get("a")[0]);
+		Assert.assertTrue(cache.getAllocatedBytes() <= cache.getCapacity());
+		final CacheStats stats = cache.getStats();
+		Assert.assertEquals(5, stats.getHitCount());
+		Assert.assertEquals(2, stats.getMissCount());
+		Assert.assertTrue(stats.getEvictionCount() > 0);
+		Assert.assertEquals(2, stats.getSize());
+	}
+
+	@Test
+	public void test_offHeapLargeValue() throws InterruptedException {
+		// 8个4KB的slab，超过slab大小的值拆分存放
+		OffHeapCache<String> cache = new OffHeapCache<>(8 * 4096, 4096);
+		final byte[] large = new byte[2 * 4096 + 100];
+		new Random(3).nextBytes(large);
+		Assert.assertTrue(cache.put("large", large));
+		Assert.assertArrayEquals(large, cache.get("large"));
+		Assert.assertTrue(cache.put("small", new byte[]{7}));
+		// 覆盖后旧的块全部归还
+		Assert.assertTrue(cache.put("large", new byte[4097]));
+		Assert.assertArrayEquals(new byte[4097], cache.get("large"));
+		Assert.assertTrue(cache.put("other", large));
+		Assert.assertArrayEquals(large, cache.get("other"));
+		Assert.assertEquals(7, cache.get("small")[0]);
+		// 空间不足时淘汰最久未使用的大值
+		cache.get("other");
+		Assert.assertTrue(cache.put("third", large));
+		Assert.assertNull(cache.get("large"));
+		Assert.assertArrayEquals(large, cache.get("other"));
+		Assert.assertArrayEquals(large, cache.get("third"));
+		Assert.assertFalse(cache.put("huge", new byte[8 * 4096 + 1]));
+		Assert.assertFalse(cache.containsKey("huge"));
+
+		// 并发读取与写入
+		final AtomicInteger errors = new AtomicInteger();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int id = t;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 2000; i++) {
+					if (0 == id) {
+						cache.put("k" + (i % 16), new byte[]{(byte) i, (byte) i});
+					} else {
+						final byte[] value = cache.get("k" + (i % 16));
+						if (null != value && value[0] != value[1]) {
+							errors.incrementAndGet();
+						}
+						final byte[] copy = cache.get("third");
+						if (null != copy && !Arrays.equals(large, copy)) {
+							errors.incrementAndGet();
+						}
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(0, errors.get());
+	}
+
+	@Test
+	public void test_twoTier() throws Exception {
+		File dir = Files.createTempDirectory("twoTier").toFile();
+		TwoTierCache<String, String> cache = new TwoTierCache<>(new SegmentStore(dir, 4096), 16);
+		for (int i = 0; i < 200; i++) {
+			cache.put("k" + (i % 20), "v" + i);
+		}
+		cache.put("gone", "x");
+		cache.remove("gone");
+		Assert.assertEquals("v199", cache.get("k19"));
+		cache.close();
+
+		// 模拟崩溃：在活动段末尾写入半条记录
+		File[] files = dir.listFiles();
+		Arrays.sort(files);
+		try (RandomAccessFile file = new RandomAccessFile(files[files.length - 1], "rw")) {
+			long position = 0;
+			while (position + 4 <= file.length()) {
+				file.seek(position);
+				if (0 == file.readInt()) {
+					break;
+				}
+				position += 4;
+			}
+			if (position + 12 < file.length()) {
+				file.seek(position);
+				file.writeInt(5);
+			}
+		}
+
+		SegmentStore store = new SegmentStore(dir, 4096);
+		// 重新打开时每个文件对应一个段
+		Assert.assertEquals(files.length, store.segmentCount());
+		cache = new TwoTierCache<>(store, 16);
+		Assert.assertEquals(20, store.size());
+		Assert.assertEquals("v199", cache.get("k19"));
+		Assert.assertEquals("v180", cache.get("k0"));
+		Assert.assertNull(cache.get("gone"));
+		Assert.assertEquals("loaded", cache.get("new", () -> "loaded"));
+		cache.compact();
+		Assert.assertEquals("v181", cache.get("k1"));
+		cache.clear();
+		Assert.assertNull(cache.get("k1"));
+		// 旧段的映射释放后文件被删除，只剩新的活动段
+		Assert.assertEquals(1, store.segmentCount());
+		Assert.assertEquals(1, dir.listFiles().length);
+		cache.close();
+		for (File file : dir.listFiles()) {
+			Assert.assertTrue(file.delete());
+		}
+		Assert.assertTrue(dir.delete());
+	}
+
+	@Test
+	public void test_twoTierConcurrentPut() throws Exception {
+		File dir = Files.createTempDirectory("twoTierConcurrent").toFile();
+		TwoTierCache<String, Integer> cache = new TwoTierCache<>(new SegmentStore(dir, 1 << 16), 16);
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int id = t;
+			threads[t] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < 500; i++) {
+					cache.put("key", id * 1000 + i);
+					if (i % 7 == 0) {
+						cache.remove("key");
+					}
+					cache.get("key");
+				}
+			});
+			threads[t].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		final Integer inMemory = cache.get("key");
+		cache.close();
+		// 重启后读到的值与关闭前一级缓存中的值一致
+		TwoTierCache<String, Integer> reopened = new TwoTierCache<>(new SegmentStore(dir, 1 << 16), 16);
+		Assert.assertEquals(inMemory, reopened.get("key"));
+		reopened.clear();
+		reopened.close();
+		for (File file : dir.listFiles()) {
+			Assert.assertTrue(file.delete());
+		}
+		Assert.assertTrue(dir.delete());
+	}
+
+	@Test
+	public void test_classValue(){
+		ClassValueCache<String> cache = new ClassValueCache<>();
+		AtomicInteger calls = new AtomicInteger();
+		Assert.assertEquals("String", cache.get(String.class, () -> {
+			calls.incrementAndGet();
+			return String.class.getSimpleName();
+		}));
+		Assert.assertEquals("String", cache.get(String.class, () -> "other"));
+		Assert.assertEquals(1, calls.get());
+		Assert.assertEquals(2, cache.getAll(Arrays.asList(String.class, Integer.class), classes -> {
+			Map<Class<?>, String> loaded = new HashMap<>();
+			classes.forEach(c -> loaded.put(c, c.getSimpleName()));
+			return loaded;
+		}).size());
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("Integer", cache.remove(Integer.class));
+		cache.clear();
+		Assert.assertNull(cache.get(String.class));
+	}
+}
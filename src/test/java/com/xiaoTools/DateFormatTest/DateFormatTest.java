@@ -0,0 +1,337 @@
+package com.xiaoTools.DateFormatTest;
+
+import com.xiaoTools.date.datePattern.DatePattern;
+import com.xiaoTools.date.dateTime.DateTime;
+import com.xiaoTools.date.format.autoDateParser.AutoDateParser;
+import com.xiaoTools.date.format.dateParser.DateParser;
+import com.xiaoTools.date.format.datePrinter.DatePrinter;
+import com.xiaoTools.date.format.fastDateFormat.FastDateFormat;
+import com.xiaoTools.date.format.fastDateParser.FastDateParser;
+import com.xiaoTools.date.format.fastDatePrinter.FastDatePrinter;
+import com.xiaoTools.util.dateUtil.DateUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.BufferOverflowException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DateFormatTest {
+
+	private static final String[] PATTERNS = {DatePattern.NORM_DATETIME_MS_PATTERN, DatePattern.PURE_DATETIME_MS_PATTERN, DatePattern.CHINESE_DATE_TIME_PATTERN,
+			DatePattern.HTTP_DATETIME_PATTERN, DatePattern.JDK_DATETIME_PATTERN, DatePattern.UTC_MS_WITH_ZONE_OFFSET_PATTERN, "yy-M-d H:m:s.S a h K k",
+			"G yyyy MMMM EEEE D F u 'at' hh 'o''clock' XXX X Z", "dd/MMM/yyyy:HH:mm:ss Z", "YYYY-'W'ww-u", "SS SSSS yyyyy"};
+
+	private static final String[] ZONES = {"UTC", "GMT", "Asia/Shanghai", "America/New_York", "Australia/Lord_Howe", "GMT+05:45", "GMT-09:30"};
+
+	private static final Locale[] LOCALES = {Locale.US, Locale.CHINA, new Locale("th", "TH")};
+
+	@Test
+	public void test_formatIntoBuffer(){
+		final Random random = new Random(42);
+		final long[] millis = new long[500];
+		for (int i = 0; i < millis.length; i++) {
+			// 1500 年到 2400 年之间，包括 1582 年之前由 Calendar 处理的日期
+			millis[i] = -14_800_000_000_000L + (long) (random.nextDouble() * 28_000_000_000_000L);
+		}
+		millis[0] = 0;
+		millis[1] = -1;
+		millis[2] = 951_782_400_000L;
+		millis[3] = -12_219_292_800_000L;
+		millis[4] = -12_219_292_800_001L;
+
+		final char[] chars = new char[128];
+		final ByteBuffer bytes = ByteBuffer.allocate(256);
+		for (String pattern : PATTERNS) {
+			for (String zone : ZONES) {
+				for (Locale locale : LOCALES) {
+					final FastDatePrinter printer = new FastDatePrinter(pattern, TimeZone.getTimeZone(zone), locale);
+					for (long value : millis) {
+						final String expected = printer.format(value);
+						final int end = printer.format(value, chars, 3);
+						Assert.assertEquals(pattern + " " + zone + " " + locale + " " + value, expected, new String(chars, 3, end - 3));
+						bytes.clear();
+						printer.format(value, bytes);
+						Assert.assertEquals(expected, new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8));
+					}
+				}
+			}
+		}
+
+		final FastDatePrinter printer = new FastDatePrinter(DatePattern.CHINESE_DATE_PATTERN, TimeZone.getTimeZone("UTC"), Locale.CHINA);
+		final ByteBuffer small = ByteBuffer.allocate(16);
+		try {
+			printer.format(0L, small);
+			Assert.fail();
+		} catch (BufferOverflowException e) {
+			// 空间不足时缓冲区不被修改
+			Assert.assertEquals(0, small.position());
+		}
+		final char[] exact = new char[11];
+		Assert.assertEquals(11, printer.format(0L, exact, 0));
+		Assert.assertEquals("1970年01月01日", new String(exact));
+	}
+
+	@Test
+	public void test_defaultFormatIntoBuffer(){
+		// 只实现基本方法的 DatePrinter 使用接口的默认实现
+		final FastDatePrinter delegate = new FastDatePrinter(DatePattern.CHINESE_DATE_PATTERN, TimeZone.getTimeZone("UTC"), Locale.CHINA);
+		final DatePrinter printer = new DatePrinter() {
+			@Override
+			public String getPattern() { return delegate.getPattern(); }
+
+			@Override
+			public TimeZone getTimeZone() { return delegate.getTimeZone(); }
+
+			@Override
+			public Locale getLocale() { return delegate.getLocale(); }
+
+			@Override
+			public String format(long millis) { return delegate.format(millis); }
+
+			@Override
+			public String format(Date date) { return delegate.format(date); }
+
+			@Override
+			public String format(Calendar calendar) { return delegate.format(calendar); }
+
+			@Override
+			public <B extends Appendable> B format(long millis, B buf) { return delegate.format(millis, buf); }
+
+			@Override
+			public <B extends Appendable> B format(Date date, B buf) { return delegate.format(date, buf); }
+
+			@Override
+			public <B extends Appendable> B format(Calendar calendar, B buf) { return delegate.format(calendar, buf); }
+		};
+		final char[] chars = new char[16];
+		Assert.assertEquals(13, printer.format(0L, chars, 2));
+		Assert.assertEquals("1970年01月01日", new String(chars, 2, 11));
+
+		final ByteBuffer bytes = ByteBuffer.allocate(32);
+		Assert.assertSame(bytes, printer.format(0L, bytes));
+		Assert.assertEquals("1970年01月01日", new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8));
+		final ByteBuffer small = ByteBuffer.allocate(16);
+		try {
+			printer.format(0L, small);
+			Assert.fail();
+		} catch (BufferOverflowException e) {
+			Assert.assertEquals(0, small.position());
+		}
+	}
+
+	@Test
+	public void test_caching(){
+		final String[] patterns = {DatePattern.NORM_DATETIME_MS_PATTERN, DatePattern.PURE_DATETIME_MS_PATTERN, DatePattern.HTTP_DATETIME_PATTERN,
+				DatePattern.UTC_MS_WITH_ZONE_OFFSET_PATTERN, "EEE hh:mm a SSSS", "yyyy-MM-dd HH:mm:ss.S", "HH:mm:ss.SS"};
+		final boolean[] caching = {true, true, true, true, true, false, false};
+		final Random random = new Random(7);
+		final long[] starts = {0L, 1_710_054_000_000L - 3_600_000L, 1_730_613_600_000L - 3_600_000L, 1_712_415_600_000L - 7_200_000L, -12_219_292_800_000L - 3_600_000L};
+		final char[] chars = new char[128];
+		for (int p = 0; p < patterns.length; p++) {
+			for (String zone : ZONES) {
+				final TimeZone timeZone = TimeZone.getTimeZone(zone);
+				final FastDatePrinter plain = new FastDatePrinter(patterns[p], timeZone, Locale.US);
+				final FastDatePrinter cached = new FastDatePrinter(patterns[p], timeZone, Locale.US, true);
+				// 时区名称随夏令时变化的时区不使用缓存
+				if ("UTC".equals(zone) || !caching[p]) {
+					Assert.assertEquals(patterns[p], caching[p], cached.isCaching());
+				}
+				Assert.assertFalse(plain.isCaching());
+				// 连续递增的时间，跨越午夜、夏令时切换以及公历切换
+				for (long start : starts) {
+					for (long value = start; value < start + 4 * 3_600_000L; value += 1 + random.nextInt(60_000)) {
+						final String expected = plain.format(value);
+						Assert.assertEquals(patterns[p] + " " + zone + " " + value, expected, cached.format(value));
+						final int end = cached.format(value, chars, 5);
+						Assert.assertEquals(expected, new String(chars, 5, end - 5));
+					}
+				}
+				// 交替和乱序的时间戳
+				for (int i = 0; i < 200; i++) {
+					final long value = (i % 2 == 0 ? 0L : 86_400_000L * 3) + random.nextInt(86_400_000) - (i % 5) * 86_400_000L;
+					Assert.assertEquals(patterns[p] + " " + zone + " " + value, plain.format(value), cached.format(value));
+				}
+				// 单个离群的时间戳之后继续正常的时间戳
+				for (int i = 0; i < 200; i++) {
+					final long value = i == 100 ? 4_102_444_800_000L : i == 150 ? 86_400_000L : 1_700_000_000_000L + i * 1_000L;
+					Assert.assertEquals(patterns[p] + " " + zone + " " + value, plain.format(value), cached.format(value));
+				}
+				for (int i = 0; i < 2000; i++) {
+					final long value = -14_800_000_000_000L + (long) (random.nextDouble() * 28_000_000_000_000L);
+					Assert.assertEquals(patterns[p] + " " + zone + " " + value, plain.format(value), cached.format(value));
+					Assert.assertEquals(plain.format(new Date(value)), cached.format(new Date(value), new StringBuilder()).toString());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_cachingSerialize() throws IOException, ClassNotFoundException {
+		final FastDatePrinter cached = new FastDatePrinter(DatePattern.NORM_DATETIME_MS_PATTERN, TimeZone.getTimeZone("UTC"), Locale.US, true);
+		Assert.assertTrue(cached.isCaching());
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(cached);
+		}
+		final FastDatePrinter copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (FastDatePrinter) in.readObject();
+		}
+		// 缓存模式不参与序列化
+		Assert.assertFalse(copy.isCaching());
+		Assert.assertEquals(cached.format(1_700_000_000_123L), copy.format(1_700_000_000_123L));
+	}
+
+	@Test
+	public void test_fixedWidthParse(){
+		final String[] patterns = {DatePattern.NORM_DATETIME_PATTERN, DatePattern.NORM_DATETIME_MS_PATTERN, DatePattern.PURE_DATETIME_PATTERN, DatePattern.PURE_DATETIME_MS_PATTERN,
+				DatePattern.UTC_SIMPLE_MS_PATTERN, "yyMMddHHmm", DatePattern.NORM_TIME_PATTERN, DatePattern.CHINESE_DATE_TIME_PATTERN, "dd/MM/yy 'at' HH", "yyyy-M-d HH:mm:ss", DatePattern.HTTP_DATETIME_PATTERN};
+		final boolean[] fixed = {true, true, true, true, true, true, true, true, true, false, false};
+		final Random random = new Random(11);
+		for (int p = 0; p < patterns.length; p++) {
+			for (String zone : ZONES) {
+				final TimeZone timeZone = TimeZone.getTimeZone(zone);
+				final FastDateParser parser = new FastDateParser(patterns[p], timeZone, Locale.US);
+				Assert.assertEquals(patterns[p], fixed[p], parser.isFixedWidth());
+				final FastDatePrinter printer = new FastDatePrinter(patterns[p], timeZone, Locale.US);
+				final String[] inputs = new String[300];
+				for (int i = 0; i < 250; i++) {
+					inputs[i] = printer.format(-14_800_000_000_000L + (long) (random.nextDouble() * 28_000_000_000_000L));
+				}
+				// 夏令时切换前后
+				for (int i = 250; i < 290; i++) {
+					inputs[i] = printer.format(1_710_054_000_000L + (i - 270) * 900_000L);
+				}
+				// 超出范围、宽度不一致、首尾多余字符的输入与 Calendar 解析一致
+				final String sample = printer.format(1_709_251_199_999L);
+				inputs[290] = sample.replace("29", "30");
+				inputs[291] = sample.replace("23", "24");
+				inputs[292] = sample.replace("59", "60");
+				inputs[293] = sample.replace("02", "2");
+				inputs[294] = " " + sample;
+				inputs[295] = sample + "7";
+				inputs[296] = sample + "x";
+				inputs[297] = sample.replace('2', '٢');
+				inputs[298] = sample.substring(1);
+				inputs[299] = "";
+				for (String input : inputs) {
+					final Calendar calendar = Calendar.getInstance(timeZone, Locale.US);
+					calendar.clear();
+					final ParsePosition expectedPos = new ParsePosition(0);
+					final boolean parsed = parser.parse(input, expectedPos, calendar);
+					final ParsePosition pos = new ParsePosition(0);
+					final long millis = parser.parseMillis(input, pos);
+					final String message = patterns[p] + " " + zone + " " + input;
+					Assert.assertEquals(message, parsed ? calendar.getTimeInMillis() : Long.MIN_VALUE, millis);
+					Assert.assertEquals(message, expectedPos.getIndex(), pos.getIndex());
+					final Date date = parser.parse(input, new ParsePosition(0));
+					Assert.assertEquals(message, parsed ? calendar.getTime() : null, date);
+				}
+			}
+		}
+
+		final FastDateParser parser = new FastDateParser(DatePattern.NORM_DATETIME_PATTERN, TimeZone.getTimeZone("Asia/Shanghai"), Locale.CHINA);
+		final ParsePosition pos = new ParsePosition(4);
+		Assert.assertEquals(1_704_424_234_000L, parser.parseMillis("id: 2024-01-05 11:10:34,next", pos));
+		Assert.assertEquals(23, pos.getIndex());
+		Assert.assertEquals(19, parser.getFixedWidth());
+		Assert.assertFalse(new FastDateParser(DatePattern.NORM_DATETIME_PATTERN, TimeZone.getTimeZone("UTC"), new Locale("th", "TH")).isFixedWidth());
+	}
+
+	@Test
+	public void test_defaultParseMillis(){
+		// 只实现基本方法的 DateParser 使用接口的默认实现
+		final FastDateParser delegate = new FastDateParser(DatePattern.NORM_DATETIME_PATTERN, TimeZone.getTimeZone("Asia/Shanghai"), Locale.CHINA);
+		final DateParser parser = new DateParser() {
+			@Override
+			public String getPattern() { return delegate.getPattern(); }
+
+			@Override
+			public TimeZone getTimeZone() { return delegate.getTimeZone(); }
+
+			@Override
+			public Locale getLocale() { return delegate.getLocale(); }
+
+			@Override
+			public Date parse(String source) throws ParseException { return delegate.parse(source); }
+
+			@Override
+			public Date parse(String source, ParsePosition pos) { return delegate.parse(source, pos); }
+
+			@Override
+			public boolean parse(String source, ParsePosition pos, Calendar calendar) { return delegate.parse(source, pos, calendar); }
+
+			@Override
+			public Object parseObject(String source) throws ParseException { return delegate.parseObject(source); }
+
+			@Override
+			public Object parseObject(String source, ParsePosition pos) { return delegate.parseObject(source, pos); }
+		};
+		final ParsePosition pos = new ParsePosition(4);
+		Assert.assertEquals(1_704_424_234_000L, parser.parseMillis("id: 2024-01-05 11:10:34,next", pos));
+		Assert.assertEquals(23, pos.getIndex());
+		// 失败时的位置与 FastDateParser 一致
+		final ParsePosition failed = new ParsePosition(0);
+		final ParsePosition expected = new ParsePosition(0);
+		Assert.assertEquals(Long.MIN_VALUE, parser.parseMillis("2024/01/05 11:10:34", failed));
+		Assert.assertEquals(Long.MIN_VALUE, delegate.parseMillis("2024/01/05 11:10:34", expected));
+		Assert.assertEquals(expected.getIndex(), failed.getIndex());
+		Assert.assertEquals(expected.getErrorIndex(), failed.getErrorIndex());
+	}
+
+	@Test
+	public void test_autoParse() throws ParseException {
+		final FastDateFormat[] formats = {DatePattern.NORM_DATETIME_MS_FORMAT, DatePattern.ISO8601_FORMAT, DatePattern.NORM_DATETIME_FORMAT, DatePattern.NORM_DATETIME_MINUTE_FORMAT,
+				DatePattern.NORM_DATE_FORMAT, DatePattern.NORM_MONTH_FORMAT, DatePattern.UTC_MS_FORMAT, DatePattern.UTC_FORMAT, DatePattern.UTC_SIMPLE_MS_FORMAT,
+				DatePattern.UTC_SIMPLE_FORMAT, DatePattern.CHINESE_DATE_TIME_FORMAT, DatePattern.CHINESE_DATE_FORMAT, DatePattern.PURE_DATETIME_MS_FORMAT,
+				DatePattern.PURE_DATETIME_FORMAT, DatePattern.PURE_DATE_FORMAT, DatePattern.PURE_TIME_FORMAT};
+		final AutoDateParser parser = new AutoDateParser();
+		final Random random = new Random(5);
+		for (FastDateFormat format : formats) {
+			for (int i = 0; i < 200; i++) {
+				final String input = format.format(-2_000_000_000_000L + (long) (random.nextDouble() * 6_000_000_000_000L));
+				Assert.assertEquals(input, format.getPattern(), parser.match(input).getPattern());
+				final long expected = format.parse(input).getTime();
+				Assert.assertEquals(input, expected, parser.parseMillis(input));
+				final DateTime dateTime = DateUtil.parse(" " + input + " ");
+				Assert.assertEquals(input, expected, dateTime.getTime());
+				Assert.assertEquals(input, format.getTimeZone(), dateTime.getTimeZone());
+			}
+		}
+
+		// 宽松解析与原格式一致
+		Assert.assertEquals(DatePattern.NORM_DATE_FORMAT.parse("2024-02-30").getTime(), parser.parseMillis("2024-02-30"));
+		Assert.assertEquals(DatePattern.PURE_TIME_PATTERN, parser.match("202401").getPattern());
+		final String[] unmatched = {"2024/01/05", "abc", "2024-01-05T10", "2024-1-05", "2024-01-05 10:20:30.1", "", "2024-01-05 10:20:3x"};
+		for (String input : unmatched) {
+			Assert.assertNull(input, parser.match(input));
+			Assert.assertEquals(input, Long.MIN_VALUE, parser.parseMillis(input));
+		}
+		// 不定宽的输入仍按原来的方式解析
+		Assert.assertEquals(DatePattern.NORM_DATETIME_FORMAT.parse("2024-01-05 01:02:03").getTime(), DateUtil.parse("2024-1-5 1:2:3").getTime());
+
+		final AutoDateParser custom = new AutoDateParser(FastDateFormat.getInstance("dd/MM/yyyy", TimeZone.getTimeZone("UTC")), FastDateFormat.getInstance("MM/dd/yyyy"));
+		Assert.assertEquals(1_704_412_800_000L, custom.parseMillis("05/01/2024"));
+		try {
+			new AutoDateParser(DatePattern.HTTP_DATETIME_FORMAT);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Pattern '" + DatePattern.HTTP_DATETIME_PATTERN + "' is not a fixed width numeric pattern", e.getMessage());
+		}
+	}
+
+}
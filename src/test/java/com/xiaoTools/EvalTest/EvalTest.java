@@ -0,0 +1,268 @@
+package com.xiaoTools.EvalTest;
+
+import com.xiaoTools.core.eval.Eval;
+import com.xiaoTools.core.eval.batchEvaluator.BatchEvaluator;
+import com.xiaoTools.core.eval.compiledExpression.CompiledExpression;
+import com.xiaoTools.core.eval.context.Context;
+import com.xiaoTools.core.eval.functionRegistry.FunctionRegistry;
+import com.xiaoTools.core.eval.numericType.NumericType;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EvalTest {
+
+	@Test
+	public void test_compile(){
+		final String[] formulas = {"1+2*3", "(1+2)*3", "10-4-3", "100/7%4", "2*(3+4)*5", " 8 / ( 2 + 2 ) "};
+		for (String formula : formulas) {
+			final CompiledExpression expression = Eval.compile(formula);
+			Assert.assertEquals(formula, Eval.eval(formula), expression.evaluate());
+			// 重复求值结果不变
+			Assert.assertEquals(formula, Eval.eval(formula), expression.evaluate());
+		}
+		Assert.assertEquals(-5, Eval.compile("-(2+3)").evaluate());
+		Assert.assertEquals(7, Eval.compile("--7").evaluate());
+		Assert.assertEquals(-1, Eval.compile("-7/4").evaluate());
+		Assert.assertEquals("((1 + (2 * 3)) - 4)", Eval.compile("1+2*3-4").getRoot().toString());
+	}
+
+	@Test
+	public void test_compileError(){
+		final String[] formulas = {"", "1+", "(1+2", "1+2)", "1 2", "1+#", "1.", "min(1,", "x y"};
+		// 错误信息带有出错位置
+		final String[] messages = {
+				"Unexpected end of formula at 0",
+				"Unexpected end of formula at 2",
+				"Missing ')' at 4",
+				"Unexpected character ')' at 3",
+				"Unexpected character '2' at 2",
+				"Unexpected character '#' at 2",
+				"Missing digits after '.' at 2",
+				"Unexpected end of formula at 6",
+				"Unexpected character 'y' at 2"};
+		for (int i = 0; i < formulas.length; i++) {
+			try {
+				Eval.compile(formulas[i]);
+				Assert.fail(formulas[i]);
+			} catch (IllegalArgumentException e) {
+				Assert.assertEquals(messages[i] + " in formula: " + formulas[i], e.getMessage());
+			}
+		}
+		try {
+			Eval.compile("1/(2-2)").evaluate();
+			Assert.fail();
+		} catch (ArithmeticException ignored) { }
+	}
+
+	@Test
+	public void test_variables(){
+		final CompiledExpression expression = Eval.compile("price * qty - if(qty >= 10, price * qty * rate, 0)", NumericType.DOUBLE);
+		Assert.assertArrayEquals(new String[]{"price", "qty", "rate"}, expression.getVariables());
+		final Context context = expression.newContext();
+		final int price = expression.slotOf("price");
+		final int qty = expression.slotOf("qty");
+		context.set(price, 2.5).set(qty, 4).set("rate", 0.1);
+		Assert.assertEquals(10.0, expression.evaluateDouble(context), 1e-9);
+		context.set(qty, 20);
+		Assert.assertEquals(45.0, expression.evaluateDouble(context), 1e-9);
+		try {
+			expression.evaluateDouble(Eval.compile("a").newContext());
+			Assert.fail();
+		} catch (IllegalArgumentException ignored) { }
+	}
+
+	@Test
+	public void test_numericType(){
+		final CompiledExpression longs = Eval.compile("a / b + a % b", NumericType.LONG);
+		final Context longContext = longs.newContext().set("a", 7L).set("b", 2L);
+		Assert.assertEquals(4, longs.evaluateLong(longContext));
+		try {
+			Eval.compile("1.5 + a", NumericType.LONG);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Decimal literal 1.5 is not allowed in a LONG expression at 0", e.getMessage());
+		}
+
+		final CompiledExpression doubles = Eval.compile("a / b", NumericType.DOUBLE);
+		Assert.assertEquals(3.5, doubles.evaluateDouble(doubles.newContext().set("a", 7).set("b", 2)), 0);
+
+		final CompiledExpression decimals = Eval.compile("a / 3 * 3", NumericType.decimal(new MathContext(10)));
+		final Context decimalContext = decimals.newContext().set("a", new BigDecimal("1"));
+		Assert.assertEquals(new BigDecimal("0.9999999999"), decimals.evaluateDecimal(decimalContext));
+		final CompiledExpression exact = Eval.compile("0.1 + 0.2 * 1.0", NumericType.DECIMAL);
+		Assert.assertEquals(new BigDecimal("0.30"), exact.evaluateDecimal(exact.newContext()));
+
+		// 不同类型之间转换结果
+		Assert.assertEquals(3, doubles.evaluateLong(doubles.newContext().set("a", 7).set("b", 2)));
+	}
+
+	@Test
+	public void test_functions(){
+		final Context[] contexts = new Context[1];
+		final String[] formulas = {"min(3, x, 2)", "max(3, x, 2)", "abs(-x)", "round(x)", "round(x * 1.2345, 2)", "round(-x * 150, -2)", "if(x > 4, 1, 2)", "if(x == 5, x, 1 / 0)"};
+		final double[] expected = {2, 5, 5, 5, 6.17, -800, 1, 5};
+		for (int i = 0; i < formulas.length; i++) {
+			final CompiledExpression doubles = Eval.compile(formulas[i], NumericType.DOUBLE);
+			contexts[0] = doubles.newContext().set("x", 5);
+			Assert.assertEquals(formulas[i], expected[i], doubles.evaluateDouble(contexts[0]), 1e-9);
+			final CompiledExpression decimals = Eval.compile(formulas[i], NumericType.DECIMAL);
+			Assert.assertEquals(formulas[i], expected[i], decimals.evaluateDecimal(decimals.newContext().set("x", 5)).doubleValue(), 1e-9);
+		}
+		// 六种比较运算在各数值类型下结果一致
+		final String relations = "(x < 5) + (x <= 5) * 2 + (x > 4) * 4 + (x >= 6) * 8 + (x == 5) * 16 + (x != 5) * 32";
+		final CompiledExpression relationDoubles = Eval.compile(relations, NumericType.DOUBLE);
+		Assert.assertEquals(22.0, relationDoubles.evaluateDouble(relationDoubles.newContext().set("x", 5)), 0);
+		final CompiledExpression relationLongs = Eval.compile(relations, NumericType.LONG);
+		Assert.assertEquals(22, relationLongs.evaluateLong(relationLongs.newContext().set("x", 5L)));
+		final CompiledExpression relationDecimals = Eval.compile(relations, NumericType.DECIMAL);
+		Assert.assertEquals(0, new BigDecimal("22").compareTo(relationDecimals.evaluateDecimal(relationDecimals.newContext().set("x", 5))));
+		Assert.assertEquals("((x < 5) + ((x <= 5) * 2))", Eval.compile("(x < 5) + (x <= 5) * 2").getRoot().toString());
+		final CompiledExpression longs = Eval.compile("round(x * 149, -2) + min(x, 3) + if(x != 5, 0, abs(-x))", NumericType.LONG);
+		Assert.assertEquals(700 + 3 + 5, longs.evaluateLong(longs.newContext().set("x", 5L)));
+
+		final FunctionRegistry functions = new FunctionRegistry()
+				.register("hypot", 2, args -> Math.hypot(args[0], args[1]));
+		final CompiledExpression custom = Eval.compile("hypot(a, b) + hypot(b, a)", NumericType.DOUBLE, functions, "a", "b");
+		Assert.assertEquals(10.0, custom.evaluateDouble(custom.newContext().set(0, 3.0).set(1, 4.0)), 1e-9);
+		try {
+			Eval.compile("hypot(1, 2)", NumericType.DOUBLE);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Unknown function 'hypot' at 0 in formula: hypot(1, 2)", e.getMessage());
+		}
+		try {
+			Eval.compile("abs(1, 2)", NumericType.DOUBLE);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Function 'abs' does not take 2 arguments at 0 in formula: abs(1, 2)", e.getMessage());
+		}
+		try {
+			Eval.compile("a + c", NumericType.DOUBLE, functions, "a", "b");
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Undeclared variable 'c' at 4 in formula: a + c", e.getMessage());
+		}
+		try {
+			final CompiledExpression unsupported = Eval.compile("hypot(a, b)", NumericType.LONG, functions);
+			unsupported.evaluateLong(unsupported.newContext());
+			Assert.fail();
+		} catch (UnsupportedOperationException ignored) { }
+	}
+
+	@Test
+	public void test_batch(){
+		final FunctionRegistry functions = new FunctionRegistry()
+				.register("hypot", 2, args -> Math.hypot(args[0], args[1]));
+		final String formula = "if(qty >= 10, round(price * qty * (1 - rate), 2), price * qty) + min(price, qty, 3) - max(abs(-rate), 0.05) + hypot(price, rate) + -price % 7 + (qty != price)";
+		final int rows = 100_003;
+		final Random random = new Random(42);
+		final double[][] columns = new double[3][rows];
+		for (int row = 0; row < rows; row++) {
+			columns[0][row] = random.nextInt(2000) / 100.0;
+			columns[1][row] = random.nextInt(20);
+			columns[2][row] = random.nextInt(30) / 100.0;
+		}
+		final CompiledExpression expression = Eval.compile(formula, NumericType.DOUBLE, functions, "price", "qty", "rate");
+		final double[] expected = new double[rows];
+		final Context context = expression.newContext();
+		for (int row = 0; row < rows; row++) {
+			context.set(0, columns[0][row]).set(1, columns[1][row]).set(2, columns[2][row]);
+			expected[row] = expression.evaluateDouble(context);
+		}
+
+		final double[] out = new double[rows];
+		BatchEvaluator.evaluate(expression, columns, out);
+		Assert.assertArrayEquals(expected, out, 0);
+
+		final double[] parallel = new double[rows];
+		BatchEvaluator.evaluate(expression, columns, parallel, ForkJoinPool.commonPool());
+		Assert.assertArrayEquals(expected, parallel, 0);
+
+		// if的分支中调用了自定义函数时逐行求值，只在被选中的分支中调用
+		final AtomicInteger calls = new AtomicInteger();
+		final FunctionRegistry counted = new FunctionRegistry().register("counted", 1, args -> {
+			calls.incrementAndGet();
+			return args[0];
+		});
+		final CompiledExpression guarded = Eval.compile("if(qty > 0, price / counted(qty), 0)", NumericType.DOUBLE, counted, "price", "qty");
+		final double[] guardedOut = new double[rows];
+		BatchEvaluator.evaluate(guarded, columns, guardedOut);
+		int chosen = 0;
+		for (int row = 0; row < rows; row++) {
+			if (columns[1][row] > 0) {
+				chosen++;
+				Assert.assertEquals(columns[0][row] / columns[1][row], guardedOut[row], 0);
+			} else {
+				Assert.assertEquals(0, guardedOut[row], 0);
+			}
+		}
+		Assert.assertEquals(chosen, calls.get());
+
+		// 非double表达式逐行求值
+		final CompiledExpression longs = Eval.compile("qty * 3 / 2", NumericType.LONG, null, "price", "qty");
+		final double[] longOut = new double[rows];
+		new BatchEvaluator(longs).evaluate(columns, longOut, ForkJoinPool.commonPool());
+		for (int row = 0; row < rows; row++) {
+			Assert.assertEquals((long) columns[1][row] * 3 / 2, longOut[row], 0);
+		}
+
+		// 静态方法共用表达式上缓存的求值器
+		Assert.assertSame(expression.getBatchEvaluator(), expression.getBatchEvaluator());
+		try {
+			BatchEvaluator.evaluate(expression, new double[][]{columns[0], columns[1]}, out);
+			Assert.fail();
+		} catch (IllegalArgumentException ignored) { }
+	}
+
+	@Test
+	public void test_bytecode(){
+		final FunctionRegistry functions = new FunctionRegistry()
+				.register("hypot", 2, args -> Math.hypot(args[0], args[1]));
+		final String[] formulas = {"x + y * 2 - 1.5", "-(x - y) / 3 % 2", "min(x, y, 3) + max(x, 2) - abs(-y)", "round(x * 1.2345, 2) + round(y)",
+				"if(x > y, x, if(x == y, 0, y))", "(x < y) + (x <= y) * 2 + (x >= y) * 4 + (x != y) * 8", "hypot(x, y) + hypot(y, 1) * 0", "x / y + 0 / y"};
+		final double[][] values = {{5, 2}, {-3, 4}, {2, 2}, {0, 0}, {Double.NaN, 1}, {7.5, -0.25}};
+		for (String formula : formulas) {
+			final CompiledExpression tree = Eval.compile(formula, NumericType.DOUBLE, functions, "x", "y");
+			final CompiledExpression bytecode = Eval.compileToBytecode(formula, NumericType.DOUBLE, functions, "x", "y");
+			Assert.assertTrue(formula, bytecode.isBytecode());
+			Assert.assertFalse(formula, tree.isBytecode());
+			for (double[] row : values) {
+				final double expected = tree.evaluateDouble(tree.newContext().set(0, row[0]).set(1, row[1]));
+				final double actual = bytecode.evaluateDouble(bytecode.newContext().set(0, row[0]).set(1, row[1]));
+				Assert.assertEquals(formula, expected, actual, 0);
+			}
+		}
+
+		final String[] longFormulas = {"x * 3 / 2 - y % 5", "round(x * 149, -2) + min(x, 3) + if(x != 5, 0, abs(-x))", "(x > y) - (x == y) + 123456789012 * -x"};
+		final long[][] longValues = {{5, 2}, {-7, 3}, {4, 4}, {Long.MAX_VALUE, 1}};
+		for (String formula : longFormulas) {
+			final CompiledExpression tree = Eval.compile(formula, NumericType.LONG, null, "x", "y");
+			final CompiledExpression bytecode = Eval.compileToBytecode(formula, NumericType.LONG, null, "x", "y");
+			Assert.assertTrue(formula, bytecode.isBytecode());
+			for (long[] row : longValues) {
+				final Context context = bytecode.newContext().set(0, row[0]).set(1, row[1]);
+				Assert.assertEquals(formula, tree.evaluateLong(tree.newContext().set(0, row[0]).set(1, row[1])), bytecode.evaluateLong(context));
+			}
+		}
+
+		// BigDecimal表达式使用求值树
+		final CompiledExpression decimals = Eval.compileToBytecode("x / 3", NumericType.DECIMAL, null, "x");
+		Assert.assertFalse(decimals.isBytecode());
+		Assert.assertEquals(new BigDecimal("1"), decimals.evaluateDecimal(decimals.newContext().set(0, new BigDecimal("3"))));
+
+		try {
+			Eval.compileToBytecode("1.5 + x", NumericType.LONG, null, "x");
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Decimal literal 1.5 is not allowed in a LONG expression at 0", e.getMessage());
+		}
+	}
+
+}
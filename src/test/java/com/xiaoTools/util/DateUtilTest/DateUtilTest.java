@@ -0,0 +1,49 @@
+package com.xiaoTools.util.DateUtilTest;
+
+import com.xiaoTools.date.clock.coarseClock.CoarseClock;
+import com.xiaoTools.date.clock.testClock.TestClock;
+import com.xiaoTools.date.timer.stopWatch.StopWatch;
+import com.xiaoTools.util.dateUtil.DateUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class DateUtilTest {
+
+	@Test
+	public void test_clock() throws InterruptedException {
+		final TestClock clock = new TestClock(1_600_000_000_000L);
+		Assert.assertEquals(1_600_000_000_000L, DateUtil.current(clock));
+		Assert.assertEquals(1_600_000_000_000L, DateUtil.date(clock).getTime());
+		Assert.assertEquals(DateUtil.formatDateTime(DateUtil.date(1_600_000_000_000L)), DateUtil.now(clock));
+
+		// 不足一毫秒的拨快会累积
+		clock.advance(600, TimeUnit.MICROSECONDS).advance(600, TimeUnit.MICROSECONDS);
+		Assert.assertEquals(1_600_000_000_001L, clock.currentTimeMillis());
+		Assert.assertEquals(1_200_000L, clock.nanoTime());
+		Assert.assertEquals(1_600_000_000_006L, clock.waitNextMillis(1_600_000_000_005L));
+
+		final StopWatch stopWatch = new StopWatch("clock", true, clock);
+		stopWatch.start("task");
+		clock.advance(250, TimeUnit.MILLISECONDS);
+		stopWatch.stop();
+		Assert.assertEquals(250, stopWatch.getLastTaskTimeMillis());
+
+		final CoarseClock coarse = new CoarseClock(1);
+		try {
+			final long first = coarse.currentTimeMillis();
+			Assert.assertTrue(Math.abs(first - System.currentTimeMillis()) < 1000);
+			Assert.assertTrue(coarse.waitNextMillis(first) > first);
+		} finally {
+			coarse.close();
+		}
+		Assert.assertTrue(CoarseClock.getInstance().currentTimeMillis() > 0);
+		// 关闭共享实例不会让它停止走时
+		final CoarseClock shared = CoarseClock.getInstance();
+		shared.close();
+		final long before = shared.currentTimeMillis();
+		Assert.assertTrue(shared.waitNextMillis(before) > before);
+	}
+
+}
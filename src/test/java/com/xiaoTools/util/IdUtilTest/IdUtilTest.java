@@ -1,10 +1,34 @@
 package com.xiaoTools.util.IdUtilTest;
 
 import com.xiaoTools.util.IdUtil.IdUtil;
+import com.xiaoTools.date.clock.testClock.TestClock;
+import com.xiaoTools.lang.segment.defaultSegment.DefaultSegment;
+import com.xiaoTools.util.IdUtil.objectId.ObjectId;
+import com.xiaoTools.util.IdUtil.objectId.binaryObjectId.BinaryObjectId;
+import com.xiaoTools.util.IdUtil.segmentIdGenerator.SegmentIdGenerator;
 import com.xiaoTools.util.IdUtil.snowflake.Snowflake;
+import com.xiaoTools.util.IdUtil.snowflake.shardedSnowflake.ShardedSnowflake;
+import com.xiaoTools.util.IdUtil.ulid.Ulid;
+import com.xiaoTools.util.IdUtil.ulid.ulidGenerator.UlidGenerator;
+import com.xiaoTools.util.IdUtil.uuid.UUID;
+import com.xiaoTools.util.IdUtil.uuid.timeOrderedUUIDGenerator.TimeOrderedUUIDGenerator;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
 public class IdUtilTest {
 
 	@Test
@@ -33,4 +57,374 @@ public class IdUtilTest {
 		System.out.println( "SnowflakeId --> " + a.nextId());
 	}
 
+	@Test
+	public void test_snowflakeSerialize() throws Exception {
+		// 修改前的 Snowflake(3, 5) 调用一次 nextId() 后序列化的结果，包含 sequence 和 lastTimeStamp 字段
+		final String baseline = "rO0ABXNyAC1jb20ueGlhb1Rvb2xzLnV0aWwuSWRVdGlsLnNub3dmbGFrZS5Tbm93Zmxha2UAAAAAAAAAAQIABEoADGRhdGFDZW50ZXJJZEoADWxhc3RUaW1lU3RhbXBKAAltYWNoaW5lSWRKAAhzZXF1ZW5jZXhwAAAAAAAAAAMAAAGhT4+lpwAAAAAAAAAFAAAAAAAAAAA=";
+		Snowflake snowflake;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(baseline)))) {
+			snowflake = (Snowflake) in.readObject();
+		}
+		long id = snowflake.nextId();
+		Assert.assertEquals(3, snowflake.getDataCenterId(id));
+		Assert.assertEquals(5, snowflake.getWorkerId(id));
+		Assert.assertTrue(snowflake.nextId() > id);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(snowflake);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			snowflake = (Snowflake) in.readObject();
+		}
+		id = snowflake.nextId();
+		Assert.assertEquals(3, snowflake.getDataCenterId(id));
+		Assert.assertEquals(5, snowflake.getWorkerId(id));
+	}
+
+	@Test
+	public void test_snowflakeConcurrent() throws InterruptedException {
+		final Snowflake snowflake = new Snowflake(3, 7);
+		final Set<Long> ids = ConcurrentHashMap.newKeySet();
+		final long start = System.currentTimeMillis();
+		final Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				long last = -1;
+				for (int j = 0; j < 20000; j++) {
+					final long id = snowflake.nextId();
+					// 同一线程内严格递增
+					Assert.assertTrue(id > last);
+					last = id;
+					ids.add(id);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(8 * 20000, ids.size());
+		final long id = ids.iterator().next();
+		Assert.assertEquals(3, snowflake.getDataCenterId(id));
+		Assert.assertEquals(7, snowflake.getWorkerId(id));
+		final long time = snowflake.getGenerateDateTime(id);
+		Assert.assertTrue(time >= start && time <= System.currentTimeMillis());
+	}
+
+	@Test
+	public void test_bulk(){
+		final Snowflake snowflake = new Snowflake(1, 2);
+		// 跨越多个毫秒的序列号范围
+		final long[] ids = snowflake.nextIds(10000);
+		for (int i = 1; i < ids.length; i++) {
+			Assert.assertTrue(ids[i] > ids[i - 1]);
+		}
+		Assert.assertEquals(1, snowflake.getDataCenterId(ids[ids.length - 1]));
+		Assert.assertEquals(2, snowflake.getWorkerId(ids[ids.length - 1]));
+		Assert.assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+		Assert.assertEquals(0, snowflake.nextIds(0).length);
+
+		final String[] uuids = IdUtil.fastSimpleUUIDs(100);
+		Assert.assertEquals(100, uuids.length);
+		Assert.assertEquals(100, new HashSet<>(Arrays.asList(uuids)).size());
+		for (String uuid : uuids) {
+			Assert.assertEquals(32, uuid.length());
+		}
+		for (String uuid : IdUtil.randomUUIDs(100)) {
+			Assert.assertEquals(4, UUID.fromString(uuid).version());
+			Assert.assertEquals(2, UUID.fromString(uuid).variant());
+		}
+		Assert.assertEquals(0, IdUtil.fastUUIDs(0).length);
+		for (int n : new int[]{-1, Integer.MAX_VALUE / 16 + 1, Integer.MAX_VALUE}) {
+			try {
+				IdUtil.fastUUIDs(n);
+				Assert.fail();
+			} catch (IllegalArgumentException e) {
+				Assert.assertTrue(e.getMessage().startsWith("n "));
+			}
+		}
+
+		final String[] objectIds = IdUtil.objectIds(100);
+		Assert.assertEquals(100, new HashSet<>(Arrays.asList(objectIds)).size());
+		for (String objectId : objectIds) {
+			Assert.assertTrue(ObjectId.isValid(objectId));
+			Assert.assertEquals(26, objectId.length());
+		}
+		// 与单个生成的格式一致
+		Assert.assertEquals(IdUtil.objectId().substring(9, 17), objectIds[0].substring(9, 17));
+	}
+
+	@Test
+	public void test_segmentId() throws Exception {
+		final File file = File.createTempFile("segment-id", ".txt");
+		Assert.assertTrue(file.delete());
+		// 关闭生成器会等待后台预取结束，之后才能安全地删除文件
+		try (SegmentIdGenerator generator = IdUtil.createSegmentIdGenerator(file, 100)) {
+			final Set<Long> ids = ConcurrentHashMap.newKeySet();
+			final Thread[] threads = new Thread[4];
+			for (int i = 0; i < threads.length; i++) {
+				threads[i] = new Thread(() -> {
+					long last = -1;
+					for (int j = 0; j < 1000; j++) {
+						final long id = generator.nextId();
+						Assert.assertTrue(id > last);
+						last = id;
+						ids.add(id);
+					}
+				});
+				threads[i].start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			Assert.assertEquals(4000, ids.size());
+			Assert.assertEquals(1L, (long) Collections.min(ids));
+
+			final long[] batch = new long[250];
+			generator.nextIds(batch);
+			for (int i = 1; i < batch.length; i++) {
+				Assert.assertEquals(batch[i - 1] + 1, batch[i]);
+			}
+			Assert.assertTrue(batch[0] > Collections.max(ids));
+
+			// 重新打开后从文件记录的位置继续，不会重复
+			try (SegmentIdGenerator reopened = IdUtil.createSegmentIdGenerator(file, 100)) {
+				Assert.assertTrue(reopened.nextId() > batch[batch.length - 1]);
+			}
+
+			// 自定义来源
+			final long[] counter = {0};
+			final SegmentIdGenerator custom = IdUtil.createSegmentIdGenerator(step -> {
+				synchronized (counter) {
+					final long start = counter[0];
+					counter[0] += step;
+					return new DefaultSegment<>(start, counter[0]);
+				}
+			}, 10);
+			for (long i = 0; i < 35; i++) {
+				Assert.assertEquals(i, custom.nextId());
+			}
+			// 关闭后当前号段剩余的ID仍可取得，之后不再访问来源
+			custom.close();
+			for (long i = 35; i < 40; i++) {
+				Assert.assertEquals(i, custom.nextId());
+			}
+			try {
+				custom.nextId();
+				Assert.fail();
+			} catch (IllegalStateException e) {
+				Assert.assertEquals("SegmentIdGenerator is closed", e.getMessage());
+			}
+		} finally {
+			Assert.assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void test_timeOrdered(){
+		final long start = System.currentTimeMillis();
+		UUID last = UUID.timeOrderedUUID();
+		for (int i = 0; i < 10000; i++) {
+			final UUID uuid = UUID.timeOrderedUUID();
+			Assert.assertTrue(uuid.compareTo(last) > 0);
+			Assert.assertTrue(uuid.toString().compareTo(last.toString()) > 0);
+			last = uuid;
+		}
+		Assert.assertEquals(7, last.version());
+		Assert.assertEquals(2, last.variant());
+		Assert.assertTrue(last.getMostSignificantBits() >>> 16 >= start);
+
+		// 写入调用方缓冲区的结果与toString一致
+		final UUID uuid = UUID.fastUUID();
+		final char[] chars = new char[40];
+		Assert.assertEquals(38, uuid.toChars(chars, 2, false));
+		Assert.assertEquals(uuid.toString(), new String(chars, 2, 36));
+		final byte[] bytes = new byte[32];
+		uuid.toBytes(bytes, 0, true);
+		Assert.assertEquals(uuid.toString(true), new String(bytes, java.nio.charset.StandardCharsets.US_ASCII));
+		Assert.assertEquals("id:" + uuid, uuid.appendTo(new StringBuilder("id:"), false).toString());
+		Assert.assertEquals(uuid, UUID.fromString(uuid.toString()));
+
+		Ulid lastUlid = Ulid.nextUlid();
+		for (int i = 0; i < 10000; i++) {
+			final Ulid ulid = Ulid.nextUlid();
+			Assert.assertTrue(ulid.compareTo(lastUlid) > 0);
+			Assert.assertTrue(ulid.toString().compareTo(lastUlid.toString()) > 0);
+			lastUlid = ulid;
+		}
+		Assert.assertTrue(lastUlid.getTimestamp() >= start);
+		final String text = IdUtil.ulid();
+		Assert.assertEquals(26, text.length());
+		Assert.assertEquals(text, Ulid.parse(text).toString());
+		Assert.assertEquals(Ulid.parse(text), Ulid.parse(text.toLowerCase()));
+		Assert.assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", new Ulid(-1L, -1L).toString());
+		Assert.assertEquals("01ARZ3NDEKTSV4RRFFQ69G5FAV", Ulid.parse("01ARZ3NDEKTSV4RRFFQ69G5FAV").toString());
+		Assert.assertEquals(1469918176385L, Ulid.parse("01ARYZ6S41TSV4RRFFQ69G5FAV").getTimestamp());
+	}
+
+	@Test
+	public void test_snowflakeClock(){
+		final TestClock clock = new TestClock();
+		final Snowflake snowflake = IdUtil.createSnowflakeId(1, 1, clock);
+		final long start = clock.currentTimeMillis();
+		// 同一毫秒内4096个序列号用完后，等待下一毫秒（测试时钟直接拨到下一毫秒）
+		final long[] ids = snowflake.nextIds(4096 * 3);
+		Assert.assertEquals(start, snowflake.getGenerateDateTime(ids[0]));
+		Assert.assertEquals(start + 2, snowflake.getGenerateDateTime(ids[ids.length - 1]));
+		// 时钟回拨
+		clock.set(start);
+		try {
+			snowflake.nextId();
+			Assert.fail();
+		} catch (RuntimeException e) {
+			Assert.assertTrue(e.getMessage().startsWith("Clock moved backwards"));
+		}
+		clock.set(start + 10);
+		Assert.assertEquals(start + 10, snowflake.getGenerateDateTime(snowflake.nextId()));
+
+		// 单调状态属于生成器，结果只取决于这里的测试时钟，不受其它测试中生成的ID影响
+		final TimeOrderedUUIDGenerator uuids = IdUtil.createTimeOrderedUUIDGenerator(clock);
+		final UlidGenerator ulids = IdUtil.createUlidGenerator(clock);
+		final UUID uuid = uuids.next();
+		final Ulid ulid = ulids.next();
+		Assert.assertEquals(start + 10, uuid.getMostSignificantBits() >>> 16);
+		Assert.assertEquals(start + 10, ulid.getTimestamp());
+		// 时钟回拨时同一个生成器仍然递增，新的生成器从回拨后的时间开始
+		clock.set(start);
+		Assert.assertTrue(uuids.next().compareTo(uuid) > 0);
+		Assert.assertTrue(ulids.next().compareTo(ulid) > 0);
+		Assert.assertEquals(start, IdUtil.createTimeOrderedUUIDGenerator(clock).next().getMostSignificantBits() >>> 16);
+		Assert.assertEquals(start, IdUtil.createUlidGenerator(clock).next().getTimestamp());
+	}
+
+	@Test
+	public void test_shardedSnowflake() throws InterruptedException {
+		// 4个分片，0号共用，8个线程中至少5个在0号分片上取号
+		final ShardedSnowflake snowflake = IdUtil.createShardedSnowflakeId(5, 9, 2);
+		Assert.assertEquals(4, snowflake.getShardCount());
+		final Set<Long> ids = ConcurrentHashMap.newKeySet();
+		final Set<Integer> shards = ConcurrentHashMap.newKeySet();
+		final Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				final long[] batch = snowflake.nextIds(5000);
+				for (int j = 0; j < 5000; j++) {
+					final long id = snowflake.nextId();
+					ids.add(id);
+					shards.add(snowflake.getShard(id));
+				}
+				for (long id : batch) {
+					ids.add(id);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(8 * 10000, ids.size());
+		Assert.assertEquals(4, shards.size());
+		final long id = snowflake.nextId();
+		Assert.assertEquals(5, snowflake.getDataCenterId(id));
+		Assert.assertEquals(9, snowflake.getWorkerId(id));
+		Assert.assertTrue(Math.abs(snowflake.getGenerateDateTime(id) - System.currentTimeMillis()) < 1000);
+	}
+
+	@Test
+	public void test_shardedSnowflakeChurn() throws InterruptedException {
+		// 只有一个可独占的分片，线程不断更替，归还后下一个线程立即拿到它而不是退回0号分片
+		final ShardedSnowflake snowflake = IdUtil.createShardedSnowflakeId(1, 1, 1);
+		final Set<Long> ids = ConcurrentHashMap.newKeySet();
+		final Set<Integer> shards = ConcurrentHashMap.newKeySet();
+		for (int i = 0; i < 50; i++) {
+			final Thread thread = new Thread(() -> {
+				try {
+					for (int j = 0; j < 100; j++) {
+						final long id = snowflake.nextId();
+						ids.add(id);
+						shards.add(snowflake.getShard(id));
+					}
+				} finally {
+					snowflake.release();
+				}
+			});
+			thread.start();
+			thread.join();
+		}
+		Assert.assertEquals(50 * 100, ids.size());
+		Assert.assertEquals(Collections.singleton(1), shards);
+		// 没有租用分片时归还不做任何事，归还后再次取号会重新租用
+		snowflake.release();
+		Assert.assertEquals(1, snowflake.getShard(snowflake.nextId()));
+		snowflake.release();
+	}
+
+	@Test
+	public void test_shardedSnowflakeFallback() throws InterruptedException {
+		final ShardedSnowflake snowflake = IdUtil.createShardedSnowflakeId(2, 2, 1);
+		final CountDownLatch leased = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(1);
+		final Thread owner = new Thread(() -> {
+			snowflake.nextId();
+			leased.countDown();
+			try {
+				done.await();
+			} catch (InterruptedException ignored) {
+			} finally {
+				snowflake.release();
+			}
+		});
+		owner.start();
+		leased.await();
+		// 唯一可独占的分片被占用，在0号分片上取号
+		final Set<Long> ids = new HashSet<>();
+		for (long id : snowflake.nextIds(3000)) {
+			Assert.assertEquals(0, snowflake.getShard(id));
+			ids.add(id);
+		}
+		Assert.assertEquals(0, snowflake.getShard(snowflake.nextId()));
+		done.countDown();
+		owner.join();
+		// 没有占住0号分片，分片归还后下一次取号就能租到
+		final long id = snowflake.nextId();
+		Assert.assertEquals(1, snowflake.getShard(id));
+		Assert.assertTrue(ids.add(id));
+		snowflake.release();
+	}
+
+	@Test
+	public void test_binaryObjectId(){
+		final String text = IdUtil.objectId();
+		final BinaryObjectId id = IdUtil.binaryObjectId();
+		// 机器信息与字符串形式一致，自增值紧接其后
+		Assert.assertEquals(text.substring(9, 17), id.toString().substring(9, 17));
+		Assert.assertEquals(Integer.parseUnsignedInt(text.substring(18), 16) + 1, id.getInc());
+		Assert.assertTrue(ObjectId.isValid(id.toString()));
+		Assert.assertEquals(id, BinaryObjectId.parse(id.toString()));
+		Assert.assertEquals(id, BinaryObjectId.parse(id.toString(false).toUpperCase()));
+		Assert.assertEquals(id.hashCode(), BinaryObjectId.parse(id.toString()).hashCode());
+
+		final byte[] bytes = new byte[BinaryObjectId.BYTES];
+		Assert.assertEquals(12, id.toBytes(bytes, 0));
+		Assert.assertEquals(id, BinaryObjectId.fromBytes(bytes, 0));
+
+		final char[] chars = new char[BinaryObjectId.LENGTH + 2];
+		Assert.assertEquals(BinaryObjectId.LENGTH + 1, id.toChars(chars, 1, false));
+		Assert.assertEquals(id.toString(false), new String(chars, 1, BinaryObjectId.LENGTH));
+		Assert.assertEquals("x" + id, id.appendTo(new StringBuilder("x"), true).toString());
+
+		final char[] next = new char[BinaryObjectId.HYPHEN_LENGTH];
+		ObjectId.nextId(next, 0, true);
+		Assert.assertTrue(ObjectId.isValid(new String(next)));
+
+		// 顺序与十六进制字符串一致，包括最高位为1的无符号情况
+		final BinaryObjectId small = new BinaryObjectId(1, 0, 0x7FFFFFFF);
+		final BinaryObjectId large = new BinaryObjectId(1, 0, 0x80000000);
+		Assert.assertTrue(small.compareTo(large) < 0);
+		Assert.assertTrue(small.toString().compareTo(large.toString()) < 0);
+		Assert.assertTrue(new BinaryObjectId(-1, 0, 0).compareTo(new BinaryObjectId(1, -1, -1)) > 0);
+		Assert.assertTrue(id.compareTo(IdUtil.binaryObjectId()) != 0);
+	}
+
 }